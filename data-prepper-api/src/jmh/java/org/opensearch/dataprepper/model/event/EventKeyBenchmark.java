@@ -0,0 +1,90 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares accessing an {@link Event} with key strings, which are validated and parsed on every call, against
+ * accessing it with an {@link EventKey} which was parsed once. Run with {@code -prof gc} to compare the bytes
+ * allocated per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EventKeyBenchmark {
+    @Param({"message", "http/request/verb"})
+    private String key;
+
+    private EventKey eventKey;
+    private EventKey targetKey;
+    private Event event;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        eventKey = EventKey.of(key);
+        targetKey = EventKey.of(key + "_copy");
+        event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of(
+                        "message", "127.0.0.1 - frank [10/Oct/2000:13:55:36 -0700] \"GET /apache_pb.gif HTTP/1.0\" 200 2326",
+                        "http", Map.of("request", Map.of("verb", "GET"))))
+                .build();
+    }
+
+    @Benchmark
+    public String get_withString() {
+        return event.get(key, String.class);
+    }
+
+    @Benchmark
+    public String get_withEventKey() {
+        return event.get(eventKey, String.class);
+    }
+
+    @Benchmark
+    public boolean containsKey_withString() {
+        return event.containsKey(key);
+    }
+
+    @Benchmark
+    public boolean containsKey_withEventKey() {
+        return event.containsKey(eventKey);
+    }
+
+    @Benchmark
+    public void putAndDelete_withString(final Blackhole blackhole) {
+        final String targetKeyString = targetKey.getKey();
+        event.put(targetKeyString, "value");
+        event.delete(targetKeyString);
+        blackhole.consume(event);
+    }
+
+    @Benchmark
+    public void putAndDelete_withEventKey(final Blackhole blackhole) {
+        event.put(targetKey, "value");
+        event.delete(targetKey);
+        blackhole.consume(event);
+    }
+}
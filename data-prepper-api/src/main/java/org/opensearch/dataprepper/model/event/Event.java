@@ -7,7 +7,10 @@ package org.opensearch.dataprepper.model.event;
 
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -34,6 +37,17 @@ public interface Event extends Serializable {
      */
     void put(String key, Object value);
 
+    /**
+     * Adds or updates the key with a given value in the Event
+     *
+     * @param key   where the value will be set
+     * @param value value to set the key to
+     * @since 2.5
+     */
+    default void put(EventKey key, Object value) {
+        put(key.getKey(), value);
+    }
+
     /**
      * Retrieves the given key from the Event
      *
@@ -45,6 +59,19 @@ public interface Event extends Serializable {
      */
     <T> T get(String key, Class<T> clazz);
 
+    /**
+     * Retrieves the given key from the Event
+     *
+     * @param key   the value to retrieve from
+     * @param clazz the return type of the value
+     * @param <T>   The type
+     * @return T a clazz object from the key
+     * @since 2.5
+     */
+    default <T> T get(EventKey key, Class<T> clazz) {
+        return get(key.getKey(), clazz);
+    }
+
     /**
      * Retrieves the given key from the Event as a List
      *
@@ -64,6 +91,16 @@ public interface Event extends Serializable {
      */
     void delete(String key);
 
+    /**
+     * Deletes the given key from the Event
+     *
+     * @param key the field to be deleted
+     * @since 2.5
+     */
+    default void delete(EventKey key) {
+        delete(key.getKey());
+    }
+
     /**
      * Generates a serialized Json string of the entire Event
      *
@@ -98,6 +135,17 @@ public interface Event extends Serializable {
      */
     boolean containsKey(String key);
 
+    /**
+     * Checks if the key exists.
+     *
+     * @param key the key to look for
+     * @return returns true if the key exists, otherwise false
+     * @since 2.5
+     */
+    default boolean containsKey(EventKey key) {
+        return containsKey(key.getKey());
+    }
+
     /**
      * Checks if the value stored for the key is list
      *
@@ -229,5 +277,17 @@ public interface Event extends Serializable {
          * @since 2.3
          */
         public abstract String toJsonString();
+
+        /**
+         * Writes the json as UTF-8 to the output stream. Implementations may override this to write the json
+         * without building a string first.
+         *
+         * @param outputStream the stream to write to, which is not closed
+         * @throws IOException if the json cannot be written to the stream
+         * @since 2.5
+         */
+        public void writeTo(final OutputStream outputStream) throws IOException {
+            outputStream.write(toJsonString().getBytes(StandardCharsets.UTF_8));
+        }
     }
 }
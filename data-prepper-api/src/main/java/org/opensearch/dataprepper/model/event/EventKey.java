@@ -0,0 +1,154 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.core.JsonPointer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A key into an {@link Event} which is validated and parsed once. Processors which access the same keys for every
+ * event should create their keys when they are constructed and use the {@link Event} methods which accept an
+ * {@link EventKey}, rather than passing the key string on every call.
+ * <p>
+ * Keys follow the same rules as the String keys of {@link Event}: "fizz/buzz" and "/fizz/buzz" both refer to the
+ * nested field buzz of the field fizz.
+ *
+ * @since 2.5
+ */
+public final class EventKey {
+    static final String SEPARATOR = "/";
+    static final int MAX_KEY_LENGTH = 2048;
+
+    private final String key;
+    private final String trimmedKey;
+    private final String[] pathSegments;
+    private final JsonPointer jsonPointer;
+    private final JsonPointer parentJsonPointer;
+    private final String leafKey;
+
+    private EventKey(final String key) {
+        checkKey(key);
+        this.key = key;
+        trimmedKey = trimKey(key);
+        pathSegments = trimmedKey.split(SEPARATOR);
+        jsonPointer = toJsonPointer(trimmedKey);
+
+        final int index = trimmedKey.lastIndexOf(SEPARATOR);
+        parentJsonPointer = index == -1 ? null : toJsonPointer(trimmedKey.substring(0, index));
+        leafKey = trimmedKey.substring(index + 1);
+    }
+
+    /**
+     * Creates an {@link EventKey} from a key string.
+     *
+     * @param key the key
+     * @return the parsed key
+     * @throws NullPointerException if the key is null
+     * @throws IllegalArgumentException if the key is not a valid event key
+     * @since 2.5
+     */
+    public static EventKey of(final String key) {
+        return new EventKey(key);
+    }
+
+    /**
+     * Returns the key as it was provided.
+     *
+     * @return the key string
+     * @since 2.5
+     */
+    public String getKey() {
+        return key;
+    }
+
+    String getTrimmedKey() {
+        return trimmedKey;
+    }
+
+    String[] getPathSegments() {
+        return pathSegments;
+    }
+
+    JsonPointer getJsonPointer() {
+        return jsonPointer;
+    }
+
+    JsonPointer getParentJsonPointer() {
+        return parentJsonPointer;
+    }
+
+    String getLeafKey() {
+        return leafKey;
+    }
+
+    static JsonPointer toJsonPointer(final String trimmedKey) {
+        return JsonPointer.compile(SEPARATOR + trimmedKey);
+    }
+
+    static String checkAndTrimKey(final String key) {
+        checkKey(key);
+        return trimKey(key);
+    }
+
+    static void checkKey(final String key) {
+        checkNotNull(key, "key cannot be null");
+        checkArgument(!key.isEmpty(), "key cannot be an empty string");
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("key cannot be longer than " + MAX_KEY_LENGTH + " characters");
+        }
+        if (!isValidKey(key)) {
+            throw new IllegalArgumentException("key " + key + " must contain only alphanumeric chars with .-_ and must follow JsonPointer (ie. 'field/to/key')");
+        }
+    }
+
+    static String trimKey(final String key) {
+
+        final String trimmedLeadingSlash = key.startsWith(SEPARATOR) ? key.substring(1) : key;
+        return trimmedLeadingSlash.endsWith(SEPARATOR) ? trimmedLeadingSlash.substring(0, trimmedLeadingSlash.length() - 2) : trimmedLeadingSlash;
+    }
+
+    private static boolean isValidKey(final String key) {
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+
+            if (!(c >= 48 && c <= 57
+                    || c >= 65 && c <= 90
+                    || c >= 97 && c <= 122
+                    || c == '.'
+                    || c == '-'
+                    || c == '_'
+                    || c == '@'
+                    || c == '/')) {
+
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        return key.equals(((EventKey) other).key);
+    }
+
+    @Override
+    public int hashCode() {
+        return key.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
@@ -5,12 +5,15 @@
 
 package org.opensearch.dataprepper.model.event;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.type.TypeFactory;
@@ -23,19 +26,19 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringJoiner;
 
-import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static org.opensearch.dataprepper.model.event.EventKey.checkAndTrimKey;
+import static org.opensearch.dataprepper.model.event.EventKey.trimKey;
 
 /**
  * A Jackson Implementation of {@link Event} interface. This implementation relies heavily on JsonNode to manage the keys of the event.
@@ -57,7 +60,7 @@ public class JacksonEvent implements Event {
 
     private static final Logger LOG = LoggerFactory.getLogger(JacksonEvent.class);
 
-    private static final String SEPARATOR = "/";
+    private static final String SEPARATOR = EventKey.SEPARATOR;
 
     private static final ObjectMapper mapper = new ObjectMapper()
             .registerModule(new JavaTimeModule())
@@ -72,7 +75,7 @@ public class JacksonEvent implements Event {
 
     private final JsonNode jsonNode;
 
-    static final int MAX_KEY_LENGTH = 2048;
+    static final int MAX_KEY_LENGTH = EventKey.MAX_KEY_LENGTH;
 
     static final String MESSAGE_KEY = "message";
 
@@ -90,7 +93,7 @@ public class JacksonEvent implements Event {
             this.eventMetadata = builder.eventMetadata;
         }
 
-        this.jsonNode = getInitialJsonNode(builder.data);
+        this.jsonNode = builder.ownedJsonNode != null ? builder.ownedJsonNode : getInitialJsonNode(builder.data);
     }
 
     protected JacksonEvent(final JacksonEvent otherEvent) {
@@ -115,6 +118,8 @@ public class JacksonEvent implements Event {
             } catch (final JsonProcessingException e) {
                 throw new IllegalArgumentException("Unable to convert data into an event");
             }
+        } else if (data instanceof JsonNode) {
+            return ((JsonNode) data).deepCopy();
         }
         return mapper.valueToTree(data);
     }
@@ -123,6 +128,17 @@ public class JacksonEvent implements Event {
         return jsonNode;
     }
 
+    /**
+     * Creates a parser which reads the data of this event as JSON tokens, such as for writing the event in another
+     * format. The parser reads the data in place, without copying it, and cannot modify it.
+     *
+     * @return a parser over the event data
+     * @since 2.5
+     */
+    public JsonParser createDataParser() {
+        return jsonNode.traverse();
+    }
+
     /**
      * Adds or updates the key with a given value in the Event.
      *
@@ -135,20 +151,35 @@ public class JacksonEvent implements Event {
 
         final String trimmedKey = checkAndTrimKey(key);
 
-        final LinkedList<String> keys = new LinkedList<>(Arrays.asList(trimmedKey.split(SEPARATOR)));
+        put(trimmedKey.split(SEPARATOR), value);
+    }
+
+    /**
+     * Adds or updates the key with a given value in the Event, without parsing the key again.
+     *
+     * @param key   where the value will be set
+     * @param value value to set the key to
+     * @since 2.5
+     */
+    @Override
+    public void put(final EventKey key, final Object value) {
+        put(key.getPathSegments(), value);
+    }
 
+    private void put(final String[] pathSegments, final Object value) {
+        if (pathSegments.length == 0) {
+            return;
+        }
         JsonNode parentNode = jsonNode;
 
-        while (!keys.isEmpty()) {
-            if (keys.size() == 1) {
-                setNode(parentNode, keys.removeFirst(), value);
-            } else {
-                final String childKey = keys.removeFirst();
-                if (!childKey.isEmpty()) {
-                    parentNode = getOrCreateNode(parentNode, childKey);
-                }
+        final int leafIndex = pathSegments.length - 1;
+        for (int i = 0; i < leafIndex; i++) {
+            final String childKey = pathSegments[i];
+            if (!childKey.isEmpty()) {
+                parentNode = getOrCreateNode(parentNode, childKey);
             }
         }
+        setNode(parentNode, pathSegments[leafIndex], value);
     }
 
     public void setEventHandle(EventHandle handle) {
@@ -200,6 +231,28 @@ public class JacksonEvent implements Event {
         return mapNodeToObject(key, node, clazz);
     }
 
+    /**
+     * Retrieves the value of type clazz from the key, without parsing the key again.
+     *
+     * @param key   the value to retrieve from
+     * @param clazz the return type of the value
+     * @return the value
+     * @throws RuntimeException if it is unable to map the value to the provided clazz
+     * @since 2.5
+     */
+    @Override
+    public <T> T get(final EventKey key, final Class<T> clazz) {
+        final JsonNode node = jsonNode.at(key.getJsonPointer());
+        if (node.isMissingNode()) {
+            return null;
+        }
+        if (node.isTextual() && (clazz == String.class || clazz == Object.class)) {
+            return clazz.cast(node.textValue());
+        }
+
+        return mapNodeToObject(key.getKey(), node, clazz);
+    }
+
     private JsonNode getNode(final String key) {
         final JsonPointer jsonPointer = toJsonPointer(key);
         return jsonNode.at(jsonPointer);
@@ -247,8 +300,7 @@ public class JacksonEvent implements Event {
     }
 
     private JsonPointer toJsonPointer(final String key) {
-        String jsonPointerExpression = SEPARATOR + key;
-        return JsonPointer.compile(jsonPointerExpression);
+        return EventKey.toJsonPointer(key);
     }
 
     /**
@@ -276,9 +328,36 @@ public class JacksonEvent implements Event {
         }
     }
 
+    /**
+     * Deletes the key from the event, without parsing the key again.
+     *
+     * @param key the field to be deleted
+     * @since 2.5
+     */
+    @Override
+    public void delete(final EventKey key) {
+        final JsonPointer parentJsonPointer = key.getParentJsonPointer();
+        final JsonNode baseNode = parentJsonPointer == null ? jsonNode : jsonNode.at(parentJsonPointer);
+
+        if (!baseNode.isMissingNode()) {
+            ((ObjectNode) baseNode).remove(key.getLeafKey());
+        }
+    }
+
     @Override
     public String toJsonString() {
-        return jsonNode.toString();
+        return getOutputJsonNode().toString();
+    }
+
+    /**
+     * Gets the json which {@link #toJsonString()} returns. Subclasses which change the json representation of the
+     * event override this rather than {@link #toJsonString()}, so that {@link JsonStringBuilder} can write it directly.
+     *
+     * @return the json node to output
+     * @since 2.5
+     */
+    protected JsonNode getOutputJsonNode() {
+        return jsonNode;
     }
 
     @Override
@@ -368,6 +447,11 @@ public class JacksonEvent implements Event {
         return !node.isMissingNode();
     }
 
+    @Override
+    public boolean containsKey(final EventKey key) {
+        return !jsonNode.at(key.getJsonPointer()).isMissingNode();
+    }
+
     @Override
     public boolean isValueAList(final String key) {
         final String trimmedKey = checkAndTrimKey(key);
@@ -382,47 +466,6 @@ public class JacksonEvent implements Event {
         return mapper.convertValue(jsonNode, MAP_TYPE_REFERENCE);
     }
 
-    private String checkAndTrimKey(final String key) {
-        checkKey(key);
-        return trimKey(key);
-    }
-
-    private void checkKey(final String key) {
-        checkNotNull(key, "key cannot be null");
-        checkArgument(!key.isEmpty(), "key cannot be an empty string");
-        if (key.length() > MAX_KEY_LENGTH) {
-            throw new IllegalArgumentException("key cannot be longer than " + MAX_KEY_LENGTH + " characters");
-        }
-        if (!isValidKey(key)) {
-            throw new IllegalArgumentException("key " + key + " must contain only alphanumeric chars with .-_ and must follow JsonPointer (ie. 'field/to/key')");
-        }
-    }
-
-    private String trimKey(final String key) {
-
-        final String trimmedLeadingSlash = key.startsWith(SEPARATOR) ? key.substring(1) : key;
-        return trimmedLeadingSlash.endsWith(SEPARATOR) ? trimmedLeadingSlash.substring(0, trimmedLeadingSlash.length() - 2) : trimmedLeadingSlash;
-    }
-
-    private boolean isValidKey(final String key) {
-        for (int i = 0; i < key.length(); i++) {
-            char c = key.charAt(i);
-
-            if (!(c >= 48 && c <= 57
-                    || c >= 65 && c <= 90
-                    || c >= 97 && c <= 122
-                    || c == '.'
-                    || c == '-'
-                    || c == '_'
-                    || c == '@'
-                    || c == '/')) {
-
-                return false;
-            }
-        }
-        return true;
-    }
-
     /**
      * Constructs an empty builder.
      *
@@ -438,6 +481,38 @@ public class JacksonEvent implements Event {
         };
     }
 
+    /**
+     * Creates an event from a node which holds the event data, such as a node written directly by a decoder. The
+     * event takes over the node without copying it, so the caller must not use the node afterwards.
+     *
+     * @param eventType the event type
+     * @param jsonNode the event data
+     * @return an event
+     * @since 2.5
+     */
+    public static JacksonEvent fromJsonNode(final String eventType, final ObjectNode jsonNode) {
+        return builder()
+                .withEventType(eventType)
+                .withOwnedJsonNode(jsonNode)
+                .build();
+    }
+
+    /**
+     * Creates an event with the given metadata from a node which holds the event data. The event takes over the node
+     * without copying it, so the caller must not use the node afterwards.
+     *
+     * @param eventMetadata the event metadata
+     * @param jsonNode the event data
+     * @return an event
+     * @since 2.5
+     */
+    public static JacksonEvent fromJsonNode(final EventMetadata eventMetadata, final ObjectNode jsonNode) {
+        return builder()
+                .withEventMetadata(eventMetadata)
+                .withOwnedJsonNode(jsonNode)
+                .build();
+    }
+
     public JsonStringBuilder jsonBuilder() {
         return new JsonStringBuilder(this);
     }
@@ -462,6 +537,7 @@ public class JacksonEvent implements Event {
 
         private EventMetadata eventMetadata;
         private Object data;
+        private JsonNode ownedJsonNode;
         private String eventType;
         private Instant timeReceived;
         private Map<String, Object> eventMetadataAttributes;
@@ -525,6 +601,21 @@ public class JacksonEvent implements Event {
          */
         public Builder<T> withData(final Object data) {
             this.data = data;
+            this.ownedJsonNode = null;
+            return this;
+        }
+
+        /**
+         * Sets the data of the event to a node which the event takes over without copying it. The caller must not
+         * use the node after building the event.
+         *
+         * @param jsonNode the data
+         * @return returns the builder
+         * @since 2.5
+         */
+        protected Builder<T> withOwnedJsonNode(final JsonNode jsonNode) {
+            this.data = null;
+            this.ownedJsonNode = checkNotNull(jsonNode, "jsonNode cannot be null");
             return this;
         }
 
@@ -586,6 +677,105 @@ public class JacksonEvent implements Event {
             return jsonString;
         }
 
+        /**
+         * Writes the same json as {@link #toJsonString()}. When the json is an object with at least one key, it is
+         * written by walking the json tree with a {@link JsonGenerator}, so that no intermediate strings are built.
+         * Otherwise, such as for a root key of an array or a scalar, the string of {@link #toJsonString()} is written.
+         * Keys which must be escaped in json are escaped, where {@link #toJsonString()} with include or exclude keys
+         * writes them as they are.
+         *
+         * @param outputStream the stream to write to, which is not closed
+         * @throws IOException if the json cannot be written to the stream
+         */
+        @Override
+        public void writeTo(final OutputStream outputStream) throws IOException {
+            final List<String> filterKeys;
+            final boolean filterAction;
+            if (getIncludeKeys() != null && !getIncludeKeys().isEmpty()) {
+                filterKeys = getIncludeKeys();
+                filterAction = RETAIN_ALL;
+            } else if (getExcludeKeys() != null && !getExcludeKeys().isEmpty()) {
+                filterKeys = getExcludeKeys();
+                filterAction = EXCLUDE_ALL;
+            } else {
+                filterKeys = null;
+                filterAction = RETAIN_ALL;
+            }
+
+            final JsonNode baseNode = getBaseNode();
+            final JsonNode node = filterKeys != null || baseNode != event.getJsonNode() ? baseNode : event.getOutputJsonNode();
+            if (!node.isObject() || (getTagsKey() != null && !hasWrittenKey(node, filterKeys, filterAction))) {
+                // toJsonString() adds the tags to the text of the json, which only gives valid json for an object
+                // with other keys, and filters scalars into empty objects.
+                super.writeTo(outputStream);
+                return;
+            }
+
+            try (final JsonGenerator generator = mapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                writeObject(generator, mapper.getSerializerProviderInstance(), node, "", filterKeys, filterAction, getTagsKey());
+            }
+        }
+
+        private boolean hasWrittenKey(final JsonNode node, final List<String> filterKeys, final boolean filterAction) {
+            if (filterKeys == null) {
+                return !node.isEmpty();
+            }
+            for (final Map.Entry<String, JsonNode> entry : node.properties()) {
+                if (isWritten(matchFilterKeys(trimKey(SEPARATOR + entry.getKey()), filterKeys), filterAction)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isWritten(final FilterMatch filterMatch, final boolean filterAction) {
+            return filterMatch == FilterMatch.PARENT || (filterMatch == FilterMatch.KEY) == (filterAction == RETAIN_ALL);
+        }
+
+        private void writeFiltered(final JsonGenerator generator, final SerializerProvider serializerProvider, final JsonNode node,
+                                   final String path, final List<String> filterKeys, final boolean filterAction) throws IOException {
+            if (node.isArray()) {
+                generator.writeStartArray();
+                for (final JsonNode childNode : node) {
+                    writeFiltered(generator, serializerProvider, childNode, path, filterKeys, filterAction);
+                }
+                generator.writeEndArray();
+            } else {
+                writeObject(generator, serializerProvider, node, path, filterKeys, filterAction, null);
+            }
+        }
+
+        private void writeObject(final JsonGenerator generator, final SerializerProvider serializerProvider, final JsonNode node,
+                                 final String path, final List<String> filterKeys, final boolean filterAction, final String tagsKey) throws IOException {
+            generator.writeStartObject();
+            for (final Map.Entry<String, JsonNode> entry : node.properties()) {
+                if (filterKeys == null) {
+                    generator.writeFieldName(entry.getKey());
+                    entry.getValue().serialize(generator, serializerProvider);
+                    continue;
+                }
+                final String keyPath = trimKey(path + SEPARATOR + entry.getKey());
+                final FilterMatch filterMatch = matchFilterKeys(keyPath, filterKeys);
+                if (filterMatch == FilterMatch.PARENT) {
+                    generator.writeFieldName(entry.getKey());
+                    writeFiltered(generator, serializerProvider, entry.getValue(), keyPath, filterKeys, filterAction);
+                } else if (isWritten(filterMatch, filterAction)) {
+                    generator.writeFieldName(entry.getKey());
+                    entry.getValue().serialize(generator, serializerProvider);
+                }
+            }
+            if (tagsKey != null) {
+                generator.writeFieldName(tagsKey);
+                generator.writeStartArray();
+                for (final String tag : event.getMetadata().getTags()) {
+                    generator.writeString(tag);
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+        }
+
         /**
          * Perform DFS(Depth-first search) like traversing using recursion on the Json Tree and return the json string.
          * This supports filtering (to include or exclude) from a list of keys.
@@ -608,32 +798,16 @@ public class JacksonEvent implements Event {
 
                 node.properties().forEach(entry -> {
                     String keyPath = trimKey(path + SEPARATOR + entry.getKey());
-                    // Track whether the key is found in the filter list.
                     // Different behaviours between include and exclude action.
-                    boolean found = false;
-                    for (String key : filterKeys) {
-                        key = trimKey(key);
-                        if (keyPath.equals(key)) {
-                            found = true;
-                            // To keep the order.
-                            if (filterAction == RETAIN_ALL) {
-                                valueList.add("\"" + entry.getKey() + "\":" + entry.getValue().toString());
-                            }
-                            break;
-                        } else if (key.startsWith(keyPath)) {
-                            found = true;
-                            valueList.add("\"" + entry.getKey() + "\":" + searchAndFilter(entry.getValue(), keyPath, filterKeys, filterAction));
-                            break;
+                    final FilterMatch filterMatch = matchFilterKeys(keyPath, filterKeys);
+                    if (filterMatch == FilterMatch.KEY) {
+                        // To keep the order.
+                        if (filterAction == RETAIN_ALL) {
+                            valueList.add("\"" + entry.getKey() + "\":" + entry.getValue().toString());
                         }
-                        if (key.compareTo(keyPath) > 0) {
-                            // To save the comparing.
-                            // This requires the filter keys to be sorted first.
-                            // This is done in SinkModel.
-                            break;
-                        }
-                    }
-
-                    if (!found && filterAction == EXCLUDE_ALL) {
+                    } else if (filterMatch == FilterMatch.PARENT) {
+                        valueList.add("\"" + entry.getKey() + "\":" + searchAndFilter(entry.getValue(), keyPath, filterKeys, filterAction));
+                    } else if (filterAction == EXCLUDE_ALL) {
                         valueList.add("\"" + entry.getKey() + "\":" + entry.getValue().toString());
                     }
                 });
@@ -644,6 +818,31 @@ public class JacksonEvent implements Event {
             }
         }
 
+        private FilterMatch matchFilterKeys(final String keyPath, final List<String> filterKeys) {
+            for (String key : filterKeys) {
+                key = trimKey(key);
+                if (keyPath.equals(key)) {
+                    return FilterMatch.KEY;
+                } else if (key.startsWith(keyPath)) {
+                    return FilterMatch.PARENT;
+                }
+                if (key.compareTo(keyPath) > 0) {
+                    // To save the comparing.
+                    // This requires the filter keys to be sorted first.
+                    // This is done in SinkModel.
+                    break;
+                }
+            }
+            return FilterMatch.NONE;
+        }
+    }
 
+    /**
+     * How a key path matches the filter keys: it is one of the keys, it is the parent of one of the keys, or neither.
+     */
+    private enum FilterMatch {
+        KEY,
+        PARENT,
+        NONE
     }
 }
@@ -5,6 +5,8 @@
 
 package org.opensearch.dataprepper.model.log;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.opensearch.dataprepper.model.event.EventMetadata;
 import org.opensearch.dataprepper.model.event.EventType;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 
@@ -30,6 +32,21 @@ public class JacksonLog extends JacksonEvent implements Log {
         return new Builder();
     }
 
+    /**
+     * Creates a log with the given metadata from a node which holds the log data. The log takes over the node without
+     * copying it, so the caller must not use the node afterwards.
+     *
+     * @param eventMetadata the event metadata, which must have the event type of a log
+     * @param jsonNode the log data
+     * @return a log
+     * @since 2.5
+     */
+    public static JacksonLog fromJsonNode(final EventMetadata eventMetadata, final ObjectNode jsonNode) {
+        final Builder builder = builder();
+        builder.withEventMetadata(eventMetadata);
+        return builder.build(jsonNode);
+    }
+
     /**
      * Builder for creating {@link JacksonLog}.
      * @since 1.2
@@ -50,5 +67,10 @@ public class JacksonLog extends JacksonEvent implements Log {
             this.withEventType(EventType.LOG.toString());
             return new JacksonLog(this);
         }
+
+        private JacksonLog build(final ObjectNode jsonNode) {
+            withOwnedJsonNode(jsonNode);
+            return build();
+        }
     }
 }
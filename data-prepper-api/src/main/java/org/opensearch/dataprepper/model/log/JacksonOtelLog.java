@@ -113,8 +113,21 @@ public class JacksonOtelLog extends JacksonEvent implements OpenTelemetryLog {
         return new JacksonOtelLog.Builder();
     }
 
+    /**
+     * Creates a log from a node which holds the log data, such as a node written directly by a decoder. The log
+     * takes over the node without copying it, so the caller must not use the node afterwards. The node is completed
+     * with default values in the same way as by {@link Builder#build()}.
+     *
+     * @param jsonNode the log data
+     * @return a log
+     * @since 2.5
+     */
+    public static JacksonOtelLog fromJsonNode(final ObjectNode jsonNode) {
+        return builder().build(jsonNode);
+    }
+
     @Override
-    public String toJsonString() {
+    protected JsonNode getOutputJsonNode() {
         Object anyAttributes = getJsonNode().get("attributes");
         if(anyAttributes instanceof ObjectNode) {
             final ObjectNode flattenedJsonNode = getJsonNode().deepCopy();
@@ -127,9 +140,9 @@ public class JacksonOtelLog extends JacksonEvent implements OpenTelemetryLog {
                     flattenedJsonNode.set(field, entry.getValue());
                 }
             }
-            return flattenedJsonNode.toString();
+            return flattenedJsonNode;
         }
-        return super.toJsonString();
+        return super.getOutputJsonNode();
     }
     /**
      * Builder for creating {@link JacksonLog}.
@@ -308,5 +321,14 @@ public class JacksonOtelLog extends JacksonEvent implements OpenTelemetryLog {
         private void checkAndSetDefaultValues() {
             data.computeIfAbsent(ATTRIBUTES_KEY, k -> new HashMap<>());
         }
+
+        private JacksonOtelLog build(final ObjectNode jsonNode) {
+            this.withEventType(EventType.LOG.toString());
+            if (!jsonNode.hasNonNull(ATTRIBUTES_KEY)) {
+                jsonNode.putObject(ATTRIBUTES_KEY);
+            }
+            this.withOwnedJsonNode(jsonNode);
+            return new JacksonOtelLog(this);
+        }
     }
 }
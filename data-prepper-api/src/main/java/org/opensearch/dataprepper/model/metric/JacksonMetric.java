@@ -40,9 +40,9 @@ public abstract class JacksonMetric extends JacksonEvent implements Metric {
     }
 
     @Override
-    public String toJsonString() {
+    protected JsonNode getOutputJsonNode() {
         if (!flattenAttributes) {
-            return getJsonNode().toString();
+            return getJsonNode();
         }
         final ObjectNode attributesNode = (ObjectNode) getJsonNode().get(ATTRIBUTES_KEY);
         final ObjectNode flattenedJsonNode = getJsonNode().deepCopy();
@@ -56,7 +56,7 @@ public abstract class JacksonMetric extends JacksonEvent implements Metric {
                 }
             }
         }
-        return flattenedJsonNode.toString();
+        return flattenedJsonNode;
     }
 
     @Override
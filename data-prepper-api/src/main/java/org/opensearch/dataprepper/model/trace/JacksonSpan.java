@@ -187,8 +187,35 @@ public class JacksonSpan extends JacksonEvent implements Span {
         }
     }
 
+    /**
+     * Creates a span from a node which holds the span data, such as a node written directly by a decoder. The span
+     * takes over the node without copying it, so the caller must not use the node afterwards. The node is validated
+     * and completed with default values in the same way as by {@link Builder#build()}.
+     *
+     * @param jsonNode the span data
+     * @return a span
+     * @since 2.5
+     */
+    public static JacksonSpan fromJsonNode(final ObjectNode jsonNode) {
+        return builder().build(jsonNode);
+    }
+
+    /**
+     * Creates a span with the given metadata from a node which holds the span data. The span takes over the node
+     * without copying it, so the caller must not use the node afterwards. The node is validated and completed with
+     * default values in the same way as by {@link Builder#build()}.
+     *
+     * @param eventMetadata the event metadata
+     * @param jsonNode the span data
+     * @return a span
+     * @since 2.5
+     */
+    public static JacksonSpan fromJsonNode(final EventMetadata eventMetadata, final ObjectNode jsonNode) {
+        return builder().withEventMetadata(eventMetadata).build(jsonNode);
+    }
+
     @Override
-    public String toJsonString() {
+    protected JsonNode getOutputJsonNode() {
         final ObjectNode attributesNode = (ObjectNode) getJsonNode().get("attributes");
         final ObjectNode flattenedJsonNode = getJsonNode().deepCopy();
         if (attributesNode != null) {
@@ -201,7 +228,7 @@ public class JacksonSpan extends JacksonEvent implements Span {
                 }
             }
         }
-        return flattenedJsonNode.toString();
+        return flattenedJsonNode;
     }
 
     /**
@@ -521,5 +548,49 @@ public class JacksonSpan extends JacksonEvent implements Span {
             data.putIfAbsent(DROPPED_EVENTS_COUNT_KEY, 0);
         }
 
+        private JacksonSpan build(final ObjectNode jsonNode) {
+            validateParameters(jsonNode);
+            checkAndSetDefaultValues(jsonNode);
+            withOwnedJsonNode(jsonNode);
+            this.withEventType(EventType.TRACE.toString());
+            return new JacksonSpan(this);
+        }
+
+        private void validateParameters(final ObjectNode jsonNode) {
+            REQUIRED_KEYS.forEach(key -> {
+                checkState(jsonNode.has(key), key + " need to be assigned");
+            });
+
+            REQUIRED_NON_EMPTY_KEYS.forEach(key -> {
+                checkNotNull(jsonNode.hasNonNull(key) ? jsonNode.get(key) : null, key + " cannot be null");
+                checkArgument(!jsonNode.get(key).asText().isEmpty(), key + " cannot be an empty string");
+            });
+
+            REQUIRED_NON_NULL_KEYS.forEach(key -> {
+                checkNotNull(jsonNode.hasNonNull(key) ? jsonNode.get(key) : null, key + " cannot be null");
+            });
+        }
+
+        private void checkAndSetDefaultValues(final ObjectNode jsonNode) {
+            if (!jsonNode.hasNonNull(ATTRIBUTES_KEY)) {
+                jsonNode.putObject(ATTRIBUTES_KEY);
+            }
+            if (!jsonNode.hasNonNull(DROPPED_ATTRIBUTES_COUNT_KEY)) {
+                jsonNode.put(DROPPED_ATTRIBUTES_COUNT_KEY, 0);
+            }
+            if (!jsonNode.hasNonNull(LINKS_KEY)) {
+                jsonNode.putArray(LINKS_KEY);
+            }
+            if (!jsonNode.hasNonNull(DROPPED_LINKS_COUNT_KEY)) {
+                jsonNode.put(DROPPED_LINKS_COUNT_KEY, 0);
+            }
+            if (!jsonNode.hasNonNull(EVENTS_KEY)) {
+                jsonNode.putArray(EVENTS_KEY);
+            }
+            if (!jsonNode.hasNonNull(DROPPED_EVENTS_COUNT_KEY)) {
+                jsonNode.put(DROPPED_EVENTS_COUNT_KEY, 0);
+            }
+        }
+
     }
 }
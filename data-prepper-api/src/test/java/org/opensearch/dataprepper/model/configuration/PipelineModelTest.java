@@ -16,6 +16,7 @@ import java.util.Random;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -26,6 +27,7 @@ class PipelineModelTest {
     public static Random random = new Random();
     public static final Integer TEST_WORKERS = random.nextInt(30);
     public static final Integer TEST_READ_BATCH_DELAY = random.nextInt(40);
+    public static final Integer TEST_SINK_IN_FLIGHT_BATCHES = random.nextInt(10);
     public static PluginModel TEST_VALID_SOURCE_PLUGIN_MODEL = new PluginModel("source-plugin", validPluginSettings());
     public static PluginModel TEST_VALID_BUFFER_PLUGIN_MODEL = new PluginModel("buffer", validPluginSettings());
     public static PluginModel TEST_VALID_PREPPERS_PLUGIN_MODEL = new PluginModel("prepper", validPluginSettings());
@@ -63,6 +65,25 @@ class PipelineModelTest {
         assertThat(originalSinks.get(0).getPluginSettings(), is(equalTo(TEST_VALID_SINKS_PLUGIN_MODEL.getPluginSettings())));
         assertThat(pipelineModel.getWorkers(), is(TEST_WORKERS));
         assertThat(pipelineModel.getReadBatchDelay(), is(TEST_READ_BATCH_DELAY));
+        assertThat(pipelineModel.getSinkInFlightBatches(), nullValue());
+    }
+
+    @Test
+    void testPipelineModelCreation_with_sink_in_flight_batches() {
+        final PipelineModel pipelineModel = new PipelineModel(
+                validSourcePluginModel(),
+                validBufferPluginModel(),
+                validPreppersPluginModel(),
+                validPipelineRouter(),
+                validSinksPluginModel(),
+                TEST_WORKERS,
+                TEST_READ_BATCH_DELAY,
+                TEST_SINK_IN_FLIGHT_BATCHES
+        );
+
+        assertThat(pipelineModel.getWorkers(), is(TEST_WORKERS));
+        assertThat(pipelineModel.getReadBatchDelay(), is(TEST_READ_BATCH_DELAY));
+        assertThat(pipelineModel.getSinkInFlightBatches(), is(TEST_SINK_IN_FLIGHT_BATCHES));
     }
 
     static Map<String, Object> validPluginSettings() {
@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventKeyTest {
+    @Test
+    void of_parses_a_top_level_key() {
+        final EventKey eventKey = EventKey.of("/foo");
+
+        assertThat(eventKey.getKey(), equalTo("/foo"));
+        assertThat(eventKey.toString(), equalTo("/foo"));
+        assertThat(eventKey.getTrimmedKey(), equalTo("foo"));
+        assertThat(eventKey.getPathSegments(), equalTo(new String[]{"foo"}));
+        assertThat(eventKey.getJsonPointer(), equalTo(JsonPointer.compile("/foo")));
+        assertThat(eventKey.getParentJsonPointer(), nullValue());
+        assertThat(eventKey.getLeafKey(), equalTo("foo"));
+    }
+
+    @Test
+    void of_parses_a_nested_key() {
+        final EventKey eventKey = EventKey.of("foo/bar/baz");
+
+        assertThat(eventKey.getTrimmedKey(), equalTo("foo/bar/baz"));
+        assertThat(eventKey.getPathSegments(), equalTo(new String[]{"foo", "bar", "baz"}));
+        assertThat(eventKey.getJsonPointer(), equalTo(JsonPointer.compile("/foo/bar/baz")));
+        assertThat(eventKey.getParentJsonPointer(), equalTo(JsonPointer.compile("/foo/bar")));
+        assertThat(eventKey.getLeafKey(), equalTo("baz"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "withSpecialChars*$%", "\\-withEscapeChars", "with,Comma", "with:Colon", "with[Bracket", "with|Brace"})
+    void of_throws_for_invalid_keys(final String invalidKey) {
+        assertThrows(IllegalArgumentException.class, () -> EventKey.of(invalidKey));
+    }
+
+    @Test
+    void of_throws_for_keys_longer_than_the_maximum() {
+        final String key = RandomStringUtils.randomAlphabetic(EventKey.MAX_KEY_LENGTH + 1);
+
+        assertThrows(IllegalArgumentException.class, () -> EventKey.of(key));
+    }
+
+    @Test
+    void of_throws_for_null_keys() {
+        assertThrows(NullPointerException.class, () -> EventKey.of(null));
+    }
+
+    @Test
+    void equals_compares_the_keys() {
+        final EventKey eventKey = EventKey.of("foo/bar");
+
+        assertThat(eventKey.equals(eventKey), is(true));
+        assertThat(eventKey.equals(EventKey.of("foo/bar")), is(true));
+        assertThat(eventKey.hashCode(), equalTo(EventKey.of("foo/bar").hashCode()));
+        assertThat(eventKey.equals(EventKey.of("/foo/bar")), is(false));
+        assertThat(eventKey.equals(EventKey.of("foo/baz")), is(false));
+        assertThat(eventKey.equals(null), is(false));
+        assertThat(eventKey, not(equalTo((Object) "foo/bar")));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventTest {
+    private Event event;
+    private EventKey eventKey;
+
+    @BeforeEach
+    void setUp() {
+        event = mock(Event.class, CALLS_REAL_METHODS);
+        eventKey = EventKey.of("foo/bar");
+    }
+
+    @Test
+    void put_with_EventKey_uses_the_key_string() {
+        final Object value = UUID.randomUUID();
+
+        event.put(eventKey, value);
+
+        verify(event).put("foo/bar", value);
+    }
+
+    @Test
+    void get_with_EventKey_uses_the_key_string() {
+        final String value = UUID.randomUUID().toString();
+        when(event.get("foo/bar", String.class)).thenReturn(value);
+
+        assertThat(event.get(eventKey, String.class), equalTo(value));
+    }
+
+    @Test
+    void delete_with_EventKey_uses_the_key_string() {
+        event.delete(eventKey);
+
+        verify(event).delete("foo/bar");
+    }
+
+    @Test
+    void containsKey_with_EventKey_uses_the_key_string() {
+        when(event.containsKey("foo/bar")).thenReturn(true);
+
+        assertThat(event.containsKey(eventKey), equalTo(true));
+    }
+
+    @Test
+    void JsonStringBuilder_writeTo_writes_the_json_string_as_UTF_8() throws IOException {
+        final String jsonString = "{\"foo\":\"" + UUID.randomUUID() + "\u00e9\"}";
+        final Event.JsonStringBuilder jsonStringBuilder = mock(Event.JsonStringBuilder.class, CALLS_REAL_METHODS);
+        when(jsonStringBuilder.toJsonString()).thenReturn(jsonString);
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        jsonStringBuilder.writeTo(outputStream);
+
+        assertThat(outputStream.toByteArray(), equalTo(jsonString.getBytes(StandardCharsets.UTF_8)));
+    }
+}
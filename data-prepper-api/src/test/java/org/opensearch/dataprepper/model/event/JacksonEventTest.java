@@ -5,15 +5,23 @@
 
 package org.opensearch.dataprepper.model.event;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
@@ -22,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
@@ -31,7 +40,10 @@ import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertThrows;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.dataprepper.test.matcher.MapEquals.isEqualWithoutTimestamp;
 
@@ -301,6 +313,87 @@ public class JacksonEventTest {
         assertThat(event.containsKey("bar"), is(false));
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"foo", "/foo", "/foo/", "foo/bar", "/foo/bar/baz"})
+    void testPutAndGet_withEventKey_matchesStringKey(final String key) {
+        final EventKey eventKey = EventKey.of(key);
+        final UUID value = UUID.randomUUID();
+
+        event.put(eventKey, value);
+
+        assertThat(event.get(eventKey, UUID.class), is(equalTo(value)));
+        assertThat(event.get(key, UUID.class), is(equalTo(value)));
+        assertThat(event.containsKey(eventKey), is(true));
+    }
+
+    @Test
+    void testGet_withEventKey_returnsTextualValuesAsString() {
+        final EventKey eventKey = EventKey.of("foo/bar");
+        final String value = UUID.randomUUID().toString();
+
+        event.put("foo/bar", value);
+
+        assertThat(event.get(eventKey, String.class), is(equalTo(value)));
+        assertThat(event.get(eventKey, Object.class), is(equalTo(value)));
+    }
+
+    @Test
+    void testGet_withEventKey_mapsNonTextualValues() {
+        final EventKey eventKey = EventKey.of("foo");
+
+        event.put("foo", 42);
+
+        assertThat(event.get(eventKey, String.class), is(equalTo("42")));
+        assertThat(event.get(eventKey, Integer.class), is(equalTo(42)));
+    }
+
+    @Test
+    void testGet_withEventKey_withIncorrectPojo() {
+        final EventKey eventKey = EventKey.of("foo");
+
+        event.put("foo", new TestObject(UUID.randomUUID().toString()));
+
+        assertThrows(RuntimeException.class, () -> event.get(eventKey, UUID.class));
+    }
+
+    @Test
+    void testGet_withEventKey_missingKey() {
+        final EventKey eventKey = EventKey.of("foo/bar");
+
+        assertThat(event.get(eventKey, String.class), is(nullValue()));
+        assertThat(event.containsKey(eventKey), is(false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"foo", "foo/bar", "/foo/bar/baz"})
+    void testDelete_withEventKey(final String key) {
+        final EventKey eventKey = EventKey.of(key);
+        event.put(key, UUID.randomUUID());
+
+        event.delete(eventKey);
+
+        assertThat(event.containsKey(key), is(false));
+    }
+
+    @Test
+    void testDelete_withEventKey_withNonexistentParent() {
+        final EventKey eventKey = EventKey.of("foo/bar");
+
+        event.delete(eventKey);
+
+        assertThat(event.containsKey("foo"), is(false));
+    }
+
+    @Test
+    void testPut_withKeyWithoutPathSegments_doesNothing() {
+        final EventKey eventKey = EventKey.of("//a/");
+
+        event.put(eventKey, UUID.randomUUID());
+        event.put("//a/", UUID.randomUUID());
+
+        assertThat(event.toMap(), is(equalTo(Collections.emptyMap())));
+    }
+
     @Test
     public void testIsValueAList_withAList() {
         final String key = "foo";
@@ -610,6 +703,21 @@ public class JacksonEventTest {
         assertThrows(IllegalArgumentException.class, () -> builder.build());
     }
 
+    @Test
+    void builder_with_a_JsonNode_copies_the_node() {
+        final Map<String, Object> dataObject = createComplexDataMap();
+        final ObjectNode data = new ObjectMapper().valueToTree(dataObject);
+
+        final JacksonEvent event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(data)
+                .build();
+        data.put("added", "value");
+
+        assertThat(event.getJsonNode(), not(sameInstance(data)));
+        assertThat(event.toMap(), equalTo(dataObject));
+    }
+
     @Test
     void fromEvent_with_a_JacksonEvent() {
         final Map<String, Object> dataObject = createComplexDataMap();
@@ -774,6 +882,137 @@ public class JacksonEventTest {
 
     }
 
+    private static Stream<Arguments> jsonBuilderOptions() {
+        final List<String> rootKeys = Arrays.asList(null, "info", "id", "tags", "hello");
+        final List<List<List<String>>> filters = List.of(
+                Arrays.asList(null, null),
+                Arrays.asList(List.of("foo", "info"), null),
+                Arrays.asList(List.of("foo", "tags/key"), null),
+                Arrays.asList(List.of("name"), null),
+                Arrays.asList(List.of("x"), null),
+                Arrays.asList(null, List.of("foo", "info/name")),
+                Arrays.asList(null, List.of("name")),
+                Arrays.asList(null, List.of("id", "foo", "info", "tags"))
+        );
+        final List<String> tagsKeys = Arrays.asList(null, "event_tags");
+        return rootKeys.stream()
+                .flatMap(rootKey -> filters.stream()
+                        .flatMap(filter -> tagsKeys.stream()
+                                .map(tagsKey -> arguments(rootKey, filter.get(0), filter.get(1), tagsKey))));
+    }
+
+    @ParameterizedTest
+    @MethodSource("jsonBuilderOptions")
+    void testJsonStringBuilderWriteToWritesTheSameJsonAsToJsonString(final String rootKey, final List<String> includeKeys,
+                                                                      final List<String> excludeKeys, final String tagsKey) throws IOException {
+        final String jsonString = "{\"id\":1,\"foo\":\"bar\",\"info\":{\"name\":\"hello\",\"foo\":\"bar\"},\"tags\":[{\"key\":\"a\",\"value\":\"b\"},{\"key\":\"c\",\"value\":\"d\"}]}";
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(jsonString)
+                .build();
+        event.getMetadata().addTags(List.of("tag1", "tag2"));
+
+        final Event.JsonStringBuilder jsonStringBuilder = event.jsonBuilder()
+                .rootKey(rootKey)
+                .includeKeys(includeKeys)
+                .excludeKeys(excludeKeys)
+                .includeTags(tagsKey);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        jsonStringBuilder.writeTo(outputStream);
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8), equalTo(jsonStringBuilder.toJsonString()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{}", "{\"list\":[1,2]}"})
+    void testJsonStringBuilderWriteToWritesTheSameJsonAsToJsonStringWithTagsAndNoOtherKeys(final String jsonString) throws IOException {
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(jsonString)
+                .build();
+        event.getMetadata().addTags(List.of("tag1"));
+
+        final Event.JsonStringBuilder jsonStringBuilder = event.jsonBuilder()
+                .excludeKeys(List.of("list"))
+                .includeTags("tags");
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        jsonStringBuilder.writeTo(outputStream);
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8), equalTo(jsonStringBuilder.toJsonString()));
+    }
+
+    @Test
+    void testJsonStringBuilderWriteToDoesNotCloseTheOutputStream() throws IOException {
+        final ByteArrayOutputStream outputStream = mock(ByteArrayOutputStream.class);
+
+        event.jsonBuilder().writeTo(outputStream);
+
+        verify(outputStream, never()).close();
+    }
+
+
+    @Test
+    void testBuild_withOwnedJsonNode_uses_the_node_without_copying() {
+        final ObjectNode jsonNode = new ObjectMapper().createObjectNode().put("foo", "bar");
+
+        final JacksonEvent.Builder<?> builder = JacksonEvent.builder().withEventType(EventType.DOCUMENT.toString());
+        builder.withOwnedJsonNode(jsonNode);
+        event = builder.build();
+
+        assertThat(((JacksonEvent) event).getJsonNode(), sameInstance(jsonNode));
+        assertThat(event.get("foo", String.class), equalTo("bar"));
+    }
+
+    @Test
+    void testBuild_withData_after_withOwnedJsonNode_uses_the_data() {
+        final ObjectNode jsonNode = new ObjectMapper().createObjectNode().put("foo", "bar");
+
+        final JacksonEvent.Builder<?> builder = JacksonEvent.builder().withEventType(EventType.DOCUMENT.toString());
+        builder.withOwnedJsonNode(jsonNode);
+        builder.withData(Collections.singletonMap("foo", "baz"));
+        event = builder.build();
+
+        assertThat(((JacksonEvent) event).getJsonNode(), not(sameInstance(jsonNode)));
+        assertThat(event.get("foo", String.class), equalTo("baz"));
+    }
+
+    @Test
+    void testFromJsonNode_uses_the_node_without_copying() {
+        final ObjectNode jsonNode = new ObjectMapper().createObjectNode().put("foo", "bar");
+
+        event = JacksonEvent.fromJsonNode(EventType.DOCUMENT.toString(), jsonNode);
+
+        assertThat(((JacksonEvent) event).getJsonNode(), sameInstance(jsonNode));
+        assertThat(event.getMetadata().getEventType(), equalTo(EventType.DOCUMENT.toString()));
+        assertThat(event.get("foo", String.class), equalTo("bar"));
+    }
+
+    @Test
+    void testFromJsonNode_with_event_metadata_uses_the_metadata_and_the_node_without_copying() {
+        final ObjectNode jsonNode = new ObjectMapper().createObjectNode().put("foo", "bar");
+        final EventMetadata eventMetadata = DefaultEventMetadata.builder()
+                .withEventType(EventType.DOCUMENT.toString())
+                .build();
+
+        event = JacksonEvent.fromJsonNode(eventMetadata, jsonNode);
+
+        assertThat(((JacksonEvent) event).getJsonNode(), sameInstance(jsonNode));
+        assertThat(event.getMetadata(), sameInstance(eventMetadata));
+        assertThat(event.get("foo", String.class), equalTo("bar"));
+    }
+
+    @Test
+    void testCreateDataParser_reads_the_event_data() throws IOException {
+        final Map<String, Object> dataObject = createComplexDataMap();
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(dataObject)
+                .build();
+
+        try (final JsonParser parser = ((JacksonEvent) event).createDataParser()) {
+            assertThat(new ObjectMapper().readTree(parser), equalTo(((JacksonEvent) event).getJsonNode()));
+        }
+    }
 
     private static Map<String, Object> createComplexDataMap() {
         final Map<String, Object> dataObject = new HashMap<>();
@@ -5,6 +5,8 @@
 
 package org.opensearch.dataprepper.model.log;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
 import org.opensearch.dataprepper.model.event.EventMetadata;
@@ -14,6 +16,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class JacksonLogTest {
@@ -49,4 +52,30 @@ public class JacksonLogTest {
         assertThat(logBuilder, is(notNullValue()));
         assertThrows(IllegalArgumentException.class, logBuilder::build);
     }
+
+    @Test
+    public void fromJsonNode_creates_a_log_with_the_node_and_the_metadata() {
+        final ObjectNode jsonNode = new ObjectMapper().createObjectNode().put("message", "hello");
+        final EventMetadata eventMetadata = DefaultEventMetadata.builder()
+                .withEventType("LOG")
+                .build();
+
+        final JacksonLog log = JacksonLog.fromJsonNode(eventMetadata, jsonNode);
+
+        assertThat(log.get("message", String.class), is(equalTo("hello")));
+        assertThat(log.getMetadata(), is(sameInstance(eventMetadata)));
+
+        jsonNode.put("message", "changed");
+        assertThat(log.get("message", String.class), is(equalTo("changed")));
+    }
+
+    @Test
+    public void fromJsonNode_withNonLogMetadata_throwsIllegalArgumentException() {
+        final EventMetadata eventMetadata = DefaultEventMetadata.builder()
+                .withEventType("foobar")
+                .build();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> JacksonLog.fromJsonNode(eventMetadata, new ObjectMapper().createObjectNode()));
+    }
 }
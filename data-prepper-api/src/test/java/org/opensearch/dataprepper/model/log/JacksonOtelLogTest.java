@@ -5,6 +5,8 @@
 
 package org.opensearch.dataprepper.model.log;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
 import io.micrometer.core.instrument.util.IOUtils;
 import org.json.JSONException;
@@ -22,6 +24,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasValue;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.anEmptyMap;
 
 public class JacksonOtelLogTest {
 
@@ -168,5 +171,27 @@ public class JacksonOtelLogTest {
         testLog.put("attributes", "a string");
         assertThat(testLog.toJsonString(), equalTo("{\"attributes\":\"a string\"}"));
     }
-}
 
+    @Test
+    void fromJsonNode_creates_a_log_with_the_data_of_the_node() {
+        final ObjectNode jsonNode = new ObjectMapper().valueToTree(log.toMap());
+
+        final JacksonOtelLog createdLog = JacksonOtelLog.fromJsonNode(jsonNode);
+
+        assertThat(createdLog.toMap(), equalTo(log.toMap()));
+        assertThat(createdLog.getMetadata().getEventType(), equalTo("LOG"));
+
+        jsonNode.put("body", "changed");
+        assertThat(createdLog.getBody(), equalTo("changed"));
+    }
+
+    @Test
+    void fromJsonNode_without_attributes_sets_empty_attributes() {
+        final ObjectNode jsonNode = new ObjectMapper().createObjectNode().put("time", TEST_TIME);
+
+        final JacksonOtelLog createdLog = JacksonOtelLog.fromJsonNode(jsonNode);
+
+        assertThat(createdLog.getTime(), equalTo(TEST_TIME));
+        assertThat(createdLog.getAttributes(), is(anEmptyMap()));
+    }
+}
@@ -8,14 +8,19 @@ package org.opensearch.dataprepper.model.trace;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
 import org.opensearch.dataprepper.model.event.EventMetadata;
 import org.opensearch.dataprepper.model.event.EventType;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Date;
@@ -32,6 +37,8 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.empty;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -255,6 +262,14 @@ public class JacksonSpanTest {
         assertThat(resultMap.containsKey("attributes"), is(false));
     }
 
+    @Test
+    public void testJsonBuilderWriteToWritesTheFlattenedJson() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        jacksonSpan.jsonBuilder().writeTo(outputStream);
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8), equalTo(jacksonSpan.toJsonString()));
+    }
+
     @Test
     public void testToJsonStringWithoutAttributes() throws JsonProcessingException {
         builder.withAttributes(null);
@@ -722,4 +737,85 @@ public class JacksonSpanTest {
         assertThat(createdEvent.getMetadata(), not(sameInstance(jacksonSpan.getMetadata())));
         assertThat(createdEvent.getMetadata().getEventType(), equalTo("TRACE"));
     }
+
+    @Test
+    void fromJsonNode_creates_a_span_with_the_data_of_the_node() {
+        final ObjectNode jsonNode = mapper.valueToTree(jacksonSpan.toMap());
+
+        final JacksonSpan createdSpan = JacksonSpan.fromJsonNode(jsonNode);
+
+        assertThat(createdSpan.toMap(), equalTo(jacksonSpan.toMap()));
+        assertThat(createdSpan.getMetadata().getEventType(), equalTo(EventType.TRACE.toString()));
+        assertThat(createdSpan.getTraceGroupFields(), equalTo(defaultTraceGroupFields));
+
+        jsonNode.put("name", "changed");
+        assertThat(createdSpan.getName(), equalTo("changed"));
+    }
+
+    @Test
+    void fromJsonNode_with_event_metadata_creates_a_span_with_the_metadata() {
+        final ObjectNode jsonNode = mapper.valueToTree(jacksonSpan.toMap());
+        final EventMetadata eventMetadata = DefaultEventMetadata.builder()
+                .withEventType(EventType.TRACE.toString())
+                .withAttributes(Map.of("key", "value"))
+                .build();
+
+        final JacksonSpan createdSpan = JacksonSpan.fromJsonNode(eventMetadata, jsonNode);
+
+        assertThat(createdSpan.toMap(), equalTo(jacksonSpan.toMap()));
+        assertThat(createdSpan.getMetadata(), sameInstance(eventMetadata));
+
+        jsonNode.put("name", "changed");
+        assertThat(createdSpan.getName(), equalTo("changed"));
+    }
+
+    @Test
+    void fromJsonNode_with_only_required_fields_sets_default_values() {
+        final ObjectNode jsonNode = mapper.createObjectNode()
+                .put("traceId", TEST_TRACE_ID)
+                .put("spanId", TEST_SPAN_ID)
+                .put("name", TEST_NAME)
+                .put("kind", TEST_KIND)
+                .put("startTime", TEST_START_TIME)
+                .put("endTime", TEST_END_TIME)
+                .put("durationInNanos", TEST_DURATION_IN_NANOS)
+                .putNull("traceGroup");
+        jsonNode.set("traceGroupFields", mapper.valueToTree(defaultTraceGroupFields));
+
+        final JacksonSpan createdSpan = JacksonSpan.fromJsonNode(jsonNode);
+
+        assertThat(createdSpan.getAttributes(), is(anEmptyMap()));
+        assertThat(createdSpan.getDroppedAttributesCount(), equalTo(0));
+        assertThat(createdSpan.getEvents(), is(empty()));
+        assertThat(createdSpan.getDroppedEventsCount(), equalTo(0));
+        assertThat(createdSpan.getLinks(), is(empty()));
+        assertThat(createdSpan.getDroppedLinksCount(), equalTo(0));
+        assertThat(createdSpan.getTraceGroup(), equalTo(null));
+    }
+
+    @Test
+    void fromJsonNode_without_trace_group_throws_IllegalStateException() {
+        final ObjectNode jsonNode = mapper.valueToTree(jacksonSpan.toMap());
+        jsonNode.remove("traceGroup");
+
+        assertThrows(IllegalStateException.class, () -> JacksonSpan.fromJsonNode(jsonNode));
+    }
+
+    @Test
+    void fromJsonNode_with_missing_or_empty_required_fields_throws() {
+        for (final String key : Arrays.asList("traceId", "spanId", "name", "kind", "startTime", "endTime")) {
+            final ObjectNode missingKeyNode = mapper.valueToTree(jacksonSpan.toMap());
+            missingKeyNode.remove(key);
+            assertThrows(NullPointerException.class, () -> JacksonSpan.fromJsonNode(missingKeyNode));
+
+            final ObjectNode emptyKeyNode = mapper.valueToTree(jacksonSpan.toMap());
+            emptyKeyNode.put(key, "");
+            assertThrows(IllegalArgumentException.class, () -> JacksonSpan.fromJsonNode(emptyKeyNode));
+        }
+        for (final String key : Arrays.asList("durationInNanos", "traceGroupFields")) {
+            final ObjectNode nullKeyNode = mapper.valueToTree(jacksonSpan.toMap());
+            nullKeyNode.putNull(key);
+            assertThrows(NullPointerException.class, () -> JacksonSpan.fromJsonNode(nullKeyNode));
+        }
+    }
 }
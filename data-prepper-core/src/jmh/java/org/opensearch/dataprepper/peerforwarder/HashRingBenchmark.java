@@ -0,0 +1,169 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+import com.linecorp.armeria.client.Endpoint;
+import org.opensearch.dataprepper.peerforwarder.discovery.PeerListProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Measures finding the peer of each identification key in a batch and whether the peer is this host, as the
+ * {@link RemotePeerForwarder} does, with each {@link HashRingAlgorithm}. The {@code md5HashRing} benchmark reproduces
+ * the previous hash ring, which checked the network interfaces once for each peer of the batch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class HashRingBenchmark {
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"3", "10"})
+    private int peerCount;
+
+    @Param({"MD5", "FNV_1A"})
+    private HashRingAlgorithm hashRingAlgorithm;
+
+    private HashRing hashRing;
+    private Md5HashRing md5HashRing;
+    private List<List<String>> identificationKeyValues;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final List<String> peers = new ArrayList<>();
+        peers.add("127.0.0.1");
+        for (int i = 1; i < peerCount; i++) {
+            peers.add("192.0.2." + i);
+        }
+        hashRing = new HashRing(new FixedPeerListProvider(peers), PeerForwarderClientFactory.NUM_VIRTUAL_NODES, hashRingAlgorithm);
+        md5HashRing = new Md5HashRing(peers, PeerForwarderClientFactory.NUM_VIRTUAL_NODES);
+
+        identificationKeyValues = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            identificationKeyValues.add(List.of(String.format("%032x", i * 7919L), "service-" + (i % 11)));
+        }
+    }
+
+    @Benchmark
+    public void hashRing(final Blackhole blackhole) {
+        for (final List<String> values : identificationKeyValues) {
+            final String serverIp = hashRing.getServerIp(values).get();
+            blackhole.consume(hashRing.isLocalAddress(serverIp));
+        }
+    }
+
+    @Benchmark
+    public void md5HashRing(final Blackhole blackhole) {
+        final Map<String, Boolean> batchServerIps = new TreeMap<>();
+        for (final List<String> values : identificationKeyValues) {
+            batchServerIps.put(md5HashRing.getServerIp(values), Boolean.FALSE);
+        }
+        for (final String serverIp : batchServerIps.keySet()) {
+            blackhole.consume(isAddressDefinedLocally(serverIp));
+        }
+    }
+
+    private static boolean isAddressDefinedLocally(final String address) {
+        final InetAddress inetAddress;
+        try {
+            inetAddress = InetAddress.getByName(address);
+        } catch (final UnknownHostException e) {
+            return false;
+        }
+        if (inetAddress.isAnyLocalAddress() || inetAddress.isLoopbackAddress()) {
+            return true;
+        }
+        try {
+            return NetworkInterface.getByInetAddress(inetAddress) != null;
+        } catch (final SocketException e) {
+            return false;
+        }
+    }
+
+    private static class FixedPeerListProvider implements PeerListProvider {
+        private final List<String> peers;
+
+        private FixedPeerListProvider(final List<String> peers) {
+            this.peers = peers;
+        }
+
+        @Override
+        public List<String> getPeerList() {
+            return peers;
+        }
+
+        @Override
+        public void addListener(final Consumer<? super List<Endpoint>> listener) {
+        }
+
+        @Override
+        public void removeListener(final Consumer<?> listener) {
+        }
+    }
+
+    private static class Md5HashRing {
+        private final TreeMap<BigInteger, String> hashServerMap = new TreeMap<>();
+
+        private Md5HashRing(final List<String> serverIps, final int numVirtualNodes) {
+            for (final String serverIp : serverIps) {
+                final MessageDigest md = md5();
+                final ByteBuffer intBuffer = ByteBuffer.allocate(4);
+                for (int i = 0; i < numVirtualNodes; i++) {
+                    md.update(serverIp.getBytes());
+                    intBuffer.putInt(i);
+                    md.update(intBuffer.array());
+                    hashServerMap.putIfAbsent(new BigInteger(md.digest()), serverIp);
+                    md.reset();
+                    intBuffer.clear();
+                }
+            }
+        }
+
+        private String getServerIp(final List<String> identificationKeyValues) {
+            final MessageDigest md = md5();
+            md.update(String.join(",", identificationKeyValues).getBytes());
+            final Map.Entry<BigInteger, String> entry = hashServerMap.higherEntry(new BigInteger(md.digest()));
+            return entry != null ? entry.getValue() : hashServerMap.firstEntry().getValue();
+        }
+
+        private static MessageDigest md5() {
+            try {
+                return MessageDigest.getInstance("MD5");
+            } catch (final NoSuchAlgorithmException e) {
+                throw new AssertionError("unreachable", e);
+            }
+        }
+    }
+}
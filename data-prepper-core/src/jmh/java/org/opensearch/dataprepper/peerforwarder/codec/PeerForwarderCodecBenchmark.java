@@ -0,0 +1,129 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.log.JacksonLog;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.peerforwarder.model.PeerForwardingEvents;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures serializing and deserializing a batch of events for the peer-forwarder with each codec. The object mapper
+ * is the one which {@link PeerForwarderCodecAppConfig} creates. Run with {@code -prof gc} to compare the bytes
+ * allocated per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PeerForwarderCodecBenchmark {
+    private static final int BATCH_SIZE = 500;
+
+    @Param({"json", "compact"})
+    private String codec;
+
+    @Param({"log", "span"})
+    private String eventType;
+
+    private PeerForwarderCodec peerForwarderCodec;
+    private PeerForwardingEvents peerForwardingEvents;
+    private byte[] serializedEvents;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final ObjectMapper objectMapper = new PeerForwarderCodecAppConfig().objectMapper();
+        peerForwarderCodec = "compact".equals(codec) ?
+                new CompactPeerForwarderCodec(objectMapper) : new JacksonPeerForwarderCodec(objectMapper);
+
+        final List<Event> events = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            events.add("span".equals(eventType) ? createSpan(i) : createLog(i));
+        }
+        peerForwardingEvents = new PeerForwardingEvents(events, "aggregate", "log-pipeline");
+        serializedEvents = peerForwarderCodec.serialize(peerForwardingEvents);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return peerForwarderCodec.serialize(peerForwardingEvents);
+    }
+
+    @Benchmark
+    public PeerForwardingEvents deserialize() throws Exception {
+        return peerForwarderCodec.deserialize(serializedEvents);
+    }
+
+    private static Event createLog(final int i) {
+        return JacksonLog.builder()
+                .withData(Map.of(
+                        "log", "127.0.0.1 - - [10/Oct/2023:13:55:36 +0000] \"GET /index.html HTTP/1.1\" 200 " + i,
+                        "clientip", "127.0.0.1",
+                        "verb", "GET",
+                        "request", "/index.html",
+                        "response", 200,
+                        "bytes", 1000L + i,
+                        "latency", 0.25d * i,
+                        "kubernetes", Map.of(
+                                "namespace", "default",
+                                "pod", "web-" + (i % 8),
+                                "labels", Map.of("app", "web", "tier", "frontend"))))
+                .build();
+    }
+
+    private static Event createSpan(final int i) {
+        final String time = Instant.ofEpochSecond(1_700_000_000L + i).toString();
+        return JacksonSpan.builder()
+                .withTraceId(String.format("%032x", i / 10))
+                .withSpanId(String.format("%016x", i))
+                .withParentSpanId(String.format("%016x", i - 1))
+                .withTraceState("")
+                .withName("HTTP GET /index.html")
+                .withKind("SPAN_KIND_SERVER")
+                .withServiceName("frontend")
+                .withStartTime(time)
+                .withEndTime(time)
+                .withDurationInNanos(1_000_000L + i)
+                .withTraceGroup("HTTP GET /index.html")
+                .withTraceGroupFields(DefaultTraceGroupFields.builder()
+                        .withEndTime(time)
+                        .withDurationInNanos(1_000_000L + i)
+                        .withStatusCode(1)
+                        .build())
+                .withAttributes(Map.of(
+                        "http.method", "GET",
+                        "http.status_code", 200,
+                        "http.url", "/index.html",
+                        "net.peer.ip", "127.0.0.1"))
+                .withDroppedAttributesCount(0)
+                .withEvents(List.of())
+                .withDroppedEventsCount(0)
+                .withLinks(List.of())
+                .withDroppedLinksCount(0)
+                .build();
+    }
+}
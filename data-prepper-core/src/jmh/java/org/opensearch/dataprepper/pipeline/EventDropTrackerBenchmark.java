@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the acknowledgement bookkeeping of a {@link ProcessWorker} running a batch through a pipeline of ten
+ * processors with acknowledgements enabled. Nine of the processors return their input unchanged and one drops
+ * every {@code dropEvery}-th event, or none when it is 0. The {@code copyAndHashSet} benchmark is the previous
+ * bookkeeping, which copied the input events and hashed the output events around every processor. Run with
+ * {@code -prof gc} to compare the bytes allocated per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EventDropTrackerBenchmark {
+    private static final int PROCESSOR_COUNT = 10;
+
+    @Param({"1000"})
+    private int batchSize;
+
+    @Param({"0", "10"})
+    private int dropEvery;
+
+    private List<Record<Event>> batch;
+    private List<UnaryOperator<Collection<Record<Event>>>> processors;
+    private EventDropTracker eventDropTracker;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final EventHandle eventHandle = result -> { };
+        batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            final JacksonEvent event = JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Map.of("message", "message " + i))
+                    .build();
+            event.setEventHandle(eventHandle);
+            batch.add(new Record<>(event));
+        }
+
+        processors = new ArrayList<>(PROCESSOR_COUNT);
+        for (int i = 0; i < PROCESSOR_COUNT - 1; i++) {
+            processors.add(records -> records);
+        }
+        processors.add(PROCESSOR_COUNT / 2, this::dropEvents);
+
+        eventDropTracker = new EventDropTracker();
+    }
+
+    private Collection<Record<Event>> dropEvents(final Collection<Record<Event>> records) {
+        if (dropEvery == 0) {
+            return records;
+        }
+        final List<Record<Event>> outputRecords = new ArrayList<>(records.size());
+        int i = 0;
+        for (final Record<Event> record : records) {
+            if (i++ % dropEvery != 0) {
+                outputRecords.add(record);
+            }
+        }
+        return outputRecords;
+    }
+
+    @Benchmark
+    public Collection<Record<Event>> eventDropTracker() {
+        Collection<Record<Event>> records = new ArrayList<>(batch);
+        for (final UnaryOperator<Collection<Record<Event>>> processor : processors) {
+            eventDropTracker.recordInput(records);
+            records = processor.apply(records);
+            eventDropTracker.releaseDroppedEvents(records);
+        }
+        return records;
+    }
+
+    @Benchmark
+    public Collection<Record<Event>> copyAndHashSet() {
+        Collection<Record<Event>> records = new ArrayList<>(batch);
+        for (final UnaryOperator<Collection<Record<Event>>> processor : processors) {
+            final List<Event> inputEvents = records.stream().map(Record::getData).collect(Collectors.toList());
+            records = processor.apply(records);
+            final Set<Event> outputEvents = records.stream().map(Record::getData).collect(Collectors.toSet());
+            for (final Event event : inputEvents) {
+                final EventHandle eventHandle = event.getEventHandle();
+                if (eventHandle != null && !outputEvents.contains(event)) {
+                    eventHandle.release(true);
+                }
+            }
+        }
+        return records;
+    }
+}
@@ -9,10 +9,17 @@ import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.event.DefaultEventHandle;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 
-import java.util.concurrent.locks.ReentrantLock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.Set;
-import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,11 +30,22 @@ import org.slf4j.LoggerFactory;
  * by a specified time. If it is not completed, then it is considered 'expired' and it is
  * cleaned up. The 'run' method is invoked periodically to cleanup the acknowledgement sets
  * that are either completed or expired.
+ * <p>
+ * Acquiring and releasing events only reads the concurrent map of active sets, so it takes no
+ * global lock. The 'run' method does not scan all the sets: it checks the sets which have
+ * submitted their callbacks, and visits the other sets in order of expiry time, stopping at
+ * the first one which has not expired.
  */
 class AcknowledgementSetMonitor implements Runnable {
     private static final Logger LOG = LoggerFactory.getLogger(AcknowledgementSetMonitor.class);
-    private final Set<AcknowledgementSet> acknowledgementSets;
-    private final ReentrantLock lock;
+    private static final Comparator<ExpiryKey> EXPIRY_ORDER = Comparator
+            .comparing((ExpiryKey expiryKey) -> expiryKey.expiryTime)
+            .thenComparingLong(expiryKey -> expiryKey.sequence);
+
+    private final Map<AcknowledgementSet, ExpiryKey> acknowledgementSets;
+    private final ConcurrentNavigableMap<ExpiryKey, DefaultAcknowledgementSet> acknowledgementSetsByExpiry;
+    private final Queue<DefaultAcknowledgementSet> callbackSubmittedSets;
+    private final AtomicLong sequence;
     private final AtomicInteger numInvalidAcquires;
     private final AtomicInteger numInvalidReleases;
     private final AtomicInteger numNullHandles;
@@ -37,8 +55,10 @@ class AcknowledgementSetMonitor implements Runnable {
     }
 
     public AcknowledgementSetMonitor() {
-        this.acknowledgementSets = new HashSet<>();
-        this.lock = new ReentrantLock(true);
+        this.acknowledgementSets = new ConcurrentHashMap<>();
+        this.acknowledgementSetsByExpiry = new ConcurrentSkipListMap<>(EXPIRY_ORDER);
+        this.callbackSubmittedSets = new ConcurrentLinkedQueue<>();
+        this.sequence = new AtomicLong(0);
         this.numInvalidAcquires = new AtomicInteger(0);
         this.numInvalidReleases = new AtomicInteger(0);
         this.numNullHandles = new AtomicInteger(0);
@@ -53,12 +73,20 @@ class AcknowledgementSetMonitor implements Runnable {
     }
 
     public void add(final AcknowledgementSet acknowledgementSet) {
-        lock.lock();
-        try {
-            acknowledgementSets.add(acknowledgementSet);
-        } finally {
-            lock.unlock();
-        }
+        final DefaultAcknowledgementSet defaultAcknowledgementSet = (DefaultAcknowledgementSet) acknowledgementSet;
+        final ExpiryKey expiryKey = new ExpiryKey(defaultAcknowledgementSet.getExpiryTime(), sequence.incrementAndGet());
+        acknowledgementSets.put(acknowledgementSet, expiryKey);
+        acknowledgementSetsByExpiry.put(expiryKey, defaultAcknowledgementSet);
+    }
+
+    /**
+     * Called by an acknowledgement set when it has submitted its callback, so that it is
+     * removed once the callback finishes instead of when it expires.
+     *
+     * @param acknowledgementSet the acknowledgement set
+     */
+    void callbackSubmitted(final DefaultAcknowledgementSet acknowledgementSet) {
+        callbackSubmittedSets.add(acknowledgementSet);
     }
 
     public void acquire(final EventHandle eventHandle) {
@@ -68,17 +96,10 @@ class AcknowledgementSetMonitor implements Runnable {
         }
 
         DefaultAcknowledgementSet acknowledgementSet = getAcknowledgementSet(eventHandle);
-        lock.lock();
-        boolean exists = false;
-        try {
-            exists = acknowledgementSets.contains(acknowledgementSet);
-        } finally {
-            lock.unlock();
-        }
         // if acknowledgementSet doesn't exist then it means that the
         // event still active even after the acknowledgement set is
         // cleaned up.
-        if (exists) {
+        if (acknowledgementSet != null && acknowledgementSets.containsKey(acknowledgementSet)) {
             acknowledgementSet.acquire(eventHandle);
         } else {
             LOG.warn("Trying acquire an event in an AcknowledgementSet that does not exist");
@@ -92,18 +113,11 @@ class AcknowledgementSetMonitor implements Runnable {
             return;
         }
         DefaultAcknowledgementSet acknowledgementSet = getAcknowledgementSet(eventHandle);
-        lock.lock();
-        boolean exists = false;
-        try {
-            exists = acknowledgementSets.contains(acknowledgementSet);
-        } finally {
-            lock.unlock();
-        }
         // if acknowledgementSet doesn't exist then it means some late
         // arrival of event handle release after the acknowledgement set
         // is cleaned up.
-        if (exists) {
-            boolean b = acknowledgementSet.release(eventHandle, success);
+        if (acknowledgementSet != null && acknowledgementSets.containsKey(acknowledgementSet)) {
+            acknowledgementSet.release(eventHandle, success);
         } else {
             LOG.warn("Trying to release from an AcknowledgementSet that does not exist");
             numInvalidReleases.incrementAndGet();
@@ -120,13 +134,40 @@ class AcknowledgementSetMonitor implements Runnable {
 
     @Override
     public void run() {
-        lock.lock();
-        try {
-            if (acknowledgementSets.size() > 0) {
-                acknowledgementSets.removeIf((ackSet) -> ((DefaultAcknowledgementSet) ackSet).isDone());
+        final Iterator<DefaultAcknowledgementSet> callbackSubmittedIterator = callbackSubmittedSets.iterator();
+        while (callbackSubmittedIterator.hasNext()) {
+            final DefaultAcknowledgementSet acknowledgementSet = callbackSubmittedIterator.next();
+            if (!acknowledgementSets.containsKey(acknowledgementSet) || acknowledgementSet.isDone()) {
+                callbackSubmittedIterator.remove();
+                remove(acknowledgementSet);
             }
-        } finally {
-            lock.unlock();
+        }
+
+        final Instant now = Instant.now();
+        Map.Entry<ExpiryKey, DefaultAcknowledgementSet> earliestExpiry;
+        while ((earliestExpiry = acknowledgementSetsByExpiry.firstEntry()) != null &&
+                now.isAfter(earliestExpiry.getKey().expiryTime)) {
+            if (!earliestExpiry.getValue().isDone()) {
+                break;
+            }
+            remove(earliestExpiry.getValue());
+        }
+    }
+
+    private void remove(final DefaultAcknowledgementSet acknowledgementSet) {
+        final ExpiryKey expiryKey = acknowledgementSets.remove(acknowledgementSet);
+        if (expiryKey != null) {
+            acknowledgementSetsByExpiry.remove(expiryKey);
+        }
+    }
+
+    private static class ExpiryKey {
+        private final Instant expiryTime;
+        private final long sequence;
+
+        private ExpiryKey(final Instant expiryTime, final long sequence) {
+            this.expiryTime = expiryTime;
+            this.sequence = sequence;
         }
     }
 }
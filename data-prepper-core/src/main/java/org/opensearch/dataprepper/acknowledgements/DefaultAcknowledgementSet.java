@@ -15,28 +15,45 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 
+/**
+ * An {@link AcknowledgementSet} which keeps the reference count of each event in its {@link DefaultEventHandle} and
+ * only counts the events with outstanding references, so that acquiring and releasing events takes no locks.
+ */
 public class DefaultAcknowledgementSet implements AcknowledgementSet {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultAcknowledgementSet.class);
     private final Consumer<Boolean> callback;
     private final Instant expiryTime;
     private final ExecutorService executor;
-    // This lock protects all the non-final members
-    private final ReentrantLock lock;
-    private boolean result;
-    private final Map<EventHandle, AtomicInteger> pendingAcknowledgments;
-    private Future<?> callbackFuture;
+    private final Consumer<DefaultAcknowledgementSet> callbackSubmittedListener;
+    private volatile boolean result;
+    private final AtomicInteger pendingEvents;
+    private final AtomicBoolean callbackSubmitted;
+    private volatile Future<?> callbackFuture;
     private final DefaultAcknowledgementSetMetrics metrics;
-    private boolean completed;
+    private volatile boolean completed;
 
     public DefaultAcknowledgementSet(final ExecutorService executor, final Consumer<Boolean> callback, final Duration expiryTime, final DefaultAcknowledgementSetMetrics metrics) {
+        this(executor, callback, expiryTime, metrics, acknowledgementSet -> { });
+    }
+
+    /**
+     * @param executor executor which runs the callback
+     * @param callback callback to call once all the events are released
+     * @param expiryTime time after which the acknowledgement set expires
+     * @param metrics acknowledgement set metrics
+     * @param callbackSubmittedListener notified with this set when its callback is submitted to the executor
+     */
+    DefaultAcknowledgementSet(final ExecutorService executor,
+                              final Consumer<Boolean> callback,
+                              final Duration expiryTime,
+                              final DefaultAcknowledgementSetMetrics metrics,
+                              final Consumer<DefaultAcknowledgementSet> callbackSubmittedListener) {
         this.callback = callback;
         this.result = true;
         this.executor = executor;
@@ -44,56 +61,42 @@ public class DefaultAcknowledgementSet implements AcknowledgementSet {
         this.callbackFuture = null;
         this.metrics = metrics;
         this.completed = false;
-        pendingAcknowledgments = new HashMap<>();
-        lock = new ReentrantLock(true);
+        this.callbackSubmittedListener = callbackSubmittedListener;
+        pendingEvents = new AtomicInteger(0);
+        callbackSubmitted = new AtomicBoolean(false);
     }
 
     @Override
     public void add(Event event) {
-        lock.lock();
-        try {
-            if (event instanceof JacksonEvent) {
-                EventHandle eventHandle = new DefaultEventHandle(this);
-                ((JacksonEvent) event).setEventHandle(eventHandle);
-                pendingAcknowledgments.put(eventHandle, new AtomicInteger(1));
-            }
-        } finally {
-            lock.unlock();
+        if (event instanceof JacksonEvent) {
+            // Count the event before its handle can be released
+            pendingEvents.incrementAndGet();
+            EventHandle eventHandle = new DefaultEventHandle(this);
+            ((JacksonEvent) event).setEventHandle(eventHandle);
         }
     }
 
     public void acquire(final EventHandle eventHandle) {
-        lock.lock();
-        try {
-            if (!pendingAcknowledgments.containsKey(eventHandle)) {
-                LOG.warn("Unexpected event handle acquire");
-                metrics.increment(DefaultAcknowledgementSetMetrics.INVALID_ACQUIRES_METRIC_NAME);
-                return;
-            }
-            pendingAcknowledgments.get(eventHandle).incrementAndGet();
-        } finally {
-            lock.unlock();
+        if (!isOwnEventHandle(eventHandle) || !((DefaultEventHandle) eventHandle).acquireReference()) {
+            LOG.warn("Unexpected event handle acquire");
+            metrics.increment(DefaultAcknowledgementSetMetrics.INVALID_ACQUIRES_METRIC_NAME);
         }
     }
 
     public boolean isDone() {
-        lock.lock();
-        try {
-            if (callbackFuture != null && callbackFuture.isDone()) {
-                metrics.increment(DefaultAcknowledgementSetMetrics.COMPLETED_METRIC_NAME);
-                return true;
-            }
-            if (Instant.now().isAfter(expiryTime)) {
-                if (callbackFuture != null) {
-                    callbackFuture.cancel(true);
-                    callbackFuture = null;
-                    LOG.warn("AcknowledgementSet expired");
-                }
-                metrics.increment(DefaultAcknowledgementSetMetrics.EXPIRED_METRIC_NAME);
-                return true;
+        final Future<?> currentCallbackFuture = callbackFuture;
+        if (currentCallbackFuture != null && currentCallbackFuture.isDone()) {
+            metrics.increment(DefaultAcknowledgementSetMetrics.COMPLETED_METRIC_NAME);
+            return true;
+        }
+        if (Instant.now().isAfter(expiryTime)) {
+            if (currentCallbackFuture != null) {
+                currentCallbackFuture.cancel(true);
+                callbackFuture = null;
+                LOG.warn("AcknowledgementSet expired");
             }
-        } finally {
-            lock.unlock();
+            metrics.increment(DefaultAcknowledgementSetMetrics.EXPIRED_METRIC_NAME);
+            return true;
         }
         return false;
     }
@@ -104,43 +107,49 @@ public class DefaultAcknowledgementSet implements AcknowledgementSet {
 
     @Override
     public void complete() {
-        lock.lock();
-        try {
-            completed = true;
-            if (pendingAcknowledgments.size() == 0) {
-                callbackFuture = executor.submit(() -> callback.accept(this.result));
-            }
-        } finally {
-            lock.unlock();
+        completed = true;
+        if (pendingEvents.get() == 0) {
+            submitCallback();
         }
     }
 
     @Override
     public boolean release(final EventHandle eventHandle, final boolean result) {
-        lock.lock();
         // Result indicates negative or positive acknowledgement. Even if one of the
         // events in the set report negative acknowledgement, then the end result
         // is negative acknowledgement
-        this.result = this.result && result;
-        try {
-            if (!pendingAcknowledgments.containsKey(eventHandle) ||
-                pendingAcknowledgments.get(eventHandle).get() == 0) {
-                LOG.warn("Unexpected event handle release");
-                metrics.increment(DefaultAcknowledgementSetMetrics.INVALID_RELEASES_METRIC_NAME);
-                return false;
-            }
-            if (pendingAcknowledgments.get(eventHandle).decrementAndGet() == 0) {
-                pendingAcknowledgments.remove(eventHandle);
-                if (completed && pendingAcknowledgments.size() == 0) {
-                    callbackFuture = executor.submit(() -> callback.accept(this.result));
-                    return true;
-                } else if (pendingAcknowledgments.size() == 0) {
-                    LOG.warn("Acknowledgement set is not completed. Delaying callback until it is completed");
-                }
+        if (!result) {
+            this.result = false;
+        }
+        final int remainingReferences = isOwnEventHandle(eventHandle) ? ((DefaultEventHandle) eventHandle).releaseReference() : -1;
+        if (remainingReferences < 0) {
+            LOG.warn("Unexpected event handle release");
+            metrics.increment(DefaultAcknowledgementSetMetrics.INVALID_RELEASES_METRIC_NAME);
+            return false;
+        }
+        if (remainingReferences == 0 && pendingEvents.decrementAndGet() == 0) {
+            if (completed) {
+                return submitCallback();
             }
-        } finally {
-            lock.unlock();
+            LOG.warn("Acknowledgement set is not completed. Delaying callback until it is completed");
         }
         return false;
     }
+
+    private boolean isOwnEventHandle(final EventHandle eventHandle) {
+        return eventHandle instanceof DefaultEventHandle && ((DefaultEventHandle) eventHandle).getAcknowledgementSet() == this;
+    }
+
+    /**
+     * Both {@link #complete()} and the last {@link #release(EventHandle, boolean)} may see that the set is
+     * finished, so only the first of them submits the callback.
+     */
+    private boolean submitCallback() {
+        if (!callbackSubmitted.compareAndSet(false, true)) {
+            return false;
+        }
+        callbackFuture = executor.submit(() -> callback.accept(this.result));
+        callbackSubmittedListener.accept(this);
+        return true;
+    }
 }
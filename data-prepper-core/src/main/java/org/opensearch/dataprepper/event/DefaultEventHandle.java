@@ -8,17 +8,56 @@ package org.opensearch.dataprepper.event;
 import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 public class DefaultEventHandle implements EventHandle {
+    private static final AtomicIntegerFieldUpdater<DefaultEventHandle> REFERENCE_COUNT_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(DefaultEventHandle.class, "referenceCount");
+
     private final WeakReference<AcknowledgementSet> acknowledgementSetRef;
+    private volatile int referenceCount;
+
     public DefaultEventHandle(AcknowledgementSet acknowledgementSet) {
         this.acknowledgementSetRef = new WeakReference<>(acknowledgementSet);
+        this.referenceCount = 1;
     }
 
     public AcknowledgementSet getAcknowledgementSet() {
         return acknowledgementSetRef.get();
     }
 
+    /**
+     * Adds a reference to the event. A handle starts with one reference.
+     *
+     * @return false if all the references to the event were already released
+     */
+    public boolean acquireReference() {
+        int current;
+        do {
+            current = referenceCount;
+            if (current <= 0) {
+                return false;
+            }
+        } while (!REFERENCE_COUNT_UPDATER.compareAndSet(this, current, current + 1));
+        return true;
+    }
+
+    /**
+     * Releases a reference to the event.
+     *
+     * @return the number of references remaining, or -1 if all the references were already released
+     */
+    public int releaseReference() {
+        int current;
+        do {
+            current = referenceCount;
+            if (current <= 0) {
+                return -1;
+            }
+        } while (!REFERENCE_COUNT_UPDATER.compareAndSet(this, current, current - 1));
+        return current - 1;
+    }
+
     @Override
     public void release(boolean result) {
         AcknowledgementSet acknowledgementSet = getAcknowledgementSet();
@@ -138,6 +138,7 @@ public class PipelineTransformer {
                     }).collect(Collectors.toList());
 
             final int readBatchDelay = pipelineConfiguration.getReadBatchDelay();
+            final int sinkInFlightBatches = pipelineConfiguration.getSinkInFlightBatches();
 
             LOG.info("Building sinks for the pipeline [{}]", pipelineName);
             final List<DataFlowComponent<Sink>> sinks = pipelineConfiguration.getSinkPluginSettings().stream()
@@ -163,7 +164,7 @@ public class PipelineTransformer {
 
             final Pipeline pipeline = new Pipeline(pipelineName, source, buffer, decoratedProcessorSets, sinks, router,
                     eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, processorThreads, readBatchDelay,
-                    dataPrepperConfiguration.getProcessorShutdownTimeout(), dataPrepperConfiguration.getSinkShutdownTimeout(),
+                    sinkInFlightBatches, dataPrepperConfiguration.getProcessorShutdownTimeout(), dataPrepperConfiguration.getSinkShutdownTimeout(),
                     getPeerForwarderDrainTimeout(dataPrepperConfiguration));
             pipelineMap.put(pipelineName, pipeline);
         } catch (Exception ex) {
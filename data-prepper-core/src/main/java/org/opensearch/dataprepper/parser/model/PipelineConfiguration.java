@@ -25,8 +25,10 @@ import java.util.stream.Collectors;
 public class PipelineConfiguration {
     private static final String WORKERS_COMPONENT = "workers";
     private static final String DELAY_COMPONENT = "delay";
+    private static final String SINK_IN_FLIGHT_BATCHES_COMPONENT = "sink_in_flight_batches";
     private static final int DEFAULT_READ_BATCH_DELAY = 3_000;
     private static final int DEFAULT_WORKERS = 1;
+    private static final int DEFAULT_SINK_IN_FLIGHT_BATCHES = 0;
 
     private final PluginSetting sourcePluginSetting;
     private final PluginSetting bufferPluginSetting;
@@ -35,6 +37,7 @@ public class PipelineConfiguration {
 
     private final Integer workers;
     private final Integer readBatchDelay;
+    private final Integer sinkInFlightBatches;
     private final Set<ConditionalRoute> routes;
 
     public PipelineConfiguration(final PipelineModel pipelineModel) {
@@ -44,6 +47,7 @@ public class PipelineConfiguration {
         this.sinkPluginSettings = getSinksFromPluginModel(pipelineModel.getSinks());
         this.workers = getWorkersFromPipelineModel(pipelineModel);
         this.readBatchDelay = getReadBatchDelayFromPipelineModel(pipelineModel);
+        this.sinkInFlightBatches = getSinkInFlightBatchesFromPipelineModel(pipelineModel);
         routes = new HashSet<>(pipelineModel.getRoutes());
     }
 
@@ -75,6 +79,10 @@ public class PipelineConfiguration {
         return readBatchDelay;
     }
 
+    public Integer getSinkInFlightBatches() {
+        return sinkInFlightBatches;
+    }
+
     public void updateCommonPipelineConfiguration(final String pipelineName) {
         updatePluginSetting(sourcePluginSetting, pipelineName);
         updatePluginSetting(bufferPluginSetting, pipelineName);
@@ -154,6 +162,16 @@ public class PipelineConfiguration {
         return configuredDelay == null ? DEFAULT_READ_BATCH_DELAY : configuredDelay;
     }
 
+    private Integer getSinkInFlightBatchesFromPipelineModel(final PipelineModel pipelineModel) {
+        final Integer configuredSinkInFlightBatches = pipelineModel.getSinkInFlightBatches();
+
+        if (configuredSinkInFlightBatches != null && configuredSinkInFlightBatches < 0) {
+            throw new IllegalArgumentException(String.format("Invalid configuration, %s must be a non-negative integer.", SINK_IN_FLIGHT_BATCHES_COMPONENT));
+        }
+
+        return configuredSinkInFlightBatches == null ? DEFAULT_SINK_IN_FLIGHT_BATCHES : configuredSinkInFlightBatches;
+    }
+
     private void validateConfiguration(final Integer configuration, final String component) {
         if (configuration != null && configuration <= 0) {
             throw new IllegalArgumentException(String.format("Invalid configuration, %s cannot be %s",
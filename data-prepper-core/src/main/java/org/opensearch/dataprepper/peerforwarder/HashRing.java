@@ -7,112 +7,263 @@ package org.opensearch.dataprepper.peerforwarder;
 
 import com.linecorp.armeria.client.Endpoint;
 import org.opensearch.dataprepper.peerforwarder.discovery.PeerListProvider;
+import org.opensearch.dataprepper.plugins.hasher.Fnv1aHash;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.annotation.concurrent.NotThreadSafe;
 import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.net.UnknownHostException;
 import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TreeMap;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Consistent hashing implementation used to map identification keys to Data Prepper hosts.
  * See https://en.wikipedia.org/wiki/Consistent_hashing for more information.
+ * <p>
+ * The positions of the hosts on the ring are the MD5 digests of their addresses by default. With
+ * {@link HashRingAlgorithm#FNV_1A}, they are 64-bit hashes held in a sorted array, which is searched with a binary
+ * search. Since the two algorithms send the same keys to different hosts, the algorithm can only be changed by
+ * stopping every Data Prepper host. Whether each host is this Data Prepper instance is determined once, when the ring
+ * is built from the peer list. The ring is rebuilt whenever the peer list changes and replaced as a whole, so lookups
+ * may run concurrently with a rebuild.
  */
-@NotThreadSafe
 public class HashRing implements Consumer<List<Endpoint>> {
     private static final Logger LOG = LoggerFactory.getLogger(HashRing.class);
     private static final String MD5 = "MD5";
-    private static final String DELIMITER = ",";
+    private static final char DELIMITER = ',';
+    private static final String NULL_VALUE = "null";
 
     /* Number of virtual nodes per Data Prepper host to be present on the hash ring */
     private final int numVirtualNodes;
 
     private final PeerListProvider peerListProvider;
 
-    private TreeMap<BigInteger, String> hashServerMap = new TreeMap<>();
+    private final HashRingAlgorithm hashRingAlgorithm;
+
+    private final Predicate<String> localAddressPredicate;
+
+    private volatile Ring ring;
 
     public HashRing(final PeerListProvider peerListProvider, final int numVirtualNodes) {
+        this(peerListProvider, numVirtualNodes, HashRingAlgorithm.MD5);
+    }
+
+    public HashRing(final PeerListProvider peerListProvider, final int numVirtualNodes, final HashRingAlgorithm hashRingAlgorithm) {
+        this(peerListProvider, numVirtualNodes, hashRingAlgorithm, HashRing::isAddressDefinedLocally);
+    }
+
+    HashRing(final PeerListProvider peerListProvider,
+             final int numVirtualNodes,
+             final HashRingAlgorithm hashRingAlgorithm,
+             final Predicate<String> localAddressPredicate) {
         Objects.requireNonNull(peerListProvider);
+        Objects.requireNonNull(hashRingAlgorithm);
         this.peerListProvider = peerListProvider;
         this.numVirtualNodes = numVirtualNodes;
+        this.hashRingAlgorithm = hashRingAlgorithm;
+        this.localAddressPredicate = localAddressPredicate;
 
-        buildHashServerMap();
+        buildHashRing();
 
         peerListProvider.addListener(this);
     }
 
     public Optional<String> getServerIp(final List<String> identificationKeyValues) {
-        if (hashServerMap.isEmpty()) {
+        final Ring currentRing = ring;
+        if (currentRing.isEmpty()) {
             return Optional.empty();
         }
 
-        final byte[] identificationKeysInBytes = String.join(DELIMITER, identificationKeyValues).getBytes();
-
-        final MessageDigest md;
-        try {
-            md = MessageDigest.getInstance(MD5);
-        } catch (NoSuchAlgorithmException e) {
-            throw new AssertionError("unreachable", e);
-        }
-
-        md.update(identificationKeysInBytes);
-        final BigInteger hashcode = new BigInteger(md.digest());
-
-        // obtain Map.Entry with key greater than the hashcode
-        final Map.Entry<BigInteger, String> entry = hashServerMap.higherEntry(hashcode);
+        return Optional.of(currentRing.getServerIp(identificationKeyValues));
+    }
 
-        if (entry == null) {
-            // return first node if no key is greater than the hashcode
-            return Optional.of(hashServerMap.firstEntry().getValue());
-        } else {
-            return Optional.of(entry.getValue());
-        }
+    /**
+     * Returns whether an address returned by {@link #getServerIp(List)} is this Data Prepper instance.
+     *
+     * @param serverIp the address of a Data Prepper host
+     * @return true if the address is a local address of this host
+     */
+    public boolean isLocalAddress(final String serverIp) {
+        final Boolean isLocal = ring.localServerIps.get(serverIp);
+        return isLocal != null ? isLocal : localAddressPredicate.test(serverIp);
     }
 
     @Override
     public void accept(final List<Endpoint> endpoints) {
-        buildHashServerMap();
+        buildHashRing();
     }
 
-    private void buildHashServerMap() {
-        final TreeMap<BigInteger, String> newHashValueMap = new TreeMap<>();
+    private void buildHashRing() {
+        final Map<String, Boolean> localServerIps = new HashMap<>();
         final List<String> endpoints = peerListProvider.getPeerList();
 
         LOG.info("Building hash ring with endpoints: {}", endpoints);
         for (final String serverIp : endpoints) {
-            addServerIpToHashMap(serverIp, newHashValueMap);
+            localServerIps.put(serverIp, localAddressPredicate.test(serverIp));
         }
 
-        this.hashServerMap = newHashValueMap;
+        if (hashRingAlgorithm == HashRingAlgorithm.FNV_1A) {
+            this.ring = buildFnv1aRing(endpoints, localServerIps);
+        } else {
+            this.ring = buildMd5Ring(endpoints, localServerIps);
+        }
+    }
+
+    private Ring buildMd5Ring(final List<String> endpoints, final Map<String, Boolean> localServerIps) {
+        final TreeMap<BigInteger, String> hashServerMap = new TreeMap<>();
+        final MessageDigest md = md5();
+        final ByteBuffer intBuffer = ByteBuffer.allocate(4);
+        for (final String serverIp : endpoints) {
+            final byte[] serverIpInBytes = serverIp.getBytes();
+            for (int i = 0; i < numVirtualNodes; i++) {
+                md.update(serverIpInBytes);
+                intBuffer.putInt(i);
+                md.update(intBuffer.array());
+                hashServerMap.putIfAbsent(new BigInteger(md.digest()), serverIp);
+                intBuffer.clear();
+            }
+        }
+        return new Md5Ring(hashServerMap, localServerIps);
     }
 
-    private void addServerIpToHashMap(final String serverIp, final Map<BigInteger, String> targetMap) {
-        final byte[] serverIpInBytes = serverIp.getBytes();
-        final MessageDigest md;
+    private Ring buildFnv1aRing(final List<String> endpoints, final Map<String, Boolean> localServerIps) {
+        final TreeMap<Long, String> positionServerMap = new TreeMap<>();
+        for (final String serverIp : endpoints) {
+            final long serverIpHash = Fnv1aHash.hashChars(Fnv1aHash.OFFSET_BASIS, serverIp);
+            for (int i = 0; i < numVirtualNodes; i++) {
+                positionServerMap.putIfAbsent(Fnv1aHash.mix((serverIpHash ^ i) * Fnv1aHash.PRIME), serverIp);
+            }
+        }
 
+        final long[] positions = new long[positionServerMap.size()];
+        final String[] serverIps = new String[positionServerMap.size()];
+        int i = 0;
+        for (final Map.Entry<Long, String> entry : positionServerMap.entrySet()) {
+            positions[i] = entry.getKey();
+            serverIps[i] = entry.getValue();
+            i++;
+        }
+        return new Fnv1aRing(positions, serverIps, localServerIps);
+    }
+
+    /**
+     * Hashes the values as if they were joined with a comma, so that the values hash to the same position on every
+     * Data Prepper host.
+     */
+    static long hash(final List<String> identificationKeyValues) {
+        long hash = Fnv1aHash.OFFSET_BASIS;
+        final int size = identificationKeyValues.size();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                hash = Fnv1aHash.hashChar(hash, DELIMITER);
+            }
+            final String value = identificationKeyValues.get(i);
+            hash = Fnv1aHash.hashChars(hash, value != null ? value : NULL_VALUE);
+        }
+        return Fnv1aHash.mix(hash);
+    }
+
+    private static MessageDigest md5() {
         try {
-            md = MessageDigest.getInstance(MD5);
-        } catch (NoSuchAlgorithmException e) {
+            return MessageDigest.getInstance(MD5);
+        } catch (final NoSuchAlgorithmException e) {
             throw new AssertionError("unreachable", e);
         }
+    }
 
-        final ByteBuffer intBuffer = ByteBuffer.allocate(4);
-        for (int i = 0; i < numVirtualNodes; i++) {
-            md.update(serverIpInBytes);
-            intBuffer.putInt(i);
-            md.update(intBuffer.array());
-            final BigInteger hashcode = new BigInteger(md.digest());
-            targetMap.putIfAbsent(hashcode, serverIp);
-            md.reset();
-            intBuffer.clear();
+    private static boolean isAddressDefinedLocally(final String address) {
+        final InetAddress inetAddress;
+        try {
+            inetAddress = InetAddress.getByName(address);
+        } catch (final UnknownHostException e) {
+            return false;
+        }
+        if (inetAddress.isAnyLocalAddress() || inetAddress.isLoopbackAddress()) {
+            return true;
+        } else {
+            try {
+                return NetworkInterface.getByInetAddress(inetAddress) != null;
+            } catch (final SocketException e) {
+                return false;
+            }
+        }
+    }
+
+    private abstract static class Ring {
+        private final Map<String, Boolean> localServerIps;
+
+        private Ring(final Map<String, Boolean> localServerIps) {
+            this.localServerIps = localServerIps;
+        }
+
+        abstract boolean isEmpty();
+
+        abstract String getServerIp(List<String> identificationKeyValues);
+    }
+
+    private static class Md5Ring extends Ring {
+        private final TreeMap<BigInteger, String> hashServerMap;
+
+        private Md5Ring(final TreeMap<BigInteger, String> hashServerMap, final Map<String, Boolean> localServerIps) {
+            super(localServerIps);
+            this.hashServerMap = hashServerMap;
+        }
+
+        @Override
+        boolean isEmpty() {
+            return hashServerMap.isEmpty();
+        }
+
+        /**
+         * Returns the server of the first digest greater than the digest of the values joined with a comma, or the
+         * first server if no digest is greater.
+         */
+        @Override
+        String getServerIp(final List<String> identificationKeyValues) {
+            final MessageDigest md = md5();
+            md.update(String.join(String.valueOf(DELIMITER), identificationKeyValues).getBytes());
+            final Map.Entry<BigInteger, String> entry = hashServerMap.higherEntry(new BigInteger(md.digest()));
+            return entry != null ? entry.getValue() : hashServerMap.firstEntry().getValue();
+        }
+    }
+
+    private static class Fnv1aRing extends Ring {
+        private final long[] positions;
+        private final String[] serverIps;
+
+        private Fnv1aRing(final long[] positions, final String[] serverIps, final Map<String, Boolean> localServerIps) {
+            super(localServerIps);
+            this.positions = positions;
+            this.serverIps = serverIps;
+        }
+
+        @Override
+        boolean isEmpty() {
+            return positions.length == 0;
+        }
+
+        /**
+         * Returns the server at the first position greater than the hash, or the first server if no position is
+         * greater than the hash.
+         */
+        @Override
+        String getServerIp(final List<String> identificationKeyValues) {
+            final int index = Arrays.binarySearch(positions, hash(identificationKeyValues));
+            final int higherIndex = index >= 0 ? index + 1 : -index - 1;
+            return serverIps[higherIndex < positions.length ? higherIndex : 0];
         }
     }
 }
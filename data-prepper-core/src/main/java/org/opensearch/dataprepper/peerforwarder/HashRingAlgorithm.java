@@ -0,0 +1,24 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+/**
+ * The hash function which {@link HashRing} uses to place Data Prepper hosts and identification keys on the ring. All
+ * Data Prepper hosts which forward to each other must use the same algorithm, or they send the same keys to
+ * different hosts.
+ * @since 2.5
+ */
+public enum HashRingAlgorithm {
+    /**
+     * MD5 digests of the host addresses and of the identification keys, which every Data Prepper version uses.
+     */
+    MD5,
+
+    /**
+     * 64-bit FNV-1a hashes, which are cheaper to compute than MD5 digests but place the keys on different hosts.
+     */
+    FNV_1A
+}
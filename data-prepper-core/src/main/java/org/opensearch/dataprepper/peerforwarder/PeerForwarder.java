@@ -28,4 +28,14 @@ public interface PeerForwarder {
      * @return collection of records forwarded by peers
      */
     Collection<Record<Event>> receiveRecords();
+
+    /**
+     * Indicates whether the records which were forwarded have all been accepted by peers or read back from the
+     * {@link PeerForwarderReceiveBuffer}, so that the processor can shut down without losing them.
+     * @return true if no forwarded records are outstanding
+     * @since 2.5
+     */
+    default boolean isReadyForShutdown() {
+        return true;
+    }
 }
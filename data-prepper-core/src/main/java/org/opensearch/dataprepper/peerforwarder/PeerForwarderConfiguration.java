@@ -64,6 +64,9 @@ public class PeerForwarderConfiguration {
     private Integer forwardingBatchQueueDepth = 1;
     private Duration forwardingBatchTimeout = DEFAULT_FORWARDING_BATCH_TIMEOUT;
     private boolean binaryCodec = true;
+    private boolean compactCodec = false;
+    private Integer maxInFlightForwardingRequests = 8;
+    private HashRingAlgorithm hashRingAlgorithm = HashRingAlgorithm.MD5;
 
     public PeerForwarderConfiguration() {}
 
@@ -101,7 +104,10 @@ public class PeerForwarderConfiguration {
             @JsonProperty("forwarding_batch_size") final Integer forwardingBatchSize,
             @JsonProperty("forwarding_batch_queue_depth") final Integer forwardingBatchQueueDepth,
             @JsonProperty("forwarding_batch_timeout") final Duration forwardingBatchTimeout,
-            @JsonProperty("binary_codec") final Boolean binaryCodec
+            @JsonProperty("binary_codec") final Boolean binaryCodec,
+            @JsonProperty("compact_codec") final Boolean compactCodec,
+            @JsonProperty("max_in_flight_forwarding_requests") final Integer maxInFlightForwardingRequests,
+            @JsonProperty("hash_ring_algorithm") final String hashRingAlgorithm
     ) {
         setServerPort(serverPort);
         setRequestTimeout(requestTimeout);
@@ -136,6 +142,9 @@ public class PeerForwarderConfiguration {
         setForwardingBatchQueueDepth(forwardingBatchQueueDepth);
         setForwardingBatchTimeout(forwardingBatchTimeout);
         setBinaryCodec(binaryCodec == null || binaryCodec);
+        setCompactCodec(compactCodec != null && compactCodec);
+        setMaxInFlightForwardingRequests(maxInFlightForwardingRequests);
+        setHashRingAlgorithm(hashRingAlgorithm);
         checkForCertAndKeyFileInS3();
         validateSslAndAuthentication();
     }
@@ -260,6 +269,18 @@ public class PeerForwarderConfiguration {
         return binaryCodec;
     }
 
+    public boolean getCompactCodec() {
+        return compactCodec;
+    }
+
+    public Integer getMaxInFlightForwardingRequests() {
+        return maxInFlightForwardingRequests;
+    }
+
+    public HashRingAlgorithm getHashRingAlgorithm() {
+        return hashRingAlgorithm;
+    }
+
     private void setServerPort(final Integer serverPort) {
         if (serverPort != null) {
             if (serverPort < 0 || serverPort > 65535) {
@@ -391,6 +412,12 @@ public class PeerForwarderConfiguration {
         }
     }
 
+    private void setHashRingAlgorithm(final String hashRingAlgorithm) {
+        if (hashRingAlgorithm != null) {
+            this.hashRingAlgorithm = HashRingAlgorithm.valueOf(hashRingAlgorithm.toUpperCase());
+        }
+    }
+
     private void setDiscoveryMode(final String discoveryMode) {
         if (discoveryMode != null) {
             this.discoveryMode = DiscoveryMode.valueOf(discoveryMode.toUpperCase());
@@ -553,4 +580,17 @@ public class PeerForwarderConfiguration {
     private void setBinaryCodec(final boolean binaryCodec) {
         this.binaryCodec = binaryCodec;
     }
+
+    private void setCompactCodec(final boolean compactCodec) {
+        this.compactCodec = compactCodec;
+    }
+
+    private void setMaxInFlightForwardingRequests(final Integer maxInFlightForwardingRequests) {
+        if (maxInFlightForwardingRequests != null) {
+            if (maxInFlightForwardingRequests <= 0) {
+                throw new IllegalArgumentException("Maximum in-flight forwarding requests must be a positive integer.");
+            }
+            this.maxInFlightForwardingRequests = maxInFlightForwardingRequests;
+        }
+    }
 }
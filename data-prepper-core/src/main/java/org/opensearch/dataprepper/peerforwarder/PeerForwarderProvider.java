@@ -60,7 +60,8 @@ public class PeerForwarderProvider {
                     peerForwarderConfiguration.getForwardingBatchSize(),
                     peerForwarderConfiguration.getForwardingBatchQueueDepth(),
                     peerForwarderConfiguration.getForwardingBatchTimeout(),
-                    pipelineWorkerThreads
+                    pipelineWorkerThreads,
+                    peerForwarderConfiguration.getMaxInFlightForwardingRequests()
             );
         }
         else {
@@ -17,10 +17,6 @@ import org.opensearch.dataprepper.peerforwarder.client.PeerForwarderClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.net.InetAddress;
-import java.net.NetworkInterface;
-import java.net.SocketException;
-import java.net.UnknownHostException;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -33,8 +29,10 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
 class RemotePeerForwarder implements PeerForwarder {
     private static final Logger LOG = LoggerFactory.getLogger(RemotePeerForwarder.class);
@@ -47,6 +45,7 @@ class RemotePeerForwarder implements PeerForwarder {
     static final String RECORDS_MISSING_IDENTIFICATION_KEYS = "recordsMissingIdentificationKeys";
     static final String REQUESTS_FAILED = "requestsFailed";
     static final String REQUESTS_SUCCESSFUL = "requestsSuccessful";
+    static final String REQUESTS_IN_FLIGHT = "requestsInFlight";
 
     private final PeerForwarderClient peerForwarderClient;
     private final HashRing hashRing;
@@ -56,6 +55,9 @@ class RemotePeerForwarder implements PeerForwarder {
     private final Set<String> identificationKeys;
     final ConcurrentHashMap<String, LinkedBlockingQueue<Record<Event>>> peerBatchingQueueMap;
     private final ConcurrentHashMap<String, Long> peerBatchingLastFlushTimeMap;
+    private final ConcurrentHashMap<String, Semaphore> peerRequestPermitsMap;
+    private final ConcurrentLinkedQueue<List<Record<Event>>> failedForwardingRequests;
+    private final AtomicInteger inFlightForwardingRequests;
 
     private final Counter recordsActuallyProcessedLocallyCounter;
     private final Counter recordsToBeProcessedLocallyCounter;
@@ -71,6 +73,7 @@ class RemotePeerForwarder implements PeerForwarder {
     private final Integer forwardingBatchQueueDepth;
     private final Duration forwardingBatchTimeout;
     private final Integer pipelineWorkerThreads;
+    private final Integer maxInFlightForwardingRequests;
 
     RemotePeerForwarder(final PeerForwarderClient peerForwarderClient,
                         final HashRing hashRing,
@@ -84,7 +87,8 @@ class RemotePeerForwarder implements PeerForwarder {
                         final Integer forwardingBatchSize,
                         final Integer forwardingBatchQueueDepth,
                         final Duration forwardingBatchTimeout,
-                        final Integer pipelineWorkerThreads) {
+                        final Integer pipelineWorkerThreads,
+                        final Integer maxInFlightForwardingRequests) {
         this.peerForwarderClient = peerForwarderClient;
         this.hashRing = hashRing;
         this.peerForwarderReceiveBuffer = peerForwarderReceiveBuffer;
@@ -97,9 +101,13 @@ class RemotePeerForwarder implements PeerForwarder {
         this.forwardingBatchQueueDepth = forwardingBatchQueueDepth;
         this.forwardingBatchTimeout = forwardingBatchTimeout;
         this.pipelineWorkerThreads = pipelineWorkerThreads;
+        this.maxInFlightForwardingRequests = maxInFlightForwardingRequests;
         peerBatchingQueueMap = new ConcurrentHashMap<>();
         peerBatchingLastFlushTimeMap = new ConcurrentHashMap<>();
-        
+        peerRequestPermitsMap = new ConcurrentHashMap<>();
+        failedForwardingRequests = new ConcurrentLinkedQueue<>();
+        inFlightForwardingRequests = new AtomicInteger();
+
         recordsActuallyProcessedLocallyCounter = pluginMetrics.counter(RECORDS_ACTUALLY_PROCESSED_LOCALLY);
         recordsToBeProcessedLocallyCounter = pluginMetrics.counter(RECORDS_TO_BE_PROCESSED_LOCALLY);
         recordsToBeForwardedCounter = pluginMetrics.counter(RECORDS_TO_BE_FORWARDED);
@@ -108,6 +116,7 @@ class RemotePeerForwarder implements PeerForwarder {
         recordsMissingIdentificationKeys = pluginMetrics.counter(RECORDS_MISSING_IDENTIFICATION_KEYS);
         requestsFailedCounter = pluginMetrics.counter(REQUESTS_FAILED);
         requestsSuccessfulCounter = pluginMetrics.counter(REQUESTS_SUCCESSFUL);
+        pluginMetrics.gauge(REQUESTS_IN_FLIGHT, inFlightForwardingRequests, AtomicInteger::get);
     }
 
     public Collection<Record<Event>> forwardRecords(final Collection<Record<Event>> records) {
@@ -117,7 +126,7 @@ class RemotePeerForwarder implements PeerForwarder {
         for (final Map.Entry<String, List<Record<Event>>> entry : groupedRecords.entrySet()) {
             final String destinationIp = entry.getKey();
 
-            if (isAddressDefinedLocally(destinationIp)) {
+            if (hashRing.isLocalAddress(destinationIp)) {
                 recordsToProcessLocally.addAll(entry.getValue());
                 recordsToBeProcessedLocallyCounter.increment(entry.getValue().size());
             } else {
@@ -128,11 +137,20 @@ class RemotePeerForwarder implements PeerForwarder {
         }
 
         forwardBatchedRecords();
+        processFailedForwardingRequests();
         recordsActuallyProcessedLocallyCounter.increment(recordsToProcessLocally.size());
 
         return recordsToProcessLocally;
     }
 
+    @Override
+    public boolean isReadyForShutdown() {
+        return inFlightForwardingRequests.get() == 0
+                && failedForwardingRequests.isEmpty()
+                && peerBatchingQueueMap.values().stream().allMatch(LinkedBlockingQueue::isEmpty)
+                && peerForwarderReceiveBuffer.isEmpty();
+    }
+
     public Collection<Record<Event>> receiveRecords() {
         final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = peerForwarderReceiveBuffer.read(batchDelay);
 
@@ -177,24 +195,6 @@ class RemotePeerForwarder implements PeerForwarder {
         return groupedRecords;
     }
 
-    private boolean isAddressDefinedLocally(final String address) {
-        final InetAddress inetAddress;
-        try {
-            inetAddress = InetAddress.getByName(address);
-        } catch (final UnknownHostException e) {
-            return false;
-        }
-        if (inetAddress.isAnyLocalAddress() || inetAddress.isLoopbackAddress()) {
-            return true;
-        } else {
-            try {
-                return NetworkInterface.getByInetAddress(inetAddress) != null;
-            } catch (final SocketException e) {
-                return false;
-            }
-        }
-    }
-
     private List<Record<Event>> batchRecordsForForwarding(final String destinationIp, final List<Record<Event>> records) {
         try {
             final List<Record<Event>> recordsFailedToBatch = populateBatchingQueue(destinationIp, records);
@@ -232,48 +232,71 @@ class RemotePeerForwarder implements PeerForwarder {
     }
 
     private void forwardBatchedRecords() {
-        final Map<CompletableFuture<AggregatedHttpResponse>, List<Record<Event>>> futuresMap = new HashMap<>();
-        peerBatchingQueueMap.forEach((ipAddress, records) -> {
-            futuresMap.putAll(forwardRecordsForIp(ipAddress));
-        });
+        peerBatchingQueueMap.keySet().forEach(this::forwardRecordsForIp);
+    }
 
-        final CompletableFuture<Void> compositeFuture = CompletableFuture.allOf(futuresMap.keySet().toArray(CompletableFuture[]::new));
+    /**
+     * Sends the batches which are ready for the peer without waiting for the responses. Once the maximum number of
+     * requests to the peer are in flight, the remaining records stay in the batching queue until a request completes.
+     * When the batching queue is full, new records for the peer are processed locally.
+     */
+    private void forwardRecordsForIp(final String destinationIp) {
+        final Semaphore requestPermits = peerRequestPermitsMap.computeIfAbsent(destinationIp,
+                ipAddress -> new Semaphore(maxInFlightForwardingRequests));
+
+        while (requestPermits.tryAcquire()) {
+            final List<Record<Event>> recordsToForward = getRecordsToForward(destinationIp);
+            if (recordsToForward.isEmpty()) {
+                requestPermits.release();
+                return;
+            }
+            sendForwardingRequest(destinationIp, recordsToForward, requestPermits);
+        }
+    }
+
+    private void sendForwardingRequest(final String destinationIp, final List<Record<Event>> recordsToForward, final Semaphore requestPermits) {
+        final CompletableFuture<AggregatedHttpResponse> responseFuture;
+        inFlightForwardingRequests.incrementAndGet();
         try {
-            compositeFuture.get();
-        } catch (final ExecutionException | InterruptedException e) {
-            LOG.debug("Caught exception getting results of composite forwarding future.", e);
+            responseFuture = peerForwarderClient.serializeRecordsAndSendHttpRequest(recordsToForward, destinationIp, pluginId, pipelineName);
+        } catch (final Exception e) {
+            LOG.warn("Unable to submit request for forwarding, processing locally.", e);
+            completeForwardingRequest(null, recordsToForward, requestPermits);
+            return;
         }
 
-        futuresMap.forEach((key, value) -> {
-            AggregatedHttpResponse httpResponse;
-            try {
-                httpResponse = key.get();
-            } catch (final ExecutionException | InterruptedException e) {
-                LOG.warn("Unable to send request to peer, processing locally.", e);
-                httpResponse = null;
+        responseFuture.whenComplete((httpResponse, throwable) -> {
+            if (throwable != null) {
+                LOG.warn("Unable to send request to peer, processing locally.", throwable);
             }
-
-            processFailedRequestsLocally(httpResponse, value);
+            completeForwardingRequest(throwable == null ? httpResponse : null, recordsToForward, requestPermits);
         });
     }
 
-    private Map<CompletableFuture<AggregatedHttpResponse>, List<Record<Event>>> forwardRecordsForIp(final String destinationIp) {
-        final Map<CompletableFuture<AggregatedHttpResponse>, List<Record<Event>>> forwardingRequestsMap = new HashMap<>();
-
-        List<Record<Event>> recordsToForward = getRecordsToForward(destinationIp);
-        while (!recordsToForward.isEmpty()) {
-            try {
-                final CompletableFuture<AggregatedHttpResponse> responseFuture =
-                        peerForwarderClient.serializeRecordsAndSendHttpRequest(recordsToForward, destinationIp, pluginId, pipelineName);
-                forwardingRequestsMap.put(responseFuture, recordsToForward);
-            } catch (final Exception e) {
-                LOG.warn("Unable to submit request for forwarding, processing locally.", e);
-                processFailedRequestsLocally(null, recordsToForward);
+    /**
+     * Runs on the thread which completes the response, which may be a thread of the client. Records of failed
+     * requests are only queued here, since writing them to the receive buffer may wait for the buffer. A worker
+     * writes them in {@link #processFailedForwardingRequests()}.
+     */
+    private void completeForwardingRequest(final AggregatedHttpResponse httpResponse, final List<Record<Event>> records, final Semaphore requestPermits) {
+        try {
+            if (httpResponse == null || httpResponse.status() != HttpStatus.OK) {
+                failedForwardingRequests.add(records);
+            } else {
+                recordsSuccessfullyForwardedCounter.increment(records.size());
+                requestsSuccessfulCounter.increment();
             }
-            recordsToForward = getRecordsToForward(destinationIp);
+        } finally {
+            requestPermits.release();
+            inFlightForwardingRequests.decrementAndGet();
         }
+    }
 
-        return forwardingRequestsMap;
+    private void processFailedForwardingRequests() {
+        List<Record<Event>> records;
+        while ((records = failedForwardingRequests.poll()) != null) {
+            processFailedRequestsLocally(null, records);
+        }
     }
 
     private List<Record<Event>> getRecordsToForward(final String destinationIp) {
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration.DEFAULT_PEER_FORWARDING_URI;
@@ -70,9 +71,7 @@ public class PeerForwarderClient {
 
         final byte[] serializedJsonBytes = getSerializedJsonBytes(records, pluginId, pipelineName);
 
-        final CompletableFuture<AggregatedHttpResponse> aggregatedHttpResponse = clientRequestForwardingLatencyTimer.record(() ->
-            processHttpRequest(client, serializedJsonBytes)
-        );
+        final CompletableFuture<AggregatedHttpResponse> aggregatedHttpResponse = processHttpRequest(client, serializedJsonBytes);
         requestsCounter.increment();
 
         return aggregatedHttpResponse;
@@ -88,11 +87,15 @@ public class PeerForwarderClient {
         }
     }
 
+    /**
+     * Sends the request without blocking. The returned future completes on a thread of the client's executor, so
+     * that callers may handle the response there without blocking the event loop of the HTTP client.
+     */
     private CompletableFuture<AggregatedHttpResponse> processHttpRequest(final WebClient client, final byte[] content) {
-        return CompletableFuture.supplyAsync(() ->
-        {
-            final CompletableFuture<AggregatedHttpResponse> aggregate = client.post(DEFAULT_PEER_FORWARDING_URI, content).aggregate();
-            return aggregate.join();
-        }, executorService);
+        final long startTime = System.nanoTime();
+        return client.post(DEFAULT_PEER_FORWARDING_URI, content).aggregate()
+                .whenCompleteAsync((response, throwable) ->
+                        clientRequestForwardingLatencyTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS),
+                        executorService);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,703 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BigIntegerNode;
+import com.fasterxml.jackson.databind.node.BinaryNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.FloatNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventMetadata;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.peerforwarder.model.PeerForwardingEvents;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link PeerForwarderCodec} which writes events in a compact binary format. The data of each event is written as
+ * a stream of tagged values read in place from the event, and is read back directly into the {@link JsonNode} of the
+ * new event, without an intermediate JSON string. Event metadata attributes are written from their Java values, so
+ * that their types are kept. Field names, event types and tags are written in full the first time they occur in a
+ * request and afterwards as an index into the strings already written.
+ * <p>
+ * All nodes which forward to each other must use the same codec.
+ */
+public class CompactPeerForwarderCodec implements PeerForwarderCodec {
+    static final int FORMAT_VERSION = 2;
+    static final int MAX_DEPTH = 1000;
+    private static final String TRACE_EVENT_TYPE = "TRACE";
+
+    private static final int END = 0;
+    private static final int NULL = 1;
+    private static final int TRUE = 2;
+    private static final int FALSE = 3;
+    private static final int INT = 4;
+    private static final int LONG = 5;
+    private static final int DOUBLE = 6;
+    private static final int FLOAT = 7;
+    private static final int STRING = 8;
+    private static final int BIG_INTEGER = 9;
+    private static final int DECIMAL = 10;
+    private static final int BINARY = 11;
+    private static final int ARRAY = 12;
+    private static final int OBJECT = 13;
+    private static final int INSTANT = 14;
+
+    private final ObjectMapper objectMapper;
+
+    public CompactPeerForwarderCodec(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public byte[] serialize(final PeerForwardingEvents peerForwardingEvents) throws IOException {
+        final Writer writer = new Writer();
+        writer.writeVarInt(FORMAT_VERSION);
+        writer.writeNullableString(peerForwardingEvents.getDestinationPluginId());
+        writer.writeNullableString(peerForwardingEvents.getDestinationPipelineName());
+
+        final List<Event> events = peerForwardingEvents.getEvents();
+        if (events == null) {
+            writer.writeVarInt(0);
+        } else {
+            writer.writeVarInt(events.size() + 1);
+            for (final Event event : events) {
+                writeEvent(writer, event);
+            }
+        }
+        return writer.toByteArray();
+    }
+
+    @Override
+    public PeerForwardingEvents deserialize(final byte[] bytes) throws IOException {
+        final Reader reader = new Reader(bytes);
+        final int formatVersion = reader.readVarInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported peer forwarding format version " + formatVersion);
+        }
+        final String destinationPluginId = reader.readNullableString();
+        final String destinationPipelineName = reader.readNullableString();
+
+        final int eventCount = reader.readVarInt() - 1;
+        List<Event> events = null;
+        if (eventCount >= 0) {
+            events = new ArrayList<>(Math.min(eventCount, reader.remaining()));
+            for (int i = 0; i < eventCount; i++) {
+                events.add(readEvent(reader));
+            }
+        }
+        if (reader.remaining() != 0) {
+            throw new IOException("Unexpected data after the peer forwarding events");
+        }
+        return new PeerForwardingEvents(events, destinationPluginId, destinationPipelineName);
+    }
+
+    private void writeEvent(final Writer writer, final Event event) throws IOException {
+        final EventMetadata eventMetadata = event.getMetadata();
+        writer.writeKey(eventMetadata.getEventType());
+
+        final Instant timeReceived = eventMetadata.getTimeReceived();
+        if (timeReceived == null) {
+            writer.writeByte(0);
+        } else {
+            writer.writeByte(1);
+            writeInstant(writer, timeReceived);
+        }
+
+        final Map<String, Object> attributes = eventMetadata.getAttributes();
+        if (attributes == null || attributes.isEmpty()) {
+            writer.writeByte(NULL);
+        } else {
+            writeValue(writer, attributes);
+        }
+
+        final Set<String> tags = eventMetadata.getTags();
+        if (tags == null) {
+            writer.writeVarInt(0);
+        } else {
+            writer.writeVarInt(tags.size());
+            for (final String tag : tags) {
+                writer.writeKey(tag);
+            }
+        }
+
+        final JsonParser dataParser = event instanceof JacksonEvent ?
+                ((JacksonEvent) event).createDataParser() : objectMapper.valueToTree(event.toMap()).traverse();
+        writeTokens(writer, dataParser);
+    }
+
+    private Event readEvent(final Reader reader) throws IOException {
+        final String eventType = reader.readKey();
+
+        Instant timeReceived = null;
+        if (reader.readByte() != 0) {
+            timeReceived = readInstant(reader);
+        }
+
+        @SuppressWarnings("unchecked")
+        final Map<String, Object> attributes = (Map<String, Object>) readValue(reader, 0);
+
+        final int tagCount = reader.readVarInt();
+        Set<String> tags = null;
+        if (tagCount > 0) {
+            tags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(reader.readKey());
+            }
+        }
+
+        final JsonNode data = readNode(reader, 0);
+        if (!data.isObject()) {
+            throw new IOException("Peer forwarding event data is not an object");
+        }
+        final DefaultEventMetadata eventMetadata = DefaultEventMetadata.builder()
+                .withEventType(eventType)
+                .withTimeReceived(timeReceived)
+                .withAttributes(attributes)
+                .withTags(tags)
+                .build();
+
+        if (eventType.equalsIgnoreCase(TRACE_EVENT_TYPE)) {
+            return JacksonSpan.fromJsonNode(eventMetadata, (ObjectNode) data);
+        }
+        return JacksonEvent.fromJsonNode(eventMetadata, (ObjectNode) data);
+    }
+
+    /**
+     * Writes the event data from the tokens of the parser. Objects and arrays are ended with {@link #END} instead of
+     * starting with their size, so that the data can be written in a single pass over the tokens.
+     */
+    private static void writeTokens(final Writer writer, final JsonParser parser) throws IOException {
+        try (parser) {
+            for (JsonToken token = parser.nextToken(); token != null; token = parser.nextToken()) {
+                switch (token) {
+                    case START_OBJECT:
+                        writer.writeByte(OBJECT);
+                        break;
+                    case START_ARRAY:
+                        writer.writeByte(ARRAY);
+                        break;
+                    case END_OBJECT:
+                    case END_ARRAY:
+                        writer.writeByte(END);
+                        break;
+                    case FIELD_NAME:
+                        writer.writeKey(parser.getCurrentName());
+                        break;
+                    case VALUE_NULL:
+                        writer.writeByte(NULL);
+                        break;
+                    case VALUE_TRUE:
+                        writer.writeByte(TRUE);
+                        break;
+                    case VALUE_FALSE:
+                        writer.writeByte(FALSE);
+                        break;
+                    case VALUE_STRING:
+                        writer.writeByte(STRING);
+                        writer.writeString(parser.getText());
+                        break;
+                    case VALUE_NUMBER_INT:
+                    case VALUE_NUMBER_FLOAT:
+                        writeNumber(writer, parser);
+                        break;
+                    case VALUE_EMBEDDED_OBJECT:
+                        final Object embeddedObject = parser.getEmbeddedObject();
+                        if (!(embeddedObject instanceof byte[])) {
+                            throw new IOException("Unable to write a value of type " +
+                                    (embeddedObject == null ? null : embeddedObject.getClass().getName()));
+                        }
+                        writer.writeByte(BINARY);
+                        writer.writeBytes((byte[]) embeddedObject);
+                        break;
+                    default:
+                        throw new IOException("Unable to write a token of type " + token);
+                }
+            }
+        }
+    }
+
+    private static void writeNumber(final Writer writer, final JsonParser parser) throws IOException {
+        switch (parser.getNumberType()) {
+            case INT:
+                writeInt(writer, parser.getIntValue());
+                break;
+            case LONG:
+                writeLong(writer, parser.getLongValue());
+                break;
+            case FLOAT:
+                writeFloat(writer, parser.getFloatValue());
+                break;
+            case BIG_INTEGER:
+                writeBigInteger(writer, parser.getBigIntegerValue());
+                break;
+            case BIG_DECIMAL:
+                writeDecimal(writer, parser.getDecimalValue());
+                break;
+            default:
+                writeDouble(writer, parser.getDoubleValue());
+        }
+    }
+
+    /**
+     * Writes a metadata attribute value. Values of other types are written as their JSON tree.
+     */
+    private void writeValue(final Writer writer, final Object value) throws IOException {
+        if (value == null) {
+            writer.writeByte(NULL);
+        } else if (value instanceof String) {
+            writer.writeByte(STRING);
+            writer.writeString((String) value);
+        } else if (value instanceof Boolean) {
+            writer.writeByte((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Integer) {
+            writeInt(writer, (Integer) value);
+        } else if (value instanceof Long) {
+            writeLong(writer, (Long) value);
+        } else if (value instanceof Double) {
+            writeDouble(writer, (Double) value);
+        } else if (value instanceof Float) {
+            writeFloat(writer, (Float) value);
+        } else if (value instanceof BigInteger) {
+            writeBigInteger(writer, (BigInteger) value);
+        } else if (value instanceof BigDecimal) {
+            writeDecimal(writer, (BigDecimal) value);
+        } else if (value instanceof byte[]) {
+            writer.writeByte(BINARY);
+            writer.writeBytes((byte[]) value);
+        } else if (value instanceof Instant) {
+            writer.writeByte(INSTANT);
+            writeInstant(writer, (Instant) value);
+        } else if (value instanceof Map) {
+            writer.writeByte(OBJECT);
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                writer.writeKey(String.valueOf(entry.getKey()));
+                writeValue(writer, entry.getValue());
+            }
+            writer.writeByte(END);
+        } else if (value instanceof Collection) {
+            writer.writeByte(ARRAY);
+            for (final Object element : (Collection<?>) value) {
+                writeValue(writer, element);
+            }
+            writer.writeByte(END);
+        } else {
+            writeTokens(writer, objectMapper.valueToTree(value).traverse());
+        }
+    }
+
+    private static void writeInt(final Writer writer, final int value) {
+        writer.writeByte(INT);
+        writer.writeVarInt(zigZagEncode(value));
+    }
+
+    private static void writeLong(final Writer writer, final long value) {
+        writer.writeByte(LONG);
+        writer.writeVarLong(zigZagEncode(value));
+    }
+
+    private static void writeDouble(final Writer writer, final double value) {
+        writer.writeByte(DOUBLE);
+        writer.writeFixedLong(Double.doubleToRawLongBits(value));
+    }
+
+    private static void writeFloat(final Writer writer, final float value) {
+        writer.writeByte(FLOAT);
+        writer.writeFixedInt(Float.floatToIntBits(value));
+    }
+
+    private static void writeBigInteger(final Writer writer, final BigInteger value) {
+        writer.writeByte(BIG_INTEGER);
+        writer.writeBytes(value.toByteArray());
+    }
+
+    private static void writeDecimal(final Writer writer, final BigDecimal value) {
+        writer.writeByte(DECIMAL);
+        writer.writeVarInt(zigZagEncode(value.scale()));
+        writer.writeBytes(value.unscaledValue().toByteArray());
+    }
+
+    private static void writeInstant(final Writer writer, final Instant value) {
+        writer.writeVarLong(zigZagEncode(value.getEpochSecond()));
+        writer.writeVarInt(value.getNano());
+    }
+
+    private static Instant readInstant(final Reader reader) throws IOException {
+        final long epochSecond = zigZagDecode(reader.readVarLong());
+        return Instant.ofEpochSecond(epochSecond, reader.readVarInt());
+    }
+
+    private static JsonNode readNode(final Reader reader, final int depth) throws IOException {
+        checkDepth(depth);
+        final int type = reader.readByte();
+        switch (type) {
+            case NULL:
+                return NullNode.getInstance();
+            case TRUE:
+                return BooleanNode.TRUE;
+            case FALSE:
+                return BooleanNode.FALSE;
+            case INT:
+                return IntNode.valueOf(zigZagDecode(reader.readVarInt()));
+            case LONG:
+                return LongNode.valueOf(zigZagDecode(reader.readVarLong()));
+            case DOUBLE:
+                return DoubleNode.valueOf(Double.longBitsToDouble(reader.readFixedLong()));
+            case FLOAT:
+                return FloatNode.valueOf(Float.intBitsToFloat(reader.readFixedInt()));
+            case STRING:
+                return TextNode.valueOf(reader.readString());
+            case BIG_INTEGER:
+                return BigIntegerNode.valueOf(new BigInteger(reader.readBytes()));
+            case DECIMAL:
+                return DecimalNode.valueOf(readDecimal(reader));
+            case BINARY:
+                return BinaryNode.valueOf(reader.readBytes());
+            case ARRAY:
+                final ArrayNode arrayNode = new ArrayNode(JsonNodeFactory.instance);
+                while (!reader.readEnd()) {
+                    arrayNode.add(readNode(reader, depth + 1));
+                }
+                return arrayNode;
+            case OBJECT:
+                final ObjectNode objectNode = new ObjectNode(JsonNodeFactory.instance);
+                for (int keyReference = reader.readVarInt(); keyReference != END; keyReference = reader.readVarInt()) {
+                    final String fieldName = reader.readKey(keyReference);
+                    objectNode.set(fieldName, readNode(reader, depth + 1));
+                }
+                return objectNode;
+            default:
+                throw new IOException("Unknown value type " + type + " in peer forwarding event data");
+        }
+    }
+
+    private static Object readValue(final Reader reader, final int depth) throws IOException {
+        checkDepth(depth);
+        final int type = reader.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case INT:
+                return zigZagDecode(reader.readVarInt());
+            case LONG:
+                return zigZagDecode(reader.readVarLong());
+            case DOUBLE:
+                return Double.longBitsToDouble(reader.readFixedLong());
+            case FLOAT:
+                return Float.intBitsToFloat(reader.readFixedInt());
+            case STRING:
+                return reader.readString();
+            case BIG_INTEGER:
+                return new BigInteger(reader.readBytes());
+            case DECIMAL:
+                return readDecimal(reader);
+            case BINARY:
+                return reader.readBytes();
+            case INSTANT:
+                return readInstant(reader);
+            case ARRAY:
+                final List<Object> list = new ArrayList<>();
+                while (!reader.readEnd()) {
+                    list.add(readValue(reader, depth + 1));
+                }
+                return list;
+            case OBJECT:
+                final Map<String, Object> map = new LinkedHashMap<>();
+                for (int keyReference = reader.readVarInt(); keyReference != END; keyReference = reader.readVarInt()) {
+                    final String key = reader.readKey(keyReference);
+                    map.put(key, readValue(reader, depth + 1));
+                }
+                return map;
+            default:
+                throw new IOException("Unknown value type " + type + " in peer forwarding event metadata");
+        }
+    }
+
+    private static BigDecimal readDecimal(final Reader reader) throws IOException {
+        final int scale = zigZagDecode(reader.readVarInt());
+        return new BigDecimal(new BigInteger(reader.readBytes()), scale);
+    }
+
+    private static void checkDepth(final int depth) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw new IOException("Peer forwarding event data is nested more than " + MAX_DEPTH + " levels");
+        }
+    }
+
+    private static int zigZagEncode(final int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static long zigZagEncode(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static int zigZagDecode(final int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long zigZagDecode(final long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Writes into a growable byte array. Keys are written as a variable-length integer: 1 followed by the key for a
+     * key which has not been written before, otherwise the index of the key plus two. 0 is left for {@link #END}.
+     */
+    private static class Writer {
+        private final Map<String, Integer> keyIndexes = new HashMap<>();
+        private byte[] buffer = new byte[4096];
+        private int count;
+
+        private void ensureCapacity(final int additional) {
+            if (count + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, count + additional));
+            }
+        }
+
+        private void writeByte(final int value) {
+            ensureCapacity(1);
+            buffer[count++] = (byte) value;
+        }
+
+        private void writeVarInt(final int value) {
+            ensureCapacity(5);
+            int remaining = value;
+            while ((remaining & ~0x7F) != 0) {
+                buffer[count++] = (byte) ((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            buffer[count++] = (byte) remaining;
+        }
+
+        private void writeVarLong(final long value) {
+            ensureCapacity(10);
+            long remaining = value;
+            while ((remaining & ~0x7FL) != 0) {
+                buffer[count++] = (byte) ((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            buffer[count++] = (byte) remaining;
+        }
+
+        private void writeFixedInt(final int value) {
+            ensureCapacity(4);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                buffer[count++] = (byte) (value >>> shift);
+            }
+        }
+
+        private void writeFixedLong(final long value) {
+            ensureCapacity(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[count++] = (byte) (value >>> shift);
+            }
+        }
+
+        private void writeBytes(final byte[] bytes) {
+            writeVarInt(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, count, bytes.length);
+            count += bytes.length;
+        }
+
+        private void writeString(final String value) {
+            final int length = value.length();
+            for (int i = 0; i < length; i++) {
+                if (value.charAt(i) >= 0x80) {
+                    writeBytes(value.getBytes(StandardCharsets.UTF_8));
+                    return;
+                }
+            }
+            writeVarInt(length);
+            ensureCapacity(length);
+            for (int i = 0; i < length; i++) {
+                buffer[count++] = (byte) value.charAt(i);
+            }
+        }
+
+        private void writeNullableString(final String value) {
+            if (value == null) {
+                writeByte(0);
+            } else {
+                writeByte(1);
+                writeString(value);
+            }
+        }
+
+        private void writeKey(final String key) {
+            final Integer keyIndex = keyIndexes.get(key);
+            if (keyIndex != null) {
+                writeVarInt(keyIndex + 2);
+                return;
+            }
+            keyIndexes.put(key, keyIndexes.size());
+            writeVarInt(1);
+            writeString(key);
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, count);
+        }
+    }
+
+    /**
+     * Reads from the serialized bytes in place. Every length is checked against the bytes which remain, so that
+     * truncated or corrupt data fails with an {@link IOException}.
+     */
+    private static class Reader {
+        private final List<String> keys = new ArrayList<>();
+        private final byte[] bytes;
+        private int position;
+
+        private Reader(final byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private int remaining() {
+            return bytes.length - position;
+        }
+
+        private int readByte() throws IOException {
+            if (position >= bytes.length) {
+                throw new IOException("Peer forwarding data ended unexpectedly");
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        private int readVarInt() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                final int b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed variable-length integer in peer forwarding data");
+        }
+
+        private long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 70; shift += 7) {
+                final int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed variable-length integer in peer forwarding data");
+        }
+
+        private int readFixedInt() throws IOException {
+            checkRemaining(4);
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                value = (value << 8) | (bytes[position++] & 0xFF);
+            }
+            return value;
+        }
+
+        private long readFixedLong() throws IOException {
+            checkRemaining(8);
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (bytes[position++] & 0xFF);
+            }
+            return value;
+        }
+
+        private byte[] readBytes() throws IOException {
+            final int length = readLength();
+            final byte[] value = Arrays.copyOfRange(bytes, position, position + length);
+            position += length;
+            return value;
+        }
+
+        private String readString() throws IOException {
+            final int length = readLength();
+            final String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        private String readNullableString() throws IOException {
+            return readByte() == 0 ? null : readString();
+        }
+
+        private String readKey() throws IOException {
+            return readKey(readVarInt());
+        }
+
+        private String readKey(final int keyReference) throws IOException {
+            if (keyReference == 1) {
+                final String key = readString();
+                keys.add(key);
+                return key;
+            }
+            if (keyReference < 2 || keyReference > keys.size() + 1) {
+                throw new IOException("Unknown key reference " + keyReference + " in peer forwarding data");
+            }
+            return keys.get(keyReference - 2);
+        }
+
+        private boolean readEnd() throws IOException {
+            checkRemaining(1);
+            if (bytes[position] == END) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private int readLength() throws IOException {
+            final int length = readVarInt();
+            if (length < 0) {
+                throw new IOException("Negative length in peer forwarding data");
+            }
+            checkRemaining(length);
+            return length;
+        }
+
+        private void checkRemaining(final int length) throws IOException {
+            if (length > remaining()) {
+                throw new IOException("Peer forwarding data ended unexpectedly");
+            }
+        }
+    }
+}
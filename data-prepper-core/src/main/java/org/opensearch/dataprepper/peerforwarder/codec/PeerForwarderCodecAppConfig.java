@@ -23,6 +23,9 @@ public class PeerForwarderCodecAppConfig {
             final PeerForwarderConfiguration peerForwarderConfiguration,
             final ObjectInputFilter objectInputFilter,
             @Qualifier("peerForwarderObjectMapper") final ObjectMapper objectMapper) {
+        if (peerForwarderConfiguration.getCompactCodec()) {
+            return new CompactPeerForwarderCodec(objectMapper);
+        }
         return peerForwarderConfiguration.getBinaryCodec() ?
                 new JavaPeerForwarderCodec(objectInputFilter) : new JacksonPeerForwarderCodec(objectMapper);
     }
@@ -0,0 +1,134 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.processor.Processor;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Finds the events which a {@link Processor} did not return and releases their {@link EventHandle}s.
+ * <p>
+ * Each {@link ProcessWorker} owns a tracker and reuses its arrays between batches. When a processor returns the
+ * same events in the same order, which is the case for most processors, this is detected by comparing references
+ * and nothing is allocated or hashed. Otherwise, the returned events are put in an identity hash table to find the
+ * input events which are missing from the output.
+ */
+class EventDropTracker {
+    private static final int MINIMUM_TABLE_CAPACITY = 16;
+
+    private Event[] inputEvents = new Event[0];
+    private int inputCount;
+    private Event[] outputTable = new Event[0];
+
+    /**
+     * Records the events which are about to be passed to a processor.
+     *
+     * @param records the records which the processor will execute on
+     * @return the number of events which have no {@link EventHandle}
+     */
+    int recordInput(final Collection<Record<Event>> records) {
+        if (inputEvents.length < records.size()) {
+            inputEvents = new Event[records.size()];
+        }
+        int missingEventHandles = 0;
+        inputCount = 0;
+        for (final Record<Event> record : records) {
+            final Event event = record.getData();
+            if (event.getEventHandle() == null) {
+                missingEventHandles++;
+            }
+            inputEvents[inputCount++] = event;
+        }
+        return missingEventHandles;
+    }
+
+    /**
+     * Releases the {@link EventHandle} of every recorded input event which is not in the output of the processor.
+     *
+     * @param outputRecords the records which the processor returned
+     * @return the number of released events
+     */
+    int releaseDroppedEvents(final Collection<Record<Event>> outputRecords) {
+        int releasedEvents = 0;
+        if (!isUnchanged(outputRecords)) {
+            final int tableCapacity = fillOutputTable(outputRecords);
+            for (int i = 0; i < inputCount; i++) {
+                final Event event = inputEvents[i];
+                final EventHandle eventHandle = event.getEventHandle();
+                if (eventHandle != null && !outputTableContains(event, tableCapacity - 1)) {
+                    eventHandle.release(true);
+                    releasedEvents++;
+                }
+            }
+            Arrays.fill(outputTable, 0, tableCapacity, null);
+        }
+        Arrays.fill(inputEvents, 0, inputCount, null);
+        inputCount = 0;
+        return releasedEvents;
+    }
+
+    private boolean isUnchanged(final Collection<Record<Event>> outputRecords) {
+        if (outputRecords.size() != inputCount) {
+            return false;
+        }
+        int i = 0;
+        for (final Record<Event> record : outputRecords) {
+            if (record.getData() != inputEvents[i++]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int fillOutputTable(final Collection<Record<Event>> outputRecords) {
+        final int tableCapacity = tableCapacityFor(outputRecords.size());
+        if (outputTable.length < tableCapacity) {
+            outputTable = new Event[tableCapacity];
+        }
+        final int mask = tableCapacity - 1;
+        for (final Record<Event> record : outputRecords) {
+            final Event event = record.getData();
+            int index = indexFor(event, mask);
+            while (outputTable[index] != null) {
+                if (outputTable[index] == event) {
+                    break;
+                }
+                index = (index + 1) & mask;
+            }
+            outputTable[index] = event;
+        }
+        return tableCapacity;
+    }
+
+    private boolean outputTableContains(final Event event, final int mask) {
+        int index = indexFor(event, mask);
+        while (outputTable[index] != null) {
+            if (outputTable[index] == event) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    private static int indexFor(final Event event, final int mask) {
+        final int hash = System.identityHashCode(event);
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * Keeps the table at most half full so that probe sequences stay short.
+     */
+    private static int tableCapacityFor(final int size) {
+        final int capacity = Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+        return Math.max(capacity, MINIMUM_TABLE_CAPACITY);
+    }
+}
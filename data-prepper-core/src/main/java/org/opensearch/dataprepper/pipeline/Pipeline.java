@@ -61,6 +61,7 @@ public class Pipeline {
     private final SourceCoordinatorFactory sourceCoordinatorFactory;
     private final int processorThreads;
     private final int readBatchTimeoutInMillis;
+    private final int sinkInFlightBatches;
     private final Duration processorShutdownTimeout;
     private final Duration sinkShutdownTimeout;
     private final Duration peerForwarderDrainTimeout;
@@ -89,6 +90,8 @@ public class Pipeline {
      * @param sourceCoordinatorFactory source coordinator factory that enables coordination between different instances/threads of sources
      * @param processorThreads         configured or default threads to parallelize processor work
      * @param readBatchTimeoutInMillis configured or default timeout for reading batch of records from buffer
+     * @param sinkInFlightBatches      configured or default number of batches each {@link ProcessWorker} may have
+     *                                 waiting on the sinks while it processes the next batch
      * @param processorShutdownTimeout configured or default timeout before forcefully terminating the processor workers
      * @param peerForwarderDrainTimeout configured or default timeout before considering the peer forwarder drained and ready for termination
      * @param sinkShutdownTimeout      configured or default timeout before forcefully terminating the sink workers
@@ -105,6 +108,7 @@ public class Pipeline {
             final SourceCoordinatorFactory sourceCoordinatorFactory,
             final int processorThreads,
             final int readBatchTimeoutInMillis,
+            final int sinkInFlightBatches,
             final Duration processorShutdownTimeout,
             final Duration sinkShutdownTimeout,
             final Duration peerForwarderDrainTimeout) {
@@ -121,6 +125,7 @@ public class Pipeline {
         this.eventFactory = eventFactory;
         this.acknowledgementSetManager = acknowledgementSetManager;
         this.readBatchTimeoutInMillis = readBatchTimeoutInMillis;
+        this.sinkInFlightBatches = sinkInFlightBatches;
         this.processorShutdownTimeout = processorShutdownTimeout;
         this.sinkShutdownTimeout = sinkShutdownTimeout;
         this.peerForwarderDrainTimeout = peerForwarderDrainTimeout;
@@ -188,6 +193,14 @@ public class Pipeline {
         return readBatchTimeoutInMillis;
     }
 
+    /**
+     * @return the number of batches each {@link ProcessWorker} may have published to the sinks, but not yet
+     * checkpointed, while it processes the next batch. Zero means the worker waits for the sinks after every batch.
+     */
+    public int getSinkInFlightBatches() {
+        return sinkInFlightBatches;
+    }
+
     public boolean isReady() {
         for (final Sink sink: getSinks()) {
             if (!sink.isReady()) {
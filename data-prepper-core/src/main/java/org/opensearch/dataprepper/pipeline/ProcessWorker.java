@@ -6,32 +6,31 @@
 package org.opensearch.dataprepper.pipeline;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.CheckpointState;
 import org.opensearch.dataprepper.model.buffer.Buffer;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
-import org.opensearch.dataprepper.model.event.Event;
-import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.pipeline.common.FutureHelper;
-import org.opensearch.dataprepper.pipeline.common.FutureHelperResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
-import java.util.ArrayList;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
 import java.util.concurrent.Future;
-import java.util.stream.Collectors;
 
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class ProcessWorker implements Runnable {
     private static final Logger LOG = LoggerFactory.getLogger(ProcessWorker.class);
 
     private static final String INVALID_EVENT_HANDLES = "invalidEventHandles";
+    private static final String SINK_IN_FLIGHT_BATCHES = "sinkInFlightBatches";
+    private static final String SINK_WAIT_TIME = "sinkWaitTime";
     private final Buffer readBuffer;
     private final List<Processor> processors;
     private final Pipeline pipeline;
@@ -39,6 +38,11 @@ public class ProcessWorker implements Runnable {
     private PluginMetrics pluginMetrics;
     private final Counter invalidEventHandlesCounter;
     private boolean acknowledgementsEnabled;
+    private final EventDropTracker eventDropTracker;
+    private final int maxSinkInFlightBatches;
+    private final Deque<InFlightBatch> sinkInFlightBatches;
+    private final DistributionSummary sinkInFlightBatchesSummary;
+    private final Timer sinkWaitTimer;
 
     public ProcessWorker(
             final Buffer readBuffer,
@@ -50,6 +54,11 @@ public class ProcessWorker implements Runnable {
         this.pluginMetrics = PluginMetrics.fromNames("ProcessWorker", pipeline.getName());
         this.invalidEventHandlesCounter = pluginMetrics.counter(INVALID_EVENT_HANDLES);
         this.acknowledgementsEnabled = pipeline.getSource().areAcknowledgementsEnabled();
+        this.eventDropTracker = new EventDropTracker();
+        this.maxSinkInFlightBatches = pipeline.getSinkInFlightBatches();
+        this.sinkInFlightBatches = new ArrayDeque<>(maxSinkInFlightBatches + 1);
+        this.sinkInFlightBatchesSummary = pluginMetrics.summary(SINK_IN_FLIGHT_BATCHES);
+        this.sinkWaitTimer = pluginMetrics.timer(SINK_WAIT_TIME);
     }
 
     @Override
@@ -87,24 +96,16 @@ public class ProcessWorker implements Runnable {
                 doRun();
             }
             LOG.info("Processor shutdown phase 5 complete.");
+
+            // Phase 6 - wait for the sinks to complete the batches still in flight and checkpoint them
+            LOG.info("Beginning processor shutdown phase 6, waiting for {} in-flight batches.", sinkInFlightBatches.size());
+            checkpointCompletedBatches(0);
+            LOG.info("Processor shutdown phase 6 complete.");
         } catch (final Exception e) {
             LOG.error("Encountered exception during pipeline {} processing", pipeline.getName(), e);
         }
     }
 
-    private void processAcknowledgements(List<Event> inputEvents, Collection outputRecords) {
-        Set<Event> outputEventsSet = ((ArrayList<Record<Event>>)outputRecords).stream().map(Record::getData).collect(Collectors.toSet());
-        // For each event in the input events list that is not present in the output events, send positive acknowledgement, if acknowledgements are enabled for it
-        inputEvents.forEach(event -> {
-            EventHandle eventHandle = event.getEventHandle();
-            if (Objects.nonNull(eventHandle) && !outputEventsSet.contains(event)) {
-                eventHandle.release(true);
-            } else if (acknowledgementsEnabled && Objects.isNull(eventHandle)) {
-                invalidEventHandlesCounter.increment();
-            }
-        });
-    }
-
     private void doRun() {
         final Map.Entry<Collection, CheckpointState> readResult = readBuffer.read(pipeline.getReadBatchTimeoutInMillis());
         Collection records = readResult.getKey();
@@ -120,19 +121,36 @@ public class ProcessWorker implements Runnable {
         }
         //Should Empty list from buffer should be sent to the processors? For now sending as the Stateful processors expects it.
         for (final Processor processor : processors) {
-            List<Event> inputEvents = null;
             if (acknowledgementsEnabled) {
-                inputEvents = ((ArrayList<Record<Event>>)records).stream().map(Record::getData).collect(Collectors.toList());
+                final int missingEventHandles = eventDropTracker.recordInput(records);
+                if (missingEventHandles > 0) {
+                    invalidEventHandlesCounter.increment(missingEventHandles);
+                }
             }
             records = processor.execute(records);
-            if (inputEvents != null) {
-                processAcknowledgements(inputEvents, records);
+            if (acknowledgementsEnabled) {
+                // Send positive acknowledgements for the events which the processor did not return
+                eventDropTracker.releaseDroppedEvents(records);
             }
         }
 
-        postToSink(records);
-        // Checkpoint the current batch read from the buffer after being processed by processors and sinks.
-        readBuffer.checkpoint(checkpointState);
+        sinkInFlightBatches.addLast(new InFlightBatch(postToSink(records), checkpointState));
+        checkpointCompletedBatches(maxSinkInFlightBatches);
+    }
+
+    /**
+     * Checkpoints the batches read from the buffer once they have been processed by the processors and the sinks.
+     * Batches are checkpointed in the order they were read. Completed batches at the head of the queue are
+     * checkpointed right away, and the oldest batches are waited on until no more than maxInFlightBatches remain.
+     */
+    private void checkpointCompletedBatches(final int maxInFlightBatches) {
+        while (!sinkInFlightBatches.isEmpty() &&
+                (sinkInFlightBatches.size() > maxInFlightBatches || sinkInFlightBatches.peekFirst().isDone())) {
+            final InFlightBatch inFlightBatch = sinkInFlightBatches.removeFirst();
+            sinkWaitTimer.record(() -> FutureHelper.awaitFuturesIndefinitely(inFlightBatch.sinkFutures));
+            readBuffer.checkpoint(inFlightBatch.checkpointState);
+        }
+        sinkInFlightBatchesSummary.record(sinkInFlightBatches.size());
     }
 
     private boolean areComponentsReadyForShutdown() {
@@ -143,13 +161,25 @@ public class ProcessWorker implements Runnable {
 
     /**
      * TODO Add isolator pattern - Fail if one of the Sink fails [isolator Pattern]
-     * Uses the pipeline method to publish to sinks, waits for each of the sink result to be true before attempting to
-     * process more records from buffer.
+     * Uses the pipeline method to publish to sinks. The returned futures are waited on by
+     * {@link #checkpointCompletedBatches(int)} before the batch is checkpointed.
      */
-    private boolean postToSink(final Collection<Record> records) {
+    private List<Future<Void>> postToSink(final Collection<Record> records) {
         LOG.debug("Pipeline Worker: Submitting {} processed records to sinks", records.size());
-        final List<Future<Void>> sinkFutures = pipeline.publishToSinks(records);
-        final FutureHelperResult<Void> futureResults = FutureHelper.awaitFuturesIndefinitely(sinkFutures);
-        return futureResults.getFailedReasons().size() == 0;
+        return pipeline.publishToSinks(records);
+    }
+
+    private static class InFlightBatch {
+        private final List<Future<Void>> sinkFutures;
+        private final CheckpointState checkpointState;
+
+        private InFlightBatch(final List<Future<Void>> sinkFutures, final CheckpointState checkpointState) {
+            this.sinkFutures = sinkFutures;
+            this.checkpointState = checkpointState;
+        }
+
+        private boolean isDone() {
+            return sinkFutures.stream().allMatch(Future::isDone);
+        }
     }
 }
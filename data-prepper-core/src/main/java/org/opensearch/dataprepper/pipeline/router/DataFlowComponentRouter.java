@@ -10,8 +10,6 @@ import org.opensearch.dataprepper.parser.DataFlowComponent;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
 
@@ -22,7 +20,7 @@ import java.util.function.BiConsumer;
 class DataFlowComponentRouter {
     <C> void route(final Collection<Record> allRecords,
                    final DataFlowComponent<C> dataFlowComponent,
-                   final Map<Record, Set<String>> recordsToRoutes,
+                   final RouteMatches routeMatches,
                    final RouterGetRecordStrategy getRecordStrategy,
                    final BiConsumer<C, Collection<Record>> componentRecordsConsumer) {
 
@@ -32,14 +30,14 @@ class DataFlowComponentRouter {
         if (dataFlowComponentRoutes.isEmpty()) {
             recordsForComponent = getRecordStrategy.getAllRecords(allRecords);
         } else {
+            final int[] componentRouteIndexes = routeMatches.getRouteIndexes(dataFlowComponentRoutes);
             recordsForComponent = new ArrayList<>();
+            int recordIndex = 0;
             for (Record record : allRecords) {
-                final Set<String> routesForEvent = recordsToRoutes
-                        .getOrDefault(record, Collections.emptySet());
-
-                if (routesForEvent.stream().anyMatch(dataFlowComponentRoutes::contains)) {
+                if (routeMatches.matchesAnyRoute(recordIndex, componentRouteIndexes)) {
                     recordsForComponent.add(getRecordStrategy.getRecord(record));
                 }
+                recordIndex++;
             }
         }
         componentRecordsConsumer.accept(dataFlowComponent.getComponent(), recordsForComponent);
@@ -0,0 +1,171 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline.router;
+
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.EventMetadata;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Package-protected view of an {@link Event} used while evaluating the route conditions of one event. Values read
+ * with {@link Event#get(String, Class)} or {@link Event#get(EventKey, Class)} are remembered, so route conditions which
+ * read the same key only read it from the underlying event once. All other methods delegate to the event, and writes
+ * forget the remembered values. A single instance is reused for each event of a batch through {@link #reset(Event)}.
+ * <p>
+ * The view never leaves the router, so it is not one of the Event models which the peer-forwarder accepts.
+ */
+class ReadOnceEvent implements Event {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private Event event;
+    private String[] keys = new String[INITIAL_CAPACITY];
+    private Class<?>[] classes = new Class<?>[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Gets the view of the current event, which is the same instance for every event.
+     *
+     * @return The view of the current event
+     */
+    Event getEvent() {
+        return this;
+    }
+
+    void reset(final Event event) {
+        this.event = event;
+        clearReadValues();
+    }
+
+    @Override
+    public <T> T get(final String key, final Class<T> clazz) {
+        return get(key, clazz, null);
+    }
+
+    @Override
+    public <T> T get(final EventKey key, final Class<T> clazz) {
+        return get(key.getKey(), clazz, key);
+    }
+
+    @Override
+    public void put(final String key, final Object value) {
+        clearReadValues();
+        event.put(key, value);
+    }
+
+    @Override
+    public void put(final EventKey key, final Object value) {
+        clearReadValues();
+        event.put(key, value);
+    }
+
+    @Override
+    public void delete(final String key) {
+        clearReadValues();
+        event.delete(key);
+    }
+
+    @Override
+    public void delete(final EventKey key) {
+        clearReadValues();
+        event.delete(key);
+    }
+
+    @Override
+    public <T> List<T> getList(final String key, final Class<T> clazz) {
+        return event.getList(key, clazz);
+    }
+
+    @Override
+    public String toJsonString() {
+        return event.toJsonString();
+    }
+
+    @Override
+    public String getAsJsonString(final String key) {
+        return event.getAsJsonString(key);
+    }
+
+    @Override
+    public EventMetadata getMetadata() {
+        return event.getMetadata();
+    }
+
+    @Override
+    public boolean containsKey(final String key) {
+        return event.containsKey(key);
+    }
+
+    @Override
+    public boolean containsKey(final EventKey key) {
+        return event.containsKey(key);
+    }
+
+    @Override
+    public boolean isValueAList(final String key) {
+        return event.isValueAList(key);
+    }
+
+    @Override
+    public Map<String, Object> toMap() {
+        return event.toMap();
+    }
+
+    @Override
+    public String formatString(final String format) {
+        return event.formatString(format);
+    }
+
+    @Override
+    public String formatString(final String format, final ExpressionEvaluator expressionEvaluator) {
+        return event.formatString(format, expressionEvaluator);
+    }
+
+    @Override
+    public EventHandle getEventHandle() {
+        return event.getEventHandle();
+    }
+
+    @Override
+    public JsonStringBuilder jsonBuilder() {
+        return event.jsonBuilder();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(final String key, final Class<T> clazz, final EventKey eventKey) {
+        for (int i = 0; i < size; i++) {
+            if (classes[i] == clazz && keys[i].equals(key)) {
+                return (T) values[i];
+            }
+        }
+        final T value = eventKey != null ? event.get(eventKey, clazz) : event.get(key, clazz);
+        addReadValue(key, clazz, value);
+        return value;
+    }
+
+    private void addReadValue(final String key, final Class<?> clazz, final Object value) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            classes = Arrays.copyOf(classes, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        keys[size] = key;
+        classes[size] = clazz;
+        values[size] = value;
+        size++;
+    }
+
+    private void clearReadValues() {
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+    }
+}
@@ -9,65 +9,103 @@ import org.opensearch.dataprepper.model.configuration.ConditionalRoute;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.parser.DataFlowComponent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.stream.IntStream;
 
+/**
+ * Evaluates the configured routes over a whole batch of records. Only routes used by at least one
+ * {@link DataFlowComponent} are evaluated, and for each event a route is skipped once every component using it
+ * already receives the event through another route. Keys read by several route conditions are read once per event.
+ */
 class RouteEventEvaluator {
 
     private static final Logger LOG = LoggerFactory.getLogger(RouteEventEvaluator.class);
 
     private final ExpressionEvaluator evaluator;
-    private final Collection<ConditionalRoute> routes;
+    private final List<ConditionalRoute> routes;
+    private final Map<String, Integer> routeIndexes;
 
     RouteEventEvaluator(final ExpressionEvaluator evaluator, final Collection<ConditionalRoute> routes) {
         this.evaluator = evaluator;
-        this.routes = routes;
+        this.routes = new ArrayList<>(routes);
+        final Map<String, Integer> indexes = new HashMap<>();
+        for (int routeIndex = 0; routeIndex < this.routes.size(); routeIndex++) {
+            indexes.put(this.routes.get(routeIndex).getName(), routeIndex);
+        }
+        this.routeIndexes = Collections.unmodifiableMap(indexes);
     }
 
-    Map<Record, Set<String>> evaluateEventRoutes(final Collection<Record> records) {
-        final Map<Record, Set<String>> recordsToRoutes = new HashMap<>();
+    <C> RouteMatches evaluateEventRoutes(final Collection<Record> records,
+                                         final Collection<DataFlowComponent<C>> dataFlowComponents) {
+        final RouteMatches routeMatches = new RouteMatches(routeIndexes, records.size());
 
+        final long[] routeComponents = new long[routes.size()];
+        final boolean[] routeUsed = new boolean[routes.size()];
+        final boolean canShortCircuit = dataFlowComponents.size() <= Long.SIZE;
+        int componentIndex = 0;
+        for (final DataFlowComponent<C> dataFlowComponent : dataFlowComponents) {
+            for (final int routeIndex : routeMatches.getRouteIndexes(dataFlowComponent.getRoutes())) {
+                routeUsed[routeIndex] = true;
+                if (canShortCircuit) {
+                    routeComponents[routeIndex] |= 1L << componentIndex;
+                }
+            }
+            componentIndex++;
+        }
+        final int[] usedRouteIndexes = IntStream.range(0, routes.size())
+                .filter(routeIndex -> routeUsed[routeIndex])
+                .toArray();
+
+        final ReadOnceEvent readOnceEvent = new ReadOnceEvent();
+        final Event routedEvent = readOnceEvent.getEvent();
         int nonEventRecords = 0;
+        int recordIndex = 0;
 
         for (Record record : records) {
 
             final Object data = record.getData();
 
             if (data instanceof Event) {
-                final Event event = (Event) data;
-                final Set<String> matchedRoutes = findMatchedRoutes(event);
-                recordsToRoutes.put(record, matchedRoutes);
+                readOnceEvent.reset((Event) data);
+                long matchedComponents = 0;
+                for (final int routeIndex : usedRouteIndexes) {
+                    if (canShortCircuit && (routeComponents[routeIndex] & ~matchedComponents) == 0) {
+                        continue;
+                    }
+                    if (evaluateRoute(routes.get(routeIndex), routedEvent)) {
+                        routeMatches.addMatch(recordIndex, routeIndex);
+                        matchedComponents |= routeComponents[routeIndex];
+                    }
+                }
             } else {
                 nonEventRecords++;
-                recordsToRoutes.put(record, Collections.emptySet());
             }
+            recordIndex++;
         }
+        readOnceEvent.reset(null);
 
         if (nonEventRecords > 0) {
             LOG.warn("Received {} records which are not events. These will have no routes applied.", nonEventRecords);
         }
 
-        return recordsToRoutes;
+        return routeMatches;
     }
 
-    private Set<String> findMatchedRoutes(final Event event) {
-        final Set<String> matchRoutes = new HashSet<>();
-        for (ConditionalRoute route : routes) {
-            try {
-                if (evaluator.evaluateConditional(route.getCondition(), event)) {
-                    matchRoutes.add(route.getName());
-                }
-            } catch (final Exception ex) {
-                LOG.error("Failed to evaluate route. This route will not be applied to any events.", ex);
-            }
+    private boolean evaluateRoute(final ConditionalRoute route, final Event event) {
+        try {
+            return evaluator.evaluateConditional(route.getCondition(), event);
+        } catch (final Exception ex) {
+            LOG.error("Failed to evaluate route. This route will not be applied to any events.", ex);
+            return false;
         }
-        return matchRoutes;
     }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline.router;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Package-protected record of which routes matched which records of one batch. Records are identified by their
+ * position in the batch and routes by their position in the configured routes, so the matches are kept in a single
+ * bitset with one bit per record and route.
+ */
+class RouteMatches {
+    private final Map<String, Integer> routeIndexes;
+    private final int routeCount;
+    private final BitSet matches;
+
+    RouteMatches(final Map<String, Integer> routeIndexes, final int recordCount) {
+        this.routeIndexes = routeIndexes;
+        this.routeCount = routeIndexes.size();
+        this.matches = new BitSet(recordCount * routeCount);
+    }
+
+    void addMatch(final int recordIndex, final int routeIndex) {
+        matches.set(recordIndex * routeCount + routeIndex);
+    }
+
+    boolean hasMatch(final int recordIndex, final int routeIndex) {
+        return matches.get(recordIndex * routeCount + routeIndex);
+    }
+
+    boolean matchesAnyRoute(final int recordIndex, final int[] routeIndexesToMatch) {
+        final int recordOffset = recordIndex * routeCount;
+        for (final int routeIndex : routeIndexesToMatch) {
+            if (matches.get(recordOffset + routeIndex)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Resolves route names to their positions. Names which are not configured routes are left out since they can
+     * never match.
+     *
+     * @param routeNames the route names
+     * @return the positions of the known routes
+     */
+    int[] getRouteIndexes(final Set<String> routeNames) {
+        return routeNames.stream()
+                .map(routeIndexes::get)
+                .filter(routeIndex -> routeIndex != null)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+}
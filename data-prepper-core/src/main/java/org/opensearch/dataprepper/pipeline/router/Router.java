@@ -9,8 +9,6 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.parser.DataFlowComponent;
 
 import java.util.Collection;
-import java.util.Map;
-import java.util.Set;
 import java.util.Objects;
 import java.util.function.BiConsumer;
 
@@ -36,10 +34,10 @@ public class Router {
         Objects.requireNonNull(dataFlowComponents);
         Objects.requireNonNull(componentRecordsConsumer);
 
-        final Map<Record, Set<String>> recordsToRoutes = routeEventEvaluator.evaluateEventRoutes(allRecords);
+        final RouteMatches routeMatches = routeEventEvaluator.evaluateEventRoutes(allRecords, dataFlowComponents);
 
         for (DataFlowComponent<C> dataFlowComponent : dataFlowComponents) {
-            dataFlowComponentRouter.route(allRecords, dataFlowComponent, recordsToRoutes, getRecordStrategy, componentRecordsConsumer);
+            dataFlowComponentRouter.route(allRecords, dataFlowComponent, routeMatches, getRecordStrategy, componentRecordsConsumer);
         }
     }
 }
@@ -11,6 +11,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.junit.jupiter.api.extension.ExtendWith;
+import java.time.Instant;
+
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.doAnswer;
@@ -38,7 +43,8 @@ public class AcknowledgementSetMonitorTests {
     void setup() {
         acknowledgementSet1 = mock(DefaultAcknowledgementSet.class);
         eventHandle1 = mock(DefaultEventHandle.class);
-        when(acknowledgementSet1.isDone()).thenReturn(true);
+        lenient().when(acknowledgementSet1.isDone()).thenReturn(true);
+        lenient().when(acknowledgementSet1.getExpiryTime()).thenReturn(Instant.now().minusSeconds(1));
         acknowledgementSetMonitor = createObjectUnderTest();
     }
 
@@ -59,6 +65,7 @@ public class AcknowledgementSetMonitorTests {
     public void testMultipleAcknowledgementSets() {
         acknowledgementSet2 = mock(DefaultAcknowledgementSet.class);
         when(acknowledgementSet2.isDone()).thenReturn(false);
+        when(acknowledgementSet2.getExpiryTime()).thenReturn(Instant.now().minusMillis(500));
 
         acknowledgementSetMonitor.add(acknowledgementSet1);
         acknowledgementSetMonitor.add(acknowledgementSet2);
@@ -124,4 +131,45 @@ public class AcknowledgementSetMonitorTests {
         assertThat(acknowledgementSetMonitor.getSize(), equalTo(0));
         assertThat(acknowledgementSetMonitor.getNumInvalidReleases(), equalTo(1));
     }
+
+    @Test
+    public void testCallbackSubmittedAcknowledgementSetIsRemovedBeforeExpiry() {
+        acknowledgementSet2 = mock(DefaultAcknowledgementSet.class);
+        when(acknowledgementSet2.getExpiryTime()).thenReturn(Instant.now().plusSeconds(60));
+        when(acknowledgementSet2.isDone()).thenReturn(false, true);
+        acknowledgementSetMonitor.add(acknowledgementSet2);
+        acknowledgementSetMonitor.callbackSubmitted(acknowledgementSet2);
+
+        acknowledgementSetMonitor.run();
+        assertThat(acknowledgementSetMonitor.getSize(), equalTo(1));
+
+        acknowledgementSetMonitor.run();
+        assertThat(acknowledgementSetMonitor.getSize(), equalTo(0));
+    }
+
+    @Test
+    public void testOnlyExpiredAcknowledgementSetsAreVisited() {
+        acknowledgementSet2 = mock(DefaultAcknowledgementSet.class);
+        when(acknowledgementSet2.getExpiryTime()).thenReturn(Instant.now().plusSeconds(60));
+
+        acknowledgementSetMonitor.add(acknowledgementSet2);
+        acknowledgementSetMonitor.add(acknowledgementSet1);
+        acknowledgementSetMonitor.run();
+
+        assertThat(acknowledgementSetMonitor.getSize(), equalTo(1));
+        verify(acknowledgementSet1).isDone();
+        verify(acknowledgementSet2, never()).isDone();
+    }
+
+    @Test
+    public void testReleaseAfterAcknowledgementSetIsRemovedIsInvalid() {
+        when(eventHandle1.getAcknowledgementSet()).thenReturn(acknowledgementSet1);
+        acknowledgementSetMonitor.add(acknowledgementSet1);
+        acknowledgementSetMonitor.run();
+
+        acknowledgementSetMonitor.release(eventHandle1, true);
+
+        assertThat(acknowledgementSetMonitor.getNumInvalidReleases(), equalTo(1));
+        verify(acknowledgementSet1, never()).release(eventHandle1, true);
+    }
 }
@@ -17,7 +17,12 @@ import org.opensearch.dataprepper.model.event.JacksonEvent;
 import java.time.Duration;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import static org.hamcrest.CoreMatchers.not;
@@ -79,7 +84,7 @@ class DefaultAcknowledgementSetTests {
 
         event = mock(JacksonEvent.class);
         
-        doAnswer((i) -> {
+        lenient().doAnswer((i) -> {
             handle = i.getArgument(0);
             return null;
         }).when(event).setEventHandle(any());
@@ -210,4 +215,66 @@ class DefaultAcknowledgementSetTests {
                 .until(() -> callbackInterrupted.get());
         assertThat(callbackInterrupted.get(), equalTo(true));
     }
+
+    @Test
+    void testDefaultAcknowledgementSetCompleteAfterAllReleases() {
+        final List<DefaultAcknowledgementSet> submittedSets = new ArrayList<>();
+        setupMetrics();
+        defaultAcknowledgementSet = new DefaultAcknowledgementSet(executor, (flag) -> { }, TEST_TIMEOUT, metrics, submittedSets::add);
+        defaultAcknowledgementSet.add(event);
+        assertThat(defaultAcknowledgementSet.release(handle, true), equalTo(false));
+        assertThat(submittedSets.size(), equalTo(0));
+
+        defaultAcknowledgementSet.complete();
+
+        assertThat(submittedSets, equalTo(List.of(defaultAcknowledgementSet)));
+    }
+
+    @Test
+    void testDefaultAcknowledgementSetConcurrentReleasesCallbackOnce() throws Exception {
+        final int numberOfThreads = 4;
+        final int eventsPerThread = 1000;
+        final AtomicInteger callbackCount = new AtomicInteger();
+        final List<DefaultAcknowledgementSet> submittedSets = new ArrayList<>();
+        setupMetrics();
+        defaultAcknowledgementSet = new DefaultAcknowledgementSet(executor, (flag) -> callbackCount.incrementAndGet(),
+                TEST_TIMEOUT, metrics, submittedSets::add);
+
+        final List<List<DefaultEventHandle>> handlesPerThread = new ArrayList<>();
+        for (int i = 0; i < numberOfThreads; i++) {
+            final List<DefaultEventHandle> handles = new ArrayList<>();
+            for (int j = 0; j < eventsPerThread; j++) {
+                final JacksonEvent jacksonEvent = mock(JacksonEvent.class);
+                doAnswer(a -> handles.add(a.getArgument(0))).when(jacksonEvent).setEventHandle(any());
+                defaultAcknowledgementSet.add(jacksonEvent);
+            }
+            handlesPerThread.add(handles);
+        }
+        defaultAcknowledgementSet.complete();
+
+        final ExecutorService releaseExecutor = Executors.newFixedThreadPool(numberOfThreads);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        for (final List<DefaultEventHandle> handles : handlesPerThread) {
+            releaseExecutor.submit(() -> {
+                startLatch.await();
+                for (final DefaultEventHandle eventHandle : handles) {
+                    defaultAcknowledgementSet.acquire(eventHandle);
+                    defaultAcknowledgementSet.release(eventHandle, true);
+                    defaultAcknowledgementSet.release(eventHandle, true);
+                }
+                return null;
+            });
+        }
+        startLatch.countDown();
+        releaseExecutor.shutdown();
+        assertThat(releaseExecutor.awaitTermination(10, TimeUnit.SECONDS), equalTo(true));
+
+        Awaitility.waitAtMost(Duration.ofSeconds(10))
+                .pollDelay(Duration.ofMillis(100))
+                .until(() -> defaultAcknowledgementSet.isDone());
+        assertThat(callbackCount.get(), equalTo(1));
+        assertThat(submittedSets.size(), equalTo(1));
+        assertThat(invalidReleasesCounter, equalTo(0));
+        assertThat(invalidAcquiresCounter, equalTo(0));
+    }
 }
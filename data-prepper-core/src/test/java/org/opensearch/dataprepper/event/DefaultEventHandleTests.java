@@ -29,4 +29,15 @@ class DefaultEventHandleTests {
         eventHandle.release(true);
         verify(acknowledgementSet).release(eventHandle, true);
     }
+
+    @Test
+    void testReferenceCounting() {
+        acknowledgementSet = mock(AcknowledgementSet.class);
+        DefaultEventHandle eventHandle = new DefaultEventHandle(acknowledgementSet);
+        assertThat(eventHandle.acquireReference(), equalTo(true));
+        assertThat(eventHandle.releaseReference(), equalTo(1));
+        assertThat(eventHandle.releaseReference(), equalTo(0));
+        assertThat(eventHandle.releaseReference(), equalTo(-1));
+        assertThat(eventHandle.acquireReference(), equalTo(false));
+    }
 }
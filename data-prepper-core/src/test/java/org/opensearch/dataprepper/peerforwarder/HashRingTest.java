@@ -8,15 +8,34 @@ package org.opensearch.dataprepper.peerforwarder;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.opensearch.dataprepper.peerforwarder.discovery.PeerListProvider;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -34,6 +53,7 @@ class HashRingTest {
 
     private static final int SINGLE_VIRTUAL_NODE_COUNT = 1;
     private static final int MULTIPLE_VIRTUAL_NODE_COUNT = 100;
+    private static final int DISTRIBUTION_KEY_COUNT = 100_000;
 
     private final PeerListProvider peerListProvider = mock(PeerListProvider.class);
 
@@ -133,4 +153,145 @@ class HashRingTest {
         // Second call during rebuild
         verify(peerListProvider, times(2)).getPeerList();
     }
-}
\ No newline at end of file
+
+    @Test
+    void hash_hashes_values_as_if_they_were_joined() {
+        assertThat(HashRing.hash(List.of("a", "b")), equalTo(HashRing.hash(List.of("a,b"))));
+        assertThat(HashRing.hash(Arrays.asList("a", null)), equalTo(HashRing.hash(List.of("a,null"))));
+        assertThat(HashRing.hash(List.of("a", "b")), not(equalTo(HashRing.hash(List.of("b", "a")))));
+    }
+
+    @Test
+    void getServerIp_sends_keys_to_the_same_servers_as_the_md5_hash_ring_by_default() {
+        final List<String> serverIps = IntStream.range(1, 11).mapToObj(i -> "10.10.0." + i).collect(Collectors.toList());
+        when(peerListProvider.getPeerList()).thenReturn(serverIps);
+        hashRing = new HashRing(peerListProvider, PeerForwarderClientFactory.NUM_VIRTUAL_NODES);
+        final Md5HashRing md5HashRing = new Md5HashRing(serverIps, PeerForwarderClientFactory.NUM_VIRTUAL_NODES);
+
+        for (int i = 0; i < DISTRIBUTION_KEY_COUNT; i++) {
+            final List<String> identificationKeyValues = List.of("trace-" + i, "service-" + (i % 7));
+            assertThat(hashRing.getServerIp(identificationKeyValues).get(), equalTo(md5HashRing.getServerIp(identificationKeyValues)));
+        }
+    }
+
+    @Test
+    void getServerIp_with_fnv_1a_distributes_keys_as_evenly_as_the_md5_hash_ring() {
+        final List<String> serverIps = IntStream.range(1, 11).mapToObj(i -> "10.10.0." + i).collect(Collectors.toList());
+        when(peerListProvider.getPeerList()).thenReturn(serverIps);
+        hashRing = new HashRing(peerListProvider, PeerForwarderClientFactory.NUM_VIRTUAL_NODES, HashRingAlgorithm.FNV_1A);
+        final Md5HashRing md5HashRing = new Md5HashRing(serverIps, PeerForwarderClientFactory.NUM_VIRTUAL_NODES);
+
+        final Map<String, Integer> keyCounts = new HashMap<>();
+        final Map<String, Integer> md5KeyCounts = new HashMap<>();
+        for (int i = 0; i < DISTRIBUTION_KEY_COUNT; i++) {
+            final List<String> identificationKeyValues = List.of("trace-" + i, "service-" + (i % 7));
+            keyCounts.merge(hashRing.getServerIp(identificationKeyValues).get(), 1, Integer::sum);
+            md5KeyCounts.merge(md5HashRing.getServerIp(identificationKeyValues), 1, Integer::sum);
+        }
+
+        assertThat(keyCounts.keySet(), equalTo(md5KeyCounts.keySet()));
+        assertThat(maximumDeviationFromEvenShare(keyCounts, serverIps.size()),
+                lessThan(maximumDeviationFromEvenShare(md5KeyCounts, serverIps.size()) * 1.5));
+    }
+
+    @ParameterizedTest
+    @EnumSource(HashRingAlgorithm.class)
+    void getServerIp_only_moves_keys_to_an_added_server(final HashRingAlgorithm hashRingAlgorithm) {
+        final List<String> serverIps = new ArrayList<>(SERVER_IPS);
+        when(peerListProvider.getPeerList()).thenReturn(serverIps);
+        hashRing = new HashRing(peerListProvider, PeerForwarderClientFactory.NUM_VIRTUAL_NODES, hashRingAlgorithm);
+        final List<String> serverIpsBefore = IntStream.range(0, DISTRIBUTION_KEY_COUNT)
+                .mapToObj(i -> hashRing.getServerIp(List.of("key-" + i)).get())
+                .collect(Collectors.toList());
+
+        serverIps.add("10.10.0.4");
+        hashRing.accept(Collections.emptyList());
+
+        int movedKeys = 0;
+        for (int i = 0; i < DISTRIBUTION_KEY_COUNT; i++) {
+            final String serverIp = hashRing.getServerIp(List.of("key-" + i)).get();
+            if (!serverIp.equals(serverIpsBefore.get(i))) {
+                assertThat(serverIp, equalTo("10.10.0.4"));
+                movedKeys++;
+            }
+        }
+        assertThat(Math.abs(movedKeys - DISTRIBUTION_KEY_COUNT / 4), lessThan(DISTRIBUTION_KEY_COUNT / 20));
+    }
+
+    @ParameterizedTest
+    @EnumSource(HashRingAlgorithm.class)
+    void isLocalAddress_returns_whether_each_server_is_local(final HashRingAlgorithm hashRingAlgorithm) {
+        when(peerListProvider.getPeerList()).thenReturn(List.of("127.0.0.1", "203.0.113.1"));
+        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT, hashRingAlgorithm);
+
+        Assertions.assertTrue(hashRing.isLocalAddress("127.0.0.1"));
+        Assertions.assertFalse(hashRing.isLocalAddress("203.0.113.1"));
+        Assertions.assertTrue(hashRing.isLocalAddress("127.0.0.2"));
+        Assertions.assertFalse(hashRing.isLocalAddress("203.0.113.2"));
+    }
+
+    @Test
+    void isLocalAddress_checks_each_server_once_when_the_peer_list_changes() {
+        final Predicate<String> localAddressPredicate = mock(Predicate.class);
+        when(localAddressPredicate.test("10.10.0.1")).thenReturn(true);
+        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MD5, localAddressPredicate);
+
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertTrue(hashRing.isLocalAddress("10.10.0.1"));
+            Assertions.assertFalse(hashRing.isLocalAddress("10.10.0.2"));
+        }
+        verify(localAddressPredicate, times(SERVER_IPS.size())).test(anyString());
+
+        when(peerListProvider.getPeerList()).thenReturn(List.of("10.10.0.2"));
+        when(localAddressPredicate.test("10.10.0.2")).thenReturn(true);
+        hashRing.accept(Collections.emptyList());
+
+        Assertions.assertTrue(hashRing.isLocalAddress("10.10.0.2"));
+        verify(localAddressPredicate, times(2)).test("10.10.0.2");
+    }
+
+    private static double maximumDeviationFromEvenShare(final Map<String, Integer> keyCounts, final int serverCount) {
+        final double evenShare = (double) DISTRIBUTION_KEY_COUNT / serverCount;
+        return keyCounts.values().stream()
+                .mapToDouble(count -> Math.abs(count - evenShare) / evenShare)
+                .max()
+                .orElse(0);
+    }
+
+    /**
+     * The MD5 hash ring of earlier Data Prepper versions.
+     */
+    private static class Md5HashRing {
+        private final TreeMap<BigInteger, String> hashServerMap = new TreeMap<>();
+
+        private Md5HashRing(final List<String> serverIps, final int numVirtualNodes) {
+            for (final String serverIp : serverIps) {
+                final MessageDigest md = md5();
+                final ByteBuffer intBuffer = ByteBuffer.allocate(4);
+                for (int i = 0; i < numVirtualNodes; i++) {
+                    md.update(serverIp.getBytes(StandardCharsets.UTF_8));
+                    intBuffer.putInt(i);
+                    md.update(intBuffer.array());
+                    hashServerMap.putIfAbsent(new BigInteger(md.digest()), serverIp);
+                    md.reset();
+                    intBuffer.clear();
+                }
+            }
+        }
+
+        private String getServerIp(final List<String> identificationKeyValues) {
+            final MessageDigest md = md5();
+            md.update(String.join(",", identificationKeyValues).getBytes(StandardCharsets.UTF_8));
+            final Map.Entry<BigInteger, String> entry = hashServerMap.higherEntry(new BigInteger(md.digest()));
+            return entry != null ? entry.getValue() : hashServerMap.firstEntry().getValue();
+        }
+
+        private static MessageDigest md5() {
+            try {
+                return MessageDigest.getInstance("MD5");
+            } catch (final NoSuchAlgorithmException e) {
+                throw new AssertionError("unreachable", e);
+            }
+        }
+    }
+}
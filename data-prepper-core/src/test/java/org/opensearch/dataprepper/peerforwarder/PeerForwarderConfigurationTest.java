@@ -67,6 +67,9 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getForwardingBatchQueueDepth(), equalTo(1));
         assertThat(peerForwarderConfiguration.getForwardingBatchTimeout(), equalTo(DEFAULT_FORWARDING_BATCH_TIMEOUT));
         assertThat(peerForwarderConfiguration.getBinaryCodec(), equalTo(true));
+        assertThat(peerForwarderConfiguration.getCompactCodec(), equalTo(false));
+        assertThat(peerForwarderConfiguration.getMaxInFlightForwardingRequests(), equalTo(8));
+        assertThat(peerForwarderConfiguration.getHashRingAlgorithm(), equalTo(HashRingAlgorithm.MD5));
     }
 
     @Test
@@ -100,6 +103,9 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getForwardingBatchQueueDepth(), equalTo(3));
         assertThat(peerForwarderConfiguration.getForwardingBatchTimeout(), equalTo(Duration.of(5, ChronoUnit.SECONDS)));
         assertThat(peerForwarderConfiguration.getBinaryCodec(), equalTo(false));
+        assertThat(peerForwarderConfiguration.getCompactCodec(), equalTo(true));
+        assertThat(peerForwarderConfiguration.getMaxInFlightForwardingRequests(), equalTo(4));
+        assertThat(peerForwarderConfiguration.getHashRingAlgorithm(), equalTo(HashRingAlgorithm.FNV_1A));
     }
 
     @Test
@@ -186,6 +192,8 @@ class PeerForwarderConfigurationTest {
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_DNS_WITHOUT_DOMAIN_NAME_CONFIG_FILE,
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_NEGATIVE_DRAIN_TIMEOUT,
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_ZERO_LOCAL_WRITE_TIMEOUT,
+            TestDataProvider.INVALID_PEER_FORWARDER_WITH_ZERO_MAX_IN_FLIGHT_FORWARDING_REQUESTS,
+            TestDataProvider.INVALID_PEER_FORWARDER_WITH_HASH_RING_ALGORITHM_CONFIG_FILE,
             "src/test/resources/invalid_peer_forwarder_config_with_many_authentication.yml",
             "src/test/resources/invalid_peer_forwarder_config_with_mutual_tls_not_ssl.yml"
     })
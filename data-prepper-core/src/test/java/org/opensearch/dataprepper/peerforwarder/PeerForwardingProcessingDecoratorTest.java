@@ -14,6 +14,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.apache.commons.collections.CollectionUtils;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -32,6 +34,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -198,6 +201,17 @@ class PeerForwardingProcessingDecoratorTest {
             verify(processor).isReadyForShutdown();
         }
 
+        @ParameterizedTest
+        @CsvSource({"true, true, true", "true, false, false", "false, true, false"})
+        void PeerForwardingProcessingDecorator_isReadyForShutdown_waits_for_the_peer_forwarder(
+                final boolean processorReady, final boolean peerForwarderReady, final boolean expectedReady) {
+            when(processor.isReadyForShutdown()).thenReturn(processorReady);
+            lenient().when(peerForwarder.isReadyForShutdown()).thenReturn(peerForwarderReady);
+            final List<Processor> processors = createObjectUnderTesDecoratedProcessors(Collections.singletonList(processor));
+
+            assertThat(processors.get(0).isReadyForShutdown(), equalTo(expectedReady));
+        }
+
         @Test
         void PeerForwardingProcessingDecorator_shutdown_will_call_inner_processors_shutdown() {
             final List<Processor> processors = createObjectUnderTesDecoratedProcessors(Collections.singletonList(processor));
@@ -73,8 +73,10 @@ class RemotePeerForwarderTest {
     private static final int FORWARDING_BATCH_QUEUE_DEPTH = 1;
     private static final Duration FORWARDING_BATCH_TIMEOUT = Duration.of(800, ChronoUnit.MILLIS);
     private static final int PIPELINE_WORKER_THREADS = 3;
+    private static final int MAX_IN_FLIGHT_FORWARDING_REQUESTS = 8;
     private static final String PIPELINE_NAME = UUID.randomUUID().toString();
     private static final String PLUGIN_ID = UUID.randomUUID().toString();
+    private static final String LOCAL_IP = "127.0.0.1";
 
     @Mock
     private PeerForwarderClient peerForwarderClient;
@@ -129,6 +131,7 @@ class RemotePeerForwarderTest {
         when(pluginMetrics.counter(RECORDS_MISSING_IDENTIFICATION_KEYS)).thenReturn(recordsMissingIdentificationKeys);
         when(pluginMetrics.counter(REQUESTS_FAILED)).thenReturn(requestsFailedCounter);
         when(pluginMetrics.counter(REQUESTS_SUCCESSFUL)).thenReturn(requestsSuccessfulCounter);
+        lenient().when(hashRing.isLocalAddress(anyString())).thenAnswer(invocation -> LOCAL_IP.equals(invocation.getArgument(0)));
     }
 
     @AfterEach
@@ -145,8 +148,13 @@ class RemotePeerForwarderTest {
     }
 
     private RemotePeerForwarder createObjectUnderTest() {
+        return createObjectUnderTest(MAX_IN_FLIGHT_FORWARDING_REQUESTS);
+    }
+
+    private RemotePeerForwarder createObjectUnderTest(final int maxInFlightForwardingRequests) {
         return new RemotePeerForwarder(peerForwarderClient, hashRing, peerForwarderReceiveBuffer, pipelineName, pluginId, identificationKeys, pluginMetrics,
-                TEST_BATCH_DELAY, TEST_LOCAL_WRITE_TIMEOUT, FORWARDING_BATCH_SIZE, FORWARDING_BATCH_QUEUE_DEPTH, FORWARDING_BATCH_TIMEOUT, PIPELINE_WORKER_THREADS);
+                TEST_BATCH_DELAY, TEST_LOCAL_WRITE_TIMEOUT, FORWARDING_BATCH_SIZE, FORWARDING_BATCH_QUEUE_DEPTH, FORWARDING_BATCH_TIMEOUT, PIPELINE_WORKER_THREADS,
+                maxInFlightForwardingRequests);
     }
 
     @Test
@@ -250,11 +258,13 @@ class RemotePeerForwarderTest {
         verify(recordsToBeForwardedCounter).increment(recordsSetsToGenerate);
         verifyNoInteractions(requestsSuccessfulCounter);
         verifyNoInteractions(recordsSuccessfullyForwardedCounter);
+        assertThat(peerForwarder.isReadyForShutdown(), equalTo(false));
 
         // Wait longer than the batch timeout then send second forwarding request with no new records
         Thread.sleep(FORWARDING_BATCH_TIMEOUT.toMillis() + 1000);
         final Collection<Record<Event>> secondRoundRecords = peerForwarder.forwardRecords(Collections.emptyList());
         verify(peerForwarderClient, times(1)).serializeRecordsAndSendHttpRequest(anyList(), anyString(), anyString(), anyString());
+        assertThat(peerForwarder.isReadyForShutdown(), equalTo(true));
 
         assertThat(secondRoundRecords, notNullValue());
         assertThat(secondRoundRecords.size(), equalTo(0));
@@ -385,6 +395,124 @@ class RemotePeerForwarderTest {
         verify(recordsSuccessfullyForwardedCounter).increment(FORWARDING_BATCH_SIZE);
     }
 
+    @Test
+    void forwardRecords_should_return_without_waiting_for_the_forwarding_response() {
+        final CompletableFuture<AggregatedHttpResponse> responseFuture = new CompletableFuture<>();
+        when(peerForwarderClient.serializeRecordsAndSendHttpRequest(anyCollection(), anyString(), anyString(), anyString()))
+                .thenReturn(responseFuture);
+
+        final List<String> testIps = List.of("8.8.8.8", "127.0.0.1");
+        lenient().when(hashRing.getServerIp(List.of("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
+        lenient().when(hashRing.getServerIp(List.of("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
+
+        final RemotePeerForwarder peerForwarder = createObjectUnderTest();
+
+        final int recordsSetsToGenerate = FORWARDING_BATCH_SIZE;
+        final Collection<Record<Event>> inputRecords = generateSetsofBatchRecords(recordsSetsToGenerate, 2);
+
+        final Collection<Record<Event>> records = peerForwarder.forwardRecords(inputRecords);
+        verify(peerForwarderClient, times(1)).serializeRecordsAndSendHttpRequest(anyList(), anyString(), anyString(), anyString());
+        assertThat(records.size(), equalTo(recordsSetsToGenerate));
+        assertThat(peerForwarder.isReadyForShutdown(), equalTo(false));
+
+        verify(recordsToBeProcessedLocallyCounter).increment(recordsSetsToGenerate);
+        verify(recordsActuallyProcessedLocallyCounter).increment(recordsSetsToGenerate);
+        verify(recordsToBeForwardedCounter).increment(recordsSetsToGenerate);
+        verifyNoInteractions(requestsSuccessfulCounter);
+        verifyNoInteractions(recordsSuccessfullyForwardedCounter);
+
+        responseFuture.complete(AggregatedHttpResponse.of(HttpStatus.OK));
+
+        assertThat(peerForwarder.isReadyForShutdown(), equalTo(true));
+        verify(requestsSuccessfulCounter).increment();
+        verify(recordsSuccessfullyForwardedCounter).increment(recordsSetsToGenerate);
+    }
+
+    @Test
+    void forwardRecords_should_process_records_locally_when_pending_forwarding_request_fails() {
+        final CompletableFuture<AggregatedHttpResponse> responseFuture = new CompletableFuture<>();
+        when(peerForwarderClient.serializeRecordsAndSendHttpRequest(anyCollection(), anyString(), anyString(), anyString()))
+                .thenReturn(responseFuture);
+
+        final List<String> testIps = List.of("8.8.8.8", "127.0.0.1");
+        lenient().when(hashRing.getServerIp(List.of("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
+        lenient().when(hashRing.getServerIp(List.of("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
+
+        final RemotePeerForwarder peerForwarder = createObjectUnderTest();
+
+        final int recordsSetsToGenerate = FORWARDING_BATCH_SIZE;
+        final Collection<Record<Event>> inputRecords = generateSetsofBatchRecords(recordsSetsToGenerate, 2);
+
+        peerForwarder.forwardRecords(inputRecords);
+        assertThat(peerForwarder.receiveRecords().size(), equalTo(0));
+
+        responseFuture.completeExceptionally(new RuntimeException());
+
+        assertThat(peerForwarder.isReadyForShutdown(), equalTo(false));
+        assertThat(peerForwarder.receiveRecords().size(), equalTo(0));
+
+        peerForwarder.forwardRecords(Collections.emptyList());
+        final Collection<Record<Event>> receivedRecords = peerForwarder.receiveRecords();
+        assertThat(receivedRecords.size(), equalTo(recordsSetsToGenerate));
+        for (final Record<Event> receivedRecord : receivedRecords) {
+            assertThat(inputRecords, hasItem(receivedRecord));
+        }
+        assertThat(peerForwarder.isReadyForShutdown(), equalTo(true));
+
+        verify(recordsToBeProcessedLocallyCounter).increment(recordsSetsToGenerate);
+        verify(recordsActuallyProcessedLocallyCounter, times(2)).increment(recordsSetsToGenerate);
+        verify(recordsActuallyProcessedLocallyCounter).increment(0);
+        verify(recordsToBeForwardedCounter).increment(recordsSetsToGenerate);
+        verify(recordsFailedForwardingCounter).increment(recordsSetsToGenerate);
+        verify(requestsFailedCounter).increment();
+    }
+
+    @Test
+    void forwardRecords_should_keep_batches_queued_while_maximum_requests_are_in_flight() {
+        final CompletableFuture<AggregatedHttpResponse> responseFuture = new CompletableFuture<>();
+        when(peerForwarderClient.serializeRecordsAndSendHttpRequest(anyCollection(), anyString(), anyString(), anyString()))
+                .thenReturn(responseFuture)
+                .thenReturn(CompletableFuture.completedFuture(AggregatedHttpResponse.of(HttpStatus.OK)));
+
+        final List<String> testIps = List.of("8.8.8.8", "127.0.0.1");
+        lenient().when(hashRing.getServerIp(List.of("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
+        lenient().when(hashRing.getServerIp(List.of("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
+
+        final RemotePeerForwarder peerForwarder = createObjectUnderTest(1);
+
+        final int recordsSetsToGenerate = FORWARDING_BATCH_SIZE * 2;
+        final Collection<Record<Event>> inputRecords = generateSetsofBatchRecords(recordsSetsToGenerate, 2);
+
+        peerForwarder.forwardRecords(inputRecords);
+        verify(peerForwarderClient, times(1)).serializeRecordsAndSendHttpRequest(anyList(), anyString(), anyString(), anyString());
+        assertThat(peerForwarder.peerBatchingQueueMap.get(testIps.get(0)).size(), equalTo(FORWARDING_BATCH_SIZE));
+
+        responseFuture.complete(AggregatedHttpResponse.of(HttpStatus.OK));
+        peerForwarder.forwardRecords(Collections.emptyList());
+
+        verify(peerForwarderClient, times(2)).serializeRecordsAndSendHttpRequest(anyList(), anyString(), anyString(), anyString());
+        assertThat(peerForwarder.peerBatchingQueueMap.get(testIps.get(0)).size(), equalTo(0));
+        assertThat(peerForwarder.isReadyForShutdown(), equalTo(true));
+
+        verify(recordsToBeProcessedLocallyCounter).increment(recordsSetsToGenerate);
+        verify(recordsActuallyProcessedLocallyCounter).increment(recordsSetsToGenerate);
+        verify(recordsActuallyProcessedLocallyCounter).increment(0);
+        verify(recordsToBeForwardedCounter).increment(recordsSetsToGenerate);
+        verify(requestsSuccessfulCounter, times(2)).increment();
+        verify(recordsSuccessfullyForwardedCounter, times(2)).increment(FORWARDING_BATCH_SIZE);
+    }
+
+    @Test
+    void isReadyForShutdown_should_return_false_when_receive_buffer_is_not_empty() throws Exception {
+        peerForwarderReceiveBuffer.writeAll(generateBatchRecords(3), TEST_TIMEOUT_IN_MILLIS);
+
+        final RemotePeerForwarder objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.isReadyForShutdown(), equalTo(false));
+        objectUnderTest.receiveRecords();
+        assertThat(objectUnderTest.isReadyForShutdown(), equalTo(true));
+    }
+
     @Test
     void test_receiveRecords_should_return_record_from_buffer() throws Exception {
         final Collection<Record<Event>> testRecords = generateBatchRecords(3);
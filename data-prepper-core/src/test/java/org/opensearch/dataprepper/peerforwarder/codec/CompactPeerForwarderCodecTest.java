@@ -0,0 +1,294 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.log.JacksonLog;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.model.trace.Span;
+import org.opensearch.dataprepper.peerforwarder.model.PeerForwardingEvents;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CompactPeerForwarderCodecTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+    private static final String PLUGIN_ID = "plugin_id";
+    private static final String PIPELINE_NAME = "pipeline_name";
+    private final CompactPeerForwarderCodec objectUnderTest = new CompactPeerForwarderCodec(OBJECT_MAPPER);
+
+    @Test
+    void testCodec() throws IOException {
+        final PeerForwardingEvents inputEvents = generatePeerForwardingEvents(2);
+        final byte[] bytes = objectUnderTest.serialize(inputEvents);
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(bytes);
+        assertThat(outputEvents.getDestinationPipelineName(), equalTo(inputEvents.getDestinationPipelineName()));
+        assertThat(outputEvents.getDestinationPluginId(), equalTo(inputEvents.getDestinationPluginId()));
+        assertThat(outputEvents.getEvents().size(), equalTo(inputEvents.getEvents().size()));
+        for (int i = 0; i < inputEvents.getEvents().size(); i++) {
+            final Event inputEvent = inputEvents.getEvents().get(i);
+            final Event outputEvent = outputEvents.getEvents().get(i);
+            assertThat(outputEvent, instanceOf(JacksonEvent.class));
+            assertThat(outputEvent.toMap(), equalTo(inputEvent.toMap()));
+            assertThat(outputEvent.getMetadata(), equalTo(inputEvent.getMetadata()));
+        }
+    }
+
+    @Test
+    void testCodecPreservesEventMetadata() throws IOException {
+        final Instant timeReceived = Instant.ofEpochSecond(-1, 123_456_789);
+        final Event inputEvent = JacksonEvent.builder()
+                .withData(Map.of("message", "value"))
+                .withEventMetadata(DefaultEventMetadata.builder()
+                        .withEventType("event")
+                        .withTimeReceived(timeReceived)
+                        .withAttributes(Map.of("index", "logs", "count", 3, "nested", Map.of("key", "value")))
+                        .withTags(Set.of("tag1", "tag2"))
+                        .build())
+                .build();
+
+        final PeerForwardingEvents outputEvents = roundTrip(List.of(inputEvent, inputEvent));
+
+        for (final Event outputEvent : outputEvents.getEvents()) {
+            assertThat(outputEvent.getMetadata().getEventType(), equalTo("event"));
+            assertThat(outputEvent.getMetadata().getTimeReceived(), equalTo(timeReceived));
+            assertThat(outputEvent.getMetadata().getAttributes(), equalTo(inputEvent.getMetadata().getAttributes()));
+            assertThat(outputEvent.getMetadata().getTags(), equalTo(Set.of("tag1", "tag2")));
+        }
+    }
+
+    @Test
+    void testCodecPreservesTheTypesOfEventMetadataAttributes() throws IOException {
+        final Map<String, Object> attributes = new HashMap<>();
+        attributes.put("int", 3);
+        attributes.put("long", 3L);
+        attributes.put("float", 1.5f);
+        attributes.put("double", 1.5d);
+        attributes.put("decimal", new BigDecimal("1.50"));
+        attributes.put("instant", Instant.ofEpochSecond(1_700_000_000L, 5));
+        attributes.put("null", null);
+        attributes.put("list", List.of(1L, "two", false));
+        attributes.put("nested", Map.of("long", Long.MAX_VALUE, "string", "value"));
+        attributes.put("date", new Date(1_000L));
+        final Event inputEvent = JacksonEvent.builder()
+                .withData(Map.of("message", "value"))
+                .withEventMetadata(DefaultEventMetadata.builder()
+                        .withEventType("event")
+                        .withAttributes(attributes)
+                        .build())
+                .build();
+
+        final Map<String, Object> outputAttributes = roundTrip(List.of(inputEvent)).getEvents().get(0).getMetadata().getAttributes();
+
+        final Map<String, Object> expectedAttributes = new HashMap<>(attributes);
+        expectedAttributes.put("date", 1_000L);
+        assertThat(outputAttributes, equalTo(expectedAttributes));
+    }
+
+    @Test
+    void testCodecWithoutTimeReceivedOrAttributes() throws IOException {
+        final Event inputEvent = JacksonEvent.builder()
+                .withData(Map.of("message", "value"))
+                .withEventMetadata(DefaultEventMetadata.builder()
+                        .withEventType("event")
+                        .withAttributes(Collections.emptyMap())
+                        .build())
+                .build();
+
+        final Event outputEvent = roundTrip(List.of(inputEvent)).getEvents().get(0);
+
+        assertThat(outputEvent.getMetadata().getAttributes(), equalTo(Collections.emptyMap()));
+        assertThat(outputEvent.getMetadata().getTags(), equalTo(Collections.emptySet()));
+        assertThat(outputEvent.toMap(), equalTo(Map.of("message", "value")));
+    }
+
+    @Test
+    void testCodecWithSpans() throws IOException {
+        final Map<String, Object> spanAttributes = Map.of("http.method", "GET", "http.status_code", 200);
+        final JacksonSpan inputSpan = JacksonSpan.builder()
+                .withTraceId(UUID.randomUUID().toString())
+                .withTraceGroup(UUID.randomUUID().toString())
+                .withSpanId(UUID.randomUUID().toString())
+                .withName(UUID.randomUUID().toString())
+                .withKind(UUID.randomUUID().toString())
+                .withStartTime(Instant.now().toString())
+                .withEndTime(Instant.now().toString())
+                .withDurationInNanos(100L)
+                .withAttributes(spanAttributes)
+                .withTraceGroupFields(DefaultTraceGroupFields.builder()
+                        .withEndTime(Instant.now().toString())
+                        .withDurationInNanos(100L)
+                        .withStatusCode(1)
+                        .build())
+                .build();
+
+        final Event outputEvent = roundTrip(List.of(inputSpan)).getEvents().get(0);
+
+        assertThat(outputEvent, instanceOf(JacksonSpan.class));
+        final Span outputSpan = (Span) outputEvent;
+        assertThat(outputSpan.getTraceId(), equalTo(inputSpan.getTraceId()));
+        assertThat(outputSpan.getSpanId(), equalTo(inputSpan.getSpanId()));
+        assertThat(outputSpan.getAttributes(), equalTo(spanAttributes));
+        assertThat(outputSpan.getTraceGroupFields(), equalTo(inputSpan.getTraceGroupFields()));
+        assertThat(outputSpan.getMetadata(), equalTo(inputSpan.getMetadata()));
+        assertThat(outputSpan.toMap(), equalTo(inputSpan.toMap()));
+    }
+
+    @Test
+    void testCodecWithAllValueTypes() throws IOException {
+        final ObjectNode data = new ObjectNode(JsonNodeFactory.instance);
+        data.putNull("null");
+        data.put("true", true);
+        data.put("false", false);
+        data.put("short", (short) -7);
+        data.put("int", Integer.MIN_VALUE);
+        data.put("long", Long.MAX_VALUE);
+        data.put("double", -1.5d);
+        data.put("float", 2.25f);
+        data.put("string", "value");
+        data.put("unicode", "välué 😀");
+        data.put("empty", "");
+        data.put("bigInteger", new BigInteger("123456789012345678901234567890"));
+        data.put("decimal", new BigDecimal("-12345678901234567890.0123456789"));
+        data.put("binary", new byte[] {0, 1, 2, (byte) 255});
+        data.putArray("array").add(1).add("two").addObject().put("three", 3);
+        data.putObject("object").putObject("nested").put("string", "value");
+        final Event inputEvent = JacksonEvent.builder()
+                .withData(data)
+                .withEventType("event")
+                .build();
+
+        final Event outputEvent = roundTrip(List.of(inputEvent)).getEvents().get(0);
+
+        final JsonNode expected = data.deepCopy();
+        ((ObjectNode) expected).put("short", -7);
+        assertThat(OBJECT_MAPPER.readTree(((JacksonEvent) outputEvent).createDataParser()), equalTo(expected));
+    }
+
+    @Test
+    void testCodecWithEventsWhichAreNotJacksonEvents() throws IOException {
+        final Event inputEvent = mock(Event.class);
+        when(inputEvent.getMetadata()).thenReturn(DefaultEventMetadata.builder().withEventType("event").build());
+        when(inputEvent.toMap()).thenReturn(Map.of("key", "value"));
+
+        final Event outputEvent = roundTrip(List.of(inputEvent)).getEvents().get(0);
+
+        assertThat(outputEvent.toMap(), equalTo(Map.of("key", "value")));
+    }
+
+    @Test
+    void testCodecWithNullEventsAndDestination() throws IOException {
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(
+                objectUnderTest.serialize(new PeerForwardingEvents(null, null, null)));
+
+        assertThat(outputEvents.getEvents(), nullValue());
+        assertThat(outputEvents.getDestinationPluginId(), nullValue());
+        assertThat(outputEvents.getDestinationPipelineName(), nullValue());
+    }
+
+    @Test
+    void testSerializedBytesAreSmallerThanJson() throws Exception {
+        final PeerForwardingEvents inputEvents = generatePeerForwardingEvents(100);
+
+        final byte[] compactBytes = objectUnderTest.serialize(inputEvents);
+        final byte[] jsonBytes = new JacksonPeerForwarderCodec(OBJECT_MAPPER).serialize(inputEvents);
+
+        assertThat(compactBytes.length, lessThan(jsonBytes.length));
+    }
+
+    @Test
+    void testDeserializeException() {
+        final byte[] bytes = new byte[0];
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(bytes));
+    }
+
+    @Test
+    void testDeserializeTruncatedBytesThrowsException() throws IOException {
+        final ObjectNode data = new ObjectNode(JsonNodeFactory.instance);
+        data.put("double", 1.5d).put("float", 1.5f).put("string", "value").put("binary", new byte[] {1, 2});
+        final byte[] bytes = objectUnderTest.serialize(new PeerForwardingEvents(
+                List.of(JacksonEvent.builder().withData(data).withEventType("event").build()), PLUGIN_ID, PIPELINE_NAME));
+
+        for (int length = 0; length < bytes.length; length++) {
+            final byte[] truncatedBytes = Arrays.copyOf(bytes, length);
+            assertThrows(IOException.class, () -> objectUnderTest.deserialize(truncatedBytes));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"01", "0200000100", "02010561", "0201FFFFFFFF0F", "020000FFFFFFFFFFFF", "0200000205",
+            "02000002010161000F", "0200000201016101FFFFFFFFFFFFFFFFFFFF01", "0200000201016100010001",
+            "0200000201016100010000", "020000020101610001000D05"})
+    void testDeserializeInvalidBytesThrowsException(final String hexBytes) {
+        final byte[] bytes = new byte[hexBytes.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(hexBytes.substring(i * 2, i * 2 + 2), 16);
+        }
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(bytes));
+    }
+
+    @Test
+    void testDeserializeDeeplyNestedDataThrowsException() throws IOException {
+        ObjectNode data = new ObjectNode(JsonNodeFactory.instance);
+        final ObjectNode root = data;
+        for (int i = 0; i <= CompactPeerForwarderCodec.MAX_DEPTH; i++) {
+            data = data.putObject("a");
+        }
+        final byte[] bytes = objectUnderTest.serialize(new PeerForwardingEvents(
+                List.of(JacksonEvent.builder().withData(root).withEventType("event").build()), PLUGIN_ID, PIPELINE_NAME));
+
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(bytes));
+    }
+
+    private PeerForwardingEvents roundTrip(final List<Event> events) throws IOException {
+        return objectUnderTest.deserialize(objectUnderTest.serialize(new PeerForwardingEvents(events, PLUGIN_ID, PIPELINE_NAME)));
+    }
+
+    private PeerForwardingEvents generatePeerForwardingEvents(final int numEvents) {
+        final List<Event> events = new ArrayList<>();
+        for (int i = 0; i < numEvents; i++) {
+            final Map<String, Object> eventData = Map.of(
+                    "key1", "value",
+                    "key2", i,
+                    "key3", List.of(true, 1.5d),
+                    "key4", Map.of("nested", "value"));
+            final JacksonEvent event = JacksonLog.builder().withData(eventData).withEventType("LOG").build();
+            events.add(event);
+        }
+        return new PeerForwardingEvents(events, PLUGIN_ID, PIPELINE_NAME);
+    }
+}
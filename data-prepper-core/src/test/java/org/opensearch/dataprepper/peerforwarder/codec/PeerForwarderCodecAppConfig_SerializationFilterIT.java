@@ -93,6 +93,8 @@ import static org.mockito.Mockito.when;
  */
 @ExtendWith(MockitoExtension.class)
 class PeerForwarderCodecAppConfig_SerializationFilterIT {
+    private static final String ROUTER_EVENT_VIEW_CLASS_NAME = "org.opensearch.dataprepper.pipeline.router.ReadOnceEvent";
+
     @Mock(lenient = true)
     private PeerForwarderConfiguration peerForwarderConfiguration;
 
@@ -256,6 +258,8 @@ class PeerForwarderCodecAppConfig_SerializationFilterIT {
         final Set<Class<? extends Event>> allConcreteSubTypes = allSubTypes.stream()
                 .filter(clazz -> !Modifier.isAbstract(clazz.getModifiers()))
                 .filter(clazz -> !Modifier.isInterface(clazz.getModifiers()))
+                // The router's view of an event while evaluating routes, which never reaches the peer-forwarder.
+                .filter(clazz -> !clazz.getName().equals(ROUTER_EVENT_VIEW_CLASS_NAME))
                 .collect(Collectors.toSet());
 
         assertThat(allConcreteSubTypes.size(), greaterThanOrEqualTo(1));
@@ -0,0 +1,150 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventDropTrackerTest {
+    private List<Record<Event>> inputRecords;
+
+    @BeforeEach
+    void setUp() {
+        inputRecords = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            inputRecords.add(createRecord(mock(EventHandle.class)));
+        }
+    }
+
+    private EventDropTracker createObjectUnderTest() {
+        return new EventDropTracker();
+    }
+
+    private static Record<Event> createRecord(final EventHandle eventHandle) {
+        final Event event = mock(Event.class);
+        when(event.getEventHandle()).thenReturn(eventHandle);
+        return new Record<>(event);
+    }
+
+    @Test
+    void recordInput_returns_the_number_of_events_without_an_event_handle() {
+        inputRecords.add(createRecord(null));
+        inputRecords.add(createRecord(null));
+
+        assertThat(createObjectUnderTest().recordInput(inputRecords), equalTo(2));
+    }
+
+    @Test
+    void releaseDroppedEvents_does_not_release_when_the_same_records_are_returned() {
+        final EventDropTracker objectUnderTest = createObjectUnderTest();
+        objectUnderTest.recordInput(inputRecords);
+
+        assertThat(objectUnderTest.releaseDroppedEvents(inputRecords), equalTo(0));
+
+        for (final Record<Event> record : inputRecords) {
+            verify(record.getData().getEventHandle(), never()).release(true);
+        }
+    }
+
+    @Test
+    void releaseDroppedEvents_does_not_release_when_the_events_are_returned_in_new_records_and_order() {
+        final EventDropTracker objectUnderTest = createObjectUnderTest();
+        objectUnderTest.recordInput(inputRecords);
+
+        final List<Record<Event>> outputRecords = inputRecords.stream()
+                .map(record -> new Record<>(record.getData()))
+                .collect(Collectors.toList());
+        Collections.reverse(outputRecords);
+
+        assertThat(objectUnderTest.releaseDroppedEvents(outputRecords), equalTo(0));
+
+        for (final Record<Event> record : inputRecords) {
+            verify(record.getData().getEventHandle(), never()).release(true);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 7})
+    void releaseDroppedEvents_releases_only_the_events_which_are_not_returned(final int dropEvery) {
+        final EventDropTracker objectUnderTest = createObjectUnderTest();
+        objectUnderTest.recordInput(inputRecords);
+
+        final List<Record<Event>> outputRecords = new ArrayList<>();
+        final List<Record<Event>> droppedRecords = new ArrayList<>();
+        for (int i = 0; i < inputRecords.size(); i++) {
+            if (i % dropEvery == 0) {
+                droppedRecords.add(inputRecords.get(i));
+            } else {
+                outputRecords.add(inputRecords.get(i));
+            }
+        }
+        outputRecords.add(createRecord(mock(EventHandle.class)));
+
+        assertThat(objectUnderTest.releaseDroppedEvents(outputRecords), equalTo(droppedRecords.size()));
+
+        for (final Record<Event> record : droppedRecords) {
+            verify(record.getData().getEventHandle()).release(true);
+        }
+        for (final Record<Event> record : outputRecords) {
+            verify(record.getData().getEventHandle(), never()).release(true);
+        }
+    }
+
+    @Test
+    void releaseDroppedEvents_skips_dropped_events_without_an_event_handle() {
+        final Record<Event> recordWithoutHandle = createRecord(null);
+        inputRecords.add(recordWithoutHandle);
+        final EventDropTracker objectUnderTest = createObjectUnderTest();
+        objectUnderTest.recordInput(inputRecords);
+
+        assertThat(objectUnderTest.releaseDroppedEvents(inputRecords.subList(0, inputRecords.size() - 1)), equalTo(0));
+    }
+
+    @Test
+    void releaseDroppedEvents_releases_all_events_when_nothing_is_returned() {
+        final EventDropTracker objectUnderTest = createObjectUnderTest();
+        objectUnderTest.recordInput(inputRecords);
+
+        assertThat(objectUnderTest.releaseDroppedEvents(Collections.emptyList()), equalTo(inputRecords.size()));
+    }
+
+    @Test
+    void tracker_can_be_reused_for_batches_of_different_sizes() {
+        final EventDropTracker objectUnderTest = createObjectUnderTest();
+        objectUnderTest.recordInput(inputRecords);
+        objectUnderTest.releaseDroppedEvents(inputRecords.subList(0, 10));
+
+        final List<Record<Event>> smallerBatch = inputRecords.subList(0, 5);
+        objectUnderTest.recordInput(smallerBatch);
+        assertThat(objectUnderTest.releaseDroppedEvents(smallerBatch.subList(0, 4)), equalTo(1));
+        verify(smallerBatch.get(4).getData().getEventHandle()).release(true);
+
+        final List<Record<Event>> largerBatch = new ArrayList<>(inputRecords);
+        for (int i = 0; i < 100; i++) {
+            largerBatch.add(createRecord(mock(EventHandle.class)));
+        }
+        objectUnderTest.recordInput(largerBatch);
+        assertThat(objectUnderTest.releaseDroppedEvents(largerBatch.subList(0, 119)), equalTo(1));
+        verify(largerBatch.get(119).getData().getEventHandle()).release(true);
+    }
+}
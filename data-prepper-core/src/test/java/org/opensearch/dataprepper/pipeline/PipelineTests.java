@@ -69,6 +69,7 @@ import static org.mockito.Mockito.when;
 
 class PipelineTests {
     private static final int TEST_READ_BATCH_TIMEOUT = 500;
+    private static final int TEST_SINK_IN_FLIGHT_BATCHES = 0;
     private static final int TEST_PROCESSOR_THREADS = 1;
     private static final String TEST_PIPELINE_NAME = "test-pipeline";
 
@@ -109,7 +110,7 @@ class PipelineTests {
         when(sinkDataFlowComponent.getComponent()).thenReturn(testSink);
         final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                 Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router, eventFactory, 
-                acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
+                acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT, TEST_SINK_IN_FLIGHT_BATCHES,
                 processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
         assertThat("Pipeline isStopRequested is expected to be false", testPipeline.isStopRequested(), is(false));
         assertThat("Pipeline is expected to have a default buffer", testPipeline.getBuffer(), notNullValue());
@@ -132,7 +133,7 @@ class PipelineTests {
                 Collections.singletonList(Collections.singletonList(testProcessor)),
                 Collections.singletonList(sinkDataFlowComponent),
                 router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                TEST_READ_BATCH_TIMEOUT, TEST_SINK_IN_FLIGHT_BATCHES, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
         assertThat("Pipeline isStopRequested is expected to be false", testPipeline.isStopRequested(), is(false));
         assertThat("Pipeline is expected to have a default buffer", testPipeline.getBuffer(), notNullValue());
         assertEquals("Pipeline processorSets size should be 1", 1, testPipeline.getProcessorSets().size());
@@ -155,7 +156,7 @@ class PipelineTests {
                 Collections.singletonList(Collections.singletonList(testProcessor)),
                 Collections.singletonList(sinkDataFlowComponent),
                 router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                TEST_READ_BATCH_TIMEOUT, TEST_SINK_IN_FLIGHT_BATCHES, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
         assertThat("Pipeline isStopRequested is expected to be false", testPipeline.isStopRequested(), is(false));
         assertThat("Pipeline is expected to have a default buffer", testPipeline.getBuffer(), notNullValue());
         assertEquals("Pipeline processorSets size should be 1", 1, testPipeline.getProcessorSets().size());
@@ -179,7 +180,7 @@ class PipelineTests {
                 Collections.singletonList(Collections.singletonList(testProcessor)),
                 Collections.singletonList(sinkDataFlowComponent),
                 router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                TEST_READ_BATCH_TIMEOUT, TEST_SINK_IN_FLIGHT_BATCHES, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
         Instant startTime = Instant.now();
         testPipeline.execute();
         assertFalse(testPipeline.isReady());
@@ -207,7 +208,7 @@ class PipelineTests {
                 Collections.singletonList(Collections.singletonList(testProcessor)),
                 Collections.singletonList(sinkDataFlowComponent),
                 router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                TEST_READ_BATCH_TIMEOUT, TEST_SINK_IN_FLIGHT_BATCHES, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
         Instant startTime = Instant.now();
         testPipeline.execute();
         assertFalse(testPipeline.isReady());
@@ -231,7 +232,7 @@ class PipelineTests {
         try {
             final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                     Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router,
-                    eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
+                    eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT, TEST_SINK_IN_FLIGHT_BATCHES,
                     processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
             testPipeline.execute();
         } catch (Exception ex) {
@@ -250,7 +251,7 @@ class PipelineTests {
         try {
             testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                     Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router,
-                    eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
+                    eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT, TEST_SINK_IN_FLIGHT_BATCHES,
                     processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
             testPipeline.execute();
             Thread.sleep(TEST_READ_BATCH_TIMEOUT);
@@ -293,7 +294,7 @@ class PipelineTests {
             testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                     Collections.singletonList(Collections.singletonList(testProcessor)), Collections.singletonList(sinkDataFlowComponent),
                     router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                    TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                    TEST_READ_BATCH_TIMEOUT, TEST_SINK_IN_FLIGHT_BATCHES, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
             testPipeline.execute();
             Thread.sleep(TEST_READ_BATCH_TIMEOUT);
         } catch (Exception ex) {
@@ -316,7 +317,7 @@ class PipelineTests {
         try {
             testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                     Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router, eventFactory,
-                    acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
+                    acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT, TEST_SINK_IN_FLIGHT_BATCHES,
                     processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
             testPipeline.execute();
             Thread.sleep(TEST_READ_BATCH_TIMEOUT);
@@ -334,7 +335,7 @@ class PipelineTests {
         when(sinkDataFlowComponent.getComponent()).thenReturn(testSink);
         final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                 Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router,
-                eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
+                eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT, TEST_SINK_IN_FLIGHT_BATCHES,
                 processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
 
         assertEquals(testSource, testPipeline.getSource());
@@ -349,7 +350,7 @@ class PipelineTests {
         final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                 Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent),
                 router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                TEST_READ_BATCH_TIMEOUT, TEST_SINK_IN_FLIGHT_BATCHES, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
 
         assertEquals(1, testPipeline.getSinks().size());
         assertEquals(testSink, testPipeline.getSinks().iterator().next());
@@ -387,7 +388,7 @@ class PipelineTests {
         private Pipeline createObjectUnderTest() {
             return new Pipeline(TEST_PIPELINE_NAME, mockSource, mock(Buffer.class), Collections.emptyList(),
                     dataFlowComponents, router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                    TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                    TEST_READ_BATCH_TIMEOUT, TEST_SINK_IN_FLIGHT_BATCHES, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
         }
 
         @Test
@@ -551,7 +552,7 @@ class PipelineTests {
         when(sinkDataFlowComponent.getComponent()).thenReturn(testSink);
         testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                 Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router,
-                eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
+                eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT, TEST_SINK_IN_FLIGHT_BATCHES,
                 processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
 
         PipelineObserver pipelineObserver = mock(PipelineObserver.class);
@@ -574,7 +575,7 @@ class PipelineTests {
         when(sinkDataFlowComponent.getComponent()).thenReturn(testSink);
         testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                 Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router,
-                eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
+                eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT, TEST_SINK_IN_FLIGHT_BATCHES,
                 processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
 
         PipelineObserver pipelineObserver = mock(PipelineObserver.class);
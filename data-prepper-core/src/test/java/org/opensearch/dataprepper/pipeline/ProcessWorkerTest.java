@@ -0,0 +1,164 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.processor.Processor;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.source.Source;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Future;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({"rawtypes", "unchecked"})
+class ProcessWorkerTest {
+    @Mock
+    private Buffer buffer;
+
+    @Mock
+    private Pipeline pipeline;
+
+    @Mock
+    private Source source;
+
+    private List<CheckpointState> checkpointStates;
+    private List<Future<Void>> sinkFutures;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(pipeline.getName()).thenReturn(UUID.randomUUID().toString());
+        when(pipeline.getSource()).thenReturn(source);
+        when(pipeline.getPeerForwarderDrainTimeout()).thenReturn(Duration.ZERO);
+        when(pipeline.isStopRequested()).thenReturn(false, false, false, true);
+        when(buffer.isEmpty()).thenReturn(true);
+
+        checkpointStates = new ArrayList<>();
+        sinkFutures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            checkpointStates.add(new CheckpointState(i + 1));
+            final Future<Void> sinkFuture = mock(Future.class);
+            when(sinkFuture.get()).thenReturn(null);
+            sinkFutures.add(sinkFuture);
+        }
+
+        when(buffer.read(anyInt())).thenReturn(
+                new AbstractMap.SimpleEntry<>(Collections.singletonList(new Record<>("a")), checkpointStates.get(0)),
+                new AbstractMap.SimpleEntry<>(Collections.singletonList(new Record<>("b")), checkpointStates.get(1)),
+                new AbstractMap.SimpleEntry<>(Collections.singletonList(new Record<>("c")), checkpointStates.get(2)));
+        when(pipeline.publishToSinks(anyCollection())).thenReturn(
+                Collections.singletonList(sinkFutures.get(0)),
+                Collections.singletonList(sinkFutures.get(1)),
+                Collections.singletonList(sinkFutures.get(2)));
+    }
+
+    private ProcessWorker createObjectUnderTest() {
+        return new ProcessWorker(buffer, Collections.<Processor>emptyList(), pipeline);
+    }
+
+    @Test
+    void run_without_in_flight_batches_checkpoints_each_batch_before_reading_the_next() throws Exception {
+        when(pipeline.getSinkInFlightBatches()).thenReturn(0);
+
+        createObjectUnderTest().run();
+
+        final InOrder inOrder = inOrder(buffer, pipeline, sinkFutures.get(0), sinkFutures.get(1), sinkFutures.get(2));
+        for (int i = 0; i < 3; i++) {
+            inOrder.verify(pipeline).publishToSinks(anyCollection());
+            inOrder.verify(sinkFutures.get(i)).get();
+            inOrder.verify(buffer).checkpoint(checkpointStates.get(i));
+        }
+    }
+
+    @Test
+    void run_with_in_flight_batches_publishes_the_next_batch_before_waiting_on_the_sinks() throws Exception {
+        when(pipeline.getSinkInFlightBatches()).thenReturn(2);
+
+        createObjectUnderTest().run();
+
+        final InOrder inOrder = inOrder(buffer, pipeline, sinkFutures.get(0), sinkFutures.get(1), sinkFutures.get(2));
+        inOrder.verify(pipeline, times(3)).publishToSinks(anyCollection());
+        for (int i = 0; i < 3; i++) {
+            inOrder.verify(sinkFutures.get(i)).get();
+            inOrder.verify(buffer).checkpoint(checkpointStates.get(i));
+        }
+    }
+
+    @Test
+    void run_with_in_flight_batches_checkpoints_completed_batches_without_waiting_for_the_limit() throws Exception {
+        when(pipeline.getSinkInFlightBatches()).thenReturn(2);
+        when(sinkFutures.get(0).isDone()).thenReturn(true);
+
+        createObjectUnderTest().run();
+
+        final InOrder inOrder = inOrder(buffer, pipeline);
+        inOrder.verify(pipeline).publishToSinks(anyCollection());
+        inOrder.verify(buffer).checkpoint(checkpointStates.get(0));
+        inOrder.verify(pipeline, times(2)).publishToSinks(anyCollection());
+        inOrder.verify(buffer).checkpoint(checkpointStates.get(1));
+        inOrder.verify(buffer).checkpoint(checkpointStates.get(2));
+        verify(sinkFutures.get(0)).get();
+    }
+
+    @Test
+    void run_with_acknowledgements_releases_the_events_dropped_by_processors() {
+        when(source.areAcknowledgementsEnabled()).thenReturn(true);
+        final EventHandle keptEventHandle = mock(EventHandle.class);
+        final EventHandle droppedEventHandle = mock(EventHandle.class);
+        final Record<Event> keptRecord = createRecord(keptEventHandle);
+        final Record<Event> droppedRecord = createRecord(droppedEventHandle);
+        when(buffer.read(anyInt())).thenReturn(
+                new AbstractMap.SimpleEntry<>(new ArrayList<>(List.of(keptRecord, droppedRecord)), checkpointStates.get(0)),
+                new AbstractMap.SimpleEntry<>(new ArrayList<>(), checkpointStates.get(1)),
+                new AbstractMap.SimpleEntry<>(new ArrayList<>(), checkpointStates.get(2)));
+        final Processor dropProcessor = mock(Processor.class);
+        when(dropProcessor.execute(anyCollection())).thenAnswer(invocation -> {
+            final Collection<Record<Event>> records = invocation.getArgument(0);
+            records.remove(droppedRecord);
+            return records;
+        });
+        final Processor passThroughProcessor = mock(Processor.class);
+        when(passThroughProcessor.execute(anyCollection())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(dropProcessor.isReadyForShutdown()).thenReturn(true);
+        when(passThroughProcessor.isReadyForShutdown()).thenReturn(true);
+
+        new ProcessWorker(buffer, List.of(passThroughProcessor, dropProcessor, passThroughProcessor), pipeline).run();
+
+        verify(droppedEventHandle).release(true);
+        verify(keptEventHandle, never()).release(anyBoolean());
+    }
+
+    private static Record<Event> createRecord(final EventHandle eventHandle) {
+        final Event event = mock(Event.class);
+        when(event.getEventHandle()).thenReturn(eventHandle);
+        return new Record<>(event);
+    }
+}
@@ -17,12 +17,10 @@ import org.opensearch.dataprepper.parser.DataFlowComponent;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiConsumer;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -47,6 +45,8 @@ class DataFlowComponentRouterTest {
     private RouterGetRecordStrategy getRecordStrategy;
 
     private Collection<Record> recordsIn;
+    private String knownRoute;
+    private String otherRoute;
 
     private static class TestComponent {
     }
@@ -54,6 +54,8 @@ class DataFlowComponentRouterTest {
     @BeforeEach
     void setUp() {
         recordsIn = Collections.emptyList();
+        knownRoute = UUID.randomUUID().toString();
+        otherRoute = UUID.randomUUID().toString();
         lenient().when(dataFlowComponent.getComponent()).thenReturn(testComponent);
         getRecordStrategy = mock(RouterGetRecordStrategy.class);
         lenient().when(getRecordStrategy.getRecord(any())).thenAnswer(a -> a.getArgument(0));
@@ -64,6 +66,18 @@ class DataFlowComponentRouterTest {
         return new DataFlowComponentRouter();
     }
 
+    private RouteMatches createRouteMatches() {
+        return new RouteMatches(Map.of(knownRoute, 0, otherRoute, 1), recordsIn.size());
+    }
+
+    private RouteMatches createRouteMatchesForAllRecords(final int routeIndex) {
+        final RouteMatches routeMatches = createRouteMatches();
+        for (int recordIndex = 0; recordIndex < recordsIn.size(); recordIndex++) {
+            routeMatches.addMatch(recordIndex, routeIndex);
+        }
+        return routeMatches;
+    }
+
     @Test
     void route_with_null_strategy_throws() {
         getRecordStrategy = null;
@@ -73,8 +87,7 @@ class DataFlowComponentRouterTest {
     @Test
     void route_with_null_strategy_throws_no_matching_routes() {
         getRecordStrategy = null;
-        final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
-                .collect(Collectors.toMap(Function.identity(), r -> Collections.emptySet()));
+        final RouteMatches noMatchingRoutes = createRouteMatches();
         assertThrows(NullPointerException.class, () -> createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer));
     }
 
@@ -92,8 +105,7 @@ class DataFlowComponentRouterTest {
 
         @Test
         void route_all_Events_when_none_have_routes() {
-            final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.emptySet()));
+            final RouteMatches noMatchingRoutes = createRouteMatches();
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
 
@@ -102,8 +114,7 @@ class DataFlowComponentRouterTest {
 
         @Test
         void route_all_Events_when_all_have_routes() {
-            final Map<Record, Set<String>> allWithRoutes = recordsIn.stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(UUID.randomUUID().toString())));
+            final RouteMatches allWithRoutes = createRouteMatchesForAllRecords(1);
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, allWithRoutes, getRecordStrategy, componentRecordsConsumer);
 
@@ -114,7 +125,7 @@ class DataFlowComponentRouterTest {
         void route_when_no_records() {
             recordsIn = Collections.emptyList();
 
-            final Map<Record, Set<String>> noMatchingRoutes = Collections.emptyMap();
+            final RouteMatches noMatchingRoutes = createRouteMatches();
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
 
@@ -126,11 +137,8 @@ class DataFlowComponentRouterTest {
     @Nested
     class ComponentWithSingleRoute {
 
-        private String knownRoute;
-
         @BeforeEach
         void setUp() {
-            knownRoute = UUID.randomUUID().toString();
             when(dataFlowComponent.getRoutes()).thenReturn(Collections.singleton(knownRoute));
 
             recordsIn = IntStream.range(0, 10)
@@ -140,8 +148,7 @@ class DataFlowComponentRouterTest {
 
         @Test
         void route_no_Events_when_none_have_routes() {
-            final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.emptySet()));
+            final RouteMatches noMatchingRoutes = createRouteMatches();
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
 
@@ -150,8 +157,7 @@ class DataFlowComponentRouterTest {
 
         @Test
         void route_no_Events_when_none_have_matching_routes() {
-            final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(UUID.randomUUID().toString())));
+            final RouteMatches noMatchingRoutes = createRouteMatchesForAllRecords(1);
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
 
@@ -161,8 +167,7 @@ class DataFlowComponentRouterTest {
 
         @Test
         void route_all_Events_when_all_have_matched_route() {
-            final Map<Record, Set<String>> allMatchingRoutes = recordsIn.stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(knownRoute)));
+            final RouteMatches allMatchingRoutes = createRouteMatchesForAllRecords(0);
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, allMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
 
@@ -171,15 +176,19 @@ class DataFlowComponentRouterTest {
 
         @Test
         void route_matching_Events_when_some_have_matched_route() {
-            final Map<Record, Set<String>> someMatchingRoutes = new HashMap<>();
+            final RouteMatches someMatchingRoutes = createRouteMatches();
             boolean applyRoute = false;
             Collection<Record> expectedRecords = new ArrayList<>();
+            int recordIndex = 0;
             for (Record record : recordsIn) {
-                someMatchingRoutes.put(record, applyRoute ? Set.of(knownRoute, UUID.randomUUID().toString()) : Set.of(UUID.randomUUID().toString()) );
-                if(applyRoute)
+                someMatchingRoutes.addMatch(recordIndex, 1);
+                if(applyRoute) {
+                    someMatchingRoutes.addMatch(recordIndex, 0);
                     expectedRecords.add(record);
+                }
 
                 applyRoute = !applyRoute;
+                recordIndex++;
             }
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, someMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
@@ -191,7 +200,7 @@ class DataFlowComponentRouterTest {
         void route_when_no_records() {
             recordsIn = Collections.emptyList();
 
-            final Map<Record, Set<String>> noMatchingRoutes = Collections.emptyMap();
+            final RouteMatches noMatchingRoutes = createRouteMatches();
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
 
@@ -203,11 +212,8 @@ class DataFlowComponentRouterTest {
     @Nested
     class ComponentWithMultipleRoute {
 
-        private String knownRoute;
-
         @BeforeEach
         void setUp() {
-            knownRoute = UUID.randomUUID().toString();
             when(dataFlowComponent.getComponent()).thenReturn(testComponent);
             when(dataFlowComponent.getRoutes()).thenReturn(Set.of(UUID.randomUUID().toString(), knownRoute, UUID.randomUUID().toString()));
 
@@ -218,8 +224,7 @@ class DataFlowComponentRouterTest {
 
         @Test
         void route_no_Events_when_none_have_routes() {
-            final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.emptySet()));
+            final RouteMatches noMatchingRoutes = createRouteMatches();
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
 
@@ -228,8 +233,7 @@ class DataFlowComponentRouterTest {
 
         @Test
         void route_no_Events_when_none_have_matching_routes() {
-            final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(UUID.randomUUID().toString())));
+            final RouteMatches noMatchingRoutes = createRouteMatchesForAllRecords(1);
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
 
@@ -239,8 +243,7 @@ class DataFlowComponentRouterTest {
 
         @Test
         void route_all_Events_when_all_have_matched_route() {
-            final Map<Record, Set<String>> allMatchingRoutes = recordsIn.stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(knownRoute)));
+            final RouteMatches allMatchingRoutes = createRouteMatchesForAllRecords(0);
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, allMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
 
@@ -249,15 +252,19 @@ class DataFlowComponentRouterTest {
 
         @Test
         void route_matching_Events_when_some_have_matched_route() {
-            final Map<Record, Set<String>> someMatchingRoutes = new HashMap<>();
+            final RouteMatches someMatchingRoutes = createRouteMatches();
             boolean applyRoute = false;
             Collection<Record> expectedRecords = new ArrayList<>();
+            int recordIndex = 0;
             for (Record record : recordsIn) {
-                someMatchingRoutes.put(record, applyRoute ? Set.of(knownRoute, UUID.randomUUID().toString()) : Set.of(UUID.randomUUID().toString()) );
-                if(applyRoute)
+                someMatchingRoutes.addMatch(recordIndex, 1);
+                if(applyRoute) {
+                    someMatchingRoutes.addMatch(recordIndex, 0);
                     expectedRecords.add(record);
+                }
 
                 applyRoute = !applyRoute;
+                recordIndex++;
             }
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, someMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
@@ -269,7 +276,7 @@ class DataFlowComponentRouterTest {
         void route_when_no_records() {
             recordsIn = Collections.emptyList();
 
-            final Map<Record, Set<String>> noMatchingRoutes = Collections.emptyMap();
+            final RouteMatches noMatchingRoutes = createRouteMatches();
 
             createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
 
@@ -0,0 +1,251 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline.router;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.EventMetadata;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReadOnceEventTest {
+    @Mock
+    private Event event;
+
+    private String key;
+
+    @BeforeEach
+    void setUp() {
+        key = UUID.randomUUID().toString();
+    }
+
+    private Event createObjectUnderTest() {
+        return createReadOnceEvent().getEvent();
+    }
+
+    private ReadOnceEvent createReadOnceEvent() {
+        final ReadOnceEvent readOnceEvent = new ReadOnceEvent();
+        readOnceEvent.reset(event);
+        return readOnceEvent;
+    }
+
+    @Test
+    void get_reads_the_same_key_from_the_event_once() {
+        final String value = UUID.randomUUID().toString();
+        when(event.get(key, String.class)).thenReturn(value);
+
+        final Event objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.get(key, String.class), equalTo(value));
+        assertThat(objectUnderTest.get(key, String.class), equalTo(value));
+
+        verify(event, times(1)).get(key, String.class);
+    }
+
+    @Test
+    void get_with_EventKey_reads_the_same_key_from_the_event_once() {
+        final EventKey eventKey = EventKey.of(key);
+        final String value = UUID.randomUUID().toString();
+        when(event.get(eventKey, String.class)).thenReturn(value);
+
+        final Event objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.get(eventKey, String.class), equalTo(value));
+        assertThat(objectUnderTest.get(eventKey, String.class), equalTo(value));
+        assertThat(objectUnderTest.get(key, String.class), equalTo(value));
+
+        verify(event, times(1)).get(eventKey, String.class);
+        verify(event, never()).get(key, String.class);
+    }
+
+    @Test
+    void put_with_EventKey_writes_to_the_event_and_forgets_read_values() {
+        final EventKey eventKey = EventKey.of(key);
+        when(event.get(eventKey, String.class)).thenReturn("first", "second");
+
+        final Event objectUnderTest = createObjectUnderTest();
+        assertThat(objectUnderTest.get(eventKey, String.class), equalTo("first"));
+
+        objectUnderTest.put(eventKey, "second");
+
+        verify(event).put(eventKey, "second");
+        assertThat(objectUnderTest.get(eventKey, String.class), equalTo("second"));
+    }
+
+    @Test
+    void delete_with_EventKey_deletes_from_the_event_and_forgets_read_values() {
+        final EventKey eventKey = EventKey.of(key);
+        when(event.get(eventKey, String.class)).thenReturn("first", (String) null);
+
+        final Event objectUnderTest = createObjectUnderTest();
+        assertThat(objectUnderTest.get(eventKey, String.class), equalTo("first"));
+
+        objectUnderTest.delete(eventKey);
+
+        verify(event).delete(eventKey);
+        assertThat(objectUnderTest.get(eventKey, String.class), nullValue());
+    }
+
+    @Test
+    void get_remembers_null_values() {
+        final Event objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.get(key, Object.class), nullValue());
+        assertThat(objectUnderTest.get(key, Object.class), nullValue());
+
+        verify(event, times(1)).get(key, Object.class);
+    }
+
+    @Test
+    void get_reads_again_for_a_different_class() {
+        when(event.get(key, Object.class)).thenReturn(10);
+        when(event.get(key, Integer.class)).thenReturn(10);
+
+        final Event objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.get(key, Object.class), equalTo(10));
+        assertThat(objectUnderTest.get(key, Integer.class), equalTo(10));
+
+        verify(event, times(1)).get(key, Object.class);
+        verify(event, times(1)).get(key, Integer.class);
+    }
+
+    @Test
+    void get_remembers_more_keys_than_the_initial_capacity() {
+        final Event objectUnderTest = createObjectUnderTest();
+
+        for (int i = 0; i < 20; i++) {
+            when(event.get("key" + i, Integer.class)).thenReturn(i);
+        }
+        for (int pass = 0; pass < 2; pass++) {
+            for (int i = 0; i < 20; i++) {
+                assertThat(objectUnderTest.get("key" + i, Integer.class), equalTo(i));
+            }
+        }
+
+        for (int i = 0; i < 20; i++) {
+            verify(event, times(1)).get("key" + i, Integer.class);
+        }
+    }
+
+    @Test
+    void reset_reads_from_the_new_event() {
+        final Event otherEvent = mock(Event.class);
+        when(event.get(key, String.class)).thenReturn("first");
+        when(otherEvent.get(key, String.class)).thenReturn("second");
+
+        final ReadOnceEvent readOnceEvent = createReadOnceEvent();
+        final Event objectUnderTest = readOnceEvent.getEvent();
+        assertThat(objectUnderTest.get(key, String.class), equalTo("first"));
+
+        readOnceEvent.reset(otherEvent);
+
+        assertThat(objectUnderTest.get(key, String.class), equalTo("second"));
+    }
+
+    @Test
+    void put_writes_to_the_event_and_forgets_read_values() {
+        when(event.get(key, String.class)).thenReturn("first", "second");
+
+        final Event objectUnderTest = createObjectUnderTest();
+        assertThat(objectUnderTest.get(key, String.class), equalTo("first"));
+
+        objectUnderTest.put(key, "second");
+
+        verify(event).put(key, "second");
+        assertThat(objectUnderTest.get(key, String.class), equalTo("second"));
+    }
+
+    @Test
+    void delete_deletes_from_the_event_and_forgets_read_values() {
+        when(event.get(key, String.class)).thenReturn("first", (String) null);
+
+        final Event objectUnderTest = createObjectUnderTest();
+        assertThat(objectUnderTest.get(key, String.class), equalTo("first"));
+
+        objectUnderTest.delete(key);
+
+        verify(event).delete(key);
+        assertThat(objectUnderTest.get(key, String.class), nullValue());
+    }
+
+    @Test
+    void other_methods_delegate_to_the_event() {
+        final List<String> list = List.of(UUID.randomUUID().toString());
+        final EventMetadata eventMetadata = mock(EventMetadata.class);
+        final EventHandle eventHandle = mock(EventHandle.class);
+        final Event.JsonStringBuilder jsonStringBuilder = mock(Event.JsonStringBuilder.class);
+        final Map<String, Object> map = Map.of(key, "value");
+        final ExpressionEvaluator expressionEvaluator = mock(ExpressionEvaluator.class);
+        when(event.getList(key, String.class)).thenReturn(list);
+        when(event.toJsonString()).thenReturn("json");
+        when(event.getAsJsonString(key)).thenReturn("keyJson");
+        when(event.getMetadata()).thenReturn(eventMetadata);
+        when(event.containsKey(key)).thenReturn(true);
+        when(event.isValueAList(key)).thenReturn(true);
+        when(event.toMap()).thenReturn(map);
+        when(event.formatString("format")).thenReturn("formatted");
+        when(event.formatString("format", expressionEvaluator)).thenReturn("evaluated");
+        when(event.getEventHandle()).thenReturn(eventHandle);
+        when(event.jsonBuilder()).thenReturn(jsonStringBuilder);
+
+        final Event objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.getList(key, String.class), equalTo(list));
+        assertThat(objectUnderTest.toJsonString(), equalTo("json"));
+        assertThat(objectUnderTest.getAsJsonString(key), equalTo("keyJson"));
+        assertThat(objectUnderTest.getMetadata(), sameInstance(eventMetadata));
+        assertThat(objectUnderTest.containsKey(key), equalTo(true));
+        assertThat(objectUnderTest.isValueAList(key), equalTo(true));
+        assertThat(objectUnderTest.toMap(), equalTo(map));
+        assertThat(objectUnderTest.formatString("format"), equalTo("formatted"));
+        assertThat(objectUnderTest.formatString("format", expressionEvaluator), equalTo("evaluated"));
+        assertThat(objectUnderTest.getEventHandle(), sameInstance(eventHandle));
+        assertThat(objectUnderTest.jsonBuilder(), sameInstance(jsonStringBuilder));
+    }
+
+    @Test
+    void exceptions_thrown_by_the_event_are_rethrown() {
+        final RuntimeException exception = new IllegalArgumentException(UUID.randomUUID().toString());
+        when(event.toJsonString()).thenThrow(exception);
+
+        final Event objectUnderTest = createObjectUnderTest();
+
+        final RuntimeException actualException = assertThrows(RuntimeException.class, objectUnderTest::toJsonString);
+        assertThat(actualException, sameInstance(exception));
+    }
+
+    @Test
+    void getEvent_returns_the_same_view_after_reset() {
+        final ReadOnceEvent readOnceEvent = createReadOnceEvent();
+        final Event view = readOnceEvent.getEvent();
+
+        readOnceEvent.reset(mock(Event.class));
+
+        assertThat(readOnceEvent.getEvent(), sameInstance(view));
+    }
+}
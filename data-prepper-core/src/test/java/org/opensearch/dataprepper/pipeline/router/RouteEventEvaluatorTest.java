@@ -7,22 +7,24 @@ package org.opensearch.dataprepper.pipeline.router;
 
 import org.opensearch.dataprepper.model.configuration.ConditionalRoute;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventMetadata;
 import org.opensearch.dataprepper.model.record.Record;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatcher;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.parser.DataFlowComponent;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
@@ -30,13 +32,17 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.hamcrest.CoreMatchers.equalTo;
-import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.anEmptyMap;
-import static org.hamcrest.Matchers.empty;
-import static org.hamcrest.Matchers.hasKey;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -46,6 +52,7 @@ class RouteEventEvaluatorTest {
     @Mock
     private ExpressionEvaluator evaluator;
     private List<ConditionalRoute> routes;
+    private Collection<DataFlowComponent<Object>> dataFlowComponents;
 
     private RouteEventEvaluator createObjectUnderTest() {
         return new RouteEventEvaluator(evaluator, routes);
@@ -56,6 +63,7 @@ class RouteEventEvaluatorTest {
         @BeforeEach
         void setUp() {
             routes = Collections.emptyList();
+            dataFlowComponents = Collections.singletonList(createDataFlowComponent(Collections.emptySet()));
         }
 
         @AfterEach
@@ -64,45 +72,28 @@ class RouteEventEvaluatorTest {
         }
 
         @Test
-        void evaluateEventRoutes_with_empty_Records_returns_empty_map() {
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(Collections.emptyList());
+        void evaluateEventRoutes_with_empty_Records_returns_RouteMatches() {
+            final RouteMatches routeMatches = createObjectUnderTest().evaluateEventRoutes(Collections.emptyList(), dataFlowComponents);
 
-            assertThat(recordsToRoutes, notNullValue());
-            assertThat(recordsToRoutes, is(anEmptyMap()));
+            assertThat(routeMatches, notNullValue());
         }
 
         @Test
-        void evaluateEventRoutes_with_Event_Records_returns_map_with_all_empty_routes() {
+        void evaluateEventRoutes_with_Event_Records_returns_no_route_indexes() {
             final Collection<Record> records = createEventRecords();
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
+            final RouteMatches routeMatches = createObjectUnderTest().evaluateEventRoutes(records, dataFlowComponents);
 
-            assertThat(recordsToRoutes, notNullValue());
-
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
-            }
-
-            for (Set<String> routes : recordsToRoutes.values()) {
-                assertThat(routes, is(empty()));
-            }
+            assertThat(routeMatches, notNullValue());
+            assertThat(routeMatches.getRouteIndexes(Set.of(UUID.randomUUID().toString())).length, equalTo(0));
         }
 
         @Test
-        void evaluateEventRoutes_with_non_Event_Records_returns_map_with_all_empty_routes() {
+        void evaluateEventRoutes_with_non_Event_Records_returns_no_route_indexes() {
             final Collection<Record> records = createNonEventRecords();
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
-
-            assertThat(recordsToRoutes, notNullValue());
-
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
-            }
+            final RouteMatches routeMatches = createObjectUnderTest().evaluateEventRoutes(records, dataFlowComponents);
 
-            for (Set<String> routes : recordsToRoutes.values()) {
-                assertThat(routes, is(empty()));
-            }
+            assertThat(routeMatches, notNullValue());
+            assertThat(routeMatches.getRouteIndexes(Set.of(UUID.randomUUID().toString())).length, equalTo(0));
         }
     }
 
@@ -123,122 +114,185 @@ class RouteEventEvaluatorTest {
                     .stream()
                     .map(ConditionalRoute::getName)
                     .collect(Collectors.toSet());
+
+            dataFlowComponents = routes.stream()
+                    .map(route -> createDataFlowComponent(Collections.singleton(route.getName())))
+                    .collect(Collectors.toList());
         }
 
         @Test
-        void evaluateEventRoutes_with_empty_Records_returns_empty_map() {
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(Collections.emptyList());
+        void evaluateEventRoutes_with_empty_Records_returns_RouteMatches() {
+            final RouteMatches routeMatches = createObjectUnderTest().evaluateEventRoutes(Collections.emptyList(), dataFlowComponents);
 
-            assertThat(recordsToRoutes, notNullValue());
-            assertThat(recordsToRoutes, is(anEmptyMap()));
+            assertThat(routeMatches, notNullValue());
 
             verifyNoInteractions(evaluator);
         }
 
-
         @Test
-        void evaluateEventRoutes_with_non_Event_Records_returns_map_with_all_empty_routes() {
-            final Collection<Record> records = createNonEventRecords();
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
-
-            assertThat(recordsToRoutes, notNullValue());
+        void evaluateEventRoutes_with_non_Event_Records_returns_no_matches() {
+            final List<Record> records = createNonEventRecords();
+            final RouteMatches routeMatches = createObjectUnderTest().evaluateEventRoutes(records, dataFlowComponents);
 
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
-            }
-
-            for (Set<String> routes : recordsToRoutes.values()) {
-                assertThat(routes, is(empty()));
-            }
+            assertThat(routeMatches, notNullValue());
+            assertNoMatches(routeMatches, records, -1);
 
             verifyNoInteractions(evaluator);
         }
 
         @Test
-        void evaluateEventRoutes_with_Event_Records_returns_map_with_matching_routes() {
+        void evaluateEventRoutes_with_Event_Records_returns_matching_routes() {
             final List<Record> records = createEventRecords();
 
             final Record recordMatchingAllRoutes = records.get(1);
-            final Event eventMatchingAllRoutes = (Event) records.get(1).getData();
+            final ArgumentMatcher<Event> isEventMatchingAllRoutes = isEvent((Event) recordMatchingAllRoutes.getData());
             for (ConditionalRoute route : routes) {
-                when(evaluator.evaluateConditional(route.getCondition(), eventMatchingAllRoutes))
+                when(evaluator.evaluateConditional(eq(route.getCondition()), any(Event.class)))
+                        .thenReturn(false);
+                when(evaluator.evaluateConditional(eq(route.getCondition()), argThat(isEventMatchingAllRoutes)))
                         .thenReturn(true);
+            }
 
-                for (Record record : records) {
-                    if(recordMatchingAllRoutes == record)
-                        continue;
+            final RouteMatches routeMatches = createObjectUnderTest().evaluateEventRoutes(records, dataFlowComponents);
 
-                    when(evaluator.evaluate(route.getCondition(), (Event) record.getData()))
-                            .thenReturn(false);
-                }
+            assertThat(routeMatches, notNullValue());
+            assertThat(routeMatches.getRouteIndexes(allRouteNames).length, equalTo(routes.size()));
+            for (int routeIndex = 0; routeIndex < routes.size(); routeIndex++) {
+                assertThat(routeMatches.hasMatch(1, routeIndex), equalTo(true));
             }
+            assertNoMatches(routeMatches, records, 1);
+        }
 
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
+        @Test
+        void evaluateEventRoutes_with_Event_Records_returns_matching_routes_excludes_exceptions() {
+            final List<Record> records = createEventRecords();
 
-            assertThat(recordsToRoutes, notNullValue());
+            final Record recordMatchingAllRoutes = records.get(1);
+            final ArgumentMatcher<Event> isEventMatchingAllRoutes = isEvent((Event) recordMatchingAllRoutes.getData());
+            for (ConditionalRoute route : routes) {
+                when(evaluator.evaluateConditional(eq(route.getCondition()), any(Event.class)))
+                        .thenThrow(RuntimeException.class);
+                when(evaluator.evaluateConditional(eq(route.getCondition()), argThat(isEventMatchingAllRoutes)))
+                        .thenReturn(true);
+            }
+
+            final RouteMatches routeMatches = createObjectUnderTest().evaluateEventRoutes(records, dataFlowComponents);
 
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
+            assertThat(routeMatches, notNullValue());
+            for (int routeIndex = 0; routeIndex < routes.size(); routeIndex++) {
+                assertThat(routeMatches.hasMatch(1, routeIndex), equalTo(true));
             }
+            assertNoMatches(routeMatches, records, 1);
+        }
 
-            final Set<String> actualRoutes = recordsToRoutes.get(recordMatchingAllRoutes);
-            assertThat(actualRoutes.size(), equalTo(routes.size()));
-            assertThat(actualRoutes, equalTo(allRouteNames));
+        @Test
+        void evaluateEventRoutes_does_not_evaluate_routes_which_no_component_uses() {
+            final ConditionalRoute usedRoute = routes.get(0);
+            dataFlowComponents = List.of(
+                    createDataFlowComponent(Collections.singleton(usedRoute.getName())),
+                    createDataFlowComponent(Collections.emptySet()),
+                    createDataFlowComponent(Collections.singleton(UUID.randomUUID().toString())));
+            when(evaluator.evaluateConditional(anyString(), any(Event.class))).thenReturn(true);
 
-            for (Map.Entry<Record, Set<String>> recordSetEntry : recordsToRoutes.entrySet()) {
-                if(recordSetEntry.getKey() == recordMatchingAllRoutes)
-                    continue;
+            final List<Record> records = createEventRecords();
+            final RouteMatches routeMatches = createObjectUnderTest().evaluateEventRoutes(records, dataFlowComponents);
 
-                assertThat(recordSetEntry.getValue(), is(empty()));
+            verify(evaluator, times(records.size())).evaluateConditional(eq(usedRoute.getCondition()), any(Event.class));
+            verify(evaluator, never()).evaluateConditional(eq(routes.get(1).getCondition()), any(Event.class));
+            verify(evaluator, never()).evaluateConditional(eq(routes.get(2).getCondition()), any(Event.class));
+            for (int recordIndex = 0; recordIndex < records.size(); recordIndex++) {
+                assertThat(routeMatches.hasMatch(recordIndex, 0), equalTo(true));
             }
         }
 
         @Test
-        void evaluateEventRoutes_with_Event_Records_returns_map_with_matching_routes_excludes_exceptions() {
+        void evaluateEventRoutes_skips_routes_once_every_component_using_them_has_matched() {
+            final ConditionalRoute firstRoute = routes.get(0);
+            final ConditionalRoute secondRoute = routes.get(1);
+            dataFlowComponents = List.of(
+                    createDataFlowComponent(Set.of(firstRoute.getName(), secondRoute.getName())));
+            when(evaluator.evaluateConditional(eq(firstRoute.getCondition()), any(Event.class))).thenReturn(true);
+
             final List<Record> records = createEventRecords();
+            final RouteMatches routeMatches = createObjectUnderTest().evaluateEventRoutes(records, dataFlowComponents);
 
-            final Record recordMatchingAllRoutes = records.get(1);
-            final Event eventMatchingAllRoutes = (Event) records.get(1).getData();
-            for (ConditionalRoute route : routes) {
-                when(evaluator.evaluateConditional(route.getCondition(), eventMatchingAllRoutes))
-                        .thenReturn(true);
+            verify(evaluator, times(records.size())).evaluateConditional(eq(firstRoute.getCondition()), any(Event.class));
+            verify(evaluator, never()).evaluateConditional(eq(secondRoute.getCondition()), any(Event.class));
+            for (int recordIndex = 0; recordIndex < records.size(); recordIndex++) {
+                assertThat(routeMatches.matchesAnyRoute(recordIndex,
+                        routeMatches.getRouteIndexes(Set.of(firstRoute.getName(), secondRoute.getName()))), equalTo(true));
+            }
+        }
+
+        @Test
+        void evaluateEventRoutes_evaluates_routes_still_needed_by_other_components() {
+            final ConditionalRoute firstRoute = routes.get(0);
+            final ConditionalRoute secondRoute = routes.get(1);
+            dataFlowComponents = List.of(
+                    createDataFlowComponent(Set.of(firstRoute.getName(), secondRoute.getName())),
+                    createDataFlowComponent(Set.of(secondRoute.getName())));
+            when(evaluator.evaluateConditional(anyString(), any(Event.class))).thenReturn(true);
 
-                for (Record record : records) {
-                    if(recordMatchingAllRoutes == record)
-                        continue;
+            final List<Record> records = createEventRecords();
+            final RouteMatches routeMatches = createObjectUnderTest().evaluateEventRoutes(records, dataFlowComponents);
 
-                    when(evaluator.evaluateConditional(route.getCondition(), (Event) record.getData()))
-                            .thenThrow(RuntimeException.class);
-                }
+            verify(evaluator, times(records.size())).evaluateConditional(eq(firstRoute.getCondition()), any(Event.class));
+            verify(evaluator, times(records.size())).evaluateConditional(eq(secondRoute.getCondition()), any(Event.class));
+            for (int recordIndex = 0; recordIndex < records.size(); recordIndex++) {
+                assertThat(routeMatches.hasMatch(recordIndex, 1), equalTo(true));
             }
+        }
 
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
+        @Test
+        void evaluateEventRoutes_evaluates_every_used_route_with_more_components_than_fit_in_a_mask() {
+            dataFlowComponents = IntStream.range(0, Long.SIZE + 1)
+                    .mapToObj(i -> createDataFlowComponent(allRouteNames))
+                    .collect(Collectors.toList());
+            when(evaluator.evaluateConditional(anyString(), any(Event.class))).thenReturn(true);
 
-            assertThat(recordsToRoutes, notNullValue());
+            final List<Record> records = createEventRecords();
+            final RouteMatches routeMatches = createObjectUnderTest().evaluateEventRoutes(records, dataFlowComponents);
 
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
+            for (ConditionalRoute route : routes) {
+                verify(evaluator, times(records.size())).evaluateConditional(eq(route.getCondition()), any(Event.class));
             }
+            for (int recordIndex = 0; recordIndex < records.size(); recordIndex++) {
+                for (int routeIndex = 0; routeIndex < routes.size(); routeIndex++) {
+                    assertThat(routeMatches.hasMatch(recordIndex, routeIndex), equalTo(true));
+                }
+            }
+        }
 
-            final Set<String> actualRoutes = recordsToRoutes.get(recordMatchingAllRoutes);
-            assertThat(actualRoutes.size(), equalTo(routes.size()));
-            assertThat(actualRoutes, equalTo(allRouteNames));
-
-            for (Map.Entry<Record, Set<String>> recordSetEntry : recordsToRoutes.entrySet()) {
-                if(recordSetEntry.getKey() == recordMatchingAllRoutes)
+        private void assertNoMatches(final RouteMatches routeMatches, final List<Record> records, final int excludedRecordIndex) {
+            for (int recordIndex = 0; recordIndex < records.size(); recordIndex++) {
+                if (recordIndex == excludedRecordIndex)
                     continue;
 
-                assertThat(recordSetEntry.getValue(), is(empty()));
+                for (int routeIndex = 0; routeIndex < routes.size(); routeIndex++) {
+                    assertThat(routeMatches.hasMatch(recordIndex, routeIndex), equalTo(false));
+                }
             }
         }
+    }
+
+    private static ArgumentMatcher<Event> isEvent(final Event expectedEvent) {
+        final EventMetadata expectedMetadata = expectedEvent.getMetadata();
+        return event -> event != null && event.getMetadata() == expectedMetadata;
+    }
 
+    private static DataFlowComponent<Object> createDataFlowComponent(final Set<String> routes) {
+        final DataFlowComponent<Object> dataFlowComponent = mock(DataFlowComponent.class);
+        when(dataFlowComponent.getRoutes()).thenReturn(routes);
+        return dataFlowComponent;
     }
 
     private List<Record> createEventRecords() {
-        return createRecords(() -> mock(Event.class));
+        return createRecords(() -> {
+            final Event event = mock(Event.class);
+            final EventMetadata eventMetadata = mock(EventMetadata.class);
+            lenient().when(event.getMetadata()).thenReturn(eventMetadata);
+            return event;
+        });
     }
 
     private List<Record> createNonEventRecords() {
@@ -248,7 +302,10 @@ class RouteEventEvaluatorTest {
     private List<Record> createRecords(final Supplier<Object> dataSupplier) {
         return IntStream.range(0, 3)
                 .mapToObj(i -> mock(Record.class))
-                .peek(r -> when(r.getData()).thenReturn(dataSupplier.get()))
+                .peek(r -> {
+                    final Object data = dataSupplier.get();
+                    when(r.getData()).thenReturn(data);
+                })
                 .collect(Collectors.toList());
     }
 }
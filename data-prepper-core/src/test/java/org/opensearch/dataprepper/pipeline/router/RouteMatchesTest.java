@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline.router;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class RouteMatchesTest {
+    private static final int RECORD_COUNT = 4;
+
+    private String firstRoute;
+    private String secondRoute;
+    private String thirdRoute;
+
+    @BeforeEach
+    void setUp() {
+        firstRoute = UUID.randomUUID().toString();
+        secondRoute = UUID.randomUUID().toString();
+        thirdRoute = UUID.randomUUID().toString();
+    }
+
+    private RouteMatches createObjectUnderTest() {
+        return new RouteMatches(Map.of(firstRoute, 0, secondRoute, 1, thirdRoute, 2), RECORD_COUNT);
+    }
+
+    @Test
+    void hasMatch_returns_false_for_all_records_and_routes_when_nothing_matched() {
+        final RouteMatches objectUnderTest = createObjectUnderTest();
+
+        for (int recordIndex = 0; recordIndex < RECORD_COUNT; recordIndex++) {
+            for (int routeIndex = 0; routeIndex < 3; routeIndex++) {
+                assertThat(objectUnderTest.hasMatch(recordIndex, routeIndex), equalTo(false));
+            }
+        }
+    }
+
+    @Test
+    void hasMatch_returns_true_only_for_the_added_record_and_route() {
+        final RouteMatches objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.addMatch(2, 1);
+
+        for (int recordIndex = 0; recordIndex < RECORD_COUNT; recordIndex++) {
+            for (int routeIndex = 0; routeIndex < 3; routeIndex++) {
+                assertThat(objectUnderTest.hasMatch(recordIndex, routeIndex), equalTo(recordIndex == 2 && routeIndex == 1));
+            }
+        }
+    }
+
+    @Test
+    void matchesAnyRoute_returns_true_when_one_of_the_routes_matched() {
+        final RouteMatches objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.addMatch(1, 2);
+
+        assertThat(objectUnderTest.matchesAnyRoute(1, new int[] {0, 2}), equalTo(true));
+        assertThat(objectUnderTest.matchesAnyRoute(1, new int[] {0, 1}), equalTo(false));
+        assertThat(objectUnderTest.matchesAnyRoute(0, new int[] {0, 1, 2}), equalTo(false));
+        assertThat(objectUnderTest.matchesAnyRoute(1, new int[0]), equalTo(false));
+    }
+
+    @Test
+    void getRouteIndexes_returns_positions_of_known_routes() {
+        final int[] routeIndexes = createObjectUnderTest().getRouteIndexes(Set.of(thirdRoute));
+
+        assertThat(routeIndexes.length, equalTo(1));
+        assertThat(routeIndexes[0], equalTo(2));
+    }
+
+    @Test
+    void getRouteIndexes_excludes_unknown_routes() {
+        final int[] routeIndexes = createObjectUnderTest().getRouteIndexes(Set.of(firstRoute, UUID.randomUUID().toString()));
+
+        assertThat(routeIndexes.length, equalTo(1));
+        assertThat(routeIndexes[0], equalTo(0));
+    }
+
+    @Test
+    void getRouteIndexes_with_no_routes_returns_empty() {
+        assertThat(createObjectUnderTest().getRouteIndexes(Collections.emptySet()).length, equalTo(0));
+    }
+}
@@ -17,11 +17,7 @@ import org.opensearch.dataprepper.parser.DataFlowComponent;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Map;
-import java.util.Set;
-import java.util.UUID;
 import java.util.function.BiConsumer;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -30,6 +26,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.times;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 
 @ExtendWith(MockitoExtension.class)
 class RouterTest {
@@ -98,17 +96,15 @@ class RouterTest {
     @Nested
     class WithEmptyRecords {
 
-        private Map<Record, Set<String>> recordsToRoutes;
+        private RouteMatches routeMatches;
 
         @BeforeEach
         void setUp() {
             recordsIn = Collections.emptyList();
             dataFlowComponents = Collections.emptyList();
 
-            recordsToRoutes = Collections.singletonMap(
-                    mock(Record.class), Collections.singleton(UUID.randomUUID().toString())
-            );
-            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordsToRoutes);
+            routeMatches = mock(RouteMatches.class);
+            when(routeEventEvaluator.evaluateEventRoutes(eq(recordsIn), any())).thenReturn(routeMatches);
         }
 
         @Test
@@ -123,7 +119,7 @@ class RouterTest {
 
             createObjectUnderTest().route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
 
-            verify(dataFlowComponentRouter).route(recordsIn, dataFlowComponent, recordsToRoutes, getRecordStrategy, componentRecordsConsumer);
+            verify(dataFlowComponentRouter).route(recordsIn, dataFlowComponent, routeMatches, getRecordStrategy, componentRecordsConsumer);
         }
 
         @Test
@@ -138,7 +134,7 @@ class RouterTest {
             createObjectUnderTest().route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
 
             for (DataFlowComponent<TestComponent> dataFlowComponent : dataFlowComponents) {
-                verify(dataFlowComponentRouter).route(recordsIn, dataFlowComponent, recordsToRoutes, getRecordStrategy, componentRecordsConsumer);
+                verify(dataFlowComponentRouter).route(recordsIn, dataFlowComponent, routeMatches, getRecordStrategy, componentRecordsConsumer);
             }
         }
     }
@@ -146,7 +142,7 @@ class RouterTest {
     @Nested
     class WithRecords {
 
-        private Map<Record, Set<String>> recordsToRoutes;
+        private RouteMatches routeMatches;
 
         @BeforeEach
         void setUp() {
@@ -156,10 +152,8 @@ class RouterTest {
             ;
             dataFlowComponents = Collections.emptyList();
 
-            recordsToRoutes = recordsIn
-                    .stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(UUID.randomUUID().toString())));
-            when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordsToRoutes);
+            routeMatches = mock(RouteMatches.class);
+            when(routeEventEvaluator.evaluateEventRoutes(eq(recordsIn), any())).thenReturn(routeMatches);
         }
 
         @Test
@@ -169,7 +163,7 @@ class RouterTest {
 
             createObjectUnderTest().route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
 
-            verify(dataFlowComponentRouter).route(recordsIn, dataFlowComponent, recordsToRoutes, getRecordStrategy, componentRecordsConsumer);
+            verify(dataFlowComponentRouter).route(recordsIn, dataFlowComponent, routeMatches, getRecordStrategy, componentRecordsConsumer);
         }
 
         @Test
@@ -184,7 +178,7 @@ class RouterTest {
             createObjectUnderTest().route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
 
             for (DataFlowComponent<TestComponent> dataFlowComponent : dataFlowComponents) {
-                verify(dataFlowComponentRouter).route(recordsIn, dataFlowComponent, recordsToRoutes, getRecordStrategy, componentRecordsConsumer);
+                verify(dataFlowComponentRouter).route(recordsIn, dataFlowComponent, routeMatches, getRecordStrategy, componentRecordsConsumer);
             }
         }
 
@@ -196,7 +190,7 @@ class RouterTest {
                 dataFlowComponents.add(dataFlowComponent);
             }
             createObjectUnderTest().route(recordsIn, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
-            verify(dataFlowComponentRouter, times(5)).route(recordsIn, dataFlowComponent, recordsToRoutes, getRecordStrategy, componentRecordsConsumer);
+            verify(dataFlowComponentRouter, times(5)).route(recordsIn, dataFlowComponent, routeMatches, getRecordStrategy, componentRecordsConsumer);
         }
     }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing and compiling typical route conditions for every event against evaluating the cached
+ * {@link CompiledExpression}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ExpressionEvaluatorBenchmark {
+    @Param({
+            "/status_code == 200",
+            "/status_code >= 400 and /status_code < 500",
+            "/log_type == \"apache\" or /log_type == \"nginx\"",
+            "/http/verb =~ \"GET|HEAD\"",
+            "not /is_internal and /bytes > 1024"
+    })
+    private String statement;
+
+    private AnnotationConfigApplicationContext applicationContext;
+    private Parser<ParseTree> parser;
+    private ParseTreeCompiler parseTreeCompiler;
+    private ExpressionEvaluator expressionEvaluator;
+    private Event event;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = new AnnotationConfigApplicationContext();
+        applicationContext.scan("org.opensearch.dataprepper.expression");
+        applicationContext.refresh();
+
+        parser = applicationContext.getBean(Parser.class);
+        parseTreeCompiler = applicationContext.getBean(ParseTreeCompiler.class);
+        expressionEvaluator = applicationContext.getBean(ExpressionEvaluator.class);
+
+        event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of(
+                        "status_code", 404,
+                        "log_type", "nginx",
+                        "http", Map.of("verb", "GET"),
+                        "is_internal", false,
+                        "bytes", 4096))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Object evaluateWithoutCache() {
+        return parseTreeCompiler.compile(parser.parse(statement)).evaluate(event);
+    }
+
+    @Benchmark
+    public Object evaluateCompiledExpression() {
+        return expressionEvaluator.evaluate(statement, event);
+    }
+}
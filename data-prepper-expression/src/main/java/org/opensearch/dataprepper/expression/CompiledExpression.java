@@ -0,0 +1,42 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.List;
+
+/**
+ * @since 2.5
+ * An expression statement with its operators, literals and JSON pointers resolved ahead of time. Evaluating a
+ * CompiledExpression runs a flat list of {@link CompiledExpressionStep}s against a small operand stack instead of
+ * walking a {@link org.antlr.v4.runtime.tree.ParseTree}. Instances are immutable and can be shared between threads.
+ */
+class CompiledExpression {
+    private final CompiledExpressionStep[] steps;
+    private final int maxStackDepth;
+
+    CompiledExpression(final List<CompiledExpressionStep> steps, final int maxStackDepth) {
+        this.steps = steps.toArray(new CompiledExpressionStep[0]);
+        this.maxStackDepth = maxStackDepth;
+    }
+
+    /**
+     * @since 2.5
+     * Evaluates the expression, resolving JSON pointers and functions with the provided event.
+     *
+     * @param event event used to resolve external references in the expression
+     * @return result of the expression
+     */
+    Object evaluate(final Event event) {
+        final Object[] operandStack = new Object[maxStackDepth];
+        int stackSize = 0;
+        for (final CompiledExpressionStep step : steps) {
+            stackSize = step.execute(operandStack, stackSize, event);
+        }
+        return operandStack[0];
+    }
+}
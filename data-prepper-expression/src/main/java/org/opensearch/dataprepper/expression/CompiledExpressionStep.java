@@ -0,0 +1,24 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+/**
+ * @since 2.5
+ * A single instruction of a {@link CompiledExpression}. Either pushes an operand onto the operand stack or replaces the
+ * operands on top of the stack with the result of an operator.
+ */
+@FunctionalInterface
+interface CompiledExpressionStep {
+    /**
+     * @param operandStack operand stack shared by all steps of one evaluation
+     * @param stackSize number of operands currently on the stack
+     * @param event event used to resolve external references
+     * @return number of operands on the stack after this step
+     */
+    int execute(final Object[] operandStack, final int stackSize, final Event event);
+}
@@ -5,6 +5,8 @@
 
 package org.opensearch.dataprepper.expression;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.opensearch.dataprepper.model.event.Event;
 
@@ -14,16 +16,23 @@ import javax.inject.Named;
 /**
  * Public class that {@link org.opensearch.dataprepper.model.processor.Processor},
  * {@link org.opensearch.dataprepper.model.sink.Sink} and data-prepper-core objects can use to evaluate statements.
+ * Each statement is parsed and compiled once and the resulting {@link CompiledExpression} is cached for later events.
+ * The cache is bounded because statements can be built from event data, for example by formatted strings.
  */
 @Named
 class GenericExpressionEvaluator implements ExpressionEvaluator {
+    static final int MAXIMUM_CACHED_EXPRESSIONS = 1000;
+
     private final Parser<ParseTree> parser;
-    private final Evaluator<ParseTree, Event> evaluator;
+    private final ParseTreeCompiler compiler;
+    private final Cache<String, CompiledExpression> compiledExpressions = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_CACHED_EXPRESSIONS)
+            .build();
 
     @Inject
-    public GenericExpressionEvaluator(final Parser<ParseTree> parser, final Evaluator<ParseTree, Event> evaluator) {
+    public GenericExpressionEvaluator(final Parser<ParseTree> parser, final ParseTreeCompiler compiler) {
         this.parser = parser;
-        this.evaluator = evaluator;
+        this.compiler = compiler;
     }
 
     /**
@@ -34,8 +43,7 @@ class GenericExpressionEvaluator implements ExpressionEvaluator {
     @Override
     public Object evaluate(final String statement, final Event context) {
         try {
-            final ParseTree parseTree = parser.parse(statement);
-            return evaluator.evaluate(parseTree, context);
+            return getCompiledExpression(statement).evaluate(context);
         }
         catch (final Exception exception) {
             throw new ExpressionEvaluationException("Unable to evaluate statement \"" + statement + "\"", exception);
@@ -52,4 +60,18 @@ class GenericExpressionEvaluator implements ExpressionEvaluator {
             return false;
         }
     }
+
+    long getCachedExpressionCount() {
+        return compiledExpressions.size();
+    }
+
+    private CompiledExpression getCompiledExpression(final String statement) {
+        final CompiledExpression cachedExpression = compiledExpressions.getIfPresent(statement);
+        if (cachedExpression != null) {
+            return cachedExpression;
+        }
+        final CompiledExpression compiledExpression = compiler.compile(parser.parse(statement));
+        compiledExpressions.put(statement, compiledExpression);
+        return compiledExpression;
+    }
 }
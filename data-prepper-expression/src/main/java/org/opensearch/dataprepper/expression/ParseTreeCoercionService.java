@@ -6,12 +6,14 @@
 package org.opensearch.dataprepper.expression;
 
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 import org.antlr.v4.runtime.tree.TerminalNode;
 import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.Map;
 import java.util.List;
 import java.util.ArrayList;
@@ -36,7 +38,15 @@ class ParseTreeCoercionService {
         this.expressionFunctionProvider = expressionFunctionProvider;
     }
 
-    public Object coercePrimaryTerminalNode(final TerminalNode node, final Event event) {
+    /**
+     * @since 2.5
+     * Resolves everything about a primary terminal node that does not depend on an event, so that the returned function
+     * only has to look up the event values when it is applied. JSON pointers are parsed into {@link EventKey}s here.
+     *
+     * @param node terminal node to compile
+     * @return function computing the value of the node for an event
+     */
+    public Function<Event, Object> compilePrimaryTerminalNode(final TerminalNode node) {
         final int nodeType = node.getSymbol().getType();
         final String nodeStringValue = node.getText();
         switch (nodeType) {
@@ -60,27 +70,28 @@ class ParseTreeCoercionService {
                         throw new RuntimeException("Unsupported type passed as function argument");
                     }
                 }
-                return expressionFunctionProvider.provideFunction(functionName, argList, event, convertLiteralType);
+                final List<Object> functionArgs = Collections.unmodifiableList(argList);
+                return event -> expressionFunctionProvider.provideFunction(functionName, functionArgs, event, convertLiteralType);
             case DataPrepperExpressionParser.EscapedJsonPointer:
                 final String jsonPointerWithoutQuotes = nodeStringValue.substring(1, nodeStringValue.length() - 1);
-                return resolveJsonPointerValue(jsonPointerWithoutQuotes, event);
+                return compileJsonPointer(jsonPointerWithoutQuotes);
             case DataPrepperExpressionParser.JsonPointer:
-                return resolveJsonPointerValue(nodeStringValue, event);
+                return compileJsonPointer(nodeStringValue);
             case DataPrepperExpressionParser.String:
                 final String nodeStringValueWithQuotesStripped = nodeStringValue.substring(1, nodeStringValue.length() - 1);
-                return nodeStringValueWithQuotesStripped;
+                return constant(nodeStringValueWithQuotesStripped);
             case DataPrepperExpressionParser.Integer:
                 Long longValue = Long.valueOf(nodeStringValue);
                 if (longValue > Integer.MAX_VALUE || longValue < Integer.MIN_VALUE) {
-                    return longValue;
+                    return constant(longValue);
                 }
-                return Integer.valueOf(nodeStringValue);
+                return constant(Integer.valueOf(nodeStringValue));
             case DataPrepperExpressionParser.Float:
-                return Float.valueOf(nodeStringValue);
+                return constant(Float.valueOf(nodeStringValue));
             case DataPrepperExpressionParser.Boolean:
-                return Boolean.valueOf(nodeStringValue);
+                return constant(Boolean.valueOf(nodeStringValue));
             case DataPrepperExpressionParser.Null:
-                return null;
+                return constant(null);
             default:
                 throw new ExpressionCoercionException("Unsupported terminal node type symbol string: " +
                         DataPrepperExpressionParser.VOCABULARY.getDisplayName(nodeType));
@@ -94,11 +105,26 @@ class ParseTreeCoercionService {
         throw new ExpressionCoercionException("Unable to cast " + obj.getClass().getName() + " into " + clazz.getName());
     }
 
-    private Object resolveJsonPointerValue(final String jsonPointer, final Event event) {
-        final Object value = event.get(jsonPointer, Object.class);
+    private static Function<Event, Object> constant(final Object value) {
+        return event -> value;
+    }
+
+    private Function<Event, Object> compileJsonPointer(final String jsonPointer) {
+        final EventKey eventKey;
+        try {
+            eventKey = EventKey.of(jsonPointer);
+        } catch (final IllegalArgumentException e) {
+            // Escaped JSON pointers may hold characters which EventKey rejects. They are passed to the event unchanged,
+            // so that the statement only fails for the events it is evaluated against.
+            return event -> convertValue(event.get(jsonPointer, Object.class));
+        }
+        return event -> convertValue(event.get(eventKey, Object.class));
+    }
+
+    private Object convertValue(final Object value) {
         if (value == null) {
             return null;
-        } 
+        }
         return convertLiteralType.apply(value);
     }
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionBaseListener;
+import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Stack;
+import java.util.function.Function;
+
+/**
+ * @since 2.5
+ * Walks a {@link org.antlr.v4.runtime.tree.ParseTree} once and records, in evaluation order, the operations to
+ * perform for every event. Operators are looked up, literals are coerced and JSON pointers are parsed while walking,
+ * so the resulting {@link CompiledExpression} only has to resolve event values.
+ *
+ * Use case:
+ * ParseTreeWalker walker = new ParseTreeWalker();
+ * ParseTreeCompilerListener listener = new ParseTreeCompilerListener(...);
+ * walker.walk(listener, ...);
+ * final CompiledExpression compiledExpression = listener.getResult();
+ */
+class ParseTreeCompilerListener extends DataPrepperExpressionBaseListener {
+
+    private final OperatorProvider operatorProvider;
+    private final ParseTreeCoercionService coercionService;
+    private final Stack<Integer> operatorSymbolStack;
+    private final List<CompiledExpressionStep> steps;
+    private int stackSize;
+    private int maxStackSize;
+
+    public ParseTreeCompilerListener(final OperatorProvider operatorProvider,
+                                     final ParseTreeCoercionService coercionService) {
+        this.operatorProvider = operatorProvider;
+        this.coercionService = coercionService;
+        operatorSymbolStack = new Stack<>();
+        steps = new ArrayList<>();
+    }
+
+    public CompiledExpression getResult() {
+        if (stackSize != 1) {
+            throw new IllegalStateException("The ParseTreeCompilerListener has not been walked through exactly once by " +
+                    "a ParseTreeWalker.");
+        }
+        return new CompiledExpression(steps, maxStackSize);
+    }
+
+    @Override
+    public void visitTerminal(final TerminalNode node) {
+        final int nodeType = node.getSymbol().getType();
+        if (nodeType == DataPrepperExpressionParser.EOF) {
+            return;
+        }
+        if (operatorProvider.containsOperator(nodeType) || nodeType == DataPrepperExpressionParser.LPAREN) {
+            operatorSymbolStack.push(nodeType);
+        } else if (nodeType == DataPrepperExpressionParser.RPAREN) {
+            // pop LPAREN at operatorSymbolStack top
+            operatorSymbolStack.pop();
+        } else {
+            addOperandStep(coercionService.compilePrimaryTerminalNode(node));
+        }
+    }
+
+    @Override
+    public void visitErrorNode(final ErrorNode node) {
+        throw new RuntimeException("Hit error node in the parse tree: " + node.getText());
+    }
+
+    @Override
+    public void exitEveryRule(final ParserRuleContext ctx) {
+        if (!operatorSymbolStack.isEmpty()) {
+            final int operatorSymbol = operatorSymbolStack.peek();
+            if (operatorSymbol != DataPrepperExpressionParser.LPAREN) {
+                final Operator<?> op = operatorProvider.getOperator(operatorSymbol);
+                if (op.shouldEvaluate(ctx)) {
+                    operatorSymbolStack.pop();
+                    addOperatorStep(op, op.getNumberOfOperands(ctx), getPartialStatementFromContext(ctx));
+                }
+            }
+        }
+    }
+
+    private void addOperandStep(final Function<Event, Object> operand) {
+        steps.add((operandStack, size, event) -> {
+            operandStack[size] = operand.apply(event);
+            return size + 1;
+        });
+        stackSize++;
+        maxStackSize = Math.max(maxStackSize, stackSize);
+    }
+
+    private void addOperatorStep(final Operator<?> operator, final int numOfArgs, final String partialStatement) {
+        steps.add((operandStack, size, event) -> {
+            final int firstArgIndex = size - numOfArgs;
+            final Object result;
+            try {
+                final Object[] args = new Object[numOfArgs];
+                System.arraycopy(operandStack, firstArgIndex, args, 0, numOfArgs);
+                result = operator.evaluate(args);
+            } catch (final Exception e) {
+                throw new ExpressionEvaluationException("Unable to evaluate the part of input statement: "
+                        + partialStatement, e);
+            }
+            operandStack[firstArgIndex] = result;
+            return firstArgIndex + 1;
+        });
+        stackSize = stackSize - numOfArgs + 1;
+    }
+
+    private String getPartialStatementFromContext(final ParserRuleContext ctx) {
+        final Token startToken = ctx.getStart();
+        final Token stopToken = ctx.getStop();
+        final String fullStatement = startToken.getInputStream().toString();
+        return fullStatement.substring(startToken.getStartIndex(), stopToken.getStopIndex() + 1);
+    }
+}
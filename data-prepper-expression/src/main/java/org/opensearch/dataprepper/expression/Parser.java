@@ -9,7 +9,7 @@ interface Parser<T> {
 
     /**
      * @since 1.3
-     * Parse a expression String to an object that can be evaluated by an {@link Evaluator}
+     * Parse a expression String to an object that can be evaluated by an {@link ExpressionEvaluator}
      * @param expression String to be parsed
      * @return Object representing a parsed expression
      */
@@ -19,6 +19,7 @@ import java.util.Random;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -34,7 +35,7 @@ class GenericExpressionEvaluatorTest {
     @Mock
     private Parser<ParseTree> parser;
     @Mock
-    private Evaluator<ParseTree, Event> evaluator;
+    private ParseTreeCompiler compiler;
     @InjectMocks
     private GenericExpressionEvaluator statementEvaluator;
 
@@ -42,29 +43,90 @@ class GenericExpressionEvaluatorTest {
     void testGivenValidParametersThenEvaluatorResultReturned() {
         final String statement = UUID.randomUUID().toString();
         final ParseTree parseTree = mock(ParseTree.class);
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
         final Event event = mock(Event.class);
         final String expectedStr = UUID.randomUUID().toString();
 
         doReturn(parseTree).when(parser).parse(eq(statement));
-        doReturn(expectedStr).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(compiledExpression).when(compiler).compile(eq(parseTree));
+        doReturn(expectedStr).when(compiledExpression).evaluate(eq(event));
 
         final Object actualStr = statementEvaluator.evaluate(statement, event);
 
         assertThat((String)actualStr, is(expectedStr));
         verify(parser).parse(eq(statement));
-        verify(evaluator).evaluate(eq(parseTree), eq(event));
+        verify(compiledExpression).evaluate(eq(event));
 
         final Random random = new Random();
         final Integer expectedInt = random.nextInt(1000);
 
-        doReturn(parseTree).when(parser).parse(eq(statement));
-        doReturn(expectedInt).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(expectedInt).when(compiledExpression).evaluate(eq(event));
 
         final Object actualInt = statementEvaluator.evaluate(statement, event);
 
         assertThat((Integer)actualInt, is(expectedInt));
-        verify(parser, times(2)).parse(eq(statement));
-        verify(evaluator, times(2)).evaluate(eq(parseTree), eq(event));
+        verify(compiledExpression, times(2)).evaluate(eq(event));
+    }
+
+    @Test
+    void evaluate_parses_and_compiles_each_statement_only_once() {
+        final String statement = UUID.randomUUID().toString();
+        final ParseTree parseTree = mock(ParseTree.class);
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
+
+        doReturn(parseTree).when(parser).parse(eq(statement));
+        doReturn(compiledExpression).when(compiler).compile(eq(parseTree));
+
+        for (int i = 0; i < 5; i++) {
+            statementEvaluator.evaluate(statement, mock(Event.class));
+        }
+
+        verify(parser).parse(eq(statement));
+        verify(compiler).compile(eq(parseTree));
+        verify(compiledExpression, times(5)).evaluate(any());
+    }
+
+    @Test
+    void evaluate_compiles_different_statements_separately() {
+        final String statementA = UUID.randomUUID().toString();
+        final String statementB = UUID.randomUUID().toString();
+        final ParseTree parseTreeA = mock(ParseTree.class);
+        final ParseTree parseTreeB = mock(ParseTree.class);
+        final CompiledExpression compiledExpressionA = mock(CompiledExpression.class);
+        final CompiledExpression compiledExpressionB = mock(CompiledExpression.class);
+        final Event event = mock(Event.class);
+
+        doReturn(parseTreeA).when(parser).parse(eq(statementA));
+        doReturn(parseTreeB).when(parser).parse(eq(statementB));
+        doReturn(compiledExpressionA).when(compiler).compile(eq(parseTreeA));
+        doReturn(compiledExpressionB).when(compiler).compile(eq(parseTreeB));
+        doReturn(true).when(compiledExpressionA).evaluate(eq(event));
+        doReturn(false).when(compiledExpressionB).evaluate(eq(event));
+
+        assertThat(statementEvaluator.evaluate(statementA, event), equalTo(true));
+        assertThat(statementEvaluator.evaluate(statementB, event), equalTo(false));
+    }
+
+    @Test
+    void evaluate_caches_at_most_the_maximum_number_of_statements() {
+        final ParseTree parseTree = mock(ParseTree.class);
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
+        final Event event = mock(Event.class);
+
+        doReturn(parseTree).when(parser).parse(any());
+        doReturn(compiledExpression).when(compiler).compile(eq(parseTree));
+
+        final String firstStatement = UUID.randomUUID().toString();
+        statementEvaluator.evaluate(firstStatement, event);
+        for (int i = 0; i < GenericExpressionEvaluator.MAXIMUM_CACHED_EXPRESSIONS * 2; i++) {
+            statementEvaluator.evaluate(UUID.randomUUID().toString(), event);
+        }
+
+        assertThat(statementEvaluator.getCachedExpressionCount(), lessThanOrEqualTo((long) GenericExpressionEvaluator.MAXIMUM_CACHED_EXPRESSIONS));
+
+        statementEvaluator.evaluate(firstStatement, event);
+
+        verify(parser, times(2)).parse(eq(firstStatement));
     }
 
     @Test
@@ -76,22 +138,38 @@ class GenericExpressionEvaluatorTest {
         assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluate(statement, null));
 
         verify(parser).parse(eq(statement));
-        verify(evaluator, times(0)).evaluate(any(), any());
+        verify(compiler, times(0)).compile(any());
+    }
+
+    @Test
+    void testGivenCompilerThrowsExceptionThenExceptionThrownAndNothingCached() {
+        final String statement = UUID.randomUUID().toString();
+        final ParseTree parseTree = mock(ParseTree.class);
+
+        doReturn(parseTree).when(parser).parse(eq(statement));
+        doThrow(new RuntimeException()).when(compiler).compile(eq(parseTree));
+
+        assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluate(statement, null));
+        assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluate(statement, null));
+
+        verify(compiler, times(2)).compile(eq(parseTree));
     }
 
     @Test
     void testGivenEvaluatorThrowsExceptionThenExceptionThrown() {
         final String statement = UUID.randomUUID().toString();
         final ParseTree parseTree = mock(ParseTree.class);
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
         final Event event = mock(Event.class);
 
         doReturn(parseTree).when(parser).parse(eq(statement));
-        doThrow(new RuntimeException()).when(evaluator).evaluate(eq(parseTree), eq(event));
+        doReturn(compiledExpression).when(compiler).compile(eq(parseTree));
+        doThrow(new RuntimeException()).when(compiledExpression).evaluate(eq(event));
 
         assertThrows(ExpressionEvaluationException.class, () -> statementEvaluator.evaluateConditional(statement, event));
 
         verify(parser).parse(eq(statement));
-        verify(evaluator).evaluate(eq(parseTree), eq(event));
+        verify(compiledExpression).evaluate(eq(event));
     }
 
     @Test
@@ -120,4 +198,3 @@ class GenericExpressionEvaluatorTest {
     }
 
 }
-
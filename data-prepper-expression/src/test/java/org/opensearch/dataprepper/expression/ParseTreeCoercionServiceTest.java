@@ -6,6 +6,8 @@
 package org.opensearch.dataprepper.expression;
 
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.antlr.v4.runtime.Token;
@@ -38,6 +40,9 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -64,7 +69,7 @@ class ParseTreeCoercionServiceTest {
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(testNodeStringValue);
         final Event testEvent = createTestEvent(new HashMap<>());
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).apply(testEvent);
         assertThat(result, instanceOf(String.class));
         assertThat(result, equalTo(testString));
     }
@@ -76,7 +81,7 @@ class ParseTreeCoercionServiceTest {
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(String.valueOf(testInteger));
         final Event testEvent = createTestEvent(new HashMap<>());
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).apply(testEvent);
         assertThat(result, instanceOf(Integer.class));
         assertThat(result, equalTo(testInteger));
     }
@@ -88,12 +93,12 @@ class ParseTreeCoercionServiceTest {
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(String.valueOf(testLong));
         final Event testEvent = createTestEvent(new HashMap<>());
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).apply(testEvent);
         assertThat(result, instanceOf(Long.class));
         assertThat(result, equalTo(testLong));
         when(terminalNode.getText()).thenReturn(String.valueOf(-testLong));
         final Event negativeTestEvent = createTestEvent(new HashMap<>());
-        final Object negativeResult = objectUnderTest.coercePrimaryTerminalNode(terminalNode, negativeTestEvent);
+        final Object negativeResult = objectUnderTest.compilePrimaryTerminalNode(terminalNode).apply(negativeTestEvent);
         assertThat(negativeResult, instanceOf(Long.class));
         assertThat(negativeResult, equalTo(-testLong));
     }
@@ -105,7 +110,7 @@ class ParseTreeCoercionServiceTest {
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(String.valueOf(testFloat));
         final Event testEvent = createTestEvent(new HashMap<>());
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).apply(testEvent);
         assertThat(result, instanceOf(Float.class));
         assertThat(result, equalTo(testFloat));
     }
@@ -117,7 +122,7 @@ class ParseTreeCoercionServiceTest {
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(String.valueOf(testBoolean));
         final Event testEvent = createTestEvent(new HashMap<>());
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).apply(testEvent);
         assertThat(result, instanceOf(Boolean.class));
         assertThat(result, equalTo(testBoolean));
     }
@@ -128,7 +133,7 @@ class ParseTreeCoercionServiceTest {
         final Event testEvent = createTestEvent(new HashMap<>());
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(null);
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).apply(testEvent);
         assertThat(result, equalTo(null));
     }
 
@@ -143,7 +148,7 @@ class ParseTreeCoercionServiceTest {
         when(token.getType()).thenReturn(DataPrepperExpressionParser.JsonPointer);
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(testJsonPointerKey);
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).apply(testEvent);
         if (testValue instanceof Double) {
             assertThat(result, instanceOf(Float.class));
             assertThat(result, equalTo(((Double) testValue).floatValue()));
@@ -163,7 +168,7 @@ class ParseTreeCoercionServiceTest {
         when(token.getType()).thenReturn(DataPrepperExpressionParser.JsonPointer);
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(testJsonPointerKey);
-        assertThrows(ExpressionCoercionException.class, () -> objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent));
+        assertThrows(ExpressionCoercionException.class, () -> objectUnderTest.compilePrimaryTerminalNode(terminalNode).apply(testEvent));
     }
 
     @ParameterizedTest
@@ -175,7 +180,7 @@ class ParseTreeCoercionServiceTest {
         when(token.getType()).thenReturn(DataPrepperExpressionParser.EscapedJsonPointer);
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(testEscapeJsonPointer);
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).apply(testEvent);
         assertThat(result, instanceOf(String.class));
         assertThat(result, equalTo(testValue));
     }
@@ -190,7 +195,7 @@ class ParseTreeCoercionServiceTest {
         when(token.getType()).thenReturn(DataPrepperExpressionParser.EscapedJsonPointer);
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(testEscapeJsonPointerKey);
-        final Object result = objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent);
+        final Object result = objectUnderTest.compilePrimaryTerminalNode(terminalNode).apply(testEvent);
         if (testValue instanceof Double) {
             assertThat(result, instanceOf(Float.class));
             assertThat(result, equalTo(((Double) testValue).floatValue()));
@@ -209,7 +214,7 @@ class ParseTreeCoercionServiceTest {
         when(token.getType()).thenReturn(DataPrepperExpressionParser.EscapedJsonPointer);
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn(testEscapeJsonPointerKey);
-        assertThrows(ExpressionCoercionException.class, () -> objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent));
+        assertThrows(ExpressionCoercionException.class, () -> objectUnderTest.compilePrimaryTerminalNode(terminalNode).apply(testEvent));
     }
 
     @Test
@@ -217,7 +222,7 @@ class ParseTreeCoercionServiceTest {
         final Event testEvent = createTestEvent(new HashMap<>());
         when(terminalNode.getSymbol()).thenReturn(token);
         when(token.getType()).thenReturn(-1);
-        assertThrows(ExpressionCoercionException.class, () -> objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent));
+        assertThrows(ExpressionCoercionException.class, () -> objectUnderTest.compilePrimaryTerminalNode(terminalNode).apply(testEvent));
     }
 
     @Test
@@ -243,7 +248,7 @@ class ParseTreeCoercionServiceTest {
         when(terminalNode.getText()).thenReturn("length(/"+key+")");
         when(expressionFunctionProvider.provideFunction(eq("length"), any(List.class), any(Event.class), any(Function.class))).thenReturn(value.length());
         when(token.getType()).thenReturn(DataPrepperExpressionParser.Function);
-        assertThat(objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent), equalTo(value.length()));
+        assertThat(objectUnderTest.compilePrimaryTerminalNode(terminalNode).apply(testEvent), equalTo(value.length()));
     }
 
     @Test
@@ -256,7 +261,7 @@ class ParseTreeCoercionServiceTest {
         when(terminalNode.getText()).thenReturn("length(\""+testString+")");
         when(expressionFunctionProvider.provideFunction(eq("length"), any(List.class), any(Event.class), any(Function.class))).thenReturn(value.length());
         when(token.getType()).thenReturn(DataPrepperExpressionParser.Function);
-        assertThrows(RuntimeException.class, () -> objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent));
+        assertThrows(RuntimeException.class, () -> objectUnderTest.compilePrimaryTerminalNode(terminalNode).apply(testEvent));
     }
 
     @Test
@@ -268,7 +273,7 @@ class ParseTreeCoercionServiceTest {
         when(terminalNode.getText()).thenReturn("length(10)");
         when(expressionFunctionProvider.provideFunction(eq("length"), any(List.class), any(Event.class), any(Function.class))).thenReturn(value.length());
         when(token.getType()).thenReturn(DataPrepperExpressionParser.Function);
-        assertThrows(RuntimeException.class, () -> objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent));
+        assertThrows(RuntimeException.class, () -> objectUnderTest.compilePrimaryTerminalNode(terminalNode).apply(testEvent));
     }
 
     @Test
@@ -280,7 +285,7 @@ class ParseTreeCoercionServiceTest {
         when(terminalNode.getSymbol()).thenReturn(token);
         when(terminalNode.getText()).thenReturn("length(/"+key2+")");
         when(token.getType()).thenReturn(DataPrepperExpressionParser.Function);
-        assertThat(objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent), equalTo(null));
+        assertThat(objectUnderTest.compilePrimaryTerminalNode(terminalNode).apply(testEvent), equalTo(null));
     }
 
     @Test
@@ -288,7 +293,56 @@ class ParseTreeCoercionServiceTest {
         when(terminalNode.getSymbol()).thenReturn(token);
         when(token.getType()).thenReturn(DataPrepperExpressionParser.Function);
         when(terminalNode.getText()).thenReturn("xyz(arg1)");
-        assertThrows(RuntimeException.class, () -> objectUnderTest.coercePrimaryTerminalNode(terminalNode, null));
+        assertThrows(RuntimeException.class, () -> objectUnderTest.compilePrimaryTerminalNode(terminalNode).apply(null));
+    }
+
+    @Test
+    void testCompileTerminalNodeLiteralIsIndependentOfEvent() {
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.Integer);
+        final Integer testInteger = new Random().nextInt();
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn(String.valueOf(testInteger));
+        final Function<Event, Object> compiledNode = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        assertThat(compiledNode.apply(null), equalTo(testInteger));
+        assertThat(compiledNode.apply(createTestEvent(new HashMap<>())), equalTo(testInteger));
+    }
+
+    @Test
+    void testCompileTerminalNodeJsonPointerResolvesValueFromEachEvent() {
+        final String testKey = RandomStringUtils.randomAlphabetic(5);
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.JsonPointer);
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn("/" + testKey);
+        final Function<Event, Object> compiledNode = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        assertThat(compiledNode.apply(createTestEvent(Map.of(testKey, 1))), equalTo(1));
+        assertThat(compiledNode.apply(createTestEvent(Map.of(testKey, 2))), equalTo(2));
+    }
+
+    @Test
+    void testCompileTerminalNodeJsonPointerReadsTheEventWithAnEventKey() {
+        final String testKey = RandomStringUtils.randomAlphabetic(5);
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.JsonPointer);
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn("/" + testKey);
+        final Event testEvent = createTestEvent(Map.of(testKey, 1));
+        final Function<Event, Object> compiledNode = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        assertThat(compiledNode.apply(testEvent), equalTo(1));
+        verify(testEvent).get(EventKey.of("/" + testKey), Object.class);
+        verify(testEvent, never()).get(anyString(), any());
+    }
+
+    @Test
+    void testCompileTerminalNodeFunctionParsesArgumentsOnce() {
+        final String key = RandomStringUtils.randomAlphabetic(5);
+        final Event testEvent = createTestEvent(Map.of(key, "value"));
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn("length(/"+key+")");
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.Function);
+        when(expressionFunctionProvider.provideFunction(eq("length"), eq(List.of("/"+key)), eq(testEvent), any(Function.class))).thenReturn(5);
+        final Function<Event, Object> compiledNode = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        assertThat(compiledNode.apply(testEvent), equalTo(5));
+        assertThat(compiledNode.apply(testEvent), equalTo(5));
+        verify(terminalNode, times(1)).getText();
     }
 
     private Event createTestEvent(final Object data) {
@@ -298,15 +352,25 @@ class ParseTreeCoercionServiceTest {
             Object[] args = invocation.getArguments();
             final String jsonPointer = (String) args[0];
             final Class<?> clazz = (Class<?>) args[1];
-            final JsonNode childNode = node.at(jsonPointer);
-            if (childNode.isMissingNode()) {
-                return null;
-            }
-            return mapper.treeToValue(childNode, clazz);
+            return getValue(node, jsonPointer, clazz);
+        });
+        lenient().when(event.get(any(EventKey.class), any())).thenAnswer(invocation -> {
+            Object[] args = invocation.getArguments();
+            final EventKey eventKey = (EventKey) args[0];
+            final Class<?> clazz = (Class<?>) args[1];
+            return getValue(node, eventKey.getKey(), clazz);
         });
         return event;
     }
 
+    private static Object getValue(final JsonNode node, final String jsonPointer, final Class<?> clazz) throws JsonProcessingException {
+        final JsonNode childNode = node.at(jsonPointer);
+        if (childNode.isMissingNode()) {
+            return null;
+        }
+        return mapper.treeToValue(childNode, clazz);
+    }
+
     private static Stream<Arguments> provideKeys() {
         return Stream.of(
                 Arguments.of("test key", "\"/test key\""),
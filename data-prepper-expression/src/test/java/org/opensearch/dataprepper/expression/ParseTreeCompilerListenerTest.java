@@ -5,13 +5,17 @@
 
 package org.opensearch.dataprepper.expression;
 
-import org.opensearch.dataprepper.model.event.Event;
-import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.antlr.v4.runtime.tree.ErrorNode;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.apache.commons.lang3.RandomStringUtils;
 
 import java.util.Arrays;
@@ -20,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
@@ -30,7 +35,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
-class ParseTreeEvaluatorListenerTest {
+class ParseTreeCompilerListenerTest {
     private final ExpressionFunctionProvider expressionFunctionProvider = mock(ExpressionFunctionProvider.class);
     private final Random random = new Random();
     private final ParseTreeWalker walker = new ParseTreeWalker();
@@ -46,36 +51,131 @@ class ParseTreeEvaluatorListenerTest {
             operatorConfiguration.greaterThanOperator(), operatorConfiguration.greaterThanOrEqualOperator(),
             operatorConfiguration.lessThanOperator(), operatorConfiguration.lessThanOrEqualOperator(),
             operatorConfiguration.regexEqualOperator(), operatorConfiguration.regexNotEqualOperator(),
+            operatorConfiguration.addOperator(), operatorConfiguration.subtractOperator(),
+            operatorConfiguration.multiplyOperator(), operatorConfiguration.divideOperator(),
             new NotOperator()
     );
     private final OperatorProvider operatorProvider = new OperatorProvider(operators);
-    private ParseTreeEvaluatorListener objectUnderTest;
 
     private ParseTreeParser constructParseTreeParser() {
         final DataPrepperExpressionParser expressionParser = new ParseTreeParserConfiguration().dataPrepperExpressionParser();
         return new ParseTreeParser(expressionParser);
     }
 
-    private ParseTreeEvaluatorListener createObjectUnderTest(final Event event) {
-        return new ParseTreeEvaluatorListener(operatorProvider, coercionService, event);
+    private ParseTreeCompilerListener createObjectUnderTest() {
+        return new ParseTreeCompilerListener(operatorProvider, coercionService);
+    }
+
+    private Event createTestEvent() {
+        final Map<String, Object> data = new HashMap<>();
+        data.put("status_code", 200);
+        data.put("duration", 1.5);
+        data.put("success", true);
+        data.put("verb", "GET");
+        data.put("log_type", "apache");
+        data.put("nested", Map.of("count", 7));
+        return JacksonEvent.builder().withEventType("event").withData(data).build();
     }
 
     private Event createTestEvent(final Object data) {
         return JacksonEvent.builder().withEventType("event").withData(data).build();
     }
 
-    private Object evaluateStatementOnEvent(final String statement, final Event event) {
+    private CompiledExpression compile(final String statement) {
         final ParseTree parseTree = parseTreeParser.parse(statement);
-        objectUnderTest = createObjectUnderTest(event);
+        final ParseTreeCompilerListener objectUnderTest = createObjectUnderTest();
         walker.walk(objectUnderTest, parseTree);
         return objectUnderTest.getResult();
     }
 
+    private Object evaluateStatementOnEvent(final String statement, final Event event) {
+        return compile(statement).evaluate(event);
+    }
+
+    private static Stream<Arguments> provideStatementsAndResults() {
+        return Stream.of(
+                Arguments.of("true", true),
+                Arguments.of("null", null),
+                Arguments.of("\"a string\"", "a string"),
+                Arguments.of("3.14", 3.14f),
+                Arguments.of("5000000000", 5000000000L),
+                Arguments.of("/status_code", 200),
+                Arguments.of("\"/status_code\"", 200),
+                Arguments.of("/nested/count", 7),
+                Arguments.of("/missing", null),
+                Arguments.of("/status_code == 200", true),
+                Arguments.of("/status_code != 300", true),
+                Arguments.of("/status_code >= 200 and /status_code < 300", true),
+                Arguments.of("/log_type == \"apache\" or /log_type == \"nginx\"", true),
+                Arguments.of("/verb =~ \"GET|POST\"", true),
+                Arguments.of("/verb !~ \"GET|POST\"", false),
+                Arguments.of("not /success", false),
+                Arguments.of("not (not false) or true", true),
+                Arguments.of("not ((not false) or true)", false),
+                Arguments.of("(/success == true) or (/status_code == 200)", true),
+                Arguments.of("2 > 1 == true", true),
+                Arguments.of("/status_code + 5", 205),
+                Arguments.of("/status_code - 5 * 2", 190),
+                Arguments.of("(/status_code - 5) * 2", 390),
+                Arguments.of("/duration / 3", 0.5f),
+                Arguments.of("-/status_code", -200),
+                Arguments.of("-/status_code == -200", true),
+                Arguments.of("/verb + \"-\" + /log_type", "GET-apache"),
+                Arguments.of("true and 1 == 1", true)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideStatementsAndResults")
+    void compiled_expression_evaluates_the_statement(final String statement, final Object expectedResult) {
+        final Event event = createTestEvent();
+        final CompiledExpression compiledExpression = compile(statement);
+
+        assertThat(compiledExpression.evaluate(event), equalTo(expectedResult));
+        assertThat(compiledExpression.evaluate(event), equalTo(expectedResult));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/status_code and false",
+            "not /status_code",
+            "/success > 1",
+            "1 >= true",
+            "true or 0"
+    })
+    void compiled_expression_throws_when_an_operator_fails(final String statement) {
+        final Event event = createTestEvent();
+        final CompiledExpression compiledExpression = compile(statement);
+
+        assertThrows(ExpressionEvaluationException.class, () -> compiledExpression.evaluate(event));
+    }
+
+    @Test
+    void compiled_expression_resolves_event_values_on_each_evaluation() {
+        final CompiledExpression compiledExpression = compile("/status_code == 200");
+        final Event matchingEvent = createTestEvent();
+        final Event otherEvent = createTestEvent();
+        otherEvent.put("status_code", 404);
+
+        assertThat(compiledExpression.evaluate(matchingEvent), is(true));
+        assertThat(compiledExpression.evaluate(otherEvent), is(false));
+    }
+
+    @Test
+    void compiled_expression_calls_functions_with_each_event() {
+        final Event event = createTestEvent();
+        when(expressionFunctionProvider.provideFunction(eq("length"), any(List.class), eq(event), any(Function.class)))
+                .thenReturn(3);
+
+        final CompiledExpression compiledExpression = compile("length(/verb) == 3");
+
+        assertThat(compiledExpression.evaluate(event), is(true));
+    }
+
     @Test
     void testVisitErrorNode() {
         final ErrorNode errorNode = mock(ErrorNode.class);
-        final Event testEvent = createTestEvent(new HashMap<>());
-        objectUnderTest = createObjectUnderTest(testEvent);
+        final ParseTreeCompilerListener objectUnderTest = createObjectUnderTest();
 
         assertThrows(RuntimeException.class, () -> objectUnderTest.visitErrorNode(errorNode));
     }
@@ -83,13 +183,18 @@ class ParseTreeEvaluatorListenerTest {
     @Test
     void testGetResultWithDoubleWalk() {
         final ParseTree testParseTree = parseTreeParser.parse("true");
-        final Event testEvent = createTestEvent(new HashMap<>());
-        objectUnderTest = createObjectUnderTest(testEvent);
+        final ParseTreeCompilerListener objectUnderTest = createObjectUnderTest();
         walker.walk(objectUnderTest, testParseTree);
         walker.walk(objectUnderTest, testParseTree);
         assertThrows(IllegalStateException.class, objectUnderTest::getResult);
     }
 
+    @Test
+    void testGetResultWithoutWalk() {
+        final ParseTreeCompilerListener objectUnderTest = createObjectUnderTest();
+        assertThrows(IllegalStateException.class, objectUnderTest::getResult);
+    }
+
     @Test
     void testSinglePrimaryExpression() {
         final String testStringValue = "test string";
@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import com.google.common.collect.Maps;
+import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures finding the groups to conclude at the start of each batch while the groups are not yet due, as with the
+ * default group duration. The {@code scanAllGroups} benchmark reproduces the previous implementation, which checked
+ * every group on each call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AggregateGroupManagerBenchmark {
+    private static final Duration GROUP_DURATION = Duration.ofSeconds(180);
+    private static final List<String> IDENTIFICATION_KEYS = List.of("sourceIp", "port");
+
+    @Param({"10000", "100000", "1000000"})
+    private int groupCount;
+
+    private AggregateGroupManager aggregateGroupManager;
+    private Map<IdentificationKeysHasher.IdentificationKeyValues, AggregateGroup> allGroups;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        aggregateGroupManager = new AggregateGroupManager(GROUP_DURATION);
+        allGroups = Maps.newConcurrentMap();
+        for (int i = 0; i < groupCount; i++) {
+            final IdentificationKeysHasher.IdentificationKeyValues identificationKeyValues = new IdentificationKeysHasher.IdentificationKeyValues(
+                    IDENTIFICATION_KEYS, new Object[] {"10.0." + (i >> 8) + "." + (i & 0xff), i % 1024});
+            allGroups.put(identificationKeyValues, aggregateGroupManager.getAggregateGroup(identificationKeyValues));
+        }
+    }
+
+    @Benchmark
+    public List<Map.Entry<IdentificationKeysHasher.IdentificationKeyValues, AggregateGroup>> getGroupsToConclude() {
+        return aggregateGroupManager.getGroupsToConclude(false);
+    }
+
+    @Benchmark
+    public List<Map.Entry<IdentificationKeysHasher.IdentificationKeyValues, AggregateGroup>> scanAllGroups() {
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeyValues, AggregateGroup>> groupsToConclude = new ArrayList<>();
+        for (final Map.Entry<IdentificationKeysHasher.IdentificationKeyValues, AggregateGroup> groupEntry : allGroups.entrySet()) {
+            if (groupEntry.getValue().shouldConcludeGroup(GROUP_DURATION)) {
+                groupsToConclude.add(groupEntry);
+            }
+        }
+        return groupsToConclude;
+    }
+}
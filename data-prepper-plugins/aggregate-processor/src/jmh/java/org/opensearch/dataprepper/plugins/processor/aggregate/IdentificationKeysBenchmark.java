@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import com.google.common.collect.Maps;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.log.JacksonLog;
+import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures finding the group of each event in a batch by the values of its identification keys, as the
+ * {@link AggregateProcessor} does. The {@code identificationKeysMap} benchmark reproduces the previous group key, a
+ * {@link IdentificationKeysHasher.IdentificationKeysMap} holding a new hash map for each event. Run with
+ * {@code -prof gc} to compare the bytes allocated per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class IdentificationKeysBenchmark {
+    private static final int BATCH_SIZE = 1000;
+    private static final int GROUP_COUNT = 10_000;
+    private static final List<String> IDENTIFICATION_KEYS = List.of("sourceIp", "destinationIp", "port");
+
+    private IdentificationKeysHasher identificationKeysHasher;
+    private List<EventKey> identificationEventKeys;
+    private Map<IdentificationKeysHasher.IdentificationKeyValues, Object> groupsByValues;
+    private Map<IdentificationKeysHasher.IdentificationKeysMap, Object> groupsByMap;
+    private List<Event> events;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        identificationKeysHasher = new IdentificationKeysHasher(IDENTIFICATION_KEYS);
+        identificationEventKeys = IDENTIFICATION_KEYS.stream().map(EventKey::of).collect(Collectors.toList());
+        groupsByValues = Maps.newConcurrentMap();
+        groupsByMap = Maps.newConcurrentMap();
+
+        events = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < GROUP_COUNT; i++) {
+            final Event event = JacksonLog.builder()
+                    .withData(Map.of(
+                            "sourceIp", "10.0." + (i >> 8 & 0xff) + "." + (i & 0xff),
+                            "destinationIp", "192.168.0." + (i % 7),
+                            "port", 443,
+                            "bytes", 1000 + i))
+                    .build();
+            groupsByValues.put(identificationKeysHasher.createIdentificationKeyValuesFromEvent(event), new Object());
+            groupsByMap.put(createIdentificationKeysMap(event), new Object());
+            if (i % (GROUP_COUNT / BATCH_SIZE) == 0) {
+                events.add(event);
+            }
+        }
+    }
+
+    @Benchmark
+    public void identificationKeyValues(final Blackhole blackhole) {
+        for (final Event event : events) {
+            blackhole.consume(groupsByValues.get(identificationKeysHasher.createIdentificationKeyValuesFromEvent(event)));
+        }
+    }
+
+    @Benchmark
+    public void identificationKeysMap(final Blackhole blackhole) {
+        for (final Event event : events) {
+            blackhole.consume(groupsByMap.get(createIdentificationKeysMap(event)));
+        }
+    }
+
+    private IdentificationKeysHasher.IdentificationKeysMap createIdentificationKeysMap(final Event event) {
+        final Map<Object, Object> identificationKeysMap = new HashMap<>(IDENTIFICATION_KEYS.size() * 2);
+        for (int i = 0; i < IDENTIFICATION_KEYS.size(); i++) {
+            identificationKeysMap.put(IDENTIFICATION_KEYS.get(i), event.get(identificationEventKeys.get(i), Object.class));
+        }
+        return new IdentificationKeysHasher.IdentificationKeysMap(identificationKeysMap);
+    }
+}
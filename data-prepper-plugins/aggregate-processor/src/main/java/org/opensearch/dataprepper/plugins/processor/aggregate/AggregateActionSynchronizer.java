@@ -50,7 +50,7 @@ class AggregateActionSynchronizer {
         this.actionConcludeGroupEventsProcessingErrors = pluginMetrics.counter(ACTION_CONCLUDE_GROUP_EVENTS_PROCESSING_ERRORS);
     }
 
-    AggregateActionOutput concludeGroup(final IdentificationKeysHasher.IdentificationKeysMap hash, final AggregateGroup aggregateGroup, final boolean forceConclude) {
+    AggregateActionOutput concludeGroup(final IdentificationKeysHasher.IdentificationKeyValues hash, final AggregateGroup aggregateGroup, final boolean forceConclude) {
         final Lock concludeGroupLock = aggregateGroup.getConcludeGroupLock();
         final Lock handleEventForGroupLock = aggregateGroup.getHandleEventForGroupLock();
 
@@ -63,19 +63,25 @@ class AggregateActionSynchronizer {
                     LOG.debug("Start critical section in concludeGroup");
                     actionOutput = aggregateAction.concludeGroup(aggregateGroup);
                     aggregateGroupManager.closeGroup(hash, aggregateGroup);
+                } else {
+                    aggregateGroupManager.retryGroupConclusion(hash, aggregateGroup);
                 }
             } catch (final Exception e) {
                 LOG.debug("Error while concluding group: ", e);
                 actionConcludeGroupEventsProcessingErrors.increment();
+                aggregateGroupManager.retryGroupConclusion(hash, aggregateGroup);
             } finally {
                 handleEventForGroupLock.unlock();
                 concludeGroupLock.unlock();
             }
+        } else {
+            // The group was handed to this worker only once, so it must be registered again to be concluded later
+            aggregateGroupManager.retryGroupConclusion(hash, aggregateGroup);
         }
         return actionOutput;
     }
 
-    AggregateActionResponse handleEventForGroup(final Event event, final IdentificationKeysHasher.IdentificationKeysMap hash, final AggregateGroup aggregateGroup) {
+    AggregateActionResponse handleEventForGroup(final Event event, final IdentificationKeysHasher.IdentificationKeyValues hash, final AggregateGroup aggregateGroup) {
         final Lock concludeGroupLock = aggregateGroup.getConcludeGroupLock();
         final Lock handleEventForGroupLock = aggregateGroup.getHandleEventForGroupLock();
 
@@ -49,6 +49,10 @@ class AggregateGroup implements AggregateActionInput {
         customShouldConclude = shouldConclude;
     }
 
+    boolean hasCustomShouldConclude() {
+        return customShouldConclude != null;
+    }
+
     Lock getHandleEventForGroupLock() {
         return handleEventForGroupLock;
     }
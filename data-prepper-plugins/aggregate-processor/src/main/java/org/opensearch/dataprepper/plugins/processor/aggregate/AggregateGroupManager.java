@@ -9,40 +9,102 @@ import com.google.common.collect.Maps;
 import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Tracks the groups of the aggregate processor and finds the groups to conclude.
+ * <p>
+ * Each group is registered in an index ordered by its conclusion time when the group is created, or when a concluded
+ * group is put back by a worker. Finding the groups to conclude only reads the registrations which are due, so the
+ * cost does not depend on the number of groups. Each due registration is removed by exactly one worker, so a group
+ * is handed to only one worker for conclusion. Registrations of groups which were concluded or replaced in the
+ * meantime are discarded.
+ * <p>
+ * The conclusion time of a group with a custom conclusion condition is not known in advance. These groups are
+ * checked on each call until they are concluded.
+ */
 class AggregateGroupManager {
 
-    private final Map<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> allGroups = Maps.newConcurrentMap();
+    private final Map<IdentificationKeysHasher.IdentificationKeyValues, AggregateGroup> allGroups = Maps.newConcurrentMap();
+    private final Map<IdentificationKeysHasher.IdentificationKeyValues, AggregateGroup> customConclusionGroups = Maps.newConcurrentMap();
+    private final NavigableSet<GroupConclusion> groupConclusions = new ConcurrentSkipListSet<>(
+            Comparator.comparing((GroupConclusion groupConclusion) -> groupConclusion.conclusionTime)
+                    .thenComparingLong(groupConclusion -> groupConclusion.sequence));
+    private final AtomicLong groupConclusionSequence = new AtomicLong();
     private final Duration groupDuration;
 
     AggregateGroupManager(final Duration groupDuration) {
         this.groupDuration = groupDuration;
     }
 
-    AggregateGroup getAggregateGroup(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
-        return allGroups.computeIfAbsent(identificationKeysMap, (hash) -> new AggregateGroup(identificationKeysMap.getKeyMap()));
+    AggregateGroup getAggregateGroup(final IdentificationKeysHasher.IdentificationKeyValues identificationKeyValues) {
+        return allGroups.computeIfAbsent(identificationKeyValues, (hash) -> {
+            final AggregateGroup aggregateGroup = new AggregateGroup(identificationKeyValues.getKeyMap());
+            scheduleGroupConclusion(identificationKeyValues, aggregateGroup, aggregateGroup.getGroupStart().plus(groupDuration));
+            return aggregateGroup;
+        });
     }
 
-    List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> getGroupsToConclude(final boolean forceConclude) {
-        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = new ArrayList<>();
-        for (final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry : allGroups.entrySet()) {
-            if (groupEntry.getValue().shouldConcludeGroup(groupDuration) || forceConclude) {
+    List<Map.Entry<IdentificationKeysHasher.IdentificationKeyValues, AggregateGroup>> getGroupsToConclude(final boolean forceConclude) {
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeyValues, AggregateGroup>> groupsToConclude = new ArrayList<>();
+        if (forceConclude) {
+            groupsToConclude.addAll(allGroups.entrySet());
+            return groupsToConclude;
+        }
+
+        final Instant now = Instant.now();
+        for (final GroupConclusion groupConclusion : groupConclusions) {
+            if (groupConclusion.conclusionTime.isAfter(now)) {
+                break;
+            }
+            if (groupConclusions.remove(groupConclusion) && isCurrentGroup(groupConclusion.identificationKeyValues, groupConclusion.aggregateGroup)
+                    && !groupConclusion.aggregateGroup.hasCustomShouldConclude()) {
+                final AggregateGroup aggregateGroup = groupConclusion.aggregateGroup;
+                if (aggregateGroup.shouldConcludeGroup(groupDuration)) {
+                    groupsToConclude.add(new AbstractMap.SimpleImmutableEntry<>(groupConclusion.identificationKeyValues, aggregateGroup));
+                } else {
+                    scheduleGroupConclusion(groupConclusion.identificationKeyValues, aggregateGroup, aggregateGroup.getGroupStart().plus(groupDuration));
+                }
+            }
+        }
+
+        for (final Map.Entry<IdentificationKeysHasher.IdentificationKeyValues, AggregateGroup> groupEntry : customConclusionGroups.entrySet()) {
+            if (!isCurrentGroup(groupEntry.getKey(), groupEntry.getValue())) {
+                customConclusionGroups.remove(groupEntry.getKey(), groupEntry.getValue());
+            } else if (groupEntry.getValue().shouldConcludeGroup(groupDuration)) {
                 groupsToConclude.add(groupEntry);
             }
         }
         return groupsToConclude;
     }
 
-    void closeGroup(final IdentificationKeysHasher.IdentificationKeysMap hashKeyMap, final AggregateGroup group) {
-        allGroups.remove(hashKeyMap, group);
+    void closeGroup(final IdentificationKeysHasher.IdentificationKeyValues identificationKeyValues, final AggregateGroup group) {
+        allGroups.remove(identificationKeyValues, group);
+        customConclusionGroups.remove(identificationKeyValues, group);
         group.resetGroup();
     }
 
-    void putGroupWithHash(final IdentificationKeysHasher.IdentificationKeysMap hashKeyMap, final AggregateGroup group) {
-        allGroups.put(hashKeyMap, group);
+    void putGroupWithHash(final IdentificationKeysHasher.IdentificationKeyValues identificationKeyValues, final AggregateGroup group) {
+        final AggregateGroup previousGroup = allGroups.put(identificationKeyValues, group);
+        if (previousGroup != group || (group.hasCustomShouldConclude() && customConclusionGroups.get(identificationKeyValues) != group)) {
+            scheduleGroupConclusion(identificationKeyValues, group, group.getGroupStart().plus(groupDuration));
+        }
+    }
+
+    /**
+     * Registers a group which was returned by {@link #getGroupsToConclude(boolean)} but was not concluded, so that it
+     * is returned again by the next call once it is due.
+     */
+    void retryGroupConclusion(final IdentificationKeysHasher.IdentificationKeyValues identificationKeyValues, final AggregateGroup group) {
+        scheduleGroupConclusion(identificationKeyValues, group, Instant.now());
     }
 
     long getAllGroupsSize() {
@@ -52,4 +114,32 @@ class AggregateGroupManager {
     Duration getGroupDuration() {
         return this.groupDuration;
     }
+
+    private boolean isCurrentGroup(final IdentificationKeysHasher.IdentificationKeyValues identificationKeyValues, final AggregateGroup group) {
+        return allGroups.get(identificationKeyValues) == group;
+    }
+
+    private void scheduleGroupConclusion(final IdentificationKeysHasher.IdentificationKeyValues identificationKeyValues, final AggregateGroup group,
+                                         final Instant conclusionTime) {
+        if (group.hasCustomShouldConclude()) {
+            customConclusionGroups.put(identificationKeyValues, group);
+        } else {
+            groupConclusions.add(new GroupConclusion(identificationKeyValues, group, conclusionTime, groupConclusionSequence.getAndIncrement()));
+        }
+    }
+
+    private static class GroupConclusion {
+        private final IdentificationKeysHasher.IdentificationKeyValues identificationKeyValues;
+        private final AggregateGroup aggregateGroup;
+        private final Instant conclusionTime;
+        private final long sequence;
+
+        private GroupConclusion(final IdentificationKeysHasher.IdentificationKeyValues identificationKeyValues, final AggregateGroup aggregateGroup,
+                                final Instant conclusionTime, final long sequence) {
+            this.identificationKeyValues = identificationKeyValues;
+            this.aggregateGroup = aggregateGroup;
+            this.conclusionTime = conclusionTime;
+            this.sequence = sequence;
+        }
+    }
 }
@@ -21,6 +21,9 @@ import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.locks.Lock;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -32,6 +35,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,7 +52,7 @@ public class AggregateActionSynchronizerTest {
     private AggregateGroup aggregateGroup;
 
     @Mock
-    private IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap;
+    private IdentificationKeysHasher.IdentificationKeyValues identificationKeysMap;
 
     @Mock
     private AggregateActionResponse aggregateActionResponse;
@@ -102,7 +106,8 @@ public class AggregateActionSynchronizerTest {
 
         verifyNoInteractions(handleEventForGroupLock);
         verifyNoInteractions(aggregateAction);
-        verifyNoInteractions(aggregateGroupManager);
+        verify(aggregateGroupManager).retryGroupConclusion(identificationKeysMap, aggregateGroup);
+        verifyNoMoreInteractions(aggregateGroupManager);
         verify(concludeGroupLock, times(0)).unlock();
 
         assertTrue(concludeGroupEvents.isEmpty());
@@ -137,10 +142,11 @@ public class AggregateActionSynchronizerTest {
         final AggregateActionOutput actionOutput = objectUnderTest.concludeGroup(identificationKeysMap, aggregateGroup, false);
         final List<Event> concludeGroupEvents = actionOutput.getEvents();
 
-        final InOrder inOrder = Mockito.inOrder(handleEventForGroupLock, aggregateAction, concludeGroupLock, actionConcludeGroupEventsProcessingErrors);
+        final InOrder inOrder = Mockito.inOrder(handleEventForGroupLock, aggregateAction, concludeGroupLock, actionConcludeGroupEventsProcessingErrors, aggregateGroupManager);
         inOrder.verify(handleEventForGroupLock).lock();
         inOrder.verify(aggregateAction).concludeGroup(aggregateGroup);
         inOrder.verify(actionConcludeGroupEventsProcessingErrors).increment();
+        inOrder.verify(aggregateGroupManager).retryGroupConclusion(identificationKeysMap, aggregateGroup);
         inOrder.verify(handleEventForGroupLock).unlock();
         inOrder.verify(concludeGroupLock).unlock();
 
@@ -198,6 +204,7 @@ public class AggregateActionSynchronizerTest {
         inOrder.verify(handleEventForGroupLock).lock();
         inOrder.verify(aggregateGroup).shouldConcludeGroup(any(Duration.class));
         inOrder.verify(aggregateGroupManager, times(0)).getGroupDuration();
+        inOrder.verify(aggregateGroupManager).retryGroupConclusion(identificationKeysMap, aggregateGroup);
         inOrder.verify(handleEventForGroupLock).unlock();
         inOrder.verify(concludeGroupLock).unlock();
 
@@ -227,4 +234,38 @@ public class AggregateActionSynchronizerTest {
         assertThat(concludeGroupEvents.size(), equalTo(1));
         assertThat(concludeGroupEvents.get(0), equalTo(event));
     }
+
+    @Test
+    void concludeGroup_concludes_group_on_a_later_call_when_tryLock_fails_while_an_event_is_handled() throws Exception {
+        final AggregateGroupManager groupManager = new AggregateGroupManager(Duration.ZERO);
+        final IdentificationKeysHasher.IdentificationKeyValues identificationKeyValues =
+                new IdentificationKeysHasher.IdentificationKeyValues(List.of("key"), new Object[] {"value"});
+        final AggregateGroup group = groupManager.getAggregateGroup(identificationKeyValues);
+        when(aggregateAction.concludeGroup(group)).thenReturn(new AggregateActionOutput(List.of(event)));
+        final AggregateActionSynchronizer objectUnderTest = new AggregateActionSynchronizer.AggregateActionSynchronizerProvider()
+                .provide(aggregateAction, groupManager, pluginMetrics);
+
+        final ExecutorService eventHandler = Executors.newSingleThreadExecutor();
+        try {
+            // handleEventForGroup holds the conclude group lock while it passes the turnstile
+            eventHandler.submit(() -> group.getConcludeGroupLock().lock()).get();
+
+            final List<Map.Entry<IdentificationKeysHasher.IdentificationKeyValues, AggregateGroup>> groupsToConclude = groupManager.getGroupsToConclude(false);
+            assertThat(groupsToConclude.size(), equalTo(1));
+            assertTrue(objectUnderTest.concludeGroup(identificationKeyValues, group, false).getEvents().isEmpty());
+
+            eventHandler.submit(() -> group.getConcludeGroupLock().unlock()).get();
+        } finally {
+            eventHandler.shutdown();
+        }
+
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeyValues, AggregateGroup>> groupsToConclude = groupManager.getGroupsToConclude(false);
+        assertThat(groupsToConclude.size(), equalTo(1));
+        assertThat(groupsToConclude.get(0).getValue(), equalTo(group));
+
+        final AggregateActionOutput actionOutput = objectUnderTest.concludeGroup(identificationKeyValues, group, false);
+        assertThat(actionOutput.getEvents(), equalTo(List.of(event)));
+        assertThat(groupManager.getAllGroupsSize(), equalTo(0L));
+        assertTrue(groupManager.getGroupsToConclude(false).isEmpty());
+    }
 }
@@ -10,16 +10,22 @@ import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.mock;
@@ -29,22 +35,23 @@ public class AggregateGroupManagerTest {
 
     private AggregateGroupManager aggregateGroupManager;
 
-    private IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap;
+    private IdentificationKeysHasher.IdentificationKeyValues identificationKeysMap;
 
     private static final Duration TEST_GROUP_DURATION = Duration.ofSeconds(new Random().nextInt(10) + 10);
 
     @BeforeEach
     void setup() {
-        final Map<Object, Object> identificationKeysHash = new HashMap<>();
-        identificationKeysHash.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
-
-        identificationKeysMap = new IdentificationKeysHasher.IdentificationKeysMap(identificationKeysHash);
+        identificationKeysMap = createIdentificationKeysMap();
     }
 
     private AggregateGroupManager createObjectUnderTest() {
         return new AggregateGroupManager(TEST_GROUP_DURATION);
     }
 
+    private static IdentificationKeysHasher.IdentificationKeyValues createIdentificationKeysMap() {
+        return new IdentificationKeysHasher.IdentificationKeyValues(List.of(UUID.randomUUID().toString()), new Object[] {UUID.randomUUID().toString()});
+    }
+
     @Test
     void getGroup_with_non_existing_group_state_creates_and_returns_new_group_and_adds_to_allGroups() {
         aggregateGroupManager = createObjectUnderTest();
@@ -77,11 +84,13 @@ public class AggregateGroupManagerTest {
         aggregateGroupManager = createObjectUnderTest();
 
         final AggregateGroup expectedOldGroup = mock(AggregateGroup.class);
+        when(expectedOldGroup.getGroupStart()).thenReturn(Instant.now());
         aggregateGroupManager.putGroupWithHash(identificationKeysMap, expectedOldGroup);
         final AggregateGroup oldGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
         assertThat(oldGroup, equalTo(expectedOldGroup));
 
         final AggregateGroup expectedNewGroup = mock(AggregateGroup.class);
+        when(expectedNewGroup.getGroupStart()).thenReturn(Instant.now());
         aggregateGroupManager.putGroupWithHash(identificationKeysMap, expectedNewGroup);
         final AggregateGroup newGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
         assertThat(newGroup, equalTo(expectedNewGroup));
@@ -93,16 +102,18 @@ public class AggregateGroupManagerTest {
 
         final AggregateGroup groupToConclude = mock(AggregateGroup.class);
         when(groupToConclude.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(true);
-        final IdentificationKeysHasher.IdentificationKeysMap hashForGroupToConclude = mock(IdentificationKeysHasher.IdentificationKeysMap.class);
+        when(groupToConclude.getGroupStart()).thenReturn(Instant.now().minus(TEST_GROUP_DURATION));
+        final IdentificationKeysHasher.IdentificationKeyValues hashForGroupToConclude = mock(IdentificationKeysHasher.IdentificationKeyValues.class);
 
         final AggregateGroup groupToNotConclude = mock(AggregateGroup.class);
         when(groupToNotConclude.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(false);
-        final IdentificationKeysHasher.IdentificationKeysMap hashForGroupToNotConclude = mock(IdentificationKeysHasher.IdentificationKeysMap.class);
+        when(groupToNotConclude.getGroupStart()).thenReturn(Instant.now());
+        final IdentificationKeysHasher.IdentificationKeyValues hashForGroupToNotConclude = mock(IdentificationKeysHasher.IdentificationKeyValues.class);
 
         aggregateGroupManager.putGroupWithHash(hashForGroupToConclude, groupToConclude);
         aggregateGroupManager.putGroupWithHash(hashForGroupToNotConclude, groupToNotConclude);
 
-        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeyValues, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
 
         assertThat(groupsToConclude.size(), equalTo(1));
         assertThat(groupsToConclude.get(0), notNullValue());
@@ -115,15 +126,17 @@ public class AggregateGroupManagerTest {
         aggregateGroupManager = createObjectUnderTest();
 
         final AggregateGroup groupToConclude1 = mock(AggregateGroup.class);
-        final IdentificationKeysHasher.IdentificationKeysMap hashForGroupToConclude1 = mock(IdentificationKeysHasher.IdentificationKeysMap.class);
+        when(groupToConclude1.getGroupStart()).thenReturn(Instant.now());
+        final IdentificationKeysHasher.IdentificationKeyValues hashForGroupToConclude1 = mock(IdentificationKeysHasher.IdentificationKeyValues.class);
 
         final AggregateGroup groupToConclude2 = mock(AggregateGroup.class);
-        final IdentificationKeysHasher.IdentificationKeysMap hashForGroupToConclude2 = mock(IdentificationKeysHasher.IdentificationKeysMap.class);
+        when(groupToConclude2.getGroupStart()).thenReturn(Instant.now());
+        final IdentificationKeysHasher.IdentificationKeyValues hashForGroupToConclude2 = mock(IdentificationKeysHasher.IdentificationKeyValues.class);
 
         aggregateGroupManager.putGroupWithHash(hashForGroupToConclude1, groupToConclude1);
         aggregateGroupManager.putGroupWithHash(hashForGroupToConclude2, groupToConclude2);
 
-        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(true);
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeyValues, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(true);
 
         assertThat(groupsToConclude.size(), equalTo(2));
         assertThat(groupsToConclude.get(0), notNullValue());
@@ -141,4 +154,156 @@ public class AggregateGroupManagerTest {
             assertThat(groupsToConclude.get(1).getValue(), equalTo(groupToConclude1));
         }
     }
+
+    @Test
+    void getGroupsToConclude_does_not_return_new_group_before_group_duration() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), is(empty()));
+    }
+
+    @Test
+    void getGroupsToConclude_returns_each_due_group_only_once() {
+        aggregateGroupManager = new AggregateGroupManager(Duration.ZERO);
+
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeyValues, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
+        assertThat(groupsToConclude.size(), equalTo(1));
+        assertThat(groupsToConclude.get(0).getKey(), equalTo(identificationKeysMap));
+        assertThat(groupsToConclude.get(0).getValue(), is(sameInstance(aggregateGroup)));
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), is(empty()));
+    }
+
+    @Test
+    void getGroupsToConclude_returns_group_again_after_retryGroupConclusion() {
+        aggregateGroupManager = new AggregateGroupManager(Duration.ZERO);
+
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false).size(), equalTo(1));
+
+        aggregateGroupManager.retryGroupConclusion(identificationKeysMap, aggregateGroup);
+
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeyValues, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
+        assertThat(groupsToConclude.size(), equalTo(1));
+        assertThat(groupsToConclude.get(0).getValue(), is(sameInstance(aggregateGroup)));
+    }
+
+    @Test
+    void getGroupsToConclude_returns_group_after_retryGroupConclusion_once_it_is_due_again() throws InterruptedException {
+        final Duration groupDuration = Duration.ofMillis(200);
+        aggregateGroupManager = new AggregateGroupManager(groupDuration);
+
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+        Thread.sleep(groupDuration.toMillis() * 2);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false).size(), equalTo(1));
+
+        aggregateGroup.resetGroup();
+        aggregateGroupManager.retryGroupConclusion(identificationKeysMap, aggregateGroup);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), is(empty()));
+
+        Thread.sleep(groupDuration.toMillis() * 2);
+
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeyValues, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
+        assertThat(groupsToConclude.size(), equalTo(1));
+        assertThat(groupsToConclude.get(0).getValue(), is(sameInstance(aggregateGroup)));
+    }
+
+    @Test
+    void getGroupsToConclude_returns_closed_group_again_after_putGroupWithHash() {
+        aggregateGroupManager = new AggregateGroupManager(Duration.ZERO);
+
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false).size(), equalTo(1));
+        aggregateGroupManager.closeGroup(identificationKeysMap, aggregateGroup);
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(0L));
+
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, aggregateGroup);
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, aggregateGroup);
+
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeyValues, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
+        assertThat(groupsToConclude.size(), equalTo(1));
+        assertThat(groupsToConclude.get(0).getValue(), is(sameInstance(aggregateGroup)));
+    }
+
+    @Test
+    void getGroupsToConclude_does_not_return_closed_or_replaced_groups() {
+        aggregateGroupManager = new AggregateGroupManager(Duration.ZERO);
+
+        final AggregateGroup closedGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+        aggregateGroupManager.closeGroup(identificationKeysMap, closedGroup);
+
+        final IdentificationKeysHasher.IdentificationKeyValues replacedIdentificationKeysMap = createIdentificationKeysMap();
+        aggregateGroupManager.getAggregateGroup(replacedIdentificationKeysMap);
+        final AggregateGroup newGroup = new AggregateGroup(replacedIdentificationKeysMap.getKeyMap());
+        aggregateGroupManager.putGroupWithHash(replacedIdentificationKeysMap, newGroup);
+
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeyValues, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
+        assertThat(groupsToConclude.size(), equalTo(1));
+        assertThat(groupsToConclude.get(0).getKey(), equalTo(replacedIdentificationKeysMap));
+        assertThat(groupsToConclude.get(0).getValue(), is(sameInstance(newGroup)));
+    }
+
+    @Test
+    void getGroupsToConclude_checks_group_with_custom_should_conclude_until_it_is_closed() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+        final boolean[] shouldConclude = {false};
+        aggregateGroup.setCustomShouldConclude(duration -> shouldConclude[0]);
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, aggregateGroup);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), is(empty()));
+
+        shouldConclude[0] = true;
+        assertThat(aggregateGroupManager.getGroupsToConclude(false).size(), equalTo(1));
+        assertThat(aggregateGroupManager.getGroupsToConclude(false).size(), equalTo(1));
+
+        aggregateGroupManager.closeGroup(identificationKeysMap, aggregateGroup);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), is(empty()));
+    }
+
+    @Test
+    void getGroupsToConclude_does_not_return_replaced_group_with_custom_should_conclude() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+        aggregateGroup.setCustomShouldConclude(duration -> true);
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, aggregateGroup);
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, new AggregateGroup(identificationKeysMap.getKeyMap()));
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), is(empty()));
+    }
+
+    @Test
+    void getGroupsToConclude_from_concurrent_workers_returns_each_due_group_once() throws Exception {
+        aggregateGroupManager = new AggregateGroupManager(Duration.ZERO);
+
+        final int groupCount = 10_000;
+        for (int i = 0; i < groupCount; i++) {
+            aggregateGroupManager.getAggregateGroup(createIdentificationKeysMap());
+        }
+
+        final int workers = 4;
+        final ExecutorService executorService = Executors.newFixedThreadPool(workers);
+        try {
+            final List<Future<List<Map.Entry<IdentificationKeysHasher.IdentificationKeyValues, AggregateGroup>>>> futures = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                futures.add(executorService.submit(() -> aggregateGroupManager.getGroupsToConclude(false)));
+            }
+            final List<AggregateGroup> concludedGroups = new ArrayList<>();
+            for (final Future<List<Map.Entry<IdentificationKeysHasher.IdentificationKeyValues, AggregateGroup>>> future : futures) {
+                future.get(10, TimeUnit.SECONDS).forEach(groupEntry -> concludedGroups.add(groupEntry.getValue()));
+            }
+
+            assertThat(concludedGroups.size(), equalTo(groupCount));
+            assertThat(concludedGroups.stream().distinct().count(), equalTo((long) groupCount));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
 }
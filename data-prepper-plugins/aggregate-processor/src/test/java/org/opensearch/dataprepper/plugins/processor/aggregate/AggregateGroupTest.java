@@ -50,6 +50,16 @@ public class AggregateGroupTest {
         assertThat(aggregateGroup.shouldConcludeGroup(TEST_GROUP_DURATION), equalTo(false));
     }
 
+    @Test
+    void hasCustomShouldConclude_returns_true_only_after_setting_custom_should_conclude() {
+        final AggregateGroup aggregateGroup = new AggregateGroup(null);
+        assertThat(aggregateGroup.hasCustomShouldConclude(), equalTo(false));
+
+        aggregateGroup.setCustomShouldConclude(duration -> true);
+
+        assertThat(aggregateGroup.hasCustomShouldConclude(), equalTo(true));
+    }
+
     private void reflectivelySetField(final AggregateGroup aggregateGroup, final String fieldName, final Object value) throws NoSuchFieldException, IllegalAccessException {
         final Field field = AggregateGroup.class.getDeclaredField(fieldName);
         try {
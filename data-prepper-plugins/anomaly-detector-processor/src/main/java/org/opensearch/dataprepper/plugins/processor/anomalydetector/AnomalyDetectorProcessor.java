@@ -42,7 +42,7 @@ public class AnomalyDetectorProcessor extends AbstractProcessor<Record<Event>, R
     private final IdentificationKeysHasher identificationKeysHasher;
     private final List<String> keys;
     private final PluginFactory pluginFactory;
-    private final HashMap<Integer, AnomalyDetectorMode> forestMap;
+    private final HashMap<IdentificationKeysHasher.IdentificationKeyValues, AnomalyDetectorMode> forestMap;
     private final AtomicInteger cardinality;
     private final AnomalyDetectorProcessorConfig anomalyDetectorProcessorConfig;
     private static final Logger LOG = LoggerFactory.getLogger(AnomalyDetectorProcessor.class);
@@ -74,17 +74,17 @@ public class AnomalyDetectorProcessor extends AbstractProcessor<Record<Event>, R
 
         for (final Record<Event> record : records) {
             final Event event = record.getData();
-            // If user has not configured IdentificationKeys, the empty set will always hash to "31",
+            // If user has not configured IdentificationKeys, every event has the same empty values,
             // so the same forest will be used, and we don't need to write a special case.
-            final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = identificationKeysHasher.createIdentificationKeysMapFromEvent(event);
-            AnomalyDetectorMode forest = forestMap.get(identificationKeysMap.hashCode());
+            final IdentificationKeysHasher.IdentificationKeyValues identificationKeyValues = identificationKeysHasher.createIdentificationKeyValuesFromEvent(event);
+            AnomalyDetectorMode forest = forestMap.get(identificationKeyValues);
 
             if (Objects.nonNull(forest)) {
                 recordsOut.addAll(forest.handleEvents(List.of(record)));
             } else if (forestMap.size() < cardinalityLimit) {
                 forest = loadAnomalyDetectorMode(pluginFactory);
                 forest.initialize(keys, verbose);
-                forestMap.put(identificationKeysMap.hashCode(), forest);
+                forestMap.put(identificationKeyValues, forest);
                 recordsOut.addAll(forest.handleEvents(List.of(record)));
             } else {
                 if (Instant.now().isAfter(nextWarnTime)) {
@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.hasher;
+
+/**
+ * The 64-bit FNV-1a hash, which is cheap to compute incrementally, and the finalizer of MurmurHash3, which spreads
+ * every bit of an FNV-1a hash over all 64 bits. A hash starts with {@link #OFFSET_BASIS}, is updated with each part
+ * of the value and is finished with {@link #mix(long)}.
+ *
+ * @since 2.5
+ */
+public final class Fnv1aHash {
+    public static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    public static final long PRIME = 0x100000001b3L;
+
+    private Fnv1aHash() {
+    }
+
+    /**
+     * Updates the hash with a character.
+     *
+     * @param hash the hash so far
+     * @param value the character
+     * @return the updated hash
+     */
+    public static long hashChar(final long hash, final char value) {
+        return (hash ^ value) * PRIME;
+    }
+
+    /**
+     * Updates the hash with each character of the value.
+     *
+     * @param hash the hash so far
+     * @param value the characters
+     * @return the updated hash
+     */
+    public static long hashChars(final long hash, final CharSequence value) {
+        long updatedHash = hash;
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            updatedHash = (updatedHash ^ value.charAt(i)) * PRIME;
+        }
+        return updatedHash;
+    }
+
+    /**
+     * Updates the hash with each of the eight bytes of the value.
+     *
+     * @param hash the hash so far
+     * @param value the value
+     * @return the updated hash
+     */
+    public static long hashLong(final long hash, final long value) {
+        long updatedHash = hash;
+        long remaining = value;
+        for (int i = 0; i < Long.BYTES; i++) {
+            updatedHash = (updatedHash ^ (remaining & 0xff)) * PRIME;
+            remaining >>>= 8;
+        }
+        return updatedHash;
+    }
+
+    /**
+     * Finishes a hash with the finalizer of MurmurHash3.
+     *
+     * @param hash the hash
+     * @return the finished hash
+     */
+    public static long mix(final long hash) {
+        long mixed = hash;
+        mixed ^= mixed >>> 33;
+        mixed *= 0xff51afd7ed558ccdL;
+        mixed ^= mixed >>> 33;
+        mixed *= 0xc4ceb9fe1a85ec53L;
+        mixed ^= mixed >>> 33;
+        return mixed;
+    }
+}
@@ -6,24 +6,118 @@
 package org.opensearch.dataprepper.plugins.hasher;
 
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 public class IdentificationKeysHasher {
     private final List<String> identificationKeys;
+    private final List<EventKey> identificationEventKeys;
     public IdentificationKeysHasher(final List<String> identificationKeys) {
         this.identificationKeys = identificationKeys;
+        this.identificationEventKeys = identificationKeys.stream()
+                .map(EventKey::of)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Reads the values of the identification keys from an event.
+     *
+     * @param event the event
+     * @return the values of the identification keys, which can be used as the key of a hash map
+     * @since 2.5
+     */
+    public IdentificationKeyValues createIdentificationKeyValuesFromEvent(final Event event) {
+        final Object[] values = new Object[identificationEventKeys.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = event.get(identificationEventKeys.get(i), Object.class);
+        }
+        return new IdentificationKeyValues(identificationKeys, values);
     }
 
     public IdentificationKeysMap createIdentificationKeysMapFromEvent(final Event event) {
-        final Map<Object, Object> identificationKeysMap = new HashMap<>();
-        for (final String identificationKey : identificationKeys) {
-            identificationKeysMap.put(identificationKey, event.get(identificationKey, Object.class));
+        return new IdentificationKeysMap(createIdentificationKeyValuesFromEvent(event).getKeyMap());
+    }
+
+    /**
+     * The values of the identification keys of an event, in the order of the identification keys. The 64-bit hash
+     * of the values is computed once, and two instances with different hashes are unequal without comparing the
+     * values. The characters of strings and the bits of integral and floating-point numbers are hashed, while other
+     * values only contribute their 32-bit {@link Object#hashCode()}.
+     *
+     * @since 2.5
+     */
+    public static class IdentificationKeyValues {
+        private final List<String> identificationKeys;
+        private final Object[] values;
+        private final long hash;
+
+        public IdentificationKeyValues(final List<String> identificationKeys, final Object[] values) {
+            this.identificationKeys = identificationKeys;
+            this.values = values;
+            this.hash = hash(values);
+        }
+
+        /**
+         * @return the 64-bit hash of the values
+         */
+        public long getHash() {
+            return hash;
+        }
+
+        /**
+         * @return a new map of each identification key to its value
+         */
+        public Map<Object, Object> getKeyMap() {
+            final Map<Object, Object> keyMap = new HashMap<>(values.length * 2);
+            for (int i = 0; i < values.length; i++) {
+                keyMap.put(identificationKeys.get(i), values[i]);
+            }
+            return keyMap;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final IdentificationKeyValues that = (IdentificationKeyValues) o;
+            return hash == that.hash
+                    && Arrays.equals(values, that.values)
+                    && (identificationKeys == that.identificationKeys || identificationKeys.equals(that.identificationKeys));
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) (hash ^ (hash >>> 32));
+        }
+
+        private static long hash(final Object[] values) {
+            long hash = Fnv1aHash.OFFSET_BASIS;
+            for (final Object value : values) {
+                hash = hashValue(hash, value);
+            }
+            return Fnv1aHash.mix(hash);
+        }
+
+        private static long hashValue(final long hash, final Object value) {
+            if (value instanceof String) {
+                final String string = (String) value;
+                // The length separates the values, so that "ab", "c" and "a", "bc" hash differently
+                return Fnv1aHash.hashLong(Fnv1aHash.hashChars(hash, string), string.length());
+            }
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return Fnv1aHash.hashLong(hash, ((Number) value).longValue());
+            }
+            if (value instanceof Double) {
+                return Fnv1aHash.hashLong(hash, Double.doubleToLongBits((Double) value));
+            }
+            return Fnv1aHash.hashLong(hash, Objects.hashCode(value));
         }
-        return new IdentificationKeysMap(identificationKeysMap);
     }
 
     public static class IdentificationKeysMap {
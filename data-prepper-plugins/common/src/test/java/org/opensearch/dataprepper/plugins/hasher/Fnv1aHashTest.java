@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.hasher;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class Fnv1aHashTest {
+    @Test
+    void hashChars_of_ascii_matches_the_fnv_1a_reference_values() {
+        assertThat(Fnv1aHash.hashChars(Fnv1aHash.OFFSET_BASIS, ""), equalTo(0xcbf29ce484222325L));
+        assertThat(Fnv1aHash.hashChars(Fnv1aHash.OFFSET_BASIS, "a"), equalTo(0xaf63dc4c8601ec8cL));
+        assertThat(Fnv1aHash.hashChars(Fnv1aHash.OFFSET_BASIS, "foobar"), equalTo(0x85944171f73967e8L));
+    }
+
+    @Test
+    void hashChars_is_the_same_as_hashChar_for_each_character() {
+        long hash = Fnv1aHash.OFFSET_BASIS;
+        for (final char c : "foobar".toCharArray()) {
+            hash = Fnv1aHash.hashChar(hash, c);
+        }
+        assertThat(hash, equalTo(Fnv1aHash.hashChars(Fnv1aHash.OFFSET_BASIS, "foobar")));
+    }
+
+    @Test
+    void hashLong_hashes_the_bytes_of_the_value_from_the_lowest() {
+        final byte[] bytes = "abcdefgh".getBytes(StandardCharsets.US_ASCII);
+        long value = 0;
+        for (int i = bytes.length - 1; i >= 0; i--) {
+            value = value << 8 | bytes[i];
+        }
+        assertThat(Fnv1aHash.hashLong(Fnv1aHash.OFFSET_BASIS, value), equalTo(Fnv1aHash.hashChars(Fnv1aHash.OFFSET_BASIS, "abcdefgh")));
+    }
+
+    @Test
+    void mix_spreads_a_single_bit_over_the_hash() {
+        assertThat(Fnv1aHash.mix(0L), equalTo(0L));
+        final long mixed = Fnv1aHash.mix(1L);
+        assertThat(mixed, is(not(equalTo(1L))));
+        assertThat(Long.bitCount(mixed ^ Fnv1aHash.mix(2L)) > 16, is(true));
+    }
+}
@@ -124,4 +124,90 @@ public class IdentificationKeysHasherTest {
 
         assertThat(result, is(not(equalTo(secondResult))));
     }
+
+    @Test
+    void createIdentificationKeyValuesFromEvent_returns_values_with_expected_key_map() {
+        identificationKeysHasher = createObjectUnderTest();
+        final Map<Object, Object> eventMap = new HashMap<>();
+        eventMap.put("firstIdentificationKey", UUID.randomUUID().toString());
+
+        final Map<Object, Object> expectedKeyMap = new HashMap<>(eventMap);
+        expectedKeyMap.put("secondIdentificationKey", null);
+
+        eventMap.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+
+        event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(eventMap)
+                .build();
+
+        final IdentificationKeysHasher.IdentificationKeyValues result = identificationKeysHasher.createIdentificationKeyValuesFromEvent(event);
+        assertThat(result.getKeyMap(), equalTo(expectedKeyMap));
+        assertThat(result, equalTo(new IdentificationKeysHasher.IdentificationKeyValues(identificationKeys, new Object[] {eventMap.get("firstIdentificationKey"), null})));
+    }
+
+    @Test
+    void identical_identification_key_values_but_different_objects_are_considered_equal() {
+        identificationKeysHasher = createObjectUnderTest();
+        final Map<Object, Object> eventMap = new HashMap<>();
+        eventMap.put("firstIdentificationKey", UUID.randomUUID().toString());
+        eventMap.put("secondIdentificationKey", 10);
+
+        event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(eventMap)
+                .build();
+
+        final IdentificationKeysHasher.IdentificationKeyValues result = identificationKeysHasher.createIdentificationKeyValuesFromEvent(event);
+        final IdentificationKeysHasher.IdentificationKeyValues secondResult = identificationKeysHasher.createIdentificationKeyValuesFromEvent(event);
+
+        assertThat(result, equalTo(secondResult));
+        assertThat(result.getHash(), equalTo(secondResult.getHash()));
+        assertThat(result.hashCode(), equalTo(secondResult.hashCode()));
+        assertThat(result, equalTo(result));
+    }
+
+    @Test
+    void different_identification_key_values_are_not_considered_equal() {
+        final String value = UUID.randomUUID().toString();
+        final IdentificationKeysHasher.IdentificationKeyValues identificationKeyValues =
+                new IdentificationKeysHasher.IdentificationKeyValues(identificationKeys, new Object[] {value, null});
+
+        assertThat(identificationKeyValues, is(not(equalTo(
+                new IdentificationKeysHasher.IdentificationKeyValues(identificationKeys, new Object[] {null, value})))));
+        assertThat(identificationKeyValues, is(not(equalTo(
+                new IdentificationKeysHasher.IdentificationKeyValues(identificationKeys, new Object[] {value, value})))));
+        assertThat(identificationKeyValues, is(not(equalTo(
+                new IdentificationKeysHasher.IdentificationKeyValues(List.of("firstIdentificationKey", "otherIdentificationKey"), new Object[] {value, null})))));
+        assertThat(identificationKeyValues, is(not(equalTo(null))));
+        assertThat(identificationKeyValues, is(not(equalTo((Object) value))));
+    }
+
+    @Test
+    void identification_key_values_with_equal_key_lists_are_considered_equal() {
+        final String value = UUID.randomUUID().toString();
+
+        assertThat(new IdentificationKeysHasher.IdentificationKeyValues(identificationKeys, new Object[] {value, 1}),
+                equalTo(new IdentificationKeysHasher.IdentificationKeyValues(new ArrayList<>(identificationKeys), new Object[] {value, 1})));
+    }
+
+    @Test
+    void identification_key_values_hash_the_characters_of_strings() {
+        assertThat("Aa".hashCode(), equalTo("BB".hashCode()));
+
+        assertThat(new IdentificationKeysHasher.IdentificationKeyValues(identificationKeys, new Object[] {"Aa", "x"}).getHash(),
+                is(not(equalTo(new IdentificationKeysHasher.IdentificationKeyValues(identificationKeys, new Object[] {"BB", "x"}).getHash()))));
+        assertThat(new IdentificationKeysHasher.IdentificationKeyValues(identificationKeys, new Object[] {"ab", "c"}).getHash(),
+                is(not(equalTo(new IdentificationKeysHasher.IdentificationKeyValues(identificationKeys, new Object[] {"a", "bc"}).getHash()))));
+    }
+
+    @Test
+    void identification_key_values_hash_all_bits_of_numbers() {
+        assertThat(Long.hashCode(1L << 32), equalTo(Long.hashCode(1L)));
+
+        assertThat(new IdentificationKeysHasher.IdentificationKeyValues(identificationKeys, new Object[] {1L << 32, 1.5}).getHash(),
+                is(not(equalTo(new IdentificationKeysHasher.IdentificationKeyValues(identificationKeys, new Object[] {1L, 1.5}).getHash()))));
+        assertThat(new IdentificationKeysHasher.IdentificationKeyValues(identificationKeys, new Object[] {1L << 32, 1.5}),
+                equalTo(new IdentificationKeysHasher.IdentificationKeyValues(identificationKeys, new Object[] {1L << 32, 1.5})));
+    }
 }
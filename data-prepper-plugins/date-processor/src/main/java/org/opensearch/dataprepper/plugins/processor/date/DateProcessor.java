@@ -10,6 +10,7 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
@@ -32,11 +33,14 @@ import java.util.stream.Collectors;
 public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
     private static final Logger LOG = LoggerFactory.getLogger(DateProcessor.class);
     private static final String OUTPUT_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
+    private static final DateTimeFormatter OUTPUT_FORMATTER = DateTimeFormatter.ofPattern(OUTPUT_FORMAT);
 
     static final String DATE_PROCESSING_MATCH_SUCCESS = "dateProcessingMatchSuccess";
     static final String DATE_PROCESSING_MATCH_FAILURE = "dateProcessingMatchFailure";
 
     private String keyToParse;
+    private EventKey eventKeyToParse;
+    private final EventKey destinationKey;
     private List<DateTimeFormatter> dateTimeFormatters;
     private final DateProcessorConfig dateProcessorConfig;
     private final ExpressionEvaluator expressionEvaluator;
@@ -49,6 +53,7 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
         super(pluginMetrics);
         this.dateProcessorConfig = dateProcessorConfig;
         this.expressionEvaluator = expressionEvaluator;
+        this.destinationKey = EventKey.of(dateProcessorConfig.getDestination());
 
         dateProcessingMatchSuccessCounter = pluginMetrics.counter(DATE_PROCESSING_MATCH_SUCCESS);
         dateProcessingMatchFailureCounter = pluginMetrics.counter(DATE_PROCESSING_MATCH_FAILURE);
@@ -76,7 +81,7 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
             }
 
             if (zonedDateTime != null)
-                record.getData().put(dateProcessorConfig.getDestination(), zonedDateTime);
+                record.getData().put(destinationKey, zonedDateTime);
         }
         return records;
     }
@@ -91,6 +96,7 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
     private void extractKeyAndFormatters() {
         for (DateProcessorConfig.DateMatch entry: dateProcessorConfig.getMatch()) {
             keyToParse = entry.getKey();
+            eventKeyToParse = keyToParse == null || keyToParse.isEmpty() ? null : EventKey.of(keyToParse);
             dateTimeFormatters = entry.getPatterns().stream().map(this::getSourceFormatter).collect(Collectors.toList());
         }
     }
@@ -129,7 +135,7 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     private String getSourceTimestamp(final Record<Event> record) {
         try {
-            return record.getData().get(keyToParse, String.class);
+            return record.getData().get(eventKeyToParse, String.class);
         } catch (Exception e) {
             LOG.debug("Unable to find {} in event data.", keyToParse);
             return null;
@@ -150,7 +156,7 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
     }
 
     private DateTimeFormatter getOutputFormatter() {
-        return DateTimeFormatter.ofPattern(OUTPUT_FORMAT);
+        return OUTPUT_FORMATTER;
     }
 
     @Override
@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+
+/**
+ * The persisted checkpoint cursor of a disk buffer: the position after the last record which was checkpointed. The
+ * file is memory-mapped and has two slots which are written alternately, each with a sequence number and a
+ * checksum, so that a write torn by a crash leaves the previous checkpoint readable.
+ * <p>
+ * Not thread-safe.
+ */
+class CheckpointFile {
+    static final String FILE_NAME = "checkpoint.dat";
+    private static final int SLOT_BYTES = 24;
+    private static final int CHECKSUMMED_BYTES = 20;
+
+    private final MappedByteBuffer buffer;
+    private long sequence;
+
+    CheckpointFile(final Path directory) throws IOException {
+        try (final RandomAccessFile file = new RandomAccessFile(directory.resolve(FILE_NAME).toFile(), "rw")) {
+            file.setLength(2 * SLOT_BYTES);
+            buffer = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, 2 * SLOT_BYTES);
+        }
+        sequence = Math.max(buffer.getLong(0), buffer.getLong(SLOT_BYTES));
+    }
+
+    /**
+     * Reads the latest valid checkpoint.
+     *
+     * @return the checkpointed position, or empty if nothing was ever checkpointed
+     */
+    Optional<SegmentPosition> read() {
+        SegmentPosition latest = null;
+        long latestSequence = 0;
+        for (int slotOffset = 0; slotOffset < 2 * SLOT_BYTES; slotOffset += SLOT_BYTES) {
+            final long slotSequence = buffer.getLong(slotOffset);
+            if (slotSequence > latestSequence && buffer.getInt(slotOffset + CHECKSUMMED_BYTES) == checksum(slotOffset)) {
+                latestSequence = slotSequence;
+                latest = new SegmentPosition(buffer.getLong(slotOffset + 8), buffer.getInt(slotOffset + 16));
+            }
+        }
+        return Optional.ofNullable(latest);
+    }
+
+    void write(final SegmentPosition position) {
+        sequence++;
+        final int slotOffset = (int) (sequence % 2) * SLOT_BYTES;
+        buffer.putLong(slotOffset, sequence);
+        buffer.putLong(slotOffset + 8, position.getSegmentId());
+        buffer.putInt(slotOffset + 16, position.getOffset());
+        buffer.putInt(slotOffset + CHECKSUMMED_BYTES, checksum(slotOffset));
+    }
+
+    private int checksum(final int slotOffset) {
+        final ByteBuffer slot = buffer.duplicate();
+        slot.position(slotOffset);
+        slot.limit(slotOffset + CHECKSUMMED_BYTES);
+        final CRC32C crc = new CRC32C();
+        crc.update(slot);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import com.google.common.util.concurrent.AtomicDouble;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import org.opensearch.dataprepper.model.buffer.AbstractBuffer;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.configuration.PipelineDescription;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * A DiskBuffer is an implementation of {@link Buffer} which stores serialized records in append-only, memory-mapped
+ * segment files under {@code <path>/<pipeline name>}, so the backlog lives off-heap and survives a restart. Records
+ * are read from a read cursor, and a checkpoint cursor is persisted once all the batches before it are checkpointed.
+ * Segment files behind the checkpoint cursor are recycled for new segments. On startup every record after the
+ * checkpoint cursor is read again, so records in flight during a crash are processed at least once.
+ * <p>
+ * The buffer is bounded by {@code max_size}: writes wait up to their timeout for checkpoints to free a segment.
+ */
+@DataPrepperPlugin(name = "disk_buffer", pluginType = Buffer.class, pluginConfigurationType = DiskBufferConfig.class)
+public class DiskBuffer<T extends Record<?>> extends AbstractBuffer<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(DiskBuffer.class);
+    private static final String DISK_BUFFER = "DiskBuffer";
+    private static final String BUFFER_USAGE_METRIC = "bufferUsage";
+    private static final long ZERO_TIMEOUT_FIRST_RECORD_WAIT_MILLIS = 5;
+
+    private final int batchSize;
+    private final long maxSizeBytes;
+    private final String pipelineName;
+    private final AtomicDouble bufferUsage;
+    private final SegmentStore segmentStore;
+    private final DiskRecordSerializer serializer = new DiskRecordSerializer();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition recordsAvailable = lock.newCondition();
+    private final Condition spaceAvailable = lock.newCondition();
+    private final Map<Long, EventHandle> eventHandles = new HashMap<>();
+    private final Deque<DiskBufferCheckpointState> unfinishedBatches = new ArrayDeque<>();
+    private long writeSequence;
+    private long readSequence;
+
+    @DataPrepperPluginConstructor
+    public DiskBuffer(final DiskBufferConfig diskBufferConfig, final PipelineDescription pipelineDescription) {
+        this(diskBufferConfig, pipelineDescription.getPipelineName());
+    }
+
+    DiskBuffer(final DiskBufferConfig diskBufferConfig, final String pipelineName) {
+        super(DISK_BUFFER, pipelineName);
+        this.batchSize = diskBufferConfig.getBatchSize();
+        this.maxSizeBytes = diskBufferConfig.getMaxSegments() * diskBufferConfig.getSegmentSizeBytes();
+        this.pipelineName = pipelineName;
+        bufferUsage = pluginMetrics.gauge(BUFFER_USAGE_METRIC, new AtomicDouble());
+        try {
+            segmentStore = new SegmentStore(diskBufferConfig.getPath().resolve(pipelineName),
+                    (int) diskBufferConfig.getSegmentSizeBytes(), diskBufferConfig.getMaxSegments());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(format("Pipeline [%s] - Unable to open the disk buffer", pipelineName), e);
+        }
+        writeSequence = segmentStore.getRecoveredRecords();
+        postProcess(0L);
+    }
+
+    @Override
+    public void doWrite(final T record, final int timeoutInMillis) throws TimeoutException {
+        checkNotNull(record);
+        final byte[] payload = serialize(record);
+        if (!segmentStore.fitsInSegment(payload.length)) {
+            throw new IllegalArgumentException(
+                    format("Pipeline [%s] - Record of %d bytes does not fit into a segment", pipelineName, payload.length));
+        }
+        writePayloads(Collections.singletonList(payload), Collections.singletonList(getEventHandle(record)), timeoutInMillis);
+    }
+
+    @Override
+    public void doWriteAll(final Collection<T> records, final int timeoutInMillis) throws Exception {
+        final List<byte[]> payloads = new ArrayList<>(records.size());
+        final List<EventHandle> handles = new ArrayList<>(records.size());
+        for (final T record : records) {
+            checkNotNull(record);
+            final byte[] payload = serialize(record);
+            if (!segmentStore.fitsInSegment(payload.length)) {
+                throw new SizeOverflowException(format("Record of %d bytes does not fit into a segment", payload.length));
+            }
+            payloads.add(payload);
+            handles.add(getEventHandle(record));
+        }
+        writePayloads(payloads, handles, timeoutInMillis);
+    }
+
+    /**
+     * Retrieves the next batch of records. The batch size is defined/determined by the configuration attribute
+     * {@code batch_size} or the @param timeoutInMillis. With a timeout of zero, this waits briefly for the first
+     * record and returns the records available at that point.
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @return The earliest batch of records in the buffer which are still not read.
+     */
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> doRead(final int timeoutInMillis) {
+        final List<byte[]> payloads = new ArrayList<>();
+        final List<EventHandle> handles = new ArrayList<>();
+        final long waitMillis = timeoutInMillis == 0 ? ZERO_TIMEOUT_FIRST_RECORD_WAIT_MILLIS : timeoutInMillis;
+        final long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMillis);
+        final DiskBufferCheckpointState checkpointState;
+
+        lock.lock();
+        try {
+            while (payloads.size() < batchSize) {
+                final byte[] payload = segmentStore.readNext();
+                if (payload != null) {
+                    payloads.add(payload);
+                    handles.add(eventHandles.remove(readSequence++));
+                    continue;
+                }
+                final long remainingNanos = deadlineNanos - System.nanoTime();
+                if ((timeoutInMillis == 0 && !payloads.isEmpty()) || remainingNanos <= 0) {
+                    break;
+                }
+                recordsAvailable.awaitNanos(remainingNanos);
+            }
+        } catch (final InterruptedException e) {
+            LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
+            throw new RuntimeException(e);
+        } finally {
+            checkpointState = new DiskBufferCheckpointState(payloads.size(), segmentStore.getReadPosition());
+            if (!payloads.isEmpty()) {
+                unfinishedBatches.add(checkpointState);
+            }
+            lock.unlock();
+        }
+
+        final List<T> records = new ArrayList<>(payloads.size());
+        for (int i = 0; i < payloads.size(); i++) {
+            records.add(deserialize(payloads.get(i), handles.get(i)));
+        }
+        return new AbstractMap.SimpleEntry<>(records, checkpointState);
+    }
+
+    @Override
+    public void doCheckpoint(final CheckpointState checkpointState) {
+        lock.lock();
+        try {
+            if (checkpointState instanceof DiskBufferCheckpointState) {
+                ((DiskBufferCheckpointState) checkpointState).markCheckpointed();
+            } else {
+                unfinishedBatches.stream()
+                        .filter(batch -> !batch.isCheckpointed())
+                        .findFirst()
+                        .ifPresent(DiskBufferCheckpointState::markCheckpointed);
+            }
+            SegmentPosition checkpointPosition = null;
+            while (!unfinishedBatches.isEmpty() && unfinishedBatches.peek().isCheckpointed()) {
+                checkpointPosition = unfinishedBatches.poll().getEndPosition();
+            }
+            if (checkpointPosition != null) {
+                segmentStore.checkpoint(checkpointPosition);
+                spaceAvailable.signalAll();
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(format("Pipeline [%s] - Unable to recycle a disk buffer segment", pipelineName), e);
+        } finally {
+            lock.unlock();
+        }
+        postProcess(0L);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        lock.lock();
+        try {
+            return segmentStore.isEmpty() && getRecordsInFlight() == 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reports the share of {@code max_size} used by records which are not yet checkpointed, rather than a share of
+     * the records count, since the disk buffer is bounded in bytes.
+     *
+     * @param recordsInBuffer the current number of records in the buffer
+     */
+    @Override
+    protected void postProcess(final Long recordsInBuffer) {
+        final long usedBytes;
+        lock.lock();
+        try {
+            usedBytes = segmentStore.getUsedBytes();
+        } finally {
+            lock.unlock();
+        }
+        bufferUsage.set(Math.min(100.0, usedBytes * 100.0 / maxSizeBytes));
+    }
+
+    private void writePayloads(final List<byte[]> payloads, final List<EventHandle> handles, final int timeoutInMillis)
+            throws TimeoutException {
+        final int[] payloadLengths = payloads.stream().mapToInt(payload -> payload.length).toArray();
+        final long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+
+        lock.lock();
+        try {
+            while (!segmentStore.hasSpaceFor(payloadLengths)) {
+                final long remainingNanos = deadlineNanos - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    throw new TimeoutException(
+                            format("Pipeline [%s] - Buffer does not have enough space left for the number of records: %d, " +
+                                    "timed out waiting for segments.", pipelineName, payloads.size()));
+                }
+                spaceAvailable.awaitNanos(remainingNanos);
+            }
+            for (int i = 0; i < payloads.size(); i++) {
+                segmentStore.append(payloads.get(i));
+                if (handles.get(i) != null) {
+                    eventHandles.put(writeSequence, handles.get(i));
+                }
+                writeSequence++;
+            }
+            recordsAvailable.signalAll();
+        } catch (final InterruptedException e) {
+            LOG.error("Pipeline [{}] - Buffer is full, interrupted while waiting to write the records", pipelineName, e);
+            throw new TimeoutException("Buffer is full, timed out waiting for segments");
+        } catch (final IOException e) {
+            throw new UncheckedIOException(format("Pipeline [%s] - Unable to create a disk buffer segment", pipelineName), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private byte[] serialize(final T record) {
+        try {
+            return serializer.serialize(record.getData());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(format("Pipeline [%s] - Unable to serialize a record", pipelineName), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T deserialize(final byte[] payload, final EventHandle eventHandle) {
+        final Object data;
+        try {
+            data = serializer.deserialize(payload);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(format("Pipeline [%s] - Unable to deserialize a record", pipelineName), e);
+        }
+        if (eventHandle != null && data instanceof JacksonEvent) {
+            ((JacksonEvent) data).setEventHandle(eventHandle);
+        }
+        return (T) new Record<>(data);
+    }
+
+    private EventHandle getEventHandle(final T record) {
+        final Object data = record.getData();
+        return data instanceof Event ? ((Event) data).getEventHandle() : null;
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import org.opensearch.dataprepper.model.CheckpointState;
+
+/**
+ * The {@link CheckpointState} of a batch read from the {@link DiskBuffer}. It remembers where the batch ends so that
+ * the checkpoint cursor only moves past batches once they and every batch read before them are checkpointed.
+ */
+class DiskBufferCheckpointState extends CheckpointState {
+    private final SegmentPosition endPosition;
+    private boolean checkpointed;
+
+    DiskBufferCheckpointState(final int numRecordsToBeChecked, final SegmentPosition endPosition) {
+        super(numRecordsToBeChecked);
+        this.endPosition = endPosition;
+    }
+
+    SegmentPosition getEndPosition() {
+        return endPosition;
+    }
+
+    boolean isCheckpointed() {
+        return checkpointed;
+    }
+
+    void markCheckpointed() {
+        checkpointed = true;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import org.opensearch.dataprepper.model.types.ByteCount;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Configuration for the disk_buffer buffer.
+ */
+public class DiskBufferConfig {
+    static final String DEFAULT_SEGMENT_SIZE = "64mb";
+    static final String DEFAULT_MAX_SIZE = "1gb";
+    static final int DEFAULT_BATCH_SIZE = 200;
+    private static final long MAXIMUM_SEGMENT_SIZE_BYTES = 1L << 30;
+    private static final int MINIMUM_SEGMENTS = 2;
+
+    @JsonProperty("path")
+    @NotEmpty
+    private String path;
+
+    @JsonProperty("segment_size")
+    private String segmentSize = DEFAULT_SEGMENT_SIZE;
+
+    @JsonProperty("max_size")
+    private String maxSize = DEFAULT_MAX_SIZE;
+
+    @JsonProperty("batch_size")
+    @Min(1)
+    @Max(100_000)
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    public Path getPath() {
+        return Paths.get(path);
+    }
+
+    public long getSegmentSizeBytes() {
+        return ByteCount.parse(segmentSize).getBytes();
+    }
+
+    public long getMaxSizeBytes() {
+        return ByteCount.parse(maxSize).getBytes();
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Returns the maximum number of segment files the buffer keeps, rounding {@code max_size} down to whole segments.
+     *
+     * @return the maximum number of segments
+     */
+    public int getMaxSegments() {
+        return (int) Math.min(Integer.MAX_VALUE, getMaxSizeBytes() / getSegmentSizeBytes());
+    }
+
+    @AssertTrue(message = "segment_size must be between 1kb and 1gb.")
+    boolean isSegmentSizeValid() {
+        final long segmentSizeBytes = getSegmentSizeBytes();
+        return segmentSizeBytes >= 1024 && segmentSizeBytes <= MAXIMUM_SEGMENT_SIZE_BYTES;
+    }
+
+    @AssertTrue(message = "max_size must be at least twice the segment_size.")
+    boolean isMaxSizeValid() {
+        return getMaxSizeBytes() / getSegmentSizeBytes() >= MINIMUM_SEGMENTS;
+    }
+}
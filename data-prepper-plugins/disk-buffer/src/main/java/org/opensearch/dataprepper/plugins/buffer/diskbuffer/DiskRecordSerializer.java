@@ -0,0 +1,146 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventMetadata;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.log.JacksonLog;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Serializes record data for the disk buffer. Each {@link JacksonEvent}, {@link JacksonLog} and {@link JacksonSpan} is
+ * stored as its metadata followed by its data as JSON, and is read back as the same class with the same data. Other
+ * {@link Event} classes are rejected. String data is stored as UTF-8.
+ */
+class DiskRecordSerializer {
+    private static final byte EVENT_DATA = 1;
+    private static final byte STRING_DATA = 2;
+    private static final byte LOG_DATA = 3;
+    private static final byte SPAN_DATA = 4;
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    byte[] serialize(final Object data) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(bytes);
+        if (data instanceof Event) {
+            output.writeByte(getEventDataType((Event) data));
+            writeEvent(output, (JacksonEvent) data);
+        } else if (data instanceof String) {
+            output.writeByte(STRING_DATA);
+            output.write(((String) data).getBytes(StandardCharsets.UTF_8));
+        } else {
+            throw new IllegalArgumentException("The disk buffer only supports Event and String records, but received "
+                    + (data == null ? "null" : data.getClass().getName()));
+        }
+        output.flush();
+        return bytes.toByteArray();
+    }
+
+    Object deserialize(final byte[] payload) throws IOException {
+        final DataInputStream input = new DataInputStream(new ByteArrayInputStream(payload));
+        final byte dataType = input.readByte();
+        if (dataType == STRING_DATA) {
+            return new String(payload, 1, payload.length - 1, StandardCharsets.UTF_8);
+        }
+        if (dataType != EVENT_DATA && dataType != LOG_DATA && dataType != SPAN_DATA) {
+            throw new IOException("Unknown record type " + dataType + " in the disk buffer.");
+        }
+        final String eventType = input.readUTF();
+        final Instant timeReceived = Instant.ofEpochSecond(input.readLong(), input.readInt());
+        final Map<String, Object> attributes = objectMapper.readValue(readBytes(input), MAP_TYPE_REFERENCE);
+        final int tagCount = input.readInt();
+        final Set<String> tags = new HashSet<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(input.readUTF());
+        }
+        final ObjectNode eventData = (ObjectNode) objectMapper.readTree(readBytes(input));
+
+        final EventMetadata eventMetadata = DefaultEventMetadata.builder()
+                .withEventType(eventType)
+                .withTimeReceived(timeReceived)
+                .withAttributes(attributes)
+                .withTags(tags)
+                .build();
+        if (dataType == SPAN_DATA) {
+            return JacksonSpan.fromJsonNode(eventMetadata, eventData);
+        }
+        if (dataType == LOG_DATA) {
+            return JacksonLog.fromJsonNode(eventMetadata, eventData);
+        }
+        return JacksonEvent.fromJsonNode(eventMetadata, eventData);
+    }
+
+    private static byte getEventDataType(final Event event) {
+        final Class<?> eventClass = event.getClass();
+        if (eventClass == JacksonEvent.class) {
+            return EVENT_DATA;
+        } else if (eventClass == JacksonLog.class) {
+            return LOG_DATA;
+        } else if (eventClass == JacksonSpan.class) {
+            return SPAN_DATA;
+        }
+        throw new IllegalArgumentException("The disk buffer only supports events of the classes JacksonEvent, " +
+                "JacksonLog and JacksonSpan, but received " + eventClass.getName());
+    }
+
+    /**
+     * Writes the metadata and the data of the event. The data is copied from the event as it is stored, so that a
+     * span keeps its attributes in the attributes key rather than the flattened keys of its JSON string.
+     */
+    private void writeEvent(final DataOutputStream output, final JacksonEvent event) throws IOException {
+        final EventMetadata eventMetadata = event.getMetadata();
+        output.writeUTF(eventMetadata.getEventType());
+        output.writeLong(eventMetadata.getTimeReceived().getEpochSecond());
+        output.writeInt(eventMetadata.getTimeReceived().getNano());
+        writeBytes(output, objectMapper.writeValueAsBytes(eventMetadata.getAttributes()));
+        output.writeInt(eventMetadata.getTags().size());
+        for (final String tag : eventMetadata.getTags()) {
+            output.writeUTF(tag);
+        }
+
+        final ByteArrayOutputStream eventData = new ByteArrayOutputStream();
+        try (final JsonParser dataParser = event.createDataParser();
+             final JsonGenerator generator = objectMapper.getFactory().createGenerator(eventData)) {
+            dataParser.nextToken();
+            generator.copyCurrentStructure(dataParser);
+        }
+        output.writeInt(eventData.size());
+        eventData.writeTo(output);
+    }
+
+    private static void writeBytes(final DataOutputStream output, final byte[] bytes) throws IOException {
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static byte[] readBytes(final DataInputStream input) throws IOException {
+        final byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return bytes;
+    }
+}
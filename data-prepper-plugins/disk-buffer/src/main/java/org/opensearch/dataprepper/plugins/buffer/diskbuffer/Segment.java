@@ -0,0 +1,214 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32C;
+
+/**
+ * An append-only segment file mapped into memory. Records are stored as frames of a 4 byte payload length, a 4 byte
+ * checksum and the payload. The checksum covers the segment id as well as the payload so that frames left over from
+ * before a segment file was recycled are never mistaken for records of the new segment.
+ * <p>
+ * Segments are not thread-safe.
+ */
+class Segment {
+    static final int FRAME_HEADER_BYTES = 8;
+    private static final String FILE_PREFIX = "segment-";
+    private static final String FILE_SUFFIX = ".dat";
+
+    private final Path directory;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private long id;
+    private Path path;
+    private int limit;
+    private boolean sealed;
+
+    private Segment(final Path directory, final long id, final Path path, final MappedByteBuffer buffer) {
+        this.directory = directory;
+        this.id = id;
+        this.path = path;
+        this.buffer = buffer;
+        this.capacity = buffer.capacity();
+    }
+
+    /**
+     * Creates a new, empty segment file.
+     *
+     * @param directory the directory to create the file in
+     * @param id        the id of the segment
+     * @param capacity  the size of the file in bytes
+     * @return the segment
+     * @throws IOException if the file cannot be created or mapped
+     */
+    static Segment create(final Path directory, final long id, final int capacity) throws IOException {
+        final Path path = directory.resolve(fileName(id));
+        return new Segment(directory, id, path, map(path, capacity));
+    }
+
+    /**
+     * Opens an existing segment file. The segment is positioned after its last valid frame.
+     *
+     * @param directory the directory the file is in
+     * @param id        the id of the segment
+     * @return the segment
+     * @throws IOException if the file cannot be mapped
+     */
+    static Segment open(final Path directory, final long id) throws IOException {
+        final Path path = directory.resolve(fileName(id));
+        final Segment segment = new Segment(directory, id, path, map(path, (int) Files.size(path)));
+        segment.limit = segment.findEndOfFrames();
+        return segment;
+    }
+
+    static String fileName(final long id) {
+        return String.format("%s%019d%s", FILE_PREFIX, id, FILE_SUFFIX);
+    }
+
+    /**
+     * Parses the segment id from a segment file name.
+     *
+     * @param fileName the file name
+     * @return the id, or -1 if the file is not a segment file
+     */
+    static long parseId(final String fileName) {
+        if (!fileName.startsWith(FILE_PREFIX) || !fileName.endsWith(FILE_SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(fileName.substring(FILE_PREFIX.length(), fileName.length() - FILE_SUFFIX.length()));
+        } catch (final NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    long getId() {
+        return id;
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the offset after the last frame of the segment.
+     *
+     * @return the end offset
+     */
+    int getLimit() {
+        return limit;
+    }
+
+    boolean isSealed() {
+        return sealed;
+    }
+
+    /**
+     * Marks the segment as complete. No more frames are appended to a sealed segment.
+     */
+    void seal() {
+        sealed = true;
+    }
+
+    boolean canAppend(final int payloadLength) {
+        return !sealed && (long) limit + FRAME_HEADER_BYTES + payloadLength <= capacity;
+    }
+
+    void append(final byte[] payload) {
+        buffer.putInt(limit, payload.length);
+        buffer.putInt(limit + 4, checksum(id, payload));
+        final ByteBuffer slice = buffer.duplicate();
+        slice.position(limit + FRAME_HEADER_BYTES);
+        slice.put(payload);
+        limit += FRAME_HEADER_BYTES + payload.length;
+    }
+
+    /**
+     * Reads the payload of the frame at the given offset.
+     *
+     * @param offset the offset of the frame
+     * @return the payload
+     */
+    byte[] read(final int offset) {
+        final byte[] payload = new byte[buffer.getInt(offset)];
+        final ByteBuffer slice = buffer.duplicate();
+        slice.position(offset + FRAME_HEADER_BYTES);
+        slice.get(payload);
+        return payload;
+    }
+
+    /**
+     * Counts the frames starting at or after the given offset.
+     *
+     * @param fromOffset the offset of the first frame to count
+     * @return the number of frames
+     */
+    int countFrames(final int fromOffset) {
+        int frames = 0;
+        for (int offset = fromOffset; offset < limit; offset += FRAME_HEADER_BYTES + buffer.getInt(offset)) {
+            frames++;
+        }
+        return frames;
+    }
+
+    /**
+     * Renames the segment file for a new segment id and empties the segment. The mapping is reused, and the old
+     * frames are left in place since their checksums no longer match the segment id.
+     *
+     * @param newId the new segment id
+     * @throws IOException if the file cannot be renamed
+     */
+    void recycle(final long newId) throws IOException {
+        final Path newPath = directory.resolve(fileName(newId));
+        Files.move(path, newPath);
+        id = newId;
+        path = newPath;
+        limit = 0;
+        sealed = false;
+    }
+
+    void delete() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    private int findEndOfFrames() {
+        int offset = 0;
+        while (capacity - offset >= FRAME_HEADER_BYTES) {
+            final int payloadLength = buffer.getInt(offset);
+            if (payloadLength <= 0 || payloadLength > capacity - offset - FRAME_HEADER_BYTES) {
+                break;
+            }
+            final byte[] payload = read(offset);
+            if (buffer.getInt(offset + 4) != checksum(id, payload)) {
+                break;
+            }
+            offset += FRAME_HEADER_BYTES + payloadLength;
+        }
+        return offset;
+    }
+
+    private static int checksum(final long id, final byte[] payload) {
+        final CRC32C crc = new CRC32C();
+        final ByteBuffer idBytes = ByteBuffer.allocate(Long.BYTES).putLong(0, id);
+        crc.update(idBytes);
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static MappedByteBuffer map(final Path path, final int capacity) throws IOException {
+        try (final RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.setLength(capacity);
+            return file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+    }
+}
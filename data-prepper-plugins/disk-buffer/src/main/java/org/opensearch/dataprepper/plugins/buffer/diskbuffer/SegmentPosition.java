@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import java.util.Objects;
+
+/**
+ * A position in the segment files: the id of a segment and a byte offset within it.
+ */
+class SegmentPosition {
+    private final long segmentId;
+    private final int offset;
+
+    SegmentPosition(final long segmentId, final int offset) {
+        this.segmentId = segmentId;
+        this.offset = offset;
+    }
+
+    long getSegmentId() {
+        return segmentId;
+    }
+
+    int getOffset() {
+        return offset;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        final SegmentPosition that = (SegmentPosition) other;
+        return segmentId == that.segmentId && offset == that.offset;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(segmentId, offset);
+    }
+
+    @Override
+    public String toString() {
+        return segmentId + ":" + offset;
+    }
+}
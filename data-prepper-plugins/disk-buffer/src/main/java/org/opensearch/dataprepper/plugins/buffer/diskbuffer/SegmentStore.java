@@ -0,0 +1,223 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The segment files of a disk buffer along with its write, read and checkpoint cursors. Records are appended to the
+ * newest segment and read from the oldest unread one. Once the checkpoint cursor moves past a segment, its file is
+ * recycled for a new segment. Opening a store recovers the records after the persisted checkpoint, including records
+ * which were read but not checkpointed before a crash.
+ * <p>
+ * Not thread-safe; the {@link DiskBuffer} guards all access.
+ */
+class SegmentStore {
+    private static final Logger LOG = LoggerFactory.getLogger(SegmentStore.class);
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final CheckpointFile checkpointFile;
+    private final List<Segment> segments = new ArrayList<>();
+    private final Deque<Segment> recycledSegments = new ArrayDeque<>();
+    private final int recoveredRecords;
+    private Segment writeSegment;
+    private Segment readSegment;
+    private int readOffset;
+    private SegmentPosition checkpointPosition;
+
+    SegmentStore(final Path directory, final int segmentSize, final int maxSegments) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        Files.createDirectories(directory);
+        checkpointFile = new CheckpointFile(directory);
+
+        final Optional<SegmentPosition> persistedCheckpoint = checkpointFile.read();
+        final long firstSegmentId = persistedCheckpoint.map(SegmentPosition::getSegmentId).orElse(0L);
+        for (final long segmentId : listSegmentIds()) {
+            if (segmentId < firstSegmentId) {
+                Files.delete(directory.resolve(Segment.fileName(segmentId)));
+            } else {
+                segments.add(Segment.open(directory, segmentId));
+            }
+        }
+        if (segments.isEmpty()) {
+            segments.add(Segment.create(directory, firstSegmentId, segmentSize));
+        }
+        for (int i = 0; i < segments.size() - 1; i++) {
+            segments.get(i).seal();
+        }
+        writeSegment = segments.get(segments.size() - 1);
+        readSegment = segments.get(0);
+        readOffset = persistedCheckpoint
+                .filter(position -> position.getSegmentId() == readSegment.getId())
+                .map(position -> Math.min(position.getOffset(), readSegment.getLimit()))
+                .orElse(0);
+        checkpointPosition = new SegmentPosition(readSegment.getId(), readOffset);
+
+        int records = readSegment.countFrames(readOffset);
+        for (int i = 1; i < segments.size(); i++) {
+            records += segments.get(i).countFrames(0);
+        }
+        recoveredRecords = records;
+        if (recoveredRecords > 0) {
+            LOG.info("Recovered {} unprocessed records from {} segments in {}", recoveredRecords, segments.size(), directory);
+        }
+    }
+
+    int getRecoveredRecords() {
+        return recoveredRecords;
+    }
+
+    /**
+     * Determines whether records of the given sizes fit into the buffer without going over the maximum number of
+     * segments.
+     *
+     * @param payloadLengths the sizes of the records
+     * @return true if they fit
+     */
+    boolean hasSpaceFor(final int[] payloadLengths) {
+        int segmentsNeeded = 0;
+        long offset = writeSegment.getLimit();
+        long capacity = writeSegment.getCapacity();
+        for (final int payloadLength : payloadLengths) {
+            final int frameLength = Segment.FRAME_HEADER_BYTES + payloadLength;
+            if (offset + frameLength > capacity) {
+                segmentsNeeded++;
+                offset = 0;
+                capacity = segmentSize;
+            }
+            offset += frameLength;
+        }
+        return segments.size() + segmentsNeeded <= maxSegments;
+    }
+
+    /**
+     * Determines whether a record of the given size can ever be stored.
+     *
+     * @param payloadLength the size of the record
+     * @return true if it fits into an empty segment
+     */
+    boolean fitsInSegment(final int payloadLength) {
+        return (long) Segment.FRAME_HEADER_BYTES + payloadLength <= segmentSize;
+    }
+
+    void append(final byte[] payload) throws IOException {
+        if (!writeSegment.canAppend(payload.length)) {
+            writeSegment.seal();
+            writeSegment = nextSegment(writeSegment.getId() + 1);
+            segments.add(writeSegment);
+        }
+        writeSegment.append(payload);
+    }
+
+    /**
+     * Reads the next unread record.
+     *
+     * @return the record, or null when all records have been read
+     */
+    byte[] readNext() {
+        while (readOffset >= readSegment.getLimit()) {
+            if (readSegment == writeSegment) {
+                return null;
+            }
+            readSegment = segments.get(segments.indexOf(readSegment) + 1);
+            readOffset = 0;
+        }
+        final byte[] payload = readSegment.read(readOffset);
+        readOffset += Segment.FRAME_HEADER_BYTES + payload.length;
+        return payload;
+    }
+
+    SegmentPosition getReadPosition() {
+        return new SegmentPosition(readSegment.getId(), readOffset);
+    }
+
+    /**
+     * Moves the checkpoint cursor, persists it and recycles the segments before it.
+     *
+     * @param position the position after the last checkpointed record
+     * @throws IOException if a segment file cannot be recycled
+     */
+    void checkpoint(final SegmentPosition position) throws IOException {
+        while (segments.get(0).getId() < position.getSegmentId() || isFullyRead(segments.get(0), position)) {
+            final Segment segment = segments.remove(0);
+            if (segment.getCapacity() == segmentSize) {
+                recycledSegments.add(segment);
+            } else {
+                segment.delete();
+            }
+            checkpointPosition = new SegmentPosition(segments.get(0).getId(), 0);
+        }
+        if (segments.get(0).getId() == position.getSegmentId()) {
+            checkpointPosition = position;
+        }
+        checkpointFile.write(checkpointPosition);
+    }
+
+    SegmentPosition getCheckpointPosition() {
+        return checkpointPosition;
+    }
+
+    boolean isEmpty() {
+        return readSegment == writeSegment && readOffset >= writeSegment.getLimit();
+    }
+
+    /**
+     * Returns the number of bytes between the checkpoint cursor and the write cursor, including space left unused at
+     * the end of full segments.
+     *
+     * @return the bytes in use
+     */
+    long getUsedBytes() {
+        long usedBytes = -checkpointPosition.getOffset();
+        for (final Segment segment : segments) {
+            usedBytes += segment == writeSegment ? segment.getLimit() : segment.getCapacity();
+        }
+        return usedBytes;
+    }
+
+    int getSegmentCount() {
+        return segments.size();
+    }
+
+    private boolean isFullyRead(final Segment segment, final SegmentPosition position) {
+        return segment != writeSegment && segment.isSealed()
+                && segment.getId() == position.getSegmentId() && position.getOffset() >= segment.getLimit();
+    }
+
+    private Segment nextSegment(final long id) throws IOException {
+        final Segment recycledSegment = recycledSegments.poll();
+        if (recycledSegment == null) {
+            return Segment.create(directory, id, segmentSize);
+        }
+        recycledSegment.recycle(id);
+        return recycledSegment;
+    }
+
+    private List<Long> listSegmentIds() throws IOException {
+        try (final Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> Segment.parseId(file.getFileName().toString()))
+                    .filter(id -> id >= 0)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+}
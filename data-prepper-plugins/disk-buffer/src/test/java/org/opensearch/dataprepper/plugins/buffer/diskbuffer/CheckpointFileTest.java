@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class CheckpointFileTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void read_returns_empty_for_a_new_file() throws IOException {
+        assertThat(new CheckpointFile(directory).read(), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void read_returns_the_latest_written_position() throws IOException {
+        final CheckpointFile checkpointFile = new CheckpointFile(directory);
+
+        checkpointFile.write(new SegmentPosition(1, 10));
+        checkpointFile.write(new SegmentPosition(2, 20));
+        checkpointFile.write(new SegmentPosition(2, 30));
+
+        assertThat(checkpointFile.read(), equalTo(Optional.of(new SegmentPosition(2, 30))));
+        assertThat(new CheckpointFile(directory).read(), equalTo(Optional.of(new SegmentPosition(2, 30))));
+    }
+
+    @Test
+    void read_returns_the_previous_position_when_the_latest_slot_is_torn() throws IOException {
+        final CheckpointFile checkpointFile = new CheckpointFile(directory);
+        checkpointFile.write(new SegmentPosition(1, 10));
+        checkpointFile.write(new SegmentPosition(2, 20));
+
+        try (final RandomAccessFile file = new RandomAccessFile(directory.resolve(CheckpointFile.FILE_NAME).toFile(), "rw")) {
+            file.seek(16);
+            file.writeInt(99);
+        }
+
+        assertThat(new CheckpointFile(directory).read(), equalTo(Optional.of(new SegmentPosition(1, 10))));
+    }
+
+    @Test
+    void writes_continue_after_reopening() throws IOException {
+        new CheckpointFile(directory).write(new SegmentPosition(1, 10));
+
+        final CheckpointFile reopened = new CheckpointFile(directory);
+        reopened.write(new SegmentPosition(3, 0));
+
+        assertThat(new CheckpointFile(directory).read(), equalTo(Optional.of(new SegmentPosition(3, 0))));
+    }
+}
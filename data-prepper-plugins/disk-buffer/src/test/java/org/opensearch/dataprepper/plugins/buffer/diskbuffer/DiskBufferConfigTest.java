@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.file.Paths;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.opensearch.dataprepper.test.helper.ReflectivelySetField.setField;
+
+class DiskBufferConfigTest {
+    @Test
+    void defaults_are_used_when_not_configured() throws NoSuchFieldException, IllegalAccessException {
+        final DiskBufferConfig objectUnderTest = new DiskBufferConfig();
+        setField(DiskBufferConfig.class, objectUnderTest, "path", "/tmp/buffer");
+
+        assertThat(objectUnderTest.getPath(), equalTo(Paths.get("/tmp/buffer")));
+        assertThat(objectUnderTest.getSegmentSizeBytes(), equalTo(64L * 1024 * 1024));
+        assertThat(objectUnderTest.getMaxSizeBytes(), equalTo(1024L * 1024 * 1024));
+        assertThat(objectUnderTest.getBatchSize(), equalTo(DiskBufferConfig.DEFAULT_BATCH_SIZE));
+        assertThat(objectUnderTest.getMaxSegments(), equalTo(16));
+        assertThat(objectUnderTest.isSegmentSizeValid(), equalTo(true));
+        assertThat(objectUnderTest.isMaxSizeValid(), equalTo(true));
+    }
+
+    @Test
+    void getMaxSegments_rounds_down_to_whole_segments() throws NoSuchFieldException, IllegalAccessException {
+        final DiskBufferConfig objectUnderTest = new DiskBufferConfig();
+        setField(DiskBufferConfig.class, objectUnderTest, "segmentSize", "4mb");
+        setField(DiskBufferConfig.class, objectUnderTest, "maxSize", "10mb");
+
+        assertThat(objectUnderTest.getMaxSegments(), equalTo(2));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1kb, true", "1gb, true", "1023b, false", "2gb, false"})
+    void isSegmentSizeValid_checks_the_bounds(final String segmentSize, final boolean expected)
+            throws NoSuchFieldException, IllegalAccessException {
+        final DiskBufferConfig objectUnderTest = new DiskBufferConfig();
+        setField(DiskBufferConfig.class, objectUnderTest, "segmentSize", segmentSize);
+
+        assertThat(objectUnderTest.isSegmentSizeValid(), equalTo(expected));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"128mb, true", "100mb, false", "64mb, false"})
+    void isMaxSizeValid_requires_two_segments(final String maxSize, final boolean expected)
+            throws NoSuchFieldException, IllegalAccessException {
+        final DiskBufferConfig objectUnderTest = new DiskBufferConfig();
+        setField(DiskBufferConfig.class, objectUnderTest, "maxSize", maxSize);
+
+        assertThat(objectUnderTest.isMaxSizeValid(), equalTo(expected));
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opensearch.dataprepper.metrics.MetricNames;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.configuration.PipelineDescription;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.dataprepper.test.helper.ReflectivelySetField.setField;
+
+class DiskBufferTest {
+    private static final String TEST_PIPELINE_NAME = "test-pipeline";
+    private static final String PLUGIN_NAME = "DiskBuffer";
+    private static final int TEST_BATCH_SIZE = 3;
+    private static final int TEST_WRITE_TIMEOUT = 10;
+    private static final int TEST_BATCH_READ_TIMEOUT = 200;
+    private static final int RECORD_LENGTH = 100;
+    private static final int FRAME_LENGTH = Segment.FRAME_HEADER_BYTES + 1 + RECORD_LENGTH;
+    private static final int RECORDS_PER_SEGMENT = 1024 / FRAME_LENGTH;
+
+    @TempDir
+    Path directory;
+
+    private DiskBufferConfig diskBufferConfig;
+
+    @BeforeEach
+    void setUp() throws NoSuchFieldException, IllegalAccessException {
+        Metrics.globalRegistry.getRegistries().forEach(Metrics.globalRegistry::remove);
+        Metrics.globalRegistry.getMeters().forEach(Metrics.globalRegistry::remove);
+        Metrics.addRegistry(new SimpleMeterRegistry());
+
+        diskBufferConfig = new DiskBufferConfig();
+        setField(DiskBufferConfig.class, diskBufferConfig, "path", directory.toString());
+        setField(DiskBufferConfig.class, diskBufferConfig, "segmentSize", "1kb");
+        setField(DiskBufferConfig.class, diskBufferConfig, "maxSize", "2kb");
+        setField(DiskBufferConfig.class, diskBufferConfig, "batchSize", TEST_BATCH_SIZE);
+    }
+
+    private DiskBuffer<Record<Object>> createObjectUnderTest() {
+        return new DiskBuffer<>(diskBufferConfig, TEST_PIPELINE_NAME);
+    }
+
+    @Test
+    void creation_using_the_pipeline_description_uses_the_pipeline_directory() {
+        final PipelineDescription pipelineDescription = mock(PipelineDescription.class);
+        when(pipelineDescription.getPipelineName()).thenReturn(TEST_PIPELINE_NAME);
+
+        assertThat(new DiskBuffer<Record<Object>>(diskBufferConfig, pipelineDescription), notNullValue());
+        assertThat(Files.isDirectory(directory.resolve(TEST_PIPELINE_NAME)), equalTo(true));
+    }
+
+    @Test
+    void creation_throws_when_the_directory_cannot_be_created() throws Exception {
+        final Path file = Files.createFile(directory.resolve("file"));
+        setField(DiskBufferConfig.class, diskBufferConfig, "path", file.toString());
+
+        assertThrows(RuntimeException.class, this::createObjectUnderTest);
+    }
+
+    @Test
+    void read_returns_written_records_in_batches() throws Exception {
+        final DiskBuffer<Record<Object>> objectUnderTest = createObjectUnderTest();
+        for (int i = 0; i < 5; i++) {
+            objectUnderTest.write(record(i), TEST_WRITE_TIMEOUT);
+        }
+
+        final Map.Entry<Collection<Record<Object>>, CheckpointState> firstBatch = objectUnderTest.read(TEST_BATCH_READ_TIMEOUT);
+        final Map.Entry<Collection<Record<Object>>, CheckpointState> secondBatch = objectUnderTest.read(TEST_BATCH_READ_TIMEOUT);
+
+        assertThat(values(firstBatch.getKey()), equalTo(List.of(0, 1, 2)));
+        assertThat(firstBatch.getValue().getNumRecordsToBeChecked(), equalTo(3));
+        assertThat(values(secondBatch.getKey()), equalTo(List.of(3, 4)));
+        assertThat(objectUnderTest.isEmpty(), equalTo(false));
+
+        objectUnderTest.checkpoint(firstBatch.getValue());
+        objectUnderTest.checkpoint(secondBatch.getValue());
+
+        assertThat(objectUnderTest.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void read_with_zero_timeout_returns_available_records() throws Exception {
+        final DiskBuffer<Record<Object>> objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.read(0).getKey(), empty());
+
+        objectUnderTest.writeAll(List.of(record(0), record(1)), TEST_WRITE_TIMEOUT);
+
+        assertThat(values(objectUnderTest.read(0).getKey()), equalTo(List.of(0, 1)));
+    }
+
+    @Test
+    void read_waits_for_records_written_by_another_thread() throws Exception {
+        final DiskBuffer<Record<Object>> objectUnderTest = createObjectUnderTest();
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Map.Entry<Collection<Record<Object>>, CheckpointState>> read =
+                    executorService.submit(() -> objectUnderTest.read(5_000));
+            Thread.sleep(50);
+            objectUnderTest.writeAll(List.of(record(0), record(1), record(2)), TEST_WRITE_TIMEOUT);
+
+            assertThat(values(read.get(5, TimeUnit.SECONDS).getKey()), equalTo(List.of(0, 1, 2)));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void read_throws_when_interrupted() {
+        final DiskBuffer<Record<Object>> objectUnderTest = createObjectUnderTest();
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(RuntimeException.class, () -> objectUnderTest.read(TEST_BATCH_READ_TIMEOUT));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void write_times_out_when_the_buffer_is_full() throws Exception {
+        final DiskBuffer<Record<Object>> objectUnderTest = createObjectUnderTest();
+        fill(objectUnderTest);
+
+        assertThrows(TimeoutException.class, () -> objectUnderTest.write(record(0), TEST_WRITE_TIMEOUT));
+        assertThrows(TimeoutException.class, () -> objectUnderTest.writeAll(List.of(record(0)), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    void write_throws_timeout_when_interrupted_while_full() throws Exception {
+        final DiskBuffer<Record<Object>> objectUnderTest = createObjectUnderTest();
+        fill(objectUnderTest);
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(TimeoutException.class, () -> objectUnderTest.write(record(0), TEST_BATCH_READ_TIMEOUT));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void write_succeeds_once_a_checkpoint_frees_a_segment() throws Exception {
+        final DiskBuffer<Record<Object>> objectUnderTest = createObjectUnderTest();
+        fill(objectUnderTest);
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<?> write = executorService.submit(() -> {
+                objectUnderTest.write(record(99), 5_000);
+                return null;
+            });
+            Thread.sleep(50);
+            for (int i = 0; i < RECORDS_PER_SEGMENT; i += TEST_BATCH_SIZE) {
+                objectUnderTest.checkpoint(objectUnderTest.read(TEST_BATCH_READ_TIMEOUT).getValue());
+            }
+
+            write.get(5, TimeUnit.SECONDS);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void write_throws_for_records_larger_than_a_segment() {
+        final DiskBuffer<Record<Object>> objectUnderTest = createObjectUnderTest();
+        final Record<Object> largeRecord = new Record<>("x".repeat(2048));
+
+        assertThrows(IllegalArgumentException.class, () -> objectUnderTest.write(largeRecord, TEST_WRITE_TIMEOUT));
+        assertThrows(SizeOverflowException.class,
+                () -> objectUnderTest.writeAll(List.of(record(0), largeRecord), TEST_WRITE_TIMEOUT));
+        assertThat(objectUnderTest.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void write_throws_for_unsupported_data() {
+        final DiskBuffer<Record<Object>> objectUnderTest = createObjectUnderTest();
+
+        assertThrows(IllegalArgumentException.class, () -> objectUnderTest.write(new Record<>(42), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    void write_throws_for_null_records() {
+        final DiskBuffer<Record<Object>> objectUnderTest = createObjectUnderTest();
+
+        assertThrows(NullPointerException.class, () -> objectUnderTest.write(null, TEST_WRITE_TIMEOUT));
+        assertThrows(NullPointerException.class,
+                () -> objectUnderTest.writeAll(Collections.singletonList(null), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    void checkpoints_out_of_order_only_persist_the_contiguous_prefix() throws Exception {
+        DiskBuffer<Record<Object>> objectUnderTest = createObjectUnderTest();
+        objectUnderTest.writeAll(records(9), TEST_WRITE_TIMEOUT);
+        final CheckpointState first = objectUnderTest.read(TEST_BATCH_READ_TIMEOUT).getValue();
+        final CheckpointState second = objectUnderTest.read(TEST_BATCH_READ_TIMEOUT).getValue();
+        final CheckpointState third = objectUnderTest.read(TEST_BATCH_READ_TIMEOUT).getValue();
+
+        objectUnderTest.checkpoint(third);
+        objectUnderTest.checkpoint(first);
+
+        objectUnderTest = createObjectUnderTest();
+        assertThat(values(readAll(objectUnderTest)), equalTo(List.of(3, 4, 5, 6, 7, 8)));
+
+        objectUnderTest = createObjectUnderTest();
+        final CheckpointState replayedSecond = objectUnderTest.read(TEST_BATCH_READ_TIMEOUT).getValue();
+        objectUnderTest.checkpoint(objectUnderTest.read(TEST_BATCH_READ_TIMEOUT).getValue());
+        objectUnderTest.checkpoint(replayedSecond);
+        assertThat(objectUnderTest.isEmpty(), equalTo(true));
+
+        assertThat(createObjectUnderTest().isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void checkpoint_with_a_foreign_checkpoint_state_completes_the_oldest_batch() throws Exception {
+        DiskBuffer<Record<Object>> objectUnderTest = createObjectUnderTest();
+        objectUnderTest.writeAll(records(6), TEST_WRITE_TIMEOUT);
+        objectUnderTest.read(TEST_BATCH_READ_TIMEOUT);
+        objectUnderTest.read(TEST_BATCH_READ_TIMEOUT);
+
+        objectUnderTest.checkpoint(new CheckpointState(3));
+
+        assertThat(values(readAll(createObjectUnderTest())), equalTo(List.of(3, 4, 5)));
+    }
+
+    @Test
+    void unprocessed_records_are_recovered_after_a_restart() throws Exception {
+        final DiskBuffer<Record<Object>> objectUnderTest = createObjectUnderTest();
+        objectUnderTest.writeAll(records(5), TEST_WRITE_TIMEOUT);
+        objectUnderTest.checkpoint(objectUnderTest.read(TEST_BATCH_READ_TIMEOUT).getValue());
+        objectUnderTest.read(TEST_BATCH_READ_TIMEOUT);
+
+        final DiskBuffer<Record<Object>> recovered = createObjectUnderTest();
+
+        assertThat(recovered.isEmpty(), equalTo(false));
+        recovered.write(record(5), TEST_WRITE_TIMEOUT);
+        assertThat(values(readAll(recovered)), equalTo(List.of(3, 4, 5)));
+    }
+
+    @Test
+    void events_keep_their_event_handle() throws Exception {
+        final DiskBuffer<Record<Object>> objectUnderTest = createObjectUnderTest();
+        final Event event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of("key", "value"))
+                .build();
+        final EventHandle eventHandle = event.getEventHandle();
+
+        objectUnderTest.write(new Record<>(event), TEST_WRITE_TIMEOUT);
+        final Collection<Record<Object>> records = objectUnderTest.read(TEST_BATCH_READ_TIMEOUT).getKey();
+
+        assertThat(records.size(), equalTo(1));
+        final Event readEvent = (Event) records.iterator().next().getData();
+        assertThat(readEvent.get("key", String.class), equalTo("value"));
+        assertThat(readEvent.getEventHandle(), sameInstance(eventHandle));
+    }
+
+    @Test
+    void buffer_usage_metric_reports_the_share_of_max_size_in_use() throws Exception {
+        final DiskBuffer<Record<Object>> objectUnderTest = createObjectUnderTest();
+        final Gauge bufferUsage = Metrics.globalRegistry.get(
+                new StringJoiner(MetricNames.DELIMITER).add(TEST_PIPELINE_NAME).add(PLUGIN_NAME).add("bufferUsage").toString()).gauge();
+
+        assertThat(bufferUsage.value(), equalTo(0.0));
+
+        objectUnderTest.writeAll(records(4), TEST_WRITE_TIMEOUT);
+        objectUnderTest.checkpoint(objectUnderTest.read(TEST_BATCH_READ_TIMEOUT).getValue());
+
+        assertThat(bufferUsage.value(), closeTo(FRAME_LENGTH * 100.0 / 2048, 0.001));
+    }
+
+    private void fill(final DiskBuffer<Record<Object>> diskBuffer) throws Exception {
+        diskBuffer.writeAll(records(RECORDS_PER_SEGMENT * 2), TEST_WRITE_TIMEOUT);
+    }
+
+    private static Collection<Record<Object>> readAll(final DiskBuffer<Record<Object>> diskBuffer) {
+        final List<Record<Object>> records = new ArrayList<>();
+        Collection<Record<Object>> batch;
+        do {
+            batch = diskBuffer.read(0).getKey();
+            records.addAll(batch);
+        } while (!batch.isEmpty());
+        return records;
+    }
+
+    private static List<Integer> values(final Collection<Record<Object>> records) {
+        return records.stream()
+                .map(record -> Integer.parseInt(((String) record.getData()).trim()))
+                .collect(Collectors.toList());
+    }
+
+    private static List<Record<Object>> records(final int count) {
+        return IntStream.range(0, count).mapToObj(DiskBufferTest::record).collect(Collectors.toList());
+    }
+
+    private static Record<Object> record(final int value) {
+        return new Record<>(String.format("%-" + RECORD_LENGTH + "d", value));
+    }
+}
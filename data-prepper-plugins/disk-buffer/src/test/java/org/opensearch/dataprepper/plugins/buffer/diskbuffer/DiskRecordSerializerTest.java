@@ -0,0 +1,152 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.log.JacksonLog;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.model.trace.Span;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class DiskRecordSerializerTest {
+    private DiskRecordSerializer createObjectUnderTest() {
+        return new DiskRecordSerializer();
+    }
+
+    @Test
+    void event_round_trips_with_its_metadata() throws IOException {
+        final Instant timeReceived = Instant.now();
+        final Event event = JacksonEvent.builder()
+                .withEventType("LOG")
+                .withTimeReceived(timeReceived)
+                .withData(Map.of("message", "hello", "nested", Map.of("count", 3)))
+                .build();
+        event.getMetadata().setAttribute("index", "logs");
+        event.getMetadata().addTags(List.of("tag1", "tag2"));
+
+        final DiskRecordSerializer objectUnderTest = createObjectUnderTest();
+        final Object deserialized = objectUnderTest.deserialize(objectUnderTest.serialize(event));
+
+        assertThat(deserialized.getClass(), equalTo(JacksonEvent.class));
+        final Event deserializedEvent = (Event) deserialized;
+        assertThat(deserializedEvent.toMap(), equalTo(event.toMap()));
+        assertThat(deserializedEvent.getMetadata().getEventType(), equalTo("LOG"));
+        assertThat(deserializedEvent.getMetadata().getTimeReceived(), equalTo(timeReceived));
+        assertThat(deserializedEvent.getMetadata().getAttributes(), equalTo(Map.of("index", "logs")));
+        assertThat(deserializedEvent.getMetadata().getTags(), equalTo(Set.of("tag1", "tag2")));
+    }
+
+    @Test
+    void trace_event_is_deserialized_as_a_span() throws IOException {
+        final Span span = JacksonSpan.builder()
+                .withSpanId(UUID.randomUUID().toString())
+                .withTraceId(UUID.randomUUID().toString())
+                .withTraceState("")
+                .withParentSpanId("")
+                .withName("span")
+                .withServiceName("service")
+                .withKind("SPAN_KIND_SERVER")
+                .withStartTime("2023-01-01T00:00:00Z")
+                .withEndTime("2023-01-01T00:00:01Z")
+                .withDurationInNanos(1_000_000_000L)
+                .withTraceGroup("group")
+                .withTraceGroupFields(DefaultTraceGroupFields.builder().withDurationInNanos(1_000_000_000L).build())
+                .build();
+
+        final DiskRecordSerializer objectUnderTest = createObjectUnderTest();
+        final Object deserialized = objectUnderTest.deserialize(objectUnderTest.serialize(span));
+
+        assertThat(deserialized, instanceOf(JacksonSpan.class));
+        assertThat(((Span) deserialized).getSpanId(), equalTo(span.getSpanId()));
+        assertThat(((Span) deserialized).getTraceGroup(), equalTo("group"));
+    }
+
+    @Test
+    void span_round_trips_with_its_attributes() throws IOException {
+        final Span span = JacksonSpan.builder()
+                .withSpanId(UUID.randomUUID().toString())
+                .withTraceId(UUID.randomUUID().toString())
+                .withTraceState("")
+                .withParentSpanId("")
+                .withName("span")
+                .withServiceName("service")
+                .withKind("SPAN_KIND_SERVER")
+                .withStartTime("2023-01-01T00:00:00Z")
+                .withEndTime("2023-01-01T00:00:01Z")
+                .withDurationInNanos(1_000_000_000L)
+                .withAttributes(Map.of("http.method", "GET", "http.status_code", 200))
+                .withTraceGroup("group")
+                .withTraceGroupFields(DefaultTraceGroupFields.builder().withDurationInNanos(1_000_000_000L).build())
+                .build();
+
+        final DiskRecordSerializer objectUnderTest = createObjectUnderTest();
+        final Span deserialized = (Span) objectUnderTest.deserialize(objectUnderTest.serialize(span));
+
+        assertThat(deserialized.getAttributes(), equalTo(span.getAttributes()));
+        assertThat(deserialized.get("attributes/http.method", String.class), equalTo("GET"));
+        assertThat(deserialized.toJsonString(), equalTo(span.toJsonString()));
+    }
+
+    @Test
+    void log_is_deserialized_as_a_log() throws IOException {
+        final JacksonLog log = JacksonLog.builder()
+                .withData(Map.of("message", "hello"))
+                .getThis()
+                .build();
+        log.getMetadata().addTags(List.of("tag1"));
+
+        final DiskRecordSerializer objectUnderTest = createObjectUnderTest();
+        final Object deserialized = objectUnderTest.deserialize(objectUnderTest.serialize(log));
+
+        assertThat(deserialized.getClass(), equalTo(JacksonLog.class));
+        assertThat(((Event) deserialized).toMap(), equalTo(log.toMap()));
+        assertThat(((Event) deserialized).getMetadata().getTags(), equalTo(Set.of("tag1")));
+    }
+
+    @Test
+    void serialize_throws_for_unsupported_event_classes() {
+        final Event event = mock(Event.class);
+
+        assertThrows(IllegalArgumentException.class, () -> createObjectUnderTest().serialize(event));
+    }
+
+    @Test
+    void string_round_trips() throws IOException {
+        final String data = UUID.randomUUID() + " é";
+
+        final DiskRecordSerializer objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.deserialize(objectUnderTest.serialize(data)), equalTo(data));
+    }
+
+    @Test
+    void serialize_throws_for_unsupported_data() {
+        final DiskRecordSerializer objectUnderTest = createObjectUnderTest();
+
+        assertThrows(IllegalArgumentException.class, () -> objectUnderTest.serialize(42));
+        assertThrows(IllegalArgumentException.class, () -> objectUnderTest.serialize(null));
+    }
+
+    @Test
+    void deserialize_throws_for_an_unknown_record_type() {
+        assertThrows(IOException.class, () -> createObjectUnderTest().deserialize(new byte[]{9}));
+    }
+}
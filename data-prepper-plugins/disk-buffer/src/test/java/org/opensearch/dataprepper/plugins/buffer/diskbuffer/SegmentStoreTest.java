@@ -0,0 +1,229 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SegmentStoreTest {
+    private static final int SEGMENT_SIZE = 64;
+    private static final int MAX_SEGMENTS = 3;
+    private static final int PAYLOAD_LENGTH = 20;
+    private static final int FRAMES_PER_SEGMENT = SEGMENT_SIZE / (Segment.FRAME_HEADER_BYTES + PAYLOAD_LENGTH);
+
+    @TempDir
+    Path directory;
+
+    private SegmentStore createObjectUnderTest() throws IOException {
+        return new SegmentStore(directory, SEGMENT_SIZE, MAX_SEGMENTS);
+    }
+
+    @Test
+    void new_store_is_empty() throws IOException {
+        final SegmentStore objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.isEmpty(), equalTo(true));
+        assertThat(objectUnderTest.readNext(), nullValue());
+        assertThat(objectUnderTest.getRecoveredRecords(), equalTo(0));
+        assertThat(objectUnderTest.getSegmentCount(), equalTo(1));
+        assertThat(objectUnderTest.getUsedBytes(), equalTo(0L));
+        assertThat(objectUnderTest.getCheckpointPosition(), equalTo(new SegmentPosition(0, 0)));
+    }
+
+    @Test
+    void readNext_returns_appended_records_across_segments_in_order() throws IOException {
+        final SegmentStore objectUnderTest = createObjectUnderTest();
+
+        for (int i = 0; i < 5; i++) {
+            objectUnderTest.append(payload(i));
+        }
+
+        assertThat(objectUnderTest.getSegmentCount(), equalTo(3));
+        assertThat(objectUnderTest.isEmpty(), equalTo(false));
+        assertThat(readAll(objectUnderTest), equalTo(List.of(0, 1, 2, 3, 4)));
+        assertThat(objectUnderTest.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void hasSpaceFor_accounts_for_new_segments() throws IOException {
+        final SegmentStore objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.hasSpaceFor(lengths(FRAMES_PER_SEGMENT * MAX_SEGMENTS)), equalTo(true));
+        assertThat(objectUnderTest.hasSpaceFor(lengths(FRAMES_PER_SEGMENT * MAX_SEGMENTS + 1)), equalTo(false));
+
+        objectUnderTest.append(payload(0));
+
+        assertThat(objectUnderTest.hasSpaceFor(lengths(FRAMES_PER_SEGMENT * MAX_SEGMENTS - 1)), equalTo(true));
+        assertThat(objectUnderTest.hasSpaceFor(lengths(FRAMES_PER_SEGMENT * MAX_SEGMENTS)), equalTo(false));
+    }
+
+    @Test
+    void fitsInSegment_checks_the_frame_against_the_segment_size() throws IOException {
+        final SegmentStore objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.fitsInSegment(SEGMENT_SIZE - Segment.FRAME_HEADER_BYTES), equalTo(true));
+        assertThat(objectUnderTest.fitsInSegment(SEGMENT_SIZE - Segment.FRAME_HEADER_BYTES + 1), equalTo(false));
+    }
+
+    @Test
+    void checkpoint_recycles_segments_before_the_position() throws IOException {
+        final SegmentStore objectUnderTest = createObjectUnderTest();
+        for (int i = 0; i < 5; i++) {
+            objectUnderTest.append(payload(i));
+        }
+        readAll(objectUnderTest);
+        assertThat(objectUnderTest.hasSpaceFor(lengths(FRAMES_PER_SEGMENT)), equalTo(false));
+
+        objectUnderTest.checkpoint(objectUnderTest.getReadPosition());
+
+        assertThat(objectUnderTest.getSegmentCount(), equalTo(1));
+        assertThat(objectUnderTest.getCheckpointPosition(), equalTo(objectUnderTest.getReadPosition()));
+        assertThat(objectUnderTest.hasSpaceFor(lengths(FRAMES_PER_SEGMENT * 2)), equalTo(true));
+        assertThat(segmentFileNames(), equalTo(List.of(Segment.fileName(0), Segment.fileName(1), Segment.fileName(2))));
+
+        objectUnderTest.append(payload(5));
+        objectUnderTest.append(payload(6));
+
+        assertThat(readAll(objectUnderTest), equalTo(List.of(5, 6)));
+        assertThat(segmentFileNames(), equalTo(List.of(Segment.fileName(1), Segment.fileName(2), Segment.fileName(3))));
+    }
+
+    @Test
+    void checkpoint_at_the_end_of_a_sealed_segment_moves_to_the_next_segment() throws IOException {
+        final SegmentStore objectUnderTest = createObjectUnderTest();
+        for (int i = 0; i < FRAMES_PER_SEGMENT + 1; i++) {
+            objectUnderTest.append(payload(i));
+        }
+
+        objectUnderTest.checkpoint(new SegmentPosition(0, FRAMES_PER_SEGMENT * (Segment.FRAME_HEADER_BYTES + PAYLOAD_LENGTH)));
+
+        assertThat(objectUnderTest.getCheckpointPosition(), equalTo(new SegmentPosition(1, 0)));
+        assertThat(objectUnderTest.getSegmentCount(), equalTo(1));
+    }
+
+    @Test
+    void reopening_recovers_records_after_the_checkpoint() throws IOException {
+        final SegmentStore objectUnderTest = createObjectUnderTest();
+        for (int i = 0; i < 5; i++) {
+            objectUnderTest.append(payload(i));
+        }
+        objectUnderTest.readNext();
+        objectUnderTest.readNext();
+        objectUnderTest.readNext();
+        final SegmentPosition afterThirdRecord = objectUnderTest.getReadPosition();
+        objectUnderTest.readNext();
+        objectUnderTest.checkpoint(afterThirdRecord);
+
+        final SegmentStore reopened = createObjectUnderTest();
+
+        assertThat(reopened.getRecoveredRecords(), equalTo(2));
+        assertThat(reopened.getCheckpointPosition(), equalTo(afterThirdRecord));
+        assertThat(readAll(reopened), equalTo(List.of(3, 4)));
+
+        reopened.append(payload(5));
+        assertThat(readAll(reopened), equalTo(List.of(5)));
+    }
+
+    @Test
+    void reopening_without_a_checkpoint_recovers_all_records() throws IOException {
+        final SegmentStore objectUnderTest = createObjectUnderTest();
+        for (int i = 0; i < 3; i++) {
+            objectUnderTest.append(payload(i));
+        }
+
+        final SegmentStore reopened = createObjectUnderTest();
+
+        assertThat(reopened.getRecoveredRecords(), equalTo(3));
+        assertThat(readAll(reopened), equalTo(List.of(0, 1, 2)));
+    }
+
+    @Test
+    void reopening_deletes_segments_before_the_checkpoint() throws IOException {
+        final SegmentStore objectUnderTest = createObjectUnderTest();
+        for (int i = 0; i < 5; i++) {
+            objectUnderTest.append(payload(i));
+        }
+        readAll(objectUnderTest);
+        objectUnderTest.checkpoint(objectUnderTest.getReadPosition());
+
+        final SegmentStore reopened = createObjectUnderTest();
+
+        assertThat(reopened.getRecoveredRecords(), equalTo(0));
+        assertThat(reopened.isEmpty(), equalTo(true));
+        assertThat(segmentFileNames(), equalTo(List.of(Segment.fileName(2))));
+    }
+
+    @Test
+    void getUsedBytes_counts_from_the_checkpoint_to_the_write_position() throws IOException {
+        final SegmentStore objectUnderTest = createObjectUnderTest();
+        for (int i = 0; i < FRAMES_PER_SEGMENT + 1; i++) {
+            objectUnderTest.append(payload(i));
+        }
+
+        assertThat(objectUnderTest.getUsedBytes(), equalTo((long) SEGMENT_SIZE + Segment.FRAME_HEADER_BYTES + PAYLOAD_LENGTH));
+
+        objectUnderTest.readNext();
+        objectUnderTest.checkpoint(objectUnderTest.getReadPosition());
+
+        assertThat(objectUnderTest.getUsedBytes(), equalTo((long) SEGMENT_SIZE));
+    }
+
+    @Test
+    void checkpoint_deletes_segments_of_a_different_size() throws IOException {
+        for (int i = 0; i < 3; i++) {
+            createObjectUnderTest().append(payload(i));
+        }
+        final SegmentStore objectUnderTest = new SegmentStore(directory, SEGMENT_SIZE * 2, MAX_SEGMENTS);
+        objectUnderTest.append(payload(3));
+        objectUnderTest.append(payload(4));
+        readAll(objectUnderTest);
+
+        objectUnderTest.checkpoint(objectUnderTest.getReadPosition());
+
+        assertThat(segmentFileNames(), equalTo(List.of(Segment.fileName(2))));
+    }
+
+    private List<String> segmentFileNames() throws IOException {
+        try (final Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> Segment.parseId(fileName) >= 0)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static List<Integer> readAll(final SegmentStore segmentStore) {
+        final List<Integer> values = new ArrayList<>();
+        for (byte[] payload = segmentStore.readNext(); payload != null; payload = segmentStore.readNext()) {
+            values.add(Integer.parseInt(new String(payload, StandardCharsets.UTF_8).trim()));
+        }
+        return values;
+    }
+
+    private static int[] lengths(final int count) {
+        final int[] lengths = new int[count];
+        Arrays.fill(lengths, PAYLOAD_LENGTH);
+        return lengths;
+    }
+
+    private static byte[] payload(final int value) {
+        return String.format("%-" + PAYLOAD_LENGTH + "d", value).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.diskbuffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SegmentTest {
+    private static final int CAPACITY = 64;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void create_creates_a_file_of_the_capacity() throws IOException {
+        final Segment segment = Segment.create(directory, 3, CAPACITY);
+
+        assertThat(segment.getId(), equalTo(3L));
+        assertThat(segment.getCapacity(), equalTo(CAPACITY));
+        assertThat(segment.getLimit(), equalTo(0));
+        assertThat(Files.size(directory.resolve(Segment.fileName(3))), equalTo((long) CAPACITY));
+    }
+
+    @Test
+    void append_and_read_return_the_payloads() throws IOException {
+        final Segment segment = Segment.create(directory, 0, CAPACITY);
+
+        segment.append(bytes("first"));
+        segment.append(bytes("second"));
+
+        assertThat(segment.getLimit(), equalTo(2 * Segment.FRAME_HEADER_BYTES + 11));
+        assertThat(new String(segment.read(0), StandardCharsets.UTF_8), equalTo("first"));
+        assertThat(new String(segment.read(Segment.FRAME_HEADER_BYTES + 5), StandardCharsets.UTF_8), equalTo("second"));
+        assertThat(segment.countFrames(0), equalTo(2));
+        assertThat(segment.countFrames(Segment.FRAME_HEADER_BYTES + 5), equalTo(1));
+    }
+
+    @Test
+    void canAppend_is_false_when_the_frame_does_not_fit_or_sealed() throws IOException {
+        final Segment segment = Segment.create(directory, 0, CAPACITY);
+
+        assertThat(segment.canAppend(CAPACITY - Segment.FRAME_HEADER_BYTES), equalTo(true));
+        assertThat(segment.canAppend(CAPACITY - Segment.FRAME_HEADER_BYTES + 1), equalTo(false));
+
+        segment.seal();
+
+        assertThat(segment.isSealed(), equalTo(true));
+        assertThat(segment.canAppend(1), equalTo(false));
+    }
+
+    @Test
+    void open_finds_the_end_of_the_frames() throws IOException {
+        final Segment segment = Segment.create(directory, 5, CAPACITY);
+        segment.append(bytes("first"));
+        segment.append(bytes("second"));
+
+        final Segment reopened = Segment.open(directory, 5);
+
+        assertThat(reopened.getLimit(), equalTo(segment.getLimit()));
+        assertThat(reopened.countFrames(0), equalTo(2));
+    }
+
+    @Test
+    void open_stops_at_a_corrupted_frame() throws IOException {
+        final Segment segment = Segment.create(directory, 5, CAPACITY);
+        segment.append(bytes("first"));
+        segment.append(bytes("second"));
+        try (final RandomAccessFile file = new RandomAccessFile(directory.resolve(Segment.fileName(5)).toFile(), "rw")) {
+            file.seek(2L * Segment.FRAME_HEADER_BYTES + 5);
+            file.write('X');
+        }
+
+        final Segment reopened = Segment.open(directory, 5);
+
+        assertThat(reopened.getLimit(), equalTo(Segment.FRAME_HEADER_BYTES + 5));
+    }
+
+    @Test
+    void recycled_segment_ignores_the_frames_of_the_old_segment() throws IOException {
+        final Segment segment = Segment.create(directory, 1, CAPACITY);
+        segment.append(bytes("old"));
+        segment.seal();
+
+        segment.recycle(7);
+
+        assertThat(segment.getId(), equalTo(7L));
+        assertThat(segment.getLimit(), equalTo(0));
+        assertThat(segment.isSealed(), equalTo(false));
+        assertThat(Files.exists(directory.resolve(Segment.fileName(1))), equalTo(false));
+        assertThat(Segment.open(directory, 7).getLimit(), equalTo(0));
+    }
+
+    @Test
+    void delete_removes_the_file() throws IOException {
+        final Segment segment = Segment.create(directory, 1, CAPACITY);
+
+        segment.delete();
+
+        assertThat(Files.exists(directory.resolve(Segment.fileName(1))), equalTo(false));
+    }
+
+    @Test
+    void parseId_returns_the_id_of_segment_files() {
+        assertThat(Segment.parseId(Segment.fileName(42)), equalTo(42L));
+        assertThat(Segment.parseId(CheckpointFile.FILE_NAME), equalTo(-1L));
+        assertThat(Segment.parseId("segment-abc.dat"), equalTo(-1L));
+    }
+
+    private static byte[] bytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
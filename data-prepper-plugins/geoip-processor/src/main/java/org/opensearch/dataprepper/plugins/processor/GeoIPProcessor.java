@@ -10,6 +10,7 @@ import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
@@ -26,6 +27,7 @@ import java.net.InetAddress;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Implementation class of geoIP-processor plugin. It is responsible for enrichment of
@@ -42,6 +44,9 @@ public class GeoIPProcessor extends AbstractProcessor<Record<Event>, Record<Even
   private final GeoIPProcessorConfig geoIPProcessorConfig;
   private final String tempPath;
   private final List<String> tagsOnSourceNotFoundFailure;
+  private final List<KeysConfig> keysConfigs;
+  private final List<EventKey> sourceKeys;
+  private final List<EventKey> targetKeys;
   private GeoIPProcessorService geoIPProcessorService;
   private static final String TEMP_PATH_FOLDER = "GeoIP";
 
@@ -58,6 +63,13 @@ public class GeoIPProcessor extends AbstractProcessor<Record<Event>, Record<Even
     this.tempPath = System.getProperty("java.io.tmpdir")+ File.separator + TEMP_PATH_FOLDER;
     geoIPProcessorService = new GeoIPProcessorService(geoCodingProcessorConfig,tempPath);
     tagsOnSourceNotFoundFailure = geoCodingProcessorConfig.getTagsOnSourceNotFoundFailure();
+    keysConfigs = geoCodingProcessorConfig.getKeysConfig();
+    sourceKeys = keysConfigs.stream()
+            .map(key -> EventKey.of(key.getKeyConfig().getSource()))
+            .collect(Collectors.toList());
+    targetKeys = keysConfigs.stream()
+            .map(key -> EventKey.of(key.getKeyConfig().getTarget()))
+            .collect(Collectors.toList());
     this.geoIpProcessingMatchCounter = pluginMetrics.counter(GEO_IP_PROCESSING_MATCH);
     this.geoIpProcessingMismatchCounter = pluginMetrics.counter(GEO_IP_PROCESSING_MISMATCH);
   }
@@ -74,17 +86,16 @@ public class GeoIPProcessor extends AbstractProcessor<Record<Event>, Record<Even
 
     for (final Record<Event> eventRecord : records) {
       Event event = eventRecord.getData();
-      for (KeysConfig key : geoIPProcessorConfig.getKeysConfig()) {
-        String source = key.getKeyConfig().getSource();
-        List<String> attributes = key.getKeyConfig().getAttributes();
-        String ipAddress = event.get(source, String.class);
+      for (int i = 0; i < keysConfigs.size(); i++) {
+        List<String> attributes = keysConfigs.get(i).getKeyConfig().getAttributes();
+        String ipAddress = event.get(sourceKeys.get(i), String.class);
 
         //Lookup from DB
         if (ipAddress != null && (!(ipAddress.isEmpty()))) {
           try {
             if (IPValidationcheck.isPublicIpAddress(ipAddress)) {
               geoData = geoIPProcessorService.getGeoData(InetAddress.getByName(ipAddress), attributes);
-              eventRecord.getData().put(key.getKeyConfig().getTarget(), geoData);
+              eventRecord.getData().put(targetKeys.get(i), geoData);
               geoIpProcessingMatchCounter.increment();
             }
           } catch (IOException | EnrichFailedException ex) {
@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import io.krakens.grok.api.Grok;
+import io.krakens.grok.api.GrokCompiler;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the {@link GrokProcessor} with several {@code match} patterns over a mixed stream of Apache access, nginx
+ * error and syslog lines, with {@code break_on_match}. The pattern which matches most of the stream is configured
+ * last. The {@code configuredOrderWithoutPreFilter} benchmark tries every pattern in the configured order, which is
+ * how the processor matched before the pre-filter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GrokPatternOrderBenchmark {
+    private static final List<String> PATTERNS = List.of(
+            "%{COMBINEDAPACHELOG}",
+            "%{NGINXERRORTIME:timestamp} \\[%{LOGLEVEL:level}\\] %{POSINT:pid}#%{NUMBER:tid}: %{GREEDYDATA:error}",
+            "%{SYSLOGBASE} %{GREEDYDATA:syslog_message}",
+            "%{COMMONAPACHELOG}");
+
+    @Param({"false", "true"})
+    private boolean adaptivePatternOrder;
+
+    private GrokProcessor grokProcessor;
+    private List<Grok> groks;
+    private List<Record<Event>> records;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(GrokProcessorConfig.MATCH, Map.of("log", PATTERNS));
+        settings.put(GrokProcessorConfig.PATTERN_DEFINITIONS, Map.of("NGINXERRORTIME", "%{YEAR}/%{MONTHNUM}/%{MONTHDAY} %{TIME}"));
+        settings.put(GrokProcessorConfig.TARGET_KEY, "grokked");
+        settings.put(GrokProcessorConfig.ADAPTIVE_PATTERN_ORDER, adaptivePatternOrder);
+        final PluginSetting pluginSetting = new PluginSetting("grok", settings);
+        pluginSetting.setPipelineName("benchmark");
+        grokProcessor = new GrokProcessor(pluginSetting, null);
+
+        final GrokCompiler grokCompiler = GrokCompiler.newInstance();
+        grokCompiler.registerDefaultPatterns();
+        grokCompiler.register("NGINXERRORTIME", "%{YEAR}/%{MONTHNUM}/%{MONTHDAY} %{TIME}");
+        groks = PATTERNS.stream().map(pattern -> grokCompiler.compile(pattern, true)).collect(Collectors.toList());
+
+        records = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final String log;
+            if (i < 6) {
+                log = "127.0.0.1 - user" + i + " [10/Oct/2000:13:55:36 -0700] \"GET /apache_pb.gif HTTP/1.0\" 200 " + (2000 + i);
+            } else if (i < 9) {
+                log = "Mar  7 04:02:1" + i + " host sshd[123" + i + "]: Failed password for root from 10.0.0." + i;
+            } else {
+                log = "2023/03/01 12:00:00 [error] 1234#0: *5 open() \"/usr/share/nginx/html/favicon.ico\" failed";
+            }
+            records.add(new Record<>(JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Map.of("log", log))
+                    .build()));
+        }
+    }
+
+    @Benchmark
+    public Collection<Record<Event>> grokProcessor() {
+        return grokProcessor.doExecute(records);
+    }
+
+    @Benchmark
+    public int configuredOrderWithoutPreFilter() {
+        int matched = 0;
+        for (final Record<Event> record : records) {
+            final String value = record.getData().get("log", String.class);
+            for (final Grok grok : groks) {
+                if (!grok.match(value).capture().isEmpty()) {
+                    matched++;
+                    break;
+                }
+            }
+        }
+        return matched;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs the {@link GrokProcessor} over the log lines which the {@code VariousGrokPatternsSimulation} performance test
+ * sends: four Apache common log lines and one line which does not match. The {@code executorHandoff} benchmark
+ * reproduces the previous timeout mechanism, which handed every event to a helper thread and waited on its future.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GrokProcessorBenchmark {
+    private static final int HANDOFF_TIMEOUT_MILLIS = 30000;
+
+    @Param({"0", "30000"})
+    private int timeoutMillis;
+
+    private GrokProcessor grokProcessor;
+    private GrokProcessor grokProcessorWithoutTimeout;
+    private ExecutorService executorService;
+    private List<Record<Event>> records;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        grokProcessor = createGrokProcessor(timeoutMillis);
+        grokProcessorWithoutTimeout = createGrokProcessor(0);
+        executorService = Executors.newSingleThreadExecutor();
+
+        records = new ArrayList<>();
+        final String timestamp = "10/Oct/2000:13:55:36 -0700";
+        records.add(createRecord("127.0.0.1 - Marita [" + timestamp + "] \"GET /apache_pb.gif HTTP/1.0\" 200 2326"));
+        records.add(createRecord("127.0.0.1 - Rosaline [" + timestamp + "] \"PUT /apache_pb.gif HTTP/1.0\" 202 2326"));
+        records.add(createRecord("127.0.0.1 - Talbot [" + timestamp + "] \"POST /apache_pb.gif HTTP/1.0\" 400 2326"));
+        records.add(createRecord("127.0.0.1 - Adriene [" + timestamp + "] \"DELETE /apache_pb.gif HTTP/1.0\" 404 2326"));
+        records.add(createRecord("I should fail the grok parser"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    /**
+     * The captures are written to a target key so that running the same events again replaces them.
+     */
+    private static GrokProcessor createGrokProcessor(final int timeoutMillis) {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(GrokProcessorConfig.MATCH, Map.of("log", List.of("%{COMMONAPACHELOG}")));
+        settings.put(GrokProcessorConfig.TIMEOUT_MILLIS, timeoutMillis);
+        settings.put(GrokProcessorConfig.TARGET_KEY, "grokked");
+        final PluginSetting pluginSetting = new PluginSetting("grok", settings);
+        pluginSetting.setPipelineName("benchmark");
+        return new GrokProcessor(pluginSetting, null);
+    }
+
+    private static Record<Event> createRecord(final String log) {
+        return new Record<>(JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of("log", log))
+                .build());
+    }
+
+    @Benchmark
+    public Collection<Record<Event>> inThread() {
+        return grokProcessor.doExecute(records);
+    }
+
+    @Benchmark
+    public Collection<Record<Event>> executorHandoff() throws ExecutionException, InterruptedException, TimeoutException {
+        for (final Record<Event> record : records) {
+            executorService.submit(() -> grokProcessorWithoutTimeout.doExecute(Collections.singletonList(record)))
+                    .get(HANDOFF_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        return records;
+    }
+}
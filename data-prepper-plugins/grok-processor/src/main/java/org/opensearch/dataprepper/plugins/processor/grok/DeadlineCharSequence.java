@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+/**
+ * A {@link CharSequence} over a value being matched which throws {@link MatchTimeoutException} from
+ * {@link #charAt(int)} once its deadline has passed. The regex engine reads every character through
+ * {@link #charAt(int)}, including while backtracking, so this bounds the time spent matching on the calling
+ * thread without handing the match to another thread.
+ * <p>
+ * The clock is read on the first access and then once every {@link #CHECK_INTERVAL} accesses.
+ */
+class DeadlineCharSequence implements CharSequence {
+    static final int CHECK_INTERVAL = 1024;
+
+    private final String value;
+    private final long deadlineNanos;
+    private int accessesUntilCheck;
+
+    /**
+     * @param value the value being matched
+     * @param deadlineNanos the {@link System#nanoTime()} after which matching times out
+     */
+    DeadlineCharSequence(final String value, final long deadlineNanos) {
+        this.value = value;
+        this.deadlineNanos = deadlineNanos;
+        this.accessesUntilCheck = 0;
+    }
+
+    @Override
+    public int length() {
+        return value.length();
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (--accessesUntilCheck < 0) {
+            checkDeadline();
+        }
+        return value.charAt(index);
+    }
+
+    /**
+     * Returns a plain {@link String}, which is what the captured groups are built from after the match.
+     */
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return value.substring(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    private void checkDeadline() {
+        accessesUntilCheck = CHECK_INTERVAL;
+        if (System.nanoTime() - deadlineNanos > 0) {
+            throw new MatchTimeoutException();
+        }
+    }
+}
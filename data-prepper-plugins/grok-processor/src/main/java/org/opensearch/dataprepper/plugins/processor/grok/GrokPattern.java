@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import io.krakens.grok.api.Grok;
+import io.krakens.grok.api.Match;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A compiled grok pattern configured for a key, along with its {@link GrokPatternPreFilter} and metrics. The metrics
+ * are tagged with the key and the position of the pattern in the configured list for the key, rather than the pattern
+ * itself, which can be long and is not limited to a small set of values.
+ */
+class GrokPattern {
+    static final String KEY_TAG = "key";
+    static final String PATTERN_INDEX_TAG = "pattern_index";
+
+    private final Grok grok;
+    private final GrokPatternPreFilter preFilter;
+    private final Counter matchCounter;
+    private final Counter mismatchCounter;
+    private final Counter skippedCounter;
+    private final Timer matchTime;
+    private long recentMatches;
+
+    GrokPattern(final Grok grok, final String key, final int patternIndex, final PluginMetrics pluginMetrics) {
+        this.grok = grok;
+        this.preFilter = GrokPatternPreFilter.fromRegex(grok.getNamedRegex());
+        final String[] tags = {KEY_TAG, key, PATTERN_INDEX_TAG, Integer.toString(patternIndex)};
+        matchCounter = pluginMetrics.counterWithTags(GrokProcessor.GROK_PATTERN_MATCH, tags);
+        mismatchCounter = pluginMetrics.counterWithTags(GrokProcessor.GROK_PATTERN_MISMATCH, tags);
+        skippedCounter = pluginMetrics.counterWithTags(GrokProcessor.GROK_PATTERN_SKIPPED, tags);
+        matchTime = pluginMetrics.timerWithTags(GrokProcessor.GROK_PATTERN_TIME, tags);
+    }
+
+    /**
+     * Matches the pattern against a value, unless its pre-filter rules the value out.
+     *
+     * @param value the value to match
+     * @param matchValue the value as it is passed to the regex engine
+     * @param keepEmptyCaptures whether to keep captures which matched nothing
+     * @return the captures, which are empty if the pattern did not match
+     */
+    Map<String, Object> capture(final String value, final CharSequence matchValue, final boolean keepEmptyCaptures) {
+        if (!preFilter.mightMatch(value)) {
+            skippedCounter.increment();
+            return Collections.emptyMap();
+        }
+
+        final long startTime = System.nanoTime();
+        final Match match = grok.match(matchValue);
+        match.setKeepEmptyCaptures(keepEmptyCaptures);
+        final Map<String, Object> captures = match.capture();
+        matchTime.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+
+        if (captures.isEmpty()) {
+            mismatchCounter.increment();
+        } else {
+            matchCounter.increment();
+            recentMatches++;
+        }
+        return captures;
+    }
+
+    long getRecentMatches() {
+        return recentMatches;
+    }
+
+    /**
+     * Halves the recent match count, so that the order follows changes in the input.
+     */
+    void decayRecentMatches() {
+        recentMatches >>= 1;
+    }
+}
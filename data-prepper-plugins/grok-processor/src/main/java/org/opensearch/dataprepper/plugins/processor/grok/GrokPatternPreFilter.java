@@ -0,0 +1,291 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A cheap check which rules out values that a compiled grok pattern cannot match, so that the regex is not run
+ * against them. It holds the literal substrings which every match must contain, and the literal prefix when the
+ * pattern is anchored to the start of the value.
+ * <p>
+ * Literals are collected from the expanded regex and from the groups which every match must go through. The
+ * literals of groups which are optional, contain alternation or are lookarounds are dropped, as are literals which
+ * a quantifier makes optional. A regex that cannot be inspected safely, such as one with top-level alternation,
+ * inline flags or quoting, gets a filter which accepts every value.
+ */
+class GrokPatternPreFilter {
+    static final GrokPatternPreFilter ACCEPT_ALL = new GrokPatternPreFilter(null, new String[0]);
+
+    private static final String SINGLE_CHARACTER_ESCAPES = "sSdDwWbBhHvVRXAGZztnrfae";
+    private static final String INLINE_FLAG_CHARACTERS = "idmsuxU-";
+
+    private final String prefix;
+    private final String[] requiredLiterals;
+
+    private GrokPatternPreFilter(final String prefix, final String[] requiredLiterals) {
+        this.prefix = prefix;
+        this.requiredLiterals = requiredLiterals;
+    }
+
+    /**
+     * @param value the value to be matched
+     * @return false if the pattern cannot match the value, true if it might
+     */
+    boolean mightMatch(final String value) {
+        if (prefix != null && !value.startsWith(prefix)) {
+            return false;
+        }
+        for (final String requiredLiteral : requiredLiterals) {
+            if (!value.contains(requiredLiteral)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    String getPrefix() {
+        return prefix;
+    }
+
+    String[] getRequiredLiterals() {
+        return requiredLiterals;
+    }
+
+    /**
+     * @param regex the expanded regex of a compiled grok pattern, may be null
+     * @return the pre-filter for the regex
+     */
+    static GrokPatternPreFilter fromRegex(final String regex) {
+        if (regex == null || regex.contains("\\Q") || hasInlineFlags(regex)) {
+            return ACCEPT_ALL;
+        }
+        try {
+            return new Parser(regex).parse();
+        } catch (final UnsupportedRegexException e) {
+            return ACCEPT_ALL;
+        }
+    }
+
+    private static boolean hasInlineFlags(final String regex) {
+        for (int index = regex.indexOf("(?"); index >= 0; index = regex.indexOf("(?", index + 1)) {
+            if (index + 2 < regex.length() && INLINE_FLAG_CHARACTERS.indexOf(regex.charAt(index + 2)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class UnsupportedRegexException extends Exception {
+        private UnsupportedRegexException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * The literals found within a group. They are only required by the enclosing group if this group is
+     * required: it is not optional, has no alternation and is not a lookaround.
+     */
+    private static class Group {
+        private final List<String> literals = new ArrayList<>();
+        private final boolean lookaround;
+        private boolean alternation;
+
+        private Group(final boolean lookaround) {
+            this.lookaround = lookaround;
+        }
+    }
+
+    private static class Parser {
+        private final String regex;
+        private final Deque<Group> groups = new ArrayDeque<>();
+        private final StringBuilder currentLiteral = new StringBuilder();
+        private String prefix;
+        private boolean currentLiteralIsPrefix;
+        private int index;
+
+        private Parser(final String regex) {
+            this.regex = regex;
+        }
+
+        private GrokPatternPreFilter parse() throws UnsupportedRegexException {
+            groups.push(new Group(false));
+            if (regex.startsWith("^")) {
+                currentLiteralIsPrefix = true;
+                index = 1;
+            }
+            while (index < regex.length()) {
+                final char c = regex.charAt(index);
+                if (c == '\\') {
+                    parseEscape();
+                } else if (c == '[') {
+                    skipCharacterClass();
+                    endAtom();
+                } else if (c == '(') {
+                    endLiteral();
+                    openGroup();
+                } else if (c == ')') {
+                    endLiteral();
+                    index++;
+                    closeGroup();
+                } else if (c == '|') {
+                    endLiteral();
+                    groups.peek().alternation = true;
+                    index++;
+                } else if (isQuantifier(c)) {
+                    throw new UnsupportedRegexException();
+                } else if (c == '.' || c == '^' || c == '$') {
+                    index++;
+                    endAtom();
+                } else {
+                    index++;
+                    appendLiteral(c);
+                }
+            }
+            endLiteral();
+            final Group root = groups.pop();
+            if (!groups.isEmpty() || root.alternation) {
+                throw new UnsupportedRegexException();
+            }
+
+            root.literals.sort(Comparator.comparingInt(String::length).reversed());
+            return new GrokPatternPreFilter(prefix, root.literals.stream().distinct().toArray(String[]::new));
+        }
+
+        private void openGroup() throws UnsupportedRegexException {
+            if (regex.startsWith("(?:", index) || regex.startsWith("(?>", index)) {
+                groups.push(new Group(false));
+                index += 3;
+            } else if (regex.startsWith("(?=", index) || regex.startsWith("(?!", index)) {
+                groups.push(new Group(true));
+                index += 3;
+            } else if (regex.startsWith("(?<=", index) || regex.startsWith("(?<!", index)) {
+                groups.push(new Group(true));
+                index += 4;
+            } else if (regex.startsWith("(?<", index)) {
+                final int nameEnd = regex.indexOf('>', index);
+                if (nameEnd < 0) {
+                    throw new UnsupportedRegexException();
+                }
+                groups.push(new Group(false));
+                index = nameEnd + 1;
+            } else if (regex.startsWith("(?", index)) {
+                throw new UnsupportedRegexException();
+            } else {
+                groups.push(new Group(false));
+                index++;
+            }
+        }
+
+        private void closeGroup() throws UnsupportedRegexException {
+            final Group group = groups.pop();
+            if (groups.isEmpty()) {
+                throw new UnsupportedRegexException();
+            }
+            final boolean optional = isOptionalQuantifier();
+            skipQuantifier();
+            if (!optional && !group.alternation && !group.lookaround) {
+                groups.peek().literals.addAll(group.literals);
+            }
+        }
+
+        private void parseEscape() throws UnsupportedRegexException {
+            if (index + 1 >= regex.length()) {
+                throw new UnsupportedRegexException();
+            }
+            final char escaped = regex.charAt(index + 1);
+            index += 2;
+            if (!Character.isLetterOrDigit(escaped)) {
+                appendLiteral(escaped);
+            } else if (SINGLE_CHARACTER_ESCAPES.indexOf(escaped) >= 0) {
+                endAtom();
+            } else {
+                throw new UnsupportedRegexException();
+            }
+        }
+
+        private void skipCharacterClass() throws UnsupportedRegexException {
+            if (regex.startsWith("[]", index) || regex.startsWith("[^]", index)) {
+                throw new UnsupportedRegexException();
+            }
+            int classDepth = 0;
+            while (index < regex.length()) {
+                final char c = regex.charAt(index++);
+                if (c == '\\') {
+                    index++;
+                } else if (c == '[') {
+                    classDepth++;
+                } else if (c == ']' && --classDepth == 0) {
+                    return;
+                }
+            }
+            throw new UnsupportedRegexException();
+        }
+
+        /**
+         * Adds a literal character, unless the quantifier which follows it makes it optional. A character
+         * which may repeat ends the current literal.
+         */
+        private void appendLiteral(final char c) {
+            if (index < regex.length() && isQuantifier(regex.charAt(index))) {
+                if (!isOptionalQuantifier()) {
+                    currentLiteral.append(c);
+                }
+                endAtom();
+                return;
+            }
+            currentLiteral.append(c);
+        }
+
+        private void endAtom() {
+            endLiteral();
+            skipQuantifier();
+        }
+
+        private void endLiteral() {
+            if (currentLiteral.length() > 0) {
+                if (currentLiteralIsPrefix) {
+                    prefix = currentLiteral.toString();
+                } else {
+                    groups.peek().literals.add(currentLiteral.toString());
+                }
+                currentLiteral.setLength(0);
+            }
+            currentLiteralIsPrefix = false;
+        }
+
+        private boolean isOptionalQuantifier() {
+            if (index >= regex.length()) {
+                return false;
+            }
+            final char c = regex.charAt(index);
+            return c == '?' || c == '*' || regex.startsWith("{0", index) || regex.startsWith("{,", index);
+        }
+
+        private void skipQuantifier() {
+            if (index >= regex.length() || !isQuantifier(regex.charAt(index))) {
+                return;
+            }
+            if (regex.charAt(index) == '{') {
+                final int end = regex.indexOf('}', index);
+                index = end < 0 ? regex.length() : end + 1;
+            } else {
+                index++;
+            }
+            if (index < regex.length() && (regex.charAt(index) == '?' || regex.charAt(index) == '+')) {
+                index++;
+            }
+        }
+
+        private static boolean isQuantifier(final char c) {
+            return c == '?' || c == '*' || c == '+' || c == '{';
+        }
+    }
+}
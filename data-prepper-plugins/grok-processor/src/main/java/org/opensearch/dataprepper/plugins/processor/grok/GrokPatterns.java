@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The grok patterns configured for a key, in the order they are tried.
+ * <p>
+ * With an adaptive order, the patterns are sorted by their recent matches every {@link #REORDER_INTERVAL}
+ * evaluations, so that with {@code break_on_match} the patterns which match most often are tried first. Patterns
+ * with the same number of recent matches keep their relative order.
+ */
+class GrokPatterns {
+    static final int REORDER_INTERVAL = 1000;
+
+    private static final Comparator<GrokPattern> MOST_RECENT_MATCHES_FIRST =
+            Comparator.comparingLong(GrokPattern::getRecentMatches).reversed();
+
+    private final GrokPattern[] patterns;
+    private final boolean adaptiveOrder;
+    private int evaluationsUntilReorder;
+
+    GrokPatterns(final List<GrokPattern> patterns, final boolean adaptiveOrder) {
+        this.patterns = patterns.toArray(new GrokPattern[0]);
+        this.adaptiveOrder = adaptiveOrder;
+        this.evaluationsUntilReorder = REORDER_INTERVAL;
+    }
+
+    GrokPattern[] getPatterns() {
+        return patterns;
+    }
+
+    /**
+     * Called once the patterns have been tried against a value.
+     */
+    void evaluated() {
+        if (adaptiveOrder && --evaluationsUntilReorder == 0) {
+            evaluationsUntilReorder = REORDER_INTERVAL;
+            Arrays.sort(patterns, MOST_RECENT_MATCHES_FIRST);
+            for (final GrokPattern pattern : patterns) {
+                pattern.decayRecentMatches();
+            }
+        }
+    }
+}
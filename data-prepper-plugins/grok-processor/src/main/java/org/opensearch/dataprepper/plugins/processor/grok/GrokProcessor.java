@@ -6,9 +6,7 @@
 package org.opensearch.dataprepper.plugins.processor.grok;
 
 
-import io.krakens.grok.api.Grok;
 import io.krakens.grok.api.GrokCompiler;
-import io.krakens.grok.api.Match;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
@@ -17,6 +15,7 @@ import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor
 import org.opensearch.dataprepper.model.annotations.SingleThread;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
@@ -43,14 +42,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
 
@@ -58,8 +54,6 @@ import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
 @SingleThread
 @DataPrepperPlugin(name = "grok", pluginType = Processor.class)
 public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
-    static final long EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT = 300L;
-
     private static final Logger LOG = LoggerFactory.getLogger(GrokProcessor.class);
 
     private static final String DATA_PREPPER_GROK_PATTERNS_FILE = "grok-patterns/patterns";
@@ -69,6 +63,10 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     static final String GROK_PROCESSING_ERRORS = "grokProcessingErrors";
     static final String GROK_PROCESSING_TIMEOUTS = "grokProcessingTimeouts";
     static final String GROK_PROCESSING_TIME = "grokProcessingTime";
+    static final String GROK_PATTERN_MATCH = "grokPatternMatch";
+    static final String GROK_PATTERN_MISMATCH = "grokPatternMismatch";
+    static final String GROK_PATTERN_SKIPPED = "grokPatternSkipped";
+    static final String GROK_PATTERN_TIME = "grokPatternTime";
 
     private final Counter grokProcessingMismatchCounter;
     private final Counter grokProcessingMatchCounter;
@@ -77,26 +75,29 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     private final Timer grokProcessingTime;
 
     private final GrokCompiler grokCompiler;
-    private final Map<String, List<Grok>> fieldToGrok;
+    private final Map<EventKey, GrokPatterns> fieldToGrok;
+    private final EventKey targetKey;
+    private final Map<String, EventKey> captureKeys = new ConcurrentHashMap<>();
     private final GrokProcessorConfig grokProcessorConfig;
     private final Set<String> keysToOverwrite;
-    private final ExecutorService executorService;
+    private final long timeoutNanos;
     private final List<String> tagsOnMatchFailure;
 
     private final ExpressionEvaluator expressionEvaluator;
 
     @DataPrepperPluginConstructor
     public GrokProcessor(final PluginSetting pluginSetting, final ExpressionEvaluator expressionEvaluator) {
-        this(pluginSetting, GrokCompiler.newInstance(), Executors.newSingleThreadExecutor(), expressionEvaluator);
+        this(pluginSetting, GrokCompiler.newInstance(), expressionEvaluator);
     }
 
-    GrokProcessor(final PluginSetting pluginSetting, final GrokCompiler grokCompiler, final ExecutorService executorService, final ExpressionEvaluator expressionEvaluator) {
+    GrokProcessor(final PluginSetting pluginSetting, final GrokCompiler grokCompiler, final ExpressionEvaluator expressionEvaluator) {
         super(pluginSetting);
         this.grokProcessorConfig = GrokProcessorConfig.buildConfig(pluginSetting);
         this.keysToOverwrite = new HashSet<>(grokProcessorConfig.getkeysToOverwrite());
         this.grokCompiler = grokCompiler;
         this.fieldToGrok = new LinkedHashMap<>();
-        this.executorService = executorService;
+        this.targetKey = grokProcessorConfig.getTargetKey() == null ? null : EventKey.of(grokProcessorConfig.getTargetKey());
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(grokProcessorConfig.getTimeoutMillis());
         this.expressionEvaluator = expressionEvaluator;
         this.tagsOnMatchFailure = grokProcessorConfig.getTagsOnMatchFailure();
         grokProcessingMatchCounter = pluginMetrics.counter(GROK_PROCESSING_MATCH);
@@ -125,21 +126,11 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
                     continue;
                 }
 
-                if (grokProcessorConfig.getTimeoutMillis() == 0) {
-                    grokProcessingTime.record(() -> matchAndMerge(event));
-                } else {
-                    runWithTimeout(() -> grokProcessingTime.record(() -> matchAndMerge(event)));
-                }
+                grokProcessingTime.record(() -> matchAndMerge(event));
 
-            } catch (TimeoutException e) {
+            } catch (MatchTimeoutException e) {
                 LOG.error(EVENT, "Matching on record [{}] took longer than [{}] and timed out", record.getData(), grokProcessorConfig.getTimeoutMillis());
                 grokProcessingTimeoutsCounter.increment();
-            } catch (ExecutionException e) {
-                LOG.error(EVENT, "An exception occurred while matching on record [{}]", record.getData(), e);
-                grokProcessingErrorsCounter.increment();
-            } catch (InterruptedException e) {
-                LOG.error(EVENT, "Matching on record [{}] was interrupted", record.getData(), e);
-                grokProcessingErrorsCounter.increment();
             } catch (RuntimeException e) {
                 event.getMetadata().addTags(tagsOnMatchFailure);
                 LOG.error(EVENT, "Unknown exception occurred when matching record [{}]", record.getData(), e);
@@ -161,18 +152,7 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     @Override
     public void shutdown() {
-        executorService.shutdown();
-        try {
-            if (executorService.awaitTermination(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
-                LOG.info("Successfully waited for running task to terminate");
-            } else {
-                LOG.warn("Running task did not terminate in time, forcing termination");
-                executorService.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            LOG.error("Interrupted while waiting for running task to terminate", e);
-            executorService.shutdownNow();
-        }
+
     }
 
     private void registerPatterns() {
@@ -221,39 +201,44 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     }
 
     private void compileMatchPatterns() {
+        final boolean adaptivePatternOrder = grokProcessorConfig.isAdaptivePatternOrder() && grokProcessorConfig.isBreakOnMatch();
         for (final Map.Entry<String, List<String>> entry : grokProcessorConfig.getMatch().entrySet()) {
-            fieldToGrok.put(entry.getKey(), entry.getValue()
-                            .stream()
-                            .map(item -> grokCompiler.compile(item, grokProcessorConfig.isNamedCapturesOnly()))
-                            .collect(Collectors.toList()));
+            final List<String> patterns = entry.getValue();
+            fieldToGrok.put(EventKey.of(entry.getKey()), new GrokPatterns(IntStream.range(0, patterns.size())
+                            .mapToObj(index -> new GrokPattern(grokCompiler.compile(patterns.get(index), grokProcessorConfig.isNamedCapturesOnly()), entry.getKey(), index, pluginMetrics))
+                            .collect(Collectors.toList()), adaptivePatternOrder));
         }
     }
 
+    /**
+     * Matches the configured patterns and merges the captures into the event. The event is only modified once all
+     * the matching is done, so an event which times out is left as it was.
+     */
     private void matchAndMerge(final Event event) {
         final Map<String, Object> grokkedCaptures = new HashMap<>();
-
-        for (final Map.Entry<String, List<Grok>> entry : fieldToGrok.entrySet()) {
-            for (final Grok grok : entry.getValue()) {
-                final String value = event.get(entry.getKey(), String.class);
-                if (value != null && !value.isEmpty()) {
-                    final Match match = grok.match(value);
-                    match.setKeepEmptyCaptures(grokProcessorConfig.isKeepEmptyCaptures());
-
-                    final Map<String, Object> captures = match.capture();
+        final long deadlineNanos = System.nanoTime() + timeoutNanos;
+
+        for (final Map.Entry<EventKey, GrokPatterns> entry : fieldToGrok.entrySet()) {
+            final String value = event.get(entry.getKey(), String.class);
+            if (value != null && !value.isEmpty()) {
+                final CharSequence matchValue = timeoutNanos == 0 ? value : new DeadlineCharSequence(value, deadlineNanos);
+                for (final GrokPattern grokPattern : entry.getValue().getPatterns()) {
+                    final Map<String, Object> captures = grokPattern.capture(value, matchValue, grokProcessorConfig.isKeepEmptyCaptures());
                     mergeCaptures(grokkedCaptures, captures);
 
                     if (shouldBreakOnMatch(grokkedCaptures)) {
                         break;
                     }
                 }
+                entry.getValue().evaluated();
             }
             if (shouldBreakOnMatch(grokkedCaptures)) {
                 break;
             }
         }
 
-        if (grokProcessorConfig.getTargetKey() != null) {
-            event.put(grokProcessorConfig.getTargetKey(), grokkedCaptures);
+        if (targetKey != null) {
+            event.put(targetKey, grokkedCaptures);
         } else {
             mergeCaptures(event, grokkedCaptures);
         }
@@ -287,21 +272,22 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     private void mergeCaptures(final Event event, final Map<String, Object> updates) {
         for (final Map.Entry<String, Object> updateEntry : updates.entrySet()) {
+            final EventKey key = captureKeys.computeIfAbsent(updateEntry.getKey(), EventKey::of);
 
-            if (!(event.containsKey(updateEntry.getKey())) || keysToOverwrite.contains(updateEntry.getKey())) {
-                event.put(updateEntry.getKey(), updateEntry.getValue());
+            if (!(event.containsKey(key)) || keysToOverwrite.contains(updateEntry.getKey())) {
+                event.put(key, updateEntry.getValue());
                 continue;
             }
 
             if (event.isValueAList(updateEntry.getKey())) {
                 final List<Object> values = event.getList(updateEntry.getKey(), Object.class);
                 mergeValueWithValues(updateEntry.getValue(), values);
-                event.put(updateEntry.getKey(), values);
+                event.put(key, values);
             } else {
-                final Object fieldObject = event.get(updateEntry.getKey(), Object.class);
+                final Object fieldObject = event.get(key, Object.class);
                 final List<Object> values = new ArrayList<>(Collections.singletonList(fieldObject));
                 mergeValueWithValues(updateEntry.getValue(), values);
-                event.put(updateEntry.getKey(), values);
+                event.put(key, values);
             }
         }
     }
@@ -317,9 +303,4 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     private boolean shouldBreakOnMatch(final Map<String, Object> captures) {
         return captures.size() > 0 && grokProcessorConfig.isBreakOnMatch();
     }
-
-    private void runWithTimeout(final Runnable runnable) throws TimeoutException, ExecutionException, InterruptedException {
-        Future<?> task = executorService.submit(runnable);
-        task.get(grokProcessorConfig.getTimeoutMillis(), TimeUnit.MILLISECONDS);
-    }
 }
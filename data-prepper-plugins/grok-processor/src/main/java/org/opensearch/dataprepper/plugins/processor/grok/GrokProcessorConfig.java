@@ -23,6 +23,7 @@ public class GrokProcessorConfig {
     static final String TARGET_KEY = "target_key";
     static final String GROK_WHEN = "grok_when";
     static final String TAGS_ON_MATCH_FAILURE = "tags_on_match_failure";
+    static final String ADAPTIVE_PATTERN_ORDER = "adaptive_pattern_order";
 
     static final boolean DEFAULT_BREAK_ON_MATCH = true;
     static final boolean DEFAULT_KEEP_EMPTY_CAPTURES = false;
@@ -30,6 +31,7 @@ public class GrokProcessorConfig {
     static final String DEFAULT_PATTERNS_FILES_GLOB = "*";
     static final int DEFAULT_TIMEOUT_MILLIS = 30000;
     static final String DEFAULT_TARGET_KEY = null;
+    static final boolean DEFAULT_ADAPTIVE_PATTERN_ORDER = false;
 
     private final boolean breakOnMatch;
     private final boolean keepEmptyCaptures;
@@ -43,6 +45,7 @@ public class GrokProcessorConfig {
     private final String targetKey;
     private final String grokWhen;
     private final List<String> tagsOnMatchFailure;
+    private final boolean adaptivePatternOrder;
 
     private GrokProcessorConfig(final boolean breakOnMatch,
                                 final boolean keepEmptyCaptures,
@@ -55,7 +58,8 @@ public class GrokProcessorConfig {
                                 final int timeoutMillis,
                                 final String targetKey,
                                 final String grokWhen,
-                                final List<String> tagsOnMatchFailure) {
+                                final List<String> tagsOnMatchFailure,
+                                final boolean adaptivePatternOrder) {
 
         this.breakOnMatch = breakOnMatch;
         this.keepEmptyCaptures = keepEmptyCaptures;
@@ -69,6 +73,7 @@ public class GrokProcessorConfig {
         this.targetKey = targetKey;
         this.grokWhen = grokWhen;
         this.tagsOnMatchFailure = tagsOnMatchFailure;
+        this.adaptivePatternOrder = adaptivePatternOrder;
     }
 
     public static GrokProcessorConfig buildConfig(final PluginSetting pluginSetting) {
@@ -83,7 +88,8 @@ public class GrokProcessorConfig {
                 pluginSetting.getIntegerOrDefault(TIMEOUT_MILLIS, DEFAULT_TIMEOUT_MILLIS),
                 pluginSetting.getStringOrDefault(TARGET_KEY, DEFAULT_TARGET_KEY),
                 pluginSetting.getStringOrDefault(GROK_WHEN, null),
-                pluginSetting.getTypedList(TAGS_ON_MATCH_FAILURE, String.class));
+                pluginSetting.getTypedList(TAGS_ON_MATCH_FAILURE, String.class),
+                pluginSetting.getBooleanOrDefault(ADAPTIVE_PATTERN_ORDER, DEFAULT_ADAPTIVE_PATTERN_ORDER));
     }
 
     public boolean isBreakOnMatch() {
@@ -132,4 +138,8 @@ public class GrokProcessorConfig {
         return tagsOnMatchFailure;
     }
 
+    public boolean isAdaptivePatternOrder() {
+        return adaptivePatternOrder;
+    }
+
 }
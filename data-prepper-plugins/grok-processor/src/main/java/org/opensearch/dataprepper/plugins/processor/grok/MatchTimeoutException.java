@@ -0,0 +1,16 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+/**
+ * Thrown by {@link DeadlineCharSequence} when matching runs past its deadline. It carries no stack trace
+ * since it is thrown from deep within the regex engine and only ever counted.
+ */
+class MatchTimeoutException extends RuntimeException {
+    MatchTimeoutException() {
+        super("Matching timed out", null, false, false);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeadlineCharSequenceTest {
+    private static final long ONE_MINUTE_NANOS = Duration.ofMinutes(1).toNanos();
+
+    @Test
+    void delegates_to_the_value_before_the_deadline() {
+        final String value = UUID.randomUUID().toString();
+        final DeadlineCharSequence objectUnderTest = new DeadlineCharSequence(value, System.nanoTime() + ONE_MINUTE_NANOS);
+
+        assertThat(objectUnderTest.length(), equalTo(value.length()));
+        for (int i = 0; i < value.length(); i++) {
+            assertThat(objectUnderTest.charAt(i), equalTo(value.charAt(i)));
+        }
+        assertThat(objectUnderTest.subSequence(2, 6), instanceOf(String.class));
+        assertThat(objectUnderTest.subSequence(2, 6), equalTo(value.substring(2, 6)));
+        assertThat(objectUnderTest.toString(), equalTo(value));
+    }
+
+    @Test
+    void charAt_throws_after_the_deadline() {
+        final DeadlineCharSequence objectUnderTest = new DeadlineCharSequence(UUID.randomUUID().toString(), System.nanoTime() - 1);
+
+        assertThrows(MatchTimeoutException.class, () -> objectUnderTest.charAt(0));
+    }
+
+    @Test
+    void charAt_checks_the_deadline_once_per_interval() throws InterruptedException {
+        final DeadlineCharSequence objectUnderTest = new DeadlineCharSequence("a", System.nanoTime() + Duration.ofMillis(5).toNanos());
+        objectUnderTest.charAt(0);
+        Thread.sleep(10);
+
+        for (int i = 0; i < DeadlineCharSequence.CHECK_INTERVAL; i++) {
+            objectUnderTest.charAt(0);
+        }
+        assertThrows(MatchTimeoutException.class, () -> objectUnderTest.charAt(0));
+    }
+
+    @Test
+    void matching_with_catastrophic_backtracking_stops_at_the_deadline() {
+        final Pattern pattern = Pattern.compile("(.*a){20}b");
+        final String value = "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            final MatchTimeoutException exception = assertThrows(MatchTimeoutException.class,
+                    () -> pattern.matcher(new DeadlineCharSequence(value, System.nanoTime() + Duration.ofMillis(50).toNanos())).find());
+            assertTrue(exception.getStackTrace().length == 0);
+        });
+    }
+}
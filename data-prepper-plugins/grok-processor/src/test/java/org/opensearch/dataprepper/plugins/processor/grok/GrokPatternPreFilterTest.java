@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import io.krakens.grok.api.Grok;
+import io.krakens.grok.api.GrokCompiler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class GrokPatternPreFilterTest {
+
+    private static Stream<Arguments> regexesWithLiterals() {
+        return Stream.of(
+                arguments("abc", null, new String[]{"abc"}),
+                arguments("^abc\\d+def", "abc", new String[]{"def"}),
+                arguments("^(?<a>\\w+) - \\[", null, new String[]{" - ["}),
+                arguments("ab?c", null, new String[]{"a", "c"}),
+                arguments("ab*c", null, new String[]{"a", "c"}),
+                arguments("ab{0,2}c", null, new String[]{"a", "c"}),
+                arguments("ab+c", null, new String[]{"ab", "c"}),
+                arguments("ab+?c", null, new String[]{"ab", "c"}),
+                arguments("a.c$", null, new String[]{"a", "c"}),
+                arguments("a(x|y)*bcd(?:z)?", null, new String[]{"bcd", "a"}),
+                arguments("GET [a-z\\]]+ HTTP/[(]", null, new String[]{" HTTP/", "GET "}),
+                arguments("x[a-z&&[^b]]y", null, new String[]{"x", "y"}),
+                arguments("a\\sb\\s+c", null, new String[]{"a", "b", "c"}),
+                arguments("\\(\\d\\)", null, new String[]{"(", ")"}),
+                arguments("ab ab", null, new String[]{"ab ab"}),
+                arguments("x(a)x(b)x", null, new String[]{"x", "a", "b"}),
+                arguments("(?:(?<a>\\d+) \\[(?:x|y)\\])", null, new String[]{" [", "]"}),
+                arguments("(?:ab){0,3}c(?:de)*", null, new String[]{"c"}),
+                arguments("(?:ab){2}c(?>de)+", null, new String[]{"ab", "de", "c"}),
+                arguments("a(?=bc)d(?<=bc)e(?!f)(?<!g)", null, new String[]{"a", "d", "e"}),
+                arguments("ab{,2}c", null, new String[]{"a", "c"}),
+                arguments("ab++c", null, new String[]{"ab", "c"}),
+                arguments("ab{2", null, new String[]{"ab"}),
+                arguments("(\\d+)", null, new String[]{})
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("regexesWithLiterals")
+    void fromRegex_extracts_the_required_literals(final String regex, final String prefix, final String[] requiredLiterals) {
+        final GrokPatternPreFilter objectUnderTest = GrokPatternPreFilter.fromRegex(regex);
+
+        assertThat(objectUnderTest.getPrefix(), equalTo(prefix));
+        assertThat(objectUnderTest.getRequiredLiterals(), equalTo(requiredLiterals));
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"a|b", "ab(", "ab)", "(?i)abc", "a(?i:b)c", "\\Qa|b\\E", "a\\x41", "a\\p{Alpha}", "a[]b]", "a[bc", "*a", "a\\", "a(?x)b", "(?#comment)", "ab(?", "(?<name", "a[^]b]"})
+    void fromRegex_accepts_all_values_when_the_regex_cannot_be_inspected(final String regex) {
+        assertThat(GrokPatternPreFilter.fromRegex(regex), sameInstance(GrokPatternPreFilter.ACCEPT_ALL));
+    }
+
+    @Test
+    void mightMatch_checks_the_prefix_and_the_required_literals() {
+        final GrokPatternPreFilter objectUnderTest = GrokPatternPreFilter.fromRegex("^abc\\d+def\\s+gh");
+
+        assertThat(objectUnderTest.mightMatch("abc123def gh"), equalTo(true));
+        assertThat(objectUnderTest.mightMatch("xabc123def gh"), equalTo(false));
+        assertThat(objectUnderTest.mightMatch("abc123de gh"), equalTo(false));
+        assertThat(objectUnderTest.mightMatch("abc123def"), equalTo(false));
+    }
+
+    @Test
+    void accept_all_has_no_prefix_or_literals() {
+        assertThat(GrokPatternPreFilter.ACCEPT_ALL.getPrefix(), nullValue());
+        assertThat(GrokPatternPreFilter.ACCEPT_ALL.getRequiredLiterals().length, equalTo(0));
+        assertThat(GrokPatternPreFilter.ACCEPT_ALL.mightMatch(""), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "127.0.0.1 - frank [10/Oct/2000:13:55:36 -0700] \"GET /apache_pb.gif HTTP/1.0\" 200 2326",
+            "127.0.0.1 - - [10/Oct/2000:13:55:36 -0700] \"-\" 400 -",
+            "Mar  7 04:02:16 host sshd[1234]: Failed password for root",
+            "Mar  7 04:02:16 host kernel: message",
+            "I should fail the grok parser"
+    })
+    void mightMatch_is_true_for_every_value_which_the_grok_pattern_matches(final String value) {
+        final GrokCompiler grokCompiler = GrokCompiler.newInstance();
+        grokCompiler.registerDefaultPatterns();
+
+        for (final String pattern : new String[]{"%{COMMONAPACHELOG}", "%{COMBINEDAPACHELOG}", "%{COMMONAPACHELOG_DATATYPED}", "%{SYSLOGBASE} %{GREEDYDATA:message}", "%{SYSLOGTIMESTAMP:timestamp} %{DATA:message}"}) {
+            final Grok grok = grokCompiler.compile(pattern);
+            final boolean matches = Pattern.compile(grok.getNamedRegex()).matcher(value).find();
+            if (matches) {
+                assertThat(pattern, GrokPatternPreFilter.fromRegex(grok.getNamedRegex()).mightMatch(value), equalTo(true));
+            }
+        }
+    }
+}
@@ -18,6 +18,7 @@ import java.util.Map;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.DEFAULT_ADAPTIVE_PATTERN_ORDER;
 import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.DEFAULT_BREAK_ON_MATCH;
 import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.DEFAULT_KEEP_EMPTY_CAPTURES;
 import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.DEFAULT_NAMED_CAPTURES_ONLY;
@@ -75,6 +76,7 @@ public class GrokProcessorConfigTests {
         assertThat(grokProcessorConfig.getTimeoutMillis(), equalTo(DEFAULT_TIMEOUT_MILLIS));
         assertThat(grokProcessorConfig.getGrokWhen(), equalTo(null));
         assertThat(grokProcessorConfig.getTagsOnMatchFailure(), equalTo(Collections.emptyList()));
+        assertThat(grokProcessorConfig.isAdaptivePatternOrder(), equalTo(DEFAULT_ADAPTIVE_PATTERN_ORDER));
     }
 
     @Test
@@ -91,6 +93,8 @@ public class GrokProcessorConfigTests {
                 TEST_TIMEOUT_MILLIS,
                 TEST_TARGET_KEY);
 
+        validPluginSetting.getSettings().put(GrokProcessorConfig.ADAPTIVE_PATTERN_ORDER, true);
+
         final GrokProcessorConfig grokProcessorConfig = GrokProcessorConfig.buildConfig(validPluginSetting);
 
         assertThat(grokProcessorConfig.isBreakOnMatch(), equalTo(false));
@@ -103,6 +107,7 @@ public class GrokProcessorConfigTests {
         assertThat(grokProcessorConfig.getTargetKey(), equalTo(TEST_TARGET_KEY));
         assertThat(grokProcessorConfig.isNamedCapturesOnly(), equalTo(false));
         assertThat(grokProcessorConfig.getTimeoutMillis(), equalTo(TEST_TIMEOUT_MILLIS));
+        assertThat(grokProcessorConfig.isAdaptivePatternOrder(), equalTo(true));
     }
 
     @Test
@@ -23,6 +23,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -34,26 +36,25 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
-import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessor.EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT;
 import static org.opensearch.dataprepper.test.matcher.MapEquals.isEqualWithoutTimestamp;
 
 
@@ -64,12 +65,6 @@ public class GrokProcessorTests {
     private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {};
     private String messageInput;
 
-    @Mock
-    private ExecutorService executorService;
-
-    @Mock
-    private Future task;
-
     @Mock
     private GrokCompiler grokCompiler;
 
@@ -100,6 +95,12 @@ public class GrokProcessorTests {
     @Mock
     private Timer grokProcessingTime;
 
+    @Mock
+    private Counter grokPatternCounter;
+
+    @Mock
+    private Timer grokPatternTime;
+
     @Mock
     private ExpressionEvaluator expressionEvaluator;
 
@@ -109,7 +110,7 @@ public class GrokProcessorTests {
     private final Map<String, List<String>> matchConfig = new HashMap<>();
 
     @BeforeEach
-    public void setup() throws TimeoutException, ExecutionException, InterruptedException {
+    public void setup() {
         pluginSetting = getDefaultPluginSetting();
         pluginSetting.setPipelineName("grokPipeline");
 
@@ -125,6 +126,8 @@ public class GrokProcessorTests {
         lenient().when(pluginMetrics.counter(GrokProcessor.GROK_PROCESSING_TIMEOUTS)).thenReturn(grokProcessingTimeoutsCounter);
         lenient().when(pluginMetrics.counter(GrokProcessor.GROK_PROCESSING_ERRORS)).thenReturn(grokProcessingErrorsCounter);
         lenient().when(pluginMetrics.timer(GrokProcessor.GROK_PROCESSING_TIME)).thenReturn(grokProcessingTime);
+        lenient().when(pluginMetrics.counterWithTags(anyString(), any())).thenReturn(grokPatternCounter);
+        lenient().when(pluginMetrics.timerWithTags(anyString(), any())).thenReturn(grokPatternTime);
 
         lenient().doAnswer(a -> {
             a.<Runnable>getArgument(0).run();
@@ -138,19 +141,18 @@ public class GrokProcessorTests {
         lenient().when(grokCompiler.compile(eq(matchConfig.get("message").get(0)), anyBoolean())).thenReturn(grok);
         lenient().when(grokCompiler.compile(eq(matchConfig.get("message").get(1)), anyBoolean())).thenReturn(grokSecondMatch);
 
-        lenient().when(grok.match(messageInput)).thenReturn(match);
+        lenient().when(grok.match(contentEqualTo(messageInput))).thenReturn(match);
         lenient().when(match.capture()).thenReturn(capture);
-        lenient().when(executorService.submit(any(Runnable.class))).then(a -> {
-            a.<Runnable>getArgument(0).run();
-            return task;
-        });
-        lenient().when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenReturn(null);
+    }
+
+    private static CharSequence contentEqualTo(final String value) {
+        return argThat(charSequence -> charSequence != null && value.equals(charSequence.toString()));
     }
 
     private GrokProcessor createObjectUnderTest() {
         try (MockedStatic<PluginMetrics> pluginMetricsMockedStatic = mockStatic(PluginMetrics.class)) {
             pluginMetricsMockedStatic.when(() -> PluginMetrics.fromPluginSetting(pluginSetting)).thenReturn(pluginMetrics);
-            return new GrokProcessor(pluginSetting, grokCompiler, executorService, expressionEvaluator);
+            return new GrokProcessor(pluginSetting, grokCompiler, expressionEvaluator);
         }
     }
 
@@ -380,8 +382,13 @@ public class GrokProcessorTests {
     }
 
     @Test
-    public void testThatTimeoutExceptionIsCaughtAndProcessingContinues() throws JsonProcessingException, TimeoutException, ExecutionException, InterruptedException {
-        when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenThrow(TimeoutException.class);
+    public void testThatTimeoutExceptionIsCaughtAndProcessingContinues() throws JsonProcessingException {
+        pluginSetting.getSettings().put(GrokProcessorConfig.TIMEOUT_MILLIS, 1);
+        when(grok.match(contentEqualTo(messageInput))).then(a -> {
+            Thread.sleep(10);
+            a.<CharSequence>getArgument(0).charAt(0);
+            return match;
+        });
 
         grokProcessor = createObjectUnderTest();
 
@@ -400,10 +407,12 @@ public class GrokProcessorTests {
         assertRecordsAreEqual(grokkedRecords.get(0), record);
         verify(grokProcessingTimeoutsCounter, times(1)).increment();
         verify(grokProcessingTime, times(1)).record(any(Runnable.class));
+        verify(grokSecondMatch, never()).match(any());
+        verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMatchCounter, grokProcessingMismatchCounter);
     }
 
     @Test
-    public void testThatProcessingWithTimeoutMillisOfZeroDoesNotInteractWithExecutorServiceAndReturnsCorrectResult() throws JsonProcessingException {
+    public void testThatProcessingWithTimeoutMillisOfZeroMatchesOnTheValueAndReturnsCorrectResult() throws JsonProcessingException {
         pluginSetting.getSettings().put(GrokProcessorConfig.TIMEOUT_MILLIS, 0);
         grokProcessor = createObjectUnderTest();
 
@@ -425,7 +434,7 @@ public class GrokProcessorTests {
         final Record<Event> resultRecord = buildRecordWithEvent(resultData);
 
         final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokProcessor.doExecute(Collections.singletonList(record));
-        verifyNoInteractions(executorService);
+        verify(grok).match(messageInput);
         assertThat(grokkedRecords.size(), equalTo(1));
         assertThat(grokkedRecords.get(0), notNullValue());
         assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
@@ -442,36 +451,10 @@ public class GrokProcessorTests {
     }
 
     @Test
-    public void testShutdown_Successful() throws InterruptedException {
-        grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
-
-        grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
-    }
-
-    @Test
-    public void testShutdown_Timeout() throws InterruptedException {
-        grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS))).thenReturn(false);
-
-        grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
-        verify(executorService).shutdownNow();
-    }
-
-    @Test
-    public void testShutdown_InterruptedException() throws InterruptedException {
+    public void testShutdown() {
         grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS)))
-                .thenThrow(new InterruptedException());
-
         grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
-        verify(executorService).shutdownNow();
+        assertTrue(grokProcessor.isReadyForShutdown());
     }
 
     @Nested
@@ -490,7 +473,7 @@ public class GrokProcessorTests {
         public void testNoCaptures() throws JsonProcessingException {
             grokProcessor = createObjectUnderTest();
 
-            lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            lenient().when(grokSecondMatch.match(contentEqualTo(messageInput))).thenReturn(secondMatch);
             lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
             final Map<String, Object> testData = new HashMap();
@@ -514,7 +497,7 @@ public class GrokProcessorTests {
             pluginSetting.getSettings().put(GrokProcessorConfig.TAGS_ON_MATCH_FAILURE, List.of(tagOnMatchFailure1, tagOnMatchFailure2));
 
             grokProcessor = createObjectUnderTest();
-            lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            lenient().when(grokSecondMatch.match(contentEqualTo(messageInput))).thenReturn(secondMatch);
             lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
             final Map<String, Object> testData = new HashMap();
@@ -537,7 +520,7 @@ public class GrokProcessorTests {
         public void testBreakOnMatchTrue() throws JsonProcessingException {
             grokProcessor = createObjectUnderTest();
 
-            lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            lenient().when(grokSecondMatch.match(contentEqualTo(messageInput))).thenReturn(secondMatch);
             lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
             capture.put("key_capture_1", "value_capture_1");
@@ -560,7 +543,8 @@ public class GrokProcessorTests {
 
             final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokProcessor.doExecute(Collections.singletonList(record));
 
-            verifyNoInteractions(grokSecondMatch, secondMatch);
+            verify(grokSecondMatch, never()).match(any());
+            verifyNoInteractions(secondMatch);
             assertThat(grokkedRecords.size(), equalTo(1));
             assertThat(grokkedRecords.get(0), notNullValue());
             assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
@@ -574,7 +558,7 @@ public class GrokProcessorTests {
             pluginSetting.getSettings().put(GrokProcessorConfig.BREAK_ON_MATCH, false);
             grokProcessor = createObjectUnderTest();
 
-            when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            when(grokSecondMatch.match(contentEqualTo(messageInput))).thenReturn(secondMatch);
             when(secondMatch.capture()).thenReturn(secondCapture);
 
             capture.put("key_capture_1", "value_capture_1");
@@ -605,6 +589,60 @@ public class GrokProcessorTests {
             verify(grokProcessingTime, times(1)).record(any(Runnable.class));
             verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMismatchCounter, grokProcessingTimeoutsCounter);
         }
+
+        @Test
+        public void testPatternWhichCannotMatchIsSkipped() throws JsonProcessingException {
+            when(grok.getNamedRegex()).thenReturn("^" + UUID.randomUUID() + "\\s+(?<name0>\\w+)");
+            grokProcessor = createObjectUnderTest();
+
+            when(grokSecondMatch.match(contentEqualTo(messageInput))).thenReturn(secondMatch);
+            when(secondMatch.capture()).thenReturn(secondCapture);
+            secondCapture.put("key_secondCapture", "value_secondCapture");
+
+            final Map<String, Object> testData = new HashMap();
+            testData.put("message", messageInput);
+            final Record<Event> record = buildRecordWithEvent(testData);
+
+            final Map<String, Object> resultData = new HashMap<>();
+            resultData.put("message", messageInput);
+            resultData.put("key_secondCapture", "value_secondCapture");
+            final Record<Event> resultRecord = buildRecordWithEvent(resultData);
+
+            final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokProcessor.doExecute(Collections.singletonList(record));
+
+            assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
+            verify(grok, never()).match(any());
+            verify(grokProcessingMatchCounter, times(1)).increment();
+            verify(pluginMetrics).counterWithTags(GrokProcessor.GROK_PATTERN_SKIPPED, GrokPattern.KEY_TAG, "message", GrokPattern.PATTERN_INDEX_TAG, "0");
+            verify(pluginMetrics).counterWithTags(GrokProcessor.GROK_PATTERN_SKIPPED, GrokPattern.KEY_TAG, "message", GrokPattern.PATTERN_INDEX_TAG, "1");
+            verify(grokPatternCounter, times(2)).increment();
+            verify(grokPatternTime).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        }
+
+        @ParameterizedTest
+        @ValueSource(booleans = {true, false})
+        public void testAdaptivePatternOrderTriesThePatternWhichMatchesMostFirst(final boolean adaptivePatternOrder) {
+            pluginSetting.getSettings().put(GrokProcessorConfig.ADAPTIVE_PATTERN_ORDER, adaptivePatternOrder);
+            grokProcessor = createObjectUnderTest();
+
+            when(grokSecondMatch.match(contentEqualTo(messageInput))).thenReturn(secondMatch);
+            when(secondMatch.capture()).thenReturn(secondCapture);
+            secondCapture.put("key_secondCapture", "value_secondCapture");
+
+            final int numberOfRecords = GrokPatterns.REORDER_INTERVAL * 2;
+            final List<Record<Event>> records = new ArrayList<>();
+            for (int i = 0; i < numberOfRecords; i++) {
+                records.add(buildRecordWithEvent(Collections.singletonMap("message", messageInput)));
+            }
+
+            grokProcessor.doExecute(records);
+
+            for (final Record<Event> record : records) {
+                assertThat(record.getData().get("key_secondCapture", String.class), equalTo("value_secondCapture"));
+            }
+            verify(grok, times(adaptivePatternOrder ? GrokPatterns.REORDER_INTERVAL : numberOfRecords)).match(any());
+            verify(grokSecondMatch, times(numberOfRecords)).match(any());
+        }
     }
 
     private PluginSetting getDefaultPluginSetting() {
@@ -644,7 +682,8 @@ public class GrokProcessorTests {
         assertThat(grokkedRecords.size(), equalTo(1));
         assertThat(grokkedRecords.get(0), notNullValue());
         assertRecordsAreEqual(grokkedRecords.get(0), record);
-        verifyNoInteractions(grok, grokSecondMatch);
+        verify(grok, never()).match(any());
+        verify(grokSecondMatch, never()).match(any());
     }
 
     private PluginSetting completePluginSettingForGrokProcessor(final boolean breakOnMatch,
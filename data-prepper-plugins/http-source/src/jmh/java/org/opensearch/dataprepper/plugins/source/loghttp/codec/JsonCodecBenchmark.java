@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.loghttp.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.linecorp.armeria.common.HttpData;
+import org.opensearch.dataprepper.model.log.JacksonLog;
+import org.opensearch.dataprepper.model.log.Log;
+import org.opensearch.dataprepper.model.record.Record;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures turning an HTTP request body into log records, as the http source does. The body has the shape of the
+ * requests sent by the {@code HttpStaticLoadSimulation} performance test. The {@code stringPerLog} benchmark
+ * reproduces the previous path, which serialized each log back to a string and parsed it again into the event. Run
+ * with {@code -prof gc} to compare the bytes allocated per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JsonCodecBenchmark {
+    private static final int CHUNK_SIZE = 1_000;
+
+    @Param({"20", "1000"})
+    private int batchSize;
+
+    private JsonCodec jsonCodec;
+    private HttpData httpData;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jsonCodec = new JsonCodec();
+        final String log = "{\"log\": \"127.0.0.1 - frank [10/Oct/2000:13:55:36 -0700] \\\"GET /apache_pb.gif HTTP/1.0\\\" 200 2326\"}";
+        httpData = HttpData.ofUtf8("[" + String.join(",", Collections.nCopies(batchSize, log)) + "]");
+    }
+
+    @Benchmark
+    public void singlePass(final Blackhole blackhole) throws Exception {
+        jsonCodec.parse(httpData, CHUNK_SIZE, chunk -> {
+            final List<Record<Log>> records = new ArrayList<>(chunk.size());
+            for (final JsonNode jsonNode : chunk) {
+                records.add(new Record<>(JacksonLog.builder().withData(jsonNode).getThis().build()));
+            }
+            blackhole.consume(records);
+        });
+    }
+
+    @Benchmark
+    public void stringPerLog(final Blackhole blackhole) throws Exception {
+        final List<Record<Log>> records = new ArrayList<>();
+        for (final String json : jsonCodec.parse(httpData)) {
+            records.add(new Record<>(JacksonLog.builder().withData(json).getThis().build()));
+        }
+        blackhole.consume(records);
+    }
+}
@@ -5,6 +5,8 @@
 
 package org.opensearch.dataprepper.plugins.source.loghttp;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.linecorp.armeria.server.ServiceRequestContext;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.buffer.Buffer;
@@ -25,8 +27,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /*
 * A HTTP service for log ingestion to be executed by BlockingTaskExecutor.
@@ -35,8 +39,10 @@ import java.util.stream.Collectors;
 public class LogHTTPService {
     public static final String REQUESTS_RECEIVED = "requestsReceived";
     public static final String SUCCESS_REQUESTS = "successRequests";
+    public static final String PARTIAL_SUCCESS_REQUESTS = "partialSuccessRequests";
     public static final String PAYLOAD_SIZE = "payloadSize";
     public static final String REQUEST_PROCESS_DURATION = "requestProcessDuration";
+    static final int DEFAULT_MAX_RECORDS_PER_BUFFER_WRITE = 1_000;
 
     private static final Logger LOG = LoggerFactory.getLogger(LogHTTPService.class);
 
@@ -44,19 +50,30 @@ public class LogHTTPService {
     private final JsonCodec jsonCodec = new JsonCodec();
     private final Buffer<Record<Log>> buffer;
     private final int bufferWriteTimeoutInMillis;
+    private final int maxRecordsPerBufferWrite;
     private final Counter requestsReceivedCounter;
     private final Counter successRequestsCounter;
+    private final Counter partialSuccessRequestsCounter;
     private final DistributionSummary payloadSizeSummary;
     private final Timer requestProcessDuration;
 
     public LogHTTPService(final int bufferWriteTimeoutInMillis,
                           final Buffer<Record<Log>> buffer,
                           final PluginMetrics pluginMetrics) {
+        this(bufferWriteTimeoutInMillis, buffer, pluginMetrics, DEFAULT_MAX_RECORDS_PER_BUFFER_WRITE);
+    }
+
+    LogHTTPService(final int bufferWriteTimeoutInMillis,
+                   final Buffer<Record<Log>> buffer,
+                   final PluginMetrics pluginMetrics,
+                   final int maxRecordsPerBufferWrite) {
         this.buffer = buffer;
         this.bufferWriteTimeoutInMillis = bufferWriteTimeoutInMillis;
+        this.maxRecordsPerBufferWrite = maxRecordsPerBufferWrite;
 
         requestsReceivedCounter = pluginMetrics.counter(REQUESTS_RECEIVED);
         successRequestsCounter = pluginMetrics.counter(SUCCESS_REQUESTS);
+        partialSuccessRequestsCounter = pluginMetrics.counter(PARTIAL_SUCCESS_REQUESTS);
         payloadSizeSummary = pluginMetrics.summary(PAYLOAD_SIZE);
         requestProcessDuration = pluginMetrics.timer(REQUEST_PROCESS_DURATION);
     }
@@ -73,33 +90,70 @@ public class LogHTTPService {
         return requestProcessDuration.recordCallable(() -> processRequest(aggregatedHttpRequest));
     }
 
+    /**
+     * Parses the request body once and writes its logs to the buffer in chunks of at most
+     * {@link #maxRecordsPerBufferWrite} records as they are parsed, so that a large request does not need a list of
+     * all its records. A request with at most that many records is written with a single buffer write. When the body
+     * is invalid, or a chunk cannot be written, after an earlier chunk was written, the request is counted as a
+     * partial success.
+     */
     private HttpResponse processRequest(final AggregatedHttpRequest aggregatedHttpRequest) throws Exception {
-        List<String> jsonList;
         final HttpData content = aggregatedHttpRequest.content();
+        final AtomicInteger writtenRecordCount = new AtomicInteger();
 
         try {
-            jsonList = jsonCodec.parse(content);
-        } catch (IOException e) {
-            LOG.error("Failed to write the request of size {} due to: {}", content.length(), e.getMessage());
-            throw new IOException("Bad request data format. Needs to be json array.", e.getCause());
+            jsonCodec.parse(content, maxRecordsPerBufferWrite, jsonNodes -> {
+                writeRecords(jsonNodes, content, writtenRecordCount.get());
+                writtenRecordCount.addAndGet(jsonNodes.size());
+            });
+        } catch (JsonProcessingException e) {
+            if (writtenRecordCount.get() == 0) {
+                LOG.error("Failed to write the request of size {} due to: {}", content.length(), e.getMessage());
+                throw new IOException("Bad request data format. Needs to be json array.", e.getCause());
+            }
+            partialSuccessRequestsCounter.increment();
+            LOG.error("Failed to write the request of size {} after {} of its logs were written due to: {}",
+                    content.length(), writtenRecordCount.get(), e.getMessage());
+            throw new IOException("Bad request data format. Needs to be json array. " + writtenRecordCount.get()
+                    + " logs of the request were written before the invalid data.", e.getCause());
+        }
+        successRequestsCounter.increment();
+        return HttpResponse.of(HttpStatus.OK);
+    }
+
+    /**
+     * Writes a chunk of the logs of a request. When an earlier chunk was already written, the request is counted as a
+     * partial success, and a timeout reports how many of its logs were written.
+     */
+    private void writeRecords(final List<JsonNode> jsonNodes, final HttpData content, final int writtenRecordCount) throws Exception {
+        final List<Record<Log>> records = new ArrayList<>(jsonNodes.size());
+        for (final JsonNode jsonNode : jsonNodes) {
+            records.add(buildRecordLog(jsonNode));
         }
-        final List<Record<Log>> records = jsonList.stream()
-                .map(this::buildRecordLog)
-                .collect(Collectors.toList());
         try {
             buffer.writeAll(records, bufferWriteTimeoutInMillis);
         } catch (Exception e) {
-            LOG.error("Failed to write the request of size {} due to: {}", content.length(), e.getMessage());
+            if (writtenRecordCount == 0) {
+                LOG.error("Failed to write the request of size {} due to: {}", content.length(), e.getMessage());
+                throw e;
+            }
+            partialSuccessRequestsCounter.increment();
+            LOG.error("Failed to write the request of size {} after {} of its logs were written due to: {}",
+                    content.length(), writtenRecordCount, e.getMessage());
+            if (e instanceof TimeoutException) {
+                final TimeoutException partialSuccessException = new TimeoutException(
+                        "Timed out writing to the buffer after " + writtenRecordCount + " logs of the request were written");
+                partialSuccessException.initCause(e);
+                throw partialSuccessException;
+            }
             throw e;
         }
-        successRequestsCounter.increment();
-        return HttpResponse.of(HttpStatus.OK);
     }
 
-    private Record<Log> buildRecordLog(String json) {
+    private Record<Log> buildRecordLog(final JsonNode jsonNode) {
 
         final JacksonLog log = JacksonLog.builder()
-                .withData(json)
+                .withData(jsonNode)
                 .getThis()
                 .build();
 
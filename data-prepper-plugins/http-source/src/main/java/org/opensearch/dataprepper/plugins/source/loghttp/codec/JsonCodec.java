@@ -5,7 +5,11 @@
 
 package org.opensearch.dataprepper.plugins.source.loghttp.codec;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linecorp.armeria.common.HttpData;
 
@@ -36,4 +40,51 @@ public class JsonCodec implements Codec<List<String>> {
 
         return jsonList;
     }
+
+    /**
+     * Parses the json array format HTTP data in a single pass and passes the json objects to the consumer in chunks,
+     * as soon as each chunk is read. The objects are read directly into {@link JsonNode}s, and at most one chunk of
+     * them is held at a time.
+     *
+     * @param httpData The content of the original HTTP request
+     * @param chunkSize The maximum number of json objects in a chunk
+     * @param chunkConsumer The consumer of the chunks. The chunk list is reused after the consumer returns.
+     * @throws com.fasterxml.jackson.core.JsonProcessingException if the content is not a json array of json objects. The chunks before the
+     * invalid content were already passed to the consumer.
+     * @throws Exception if the consumer fails. The chunks before the failed chunk were already consumed.
+     * @since 2.5
+     */
+    public void parse(final HttpData httpData, final int chunkSize, final ChunkConsumer chunkConsumer) throws Exception {
+        try (final JsonParser jsonParser = mapper.getFactory().createParser(httpData.toInputStream())) {
+            if (jsonParser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(jsonParser, "Expected a json array");
+            }
+
+            final List<JsonNode> chunk = new ArrayList<>(Math.min(chunkSize, httpData.length()));
+            JsonToken token;
+            while ((token = jsonParser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new JsonParseException(jsonParser, "Expected a json object");
+                }
+                chunk.add(mapper.readTree(jsonParser));
+                if (chunk.size() == chunkSize) {
+                    chunkConsumer.accept(chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                chunkConsumer.accept(chunk);
+            }
+        }
+    }
+
+    /**
+     * Consumes the chunks of json objects parsed by {@link #parse(HttpData, int, ChunkConsumer)}.
+     *
+     * @since 2.5
+     */
+    @FunctionalInterface
+    public interface ChunkConsumer {
+        void accept(List<JsonNode> chunk) throws Exception;
+    }
 }
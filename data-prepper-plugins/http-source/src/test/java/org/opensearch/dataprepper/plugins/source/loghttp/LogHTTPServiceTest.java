@@ -37,6 +37,7 @@ import org.opensearch.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -44,9 +45,16 @@ import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -67,6 +75,9 @@ class LogHTTPServiceTest {
     @Mock
     private Counter successRequestsCounter;
 
+    @Mock
+    private Counter partialSuccessRequestsCounter;
+
     @Mock
     private DistributionSummary payloadSizeSummary;
 
@@ -82,6 +93,7 @@ class LogHTTPServiceTest {
     public void setUp() throws Exception {
         when(pluginMetrics.counter(LogHTTPService.REQUESTS_RECEIVED)).thenReturn(requestsReceivedCounter);
         when(pluginMetrics.counter(LogHTTPService.SUCCESS_REQUESTS)).thenReturn(successRequestsCounter);
+        when(pluginMetrics.counter(LogHTTPService.PARTIAL_SUCCESS_REQUESTS)).thenReturn(partialSuccessRequestsCounter);
         when(pluginMetrics.summary(LogHTTPService.PAYLOAD_SIZE)).thenReturn(payloadSizeSummary);
         when(pluginMetrics.timer(LogHTTPService.REQUEST_PROCESS_DURATION)).thenReturn(requestProcessDuration);
         when(serviceRequestContext.isTimedOut()).thenReturn(false);
@@ -170,6 +182,104 @@ class LogHTTPServiceTest {
         verify(requestProcessDuration, times(2)).recordCallable(ArgumentMatchers.<Callable<HttpResponse>>any());
     }
 
+    @Test
+    public void testHTTPRequestIsWrittenToBufferInChunks() throws Exception {
+        // Prepare
+        @SuppressWarnings("unchecked")
+        final Buffer<Record<Log>> buffer = mock(Buffer.class);
+        final List<List<String>> writtenChunks = new ArrayList<>();
+        doAnswer(invocation -> {
+            final List<String> chunk = new ArrayList<>();
+            for (final Object record : invocation.getArgument(0, Collection.class)) {
+                chunk.add(((Record<Log>) record).getData().get("log", String.class));
+            }
+            writtenChunks.add(chunk);
+            return null;
+        }).when(buffer).writeAll(anyCollection(), eq(TEST_TIMEOUT_IN_MILLIS));
+        logHTTPService = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, buffer, pluginMetrics, 2);
+        final List<String> logs = List.of("log-1", "log-2", "log-3", "log-4", "log-5");
+        final AggregatedHttpRequest testRequest = generateHTTPRequest(mapper.writeValueAsString(
+                logs.stream().map(log -> Collections.singletonMap("log", log)).collect(Collectors.toList())));
+
+        // When
+        final AggregatedHttpResponse postResponse = logHTTPService.doPost(serviceRequestContext, testRequest).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.OK, postResponse.status());
+        assertEquals(List.of(List.of("log-1", "log-2"), List.of("log-3", "log-4"), List.of("log-5")), writtenChunks);
+        verify(successRequestsCounter, times(1)).increment();
+    }
+
+    @Test
+    public void testHTTPRequestWithMalformedJsonAfterFirstChunkIsPartialSuccess() throws Exception {
+        // Prepare
+        @SuppressWarnings("unchecked")
+        final Buffer<Record<Log>> buffer = mock(Buffer.class);
+        logHTTPService = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, buffer, pluginMetrics, 2);
+        final AggregatedHttpRequest testRequest = generateHTTPRequest(
+                "[{\"log\":\"log-1\"}, {\"log\":\"log-2\"}, {\"log\":\"log-3\"}, {\"log\":}]");
+
+        // When
+        final IOException actualException = assertThrows(IOException.class,
+                () -> logHTTPService.doPost(serviceRequestContext, testRequest).aggregate().get());
+
+        // Then
+        assertEquals("Bad request data format. Needs to be json array. 2 logs of the request were written before the invalid data.",
+                actualException.getMessage());
+        verify(buffer, times(1)).writeAll(anyCollection(), eq(TEST_TIMEOUT_IN_MILLIS));
+        verify(successRequestsCounter, never()).increment();
+        verify(partialSuccessRequestsCounter, times(1)).increment();
+    }
+
+    @Test
+    public void testHTTPRequestTimeoutOnSecondChunkIsPartialSuccess() throws Exception {
+        // Prepare
+        @SuppressWarnings("unchecked")
+        final Buffer<Record<Log>> buffer = mock(Buffer.class);
+        final TimeoutException bufferTimeoutException = new TimeoutException();
+        doAnswer(invocation -> null)
+                .doThrow(bufferTimeoutException)
+                .when(buffer).writeAll(anyCollection(), eq(TEST_TIMEOUT_IN_MILLIS));
+        logHTTPService = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, buffer, pluginMetrics, 2);
+        final AggregatedHttpRequest testRequest = generateRandomValidHTTPRequest(5);
+
+        // When
+        final TimeoutException actualException = assertThrows(TimeoutException.class,
+                () -> logHTTPService.doPost(serviceRequestContext, testRequest).aggregate().get());
+
+        // Then
+        assertEquals("Timed out writing to the buffer after 2 logs of the request were written", actualException.getMessage());
+        assertSame(bufferTimeoutException, actualException.getCause());
+        verify(buffer, times(2)).writeAll(anyCollection(), eq(TEST_TIMEOUT_IN_MILLIS));
+        verify(partialSuccessRequestsCounter, times(1)).increment();
+        verify(successRequestsCounter, never()).increment();
+    }
+
+    @Test
+    public void testHTTPRequestWithEmptyArraySuccess() throws Exception {
+        // Prepare
+        @SuppressWarnings("unchecked")
+        final Buffer<Record<Log>> buffer = mock(Buffer.class);
+        logHTTPService = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, buffer, pluginMetrics);
+
+        // When
+        final AggregatedHttpResponse postResponse = logHTTPService.doPost(serviceRequestContext, generateHTTPRequest("[]")).aggregate().get();
+
+        // Then
+        assertEquals(HttpStatus.OK, postResponse.status());
+        verify(buffer, never()).writeAll(anyCollection(), anyInt());
+        verify(successRequestsCounter, times(1)).increment();
+    }
+
+    private AggregatedHttpRequest generateHTTPRequest(final String content) throws ExecutionException, InterruptedException {
+        RequestHeaders requestHeaders = RequestHeaders.builder()
+                .contentType(MediaType.JSON)
+                .method(HttpMethod.POST)
+                .path("/log/ingest")
+                .build();
+        return HttpRequest.of(requestHeaders, HttpData.ofUtf8(content)).aggregate().get();
+    }
+
     private AggregatedHttpRequest generateRandomValidHTTPRequest(int numJson) throws JsonProcessingException,
             ExecutionException, InterruptedException {
         RequestHeaders requestHeaders = RequestHeaders.builder()
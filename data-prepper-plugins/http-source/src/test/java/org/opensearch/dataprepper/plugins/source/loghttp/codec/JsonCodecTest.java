@@ -5,14 +5,19 @@
 
 package org.opensearch.dataprepper.plugins.source.loghttp.codec;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.linecorp.armeria.common.HttpData;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeoutException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class JsonCodecTest {
     private final HttpData goodTestData = HttpData.ofUtf8("[{\"a\":\"b\"}, {\"c\":\"d\"}]");
@@ -45,4 +50,102 @@ class JsonCodecTest {
     public void testParseNonJsonFailure() {
         assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataNonJson));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testParseChunksSuccess() throws Exception {
+        // Given
+        final HttpData testData = HttpData.ofUtf8("[{\"a\":\"b\"}, {\"c\":{\"d\":[1,2]}}, {\"e\":\"f\"}, {}, {\"g\":null}]");
+        final List<List<String>> chunks = new ArrayList<>();
+
+        // When
+        objectUnderTest.parse(testData, 2, chunk -> chunks.add(toStrings(chunk)));
+
+        // Then
+        assertEquals(List.of(
+                List.of("{\"a\":\"b\"}", "{\"c\":{\"d\":[1,2]}}"),
+                List.of("{\"e\":\"f\"}", "{}"),
+                List.of("{\"g\":null}")), chunks);
+    }
+
+    @Test
+    public void testParseChunksEmptyArray() throws Exception {
+        final List<List<String>> chunks = new ArrayList<>();
+
+        objectUnderTest.parse(HttpData.ofUtf8("[]"), 2, chunk -> chunks.add(toStrings(chunk)));
+
+        assertTrue(chunks.isEmpty());
+    }
+
+    @Test
+    public void testParseChunksJsonLineFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataJsonLine, 2, chunk -> { }));
+    }
+
+    @Test
+    public void testParseChunksMultiJsonLinesFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataMultiJsonLines, 2, chunk -> { }));
+    }
+
+    @Test
+    public void testParseChunksNonJsonFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataNonJson, 2, chunk -> { }));
+    }
+
+    @Test
+    public void testParseChunksNonObjectElementFailure() {
+        assertThrows(IOException.class, () -> objectUnderTest.parse(HttpData.ofUtf8("[{\"a\":\"b\"}, \"c\"]"), 2, chunk -> { }));
+    }
+
+    @Test
+    public void testParseChunksUnterminatedArrayFailure() {
+        final List<List<String>> chunks = new ArrayList<>();
+
+        assertThrows(IOException.class, () -> objectUnderTest.parse(HttpData.ofUtf8("[{\"a\":\"b\"}, {\"c\":\"d\"}"), 1,
+                chunk -> chunks.add(toStrings(chunk))));
+        assertEquals(List.of(List.of("{\"a\":\"b\"}"), List.of("{\"c\":\"d\"}")), chunks);
+    }
+
+    @Test
+    public void testParseChunksMalformedJsonAfterFirstChunkFailure() {
+        final List<List<String>> chunks = new ArrayList<>();
+
+        assertThrows(IOException.class, () -> objectUnderTest.parse(HttpData.ofUtf8("[{\"a\":\"b\"}, {\"c\":\"d\"}, {\"e\":}]"), 2,
+                chunk -> chunks.add(toStrings(chunk))));
+        assertEquals(List.of(List.of("{\"a\":\"b\"}", "{\"c\":\"d\"}")), chunks);
+    }
+
+    @Test
+    public void testParseChunksConsumerFailureAfterFirstChunk() {
+        final TimeoutException consumerException = new TimeoutException();
+        final List<List<String>> chunks = new ArrayList<>();
+
+        final Exception actualException = assertThrows(TimeoutException.class, () -> objectUnderTest.parse(goodTestData, 1, chunk -> {
+            if (!chunks.isEmpty()) {
+                throw consumerException;
+            }
+            chunks.add(toStrings(chunk));
+        }));
+
+        assertSame(consumerException, actualException);
+        assertEquals(List.of(List.of("{\"a\":\"b\"}")), chunks);
+    }
+
+    @Test
+    public void testParseChunksConsumerFailure() {
+        final TimeoutException consumerException = new TimeoutException();
+
+        final Exception actualException = assertThrows(TimeoutException.class, () -> objectUnderTest.parse(goodTestData, 2, chunk -> {
+            throw consumerException;
+        }));
+
+        assertSame(consumerException, actualException);
+    }
+
+    private static List<String> toStrings(final List<JsonNode> chunk) {
+        final List<String> strings = new ArrayList<>();
+        for (final JsonNode jsonNode : chunk) {
+            strings.add(jsonNode.toString());
+        }
+        return strings;
+    }
+}
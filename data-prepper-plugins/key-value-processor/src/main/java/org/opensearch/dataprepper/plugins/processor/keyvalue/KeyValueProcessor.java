@@ -9,6 +9,7 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
@@ -32,6 +33,8 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
     private static final Logger LOG = LoggerFactory.getLogger(KeyValueProcessor.class);
 
     private final KeyValueProcessorConfig keyValueProcessorConfig;
+    private final EventKey sourceKey;
+    private final EventKey destinationKey;
 
     private final Pattern fieldDelimiterPattern;
     private final Pattern keyValueDelimiterPattern;
@@ -51,6 +54,8 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
     public KeyValueProcessor(final PluginMetrics pluginMetrics, final KeyValueProcessorConfig keyValueProcessorConfig) {
         super(pluginMetrics);
         this.keyValueProcessorConfig = keyValueProcessorConfig;
+        this.sourceKey = EventKey.of(keyValueProcessorConfig.getSource());
+        this.destinationKey = EventKey.of(keyValueProcessorConfig.getDestination());
 
         if(keyValueProcessorConfig.getFieldDelimiterRegex() != null
                 && !keyValueProcessorConfig.getFieldDelimiterRegex().isEmpty()) {
@@ -182,7 +187,7 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
             final Map<String, Object> parsedMap = new HashMap<>();
             final Event recordEvent = record.getData();
 
-            final String groupsRaw = recordEvent.get(keyValueProcessorConfig.getSource(), String.class);
+            final String groupsRaw = recordEvent.get(sourceKey, String.class);
             final String[] groups = fieldDelimiterPattern.split(groupsRaw, 0);
 
             for(final String group : groups) {
@@ -248,7 +253,7 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
                 parsedMap.put(pair.getKey(), pair.getValue());
             }
 
-            recordEvent.put(keyValueProcessorConfig.getDestination(), parsedMap);
+            recordEvent.put(destinationKey, parsedMap);
         }
 
         return records;
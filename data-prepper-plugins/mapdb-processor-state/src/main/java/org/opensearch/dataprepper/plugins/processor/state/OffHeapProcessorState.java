@@ -0,0 +1,445 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.state;
+
+import com.google.common.primitives.SignedBytes;
+import org.opensearch.dataprepper.processor.state.ProcessorState;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+
+/**
+ * A {@link ProcessorState} which keeps its entries outside of the Java heap, so that a large state does not add to
+ * the garbage collection work of the JVM.
+ * <p>
+ * The entries are appended to a memory-mapped data file, so that the operating system can write the pages of a state
+ * which does not fit in memory to disk. The values are converted to bytes by a {@link ProcessorStateCodec}. The entries
+ * are found by a hash index in direct memory, which holds the hash and the location of each entry.
+ * <p>
+ * Putting a key which is already in the state overwrites its entry when the new value fits in the space of the entry,
+ * and otherwise appends a new entry. Once the replaced entries take more space than the current entries, the current
+ * entries are moved to the start of the data file and the file is truncated. {@link #clear()} also truncates the data
+ * file. Puts wait while the state is iterated.
+ *
+ * @param <V> the type of the values
+ * @since 2.5
+ */
+public class OffHeapProcessorState<V> implements ProcessorState<byte[], V> {
+    static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+    static final int DEFAULT_INDEX_CAPACITY = 1 << 14;
+
+    private static final int MAX_INDEX_CAPACITY = 1 << 27;
+    private static final int SLOT_SIZE = Integer.BYTES + Long.BYTES;
+    private static final int ENTRY_HEADER_SIZE = 3 * Integer.BYTES;
+    private static final int VALUE_CAPACITY_OFFSET = Integer.BYTES;
+    private static final int VALUE_LENGTH_OFFSET = 2 * Integer.BYTES;
+    private static final int EMPTY_ADDRESS = 0;
+    private static final byte[] ZEROS = new byte[8192];
+
+    private final File dbFile;
+    private final FileChannel fileChannel;
+    private final ProcessorStateCodec<V> codec;
+    private final int chunkSize;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private long fileLength;
+    private int writeChunk = -1;
+    private int writePosition;
+    private long entryBytes;
+    private long replacedEntryBytes;
+    private ByteBuffer hashIndex;
+    private int indexCapacity;
+    private long size;
+
+    /**
+     * @param dbPath the directory of the data file
+     * @param dbName the name of the data file, which is replaced if it exists
+     * @param codec the codec of the values
+     */
+    public OffHeapProcessorState(final File dbPath, final String dbName, final ProcessorStateCodec<V> codec) {
+        this(dbPath, dbName, codec, DEFAULT_CHUNK_SIZE, DEFAULT_INDEX_CAPACITY);
+    }
+
+    OffHeapProcessorState(final File dbPath, final String dbName, final ProcessorStateCodec<V> codec,
+                          final int chunkSize, final int indexCapacity) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        if (indexCapacity <= 0 || indexCapacity > MAX_INDEX_CAPACITY || Integer.bitCount(indexCapacity) != 1) {
+            throw new IllegalArgumentException("indexCapacity must be a power of two up to " + MAX_INDEX_CAPACITY);
+        }
+        this.dbFile = new File(dbPath, dbName);
+        this.codec = Objects.requireNonNull(codec);
+        this.chunkSize = chunkSize;
+        this.indexCapacity = indexCapacity;
+        this.hashIndex = ByteBuffer.allocateDirect(indexCapacity * SLOT_SIZE);
+        try {
+            this.fileChannel = FileChannel.open(dbFile.toPath(),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to open the processor state file " + dbFile, e);
+        }
+        dbFile.deleteOnExit();
+    }
+
+    @Override
+    public void put(final byte[] key, final V value) {
+        final byte[] valueBytes = codec.encode(Objects.requireNonNull(value));
+        final int hash = hash(key);
+        lock.writeLock().lock();
+        try {
+            int slot = findSlot(key, hash);
+            final long previousAddress = getAddress(slot);
+            final boolean newKey = previousAddress == EMPTY_ADDRESS;
+            if (newKey && size >= MAX_INDEX_CAPACITY / 2) {
+                throw new IllegalStateException("The processor state " + dbFile + " is full");
+            }
+            if (!newKey && overwriteValue(previousAddress, valueBytes)) {
+                return;
+            }
+            final long address = append(key, valueBytes);
+            if (newKey && ++size * 2 > indexCapacity) {
+                resizeIndex();
+                slot = findSlot(key, hash);
+            }
+            hashIndex.putInt(slot * SLOT_SIZE, hash);
+            hashIndex.putLong(slot * SLOT_SIZE + Integer.BYTES, address);
+            if (!newKey) {
+                final long previousEntrySize = getEntrySize(previousAddress);
+                entryBytes -= previousEntrySize;
+                replacedEntryBytes += previousEntrySize;
+                if (replacedEntryBytes >= chunkSize && replacedEntryBytes > entryBytes) {
+                    compact();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public V get(final byte[] key) {
+        final byte[] valueBytes;
+        lock.readLock().lock();
+        try {
+            final long address = getAddress(findSlot(key, hash(key)));
+            if (address == EMPTY_ADDRESS) {
+                return null;
+            }
+            valueBytes = readValue(address);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return codec.decode(valueBytes);
+    }
+
+    /**
+     * @return a copy of the entries, ordered by key as signed bytes
+     */
+    @Override
+    public Map<byte[], V> getAll() {
+        final Map<byte[], V> all = new TreeMap<>(SignedBytes.lexicographicalComparator());
+        iterate((key, value) -> all.put(key, value));
+        return all;
+    }
+
+    @Override
+    public <R> List<R> iterate(final BiFunction<byte[], V, R> fn) {
+        return iterate(fn, 1, 0);
+    }
+
+    /**
+     * Iterates over the entries of a segment of the hash index. The segments are of equal size and each entry is in
+     * exactly one segment. The function must not put entries into this state.
+     */
+    @Override
+    public <R> List<R> iterate(final BiFunction<byte[], V, R> fn, final int segments, final int index) {
+        final List<R> returnList = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            final int lowSlot = (int) ((long) indexCapacity * index / segments);
+            final int highSlot = (int) ((long) indexCapacity * (index + 1) / segments);
+            for (int slot = lowSlot; slot < highSlot; slot++) {
+                final long address = getAddress(slot);
+                if (address != EMPTY_ADDRESS) {
+                    returnList.add(fn.apply(readKey(address), codec.decode(readValue(address))));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return returnList;
+    }
+
+    @Override
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the length of the data file and the bytes of the hash index in direct memory
+     */
+    @Override
+    public long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            return fileLength + (long) indexCapacity * SLOT_SIZE;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all entries and truncates the data file. The index keeps its capacity for the next entries.
+     */
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            hashIndex.clear();
+            while (hashIndex.hasRemaining()) {
+                hashIndex.put(ZEROS, 0, Math.min(ZEROS.length, hashIndex.remaining()));
+            }
+            writeChunk = -1;
+            writePosition = 0;
+            entryBytes = 0;
+            replacedEntryBytes = 0;
+            size = 0;
+            truncateChunks(0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Closes and deletes the data file. The state cannot be used afterwards.
+     */
+    @Override
+    public void delete() {
+        lock.writeLock().lock();
+        try {
+            chunks.clear();
+            fileChannel.close();
+            dbFile.delete();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to close the processor state file " + dbFile, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return the slot of the key, or the empty slot where the key would be put
+     */
+    private int findSlot(final byte[] key, final int hash) {
+        final int mask = indexCapacity - 1;
+        int slot = hash & mask;
+        while (true) {
+            final long address = getAddress(slot);
+            if (address == EMPTY_ADDRESS || (hashIndex.getInt(slot * SLOT_SIZE) == hash && keyEquals(address, key))) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private long getAddress(final int slot) {
+        return hashIndex.getLong(slot * SLOT_SIZE + Integer.BYTES);
+    }
+
+    /**
+     * Moves the current entries to the start of the data file, in the order of their addresses, and truncates the
+     * chunks which are no longer used. Each entry moves to an address which is not after its own address, so it only
+     * overwrites replaced entries and entries which were already moved.
+     */
+    private void compact() {
+        final long[] addresses = new long[(int) size];
+        int count = 0;
+        for (int slot = 0; slot < indexCapacity; slot++) {
+            final long address = getAddress(slot);
+            if (address != EMPTY_ADDRESS) {
+                addresses[count++] = address;
+            }
+        }
+        Arrays.sort(addresses, 0, count);
+
+        writeChunk = -1;
+        writePosition = 0;
+        entryBytes = 0;
+        replacedEntryBytes = 0;
+        for (int i = 0; i < count; i++) {
+            final byte[] key = readKey(addresses[i]);
+            final byte[] value = readValue(addresses[i]);
+            final int slot = findSlot(key, hash(key));
+            hashIndex.putLong(slot * SLOT_SIZE + Integer.BYTES, append(key, value));
+        }
+        truncateChunks(writeChunk + 1);
+    }
+
+    /**
+     * Drops the chunks from the given index and truncates the data file to the remaining chunks. The dropped chunks
+     * stay mapped until they are garbage collected, but are never read again.
+     */
+    private void truncateChunks(final int retainedChunks) {
+        long retainedLength = 0;
+        for (int i = 0; i < retainedChunks; i++) {
+            retainedLength += chunks.get(i).capacity();
+        }
+        chunks.subList(retainedChunks, chunks.size()).clear();
+        try {
+            fileChannel.truncate(retainedLength);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to truncate the processor state file " + dbFile, e);
+        }
+        fileLength = retainedLength;
+    }
+
+    private void resizeIndex() {
+        final int newCapacity = indexCapacity * 2;
+        final int mask = newCapacity - 1;
+        final ByteBuffer newIndex = ByteBuffer.allocateDirect(newCapacity * SLOT_SIZE);
+        for (int slot = 0; slot < indexCapacity; slot++) {
+            final long address = getAddress(slot);
+            if (address != EMPTY_ADDRESS) {
+                final int hash = hashIndex.getInt(slot * SLOT_SIZE);
+                int newSlot = hash & mask;
+                while (newIndex.getLong(newSlot * SLOT_SIZE + Integer.BYTES) != EMPTY_ADDRESS) {
+                    newSlot = (newSlot + 1) & mask;
+                }
+                newIndex.putInt(newSlot * SLOT_SIZE, hash);
+                newIndex.putLong(newSlot * SLOT_SIZE + Integer.BYTES, address);
+            }
+        }
+        hashIndex = newIndex;
+        indexCapacity = newCapacity;
+    }
+
+    /**
+     * Writes an entry to the data file.
+     *
+     * @return the address of the entry, which holds the index of the chunk in the high 32 bits and one more than the
+     * position in the chunk in the low 32 bits, so that no address is {@link #EMPTY_ADDRESS}
+     */
+    private long append(final byte[] key, final byte[] value) {
+        final long entrySize = (long) ENTRY_HEADER_SIZE + key.length + value.length;
+        if (entrySize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The entry is too large for the processor state");
+        }
+        final ByteBuffer chunk = getChunkForEntry((int) entrySize).duplicate();
+        chunk.position(writePosition);
+        chunk.putInt(key.length).putInt(value.length).putInt(value.length).put(key).put(value);
+        final long address = ((long) writeChunk << 32) | (writePosition + 1);
+        writePosition += entrySize;
+        entryBytes += entrySize;
+        return address;
+    }
+
+    private ByteBuffer getChunkForEntry(final int entrySize) {
+        if (writeChunk >= 0 && writePosition + entrySize <= chunks.get(writeChunk).capacity()) {
+            return chunks.get(writeChunk);
+        }
+        writeChunk++;
+        while (writeChunk < chunks.size() && chunks.get(writeChunk).capacity() < entrySize) {
+            writeChunk++;
+        }
+        if (writeChunk == chunks.size()) {
+            final int capacity = Math.max(chunkSize, entrySize);
+            try {
+                chunks.add(fileChannel.map(FileChannel.MapMode.READ_WRITE, fileLength, capacity));
+            } catch (final IOException e) {
+                writeChunk--;
+                throw new UncheckedIOException("Unable to extend the processor state file " + dbFile, e);
+            }
+            fileLength += capacity;
+        }
+        writePosition = 0;
+        return chunks.get(writeChunk);
+    }
+
+    /**
+     * Overwrites the value of the entry if the new value fits in the space of the entry.
+     *
+     * @return whether the value was overwritten
+     */
+    private boolean overwriteValue(final long address, final byte[] value) {
+        final ByteBuffer chunk = chunks.get((int) (address >>> 32)).duplicate();
+        final int position = (int) address - 1;
+        if (value.length > chunk.getInt(position + VALUE_CAPACITY_OFFSET)) {
+            return false;
+        }
+        chunk.putInt(position + VALUE_LENGTH_OFFSET, value.length);
+        chunk.position(position + ENTRY_HEADER_SIZE + chunk.getInt(position));
+        chunk.put(value);
+        return true;
+    }
+
+    private long getEntrySize(final long address) {
+        final ByteBuffer chunk = chunks.get((int) (address >>> 32));
+        final int position = (int) address - 1;
+        return (long) ENTRY_HEADER_SIZE + chunk.getInt(position) + chunk.getInt(position + VALUE_CAPACITY_OFFSET);
+    }
+
+    private boolean keyEquals(final long address, final byte[] key) {
+        final ByteBuffer chunk = chunks.get((int) (address >>> 32));
+        final int position = (int) address - 1;
+        if (chunk.getInt(position) != key.length) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (chunk.get(position + ENTRY_HEADER_SIZE + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte[] readKey(final long address) {
+        final ByteBuffer chunk = chunks.get((int) (address >>> 32)).duplicate();
+        final int position = (int) address - 1;
+        final byte[] key = new byte[chunk.getInt(position)];
+        chunk.position(position + ENTRY_HEADER_SIZE);
+        chunk.get(key);
+        return key;
+    }
+
+    private byte[] readValue(final long address) {
+        final ByteBuffer chunk = chunks.get((int) (address >>> 32)).duplicate();
+        final int position = (int) address - 1;
+        final int keyLength = chunk.getInt(position);
+        final byte[] value = new byte[chunk.getInt(position + VALUE_LENGTH_OFFSET)];
+        chunk.position(position + ENTRY_HEADER_SIZE + keyLength);
+        chunk.get(value);
+        return value;
+    }
+
+    private static int hash(final byte[] key) {
+        int hash = Arrays.hashCode(key);
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.state;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts the values of an {@link OffHeapProcessorState} to bytes and back.
+ *
+ * @param <V> the type of the values
+ * @since 2.5
+ */
+public interface ProcessorStateCodec<V> {
+
+    /**
+     * Writes strings as UTF-8 bytes.
+     */
+    ProcessorStateCodec<String> STRING = new ProcessorStateCodec<String>() {
+        @Override
+        public byte[] encode(final String value) {
+            return value.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String decode(final byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    /**
+     * @param value the value, which is not null
+     * @return the bytes of the value
+     */
+    byte[] encode(V value);
+
+    /**
+     * @param bytes bytes returned by {@link #encode(Object)}
+     * @return the value
+     */
+    V decode(byte[] bytes);
+}
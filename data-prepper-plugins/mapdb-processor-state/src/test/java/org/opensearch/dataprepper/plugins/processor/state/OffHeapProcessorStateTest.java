@@ -0,0 +1,213 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.state;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+public class OffHeapProcessorStateTest extends ProcessorStateTest {
+
+    private static final ProcessorStateCodec<DataClass> DATA_CLASS_CODEC = new ProcessorStateCodec<DataClass>() {
+        @Override
+        public byte[] encode(final DataClass value) {
+            final byte[] stringBytes = value.stringVal.getBytes(StandardCharsets.UTF_8);
+            return ByteBuffer.allocate(Integer.BYTES + stringBytes.length).putInt(value.intVal).put(stringBytes).array();
+        }
+
+        @Override
+        public DataClass decode(final byte[] bytes) {
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            final int intVal = buffer.getInt();
+            return new DataClass(new String(bytes, buffer.position(), buffer.remaining(), StandardCharsets.UTF_8), intVal);
+        }
+    };
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File dbPath;
+
+    @Override
+    public void setProcessorState() throws Exception {
+        dbPath = temporaryFolder.newFolder();
+        this.processorState = new OffHeapProcessorState<>(dbPath, "testDb", DATA_CLASS_CODEC, 256, 4);
+    }
+
+    @Test
+    public void testIterateSegment() {
+        final List<byte[]> keys = Arrays.asList(
+                new byte[]{-64, 0, -64, 0}, new byte[]{0}, new byte[]{64, 64, 64, 64}, new byte[]{126, 126, 126, 126});
+        final List<String> expectedValues = new ArrayList<>();
+        for (final byte[] key : keys) {
+            final DataClass data = new DataClass(UUID.randomUUID().toString(), random.nextInt());
+            processorState.put(key, data);
+            expectedValues.add(data.stringVal);
+        }
+
+        final List<String> values = processorState.iterate((bytes, s) -> s.stringVal, 2, 0);
+        final List<String> values2 = processorState.iterate((bytes, s) -> s.stringVal, 2, 1);
+
+        Assert.assertEquals(4, values.size() + values2.size());
+        values.addAll(values2);
+        Assert.assertTrue(values.containsAll(expectedValues));
+    }
+
+    @Test
+    public void testPutReplacesValue() {
+        final byte[] key = UUID.randomUUID().toString().getBytes();
+        final DataClass data1 = new DataClass(UUID.randomUUID().toString(), random.nextInt());
+        final DataClass data2 = new DataClass(UUID.randomUUID().toString(), random.nextInt());
+
+        processorState.put(key, data1);
+        processorState.put(key, data2);
+
+        Assert.assertEquals(1, processorState.size());
+        Assert.assertEquals(data2, processorState.get(key));
+        Assert.assertEquals(1, processorState.iterate((bytes, dataClass) -> dataClass).size());
+    }
+
+    @Test
+    public void testPutOverwritesValueWhichFits() {
+        final byte[] key = UUID.randomUUID().toString().getBytes();
+        processorState.put(key, new DataClass(UUID.randomUUID().toString(), random.nextInt()));
+        final long sizeInBytes = processorState.sizeInBytes();
+
+        for (int i = 0; i < 100; i++) {
+            processorState.put(key, new DataClass(UUID.randomUUID().toString(), i));
+        }
+        final DataClass smallerData = new DataClass("small", random.nextInt());
+        processorState.put(key, smallerData);
+
+        Assert.assertEquals(1, processorState.size());
+        Assert.assertEquals(smallerData, processorState.get(key));
+        Assert.assertEquals(sizeInBytes, processorState.sizeInBytes());
+    }
+
+    @Test
+    public void testPutCompactsReplacedEntries() {
+        final List<byte[]> keys = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            keys.add(ByteBuffer.allocate(Integer.BYTES).putInt(i).array());
+            processorState.put(keys.get(i), new DataClass("", i));
+        }
+
+        final List<DataClass> data = new ArrayList<>();
+        for (int round = 1; round <= 50; round++) {
+            data.clear();
+            for (int i = 0; i < keys.size(); i++) {
+                data.add(new DataClass(new String(new char[round]).replace('\0', 'c'), i));
+                processorState.put(keys.get(i), data.get(i));
+            }
+        }
+
+        Assert.assertEquals(keys.size(), processorState.size());
+        for (int i = 0; i < keys.size(); i++) {
+            Assert.assertEquals(data.get(i), processorState.get(keys.get(i)));
+        }
+        Assert.assertEquals(keys.size(), processorState.iterate((bytes, dataClass) -> dataClass).size());
+        final long entrySize = 3 * Integer.BYTES + Integer.BYTES + DATA_CLASS_CODEC.encode(data.get(0)).length;
+        Assert.assertTrue(new File(dbPath, "testDb").length() <= 4 * keys.size() * entrySize + 256);
+    }
+
+    @Test
+    public void testPutManyEntries() {
+        final List<DataClass> data = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            data.add(new DataClass(UUID.randomUUID().toString(), i));
+            processorState.put(ByteBuffer.allocate(Integer.BYTES).putInt(i).array(), data.get(i));
+        }
+
+        Assert.assertEquals(1000, processorState.size());
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(data.get(i), processorState.get(ByteBuffer.allocate(Integer.BYTES).putInt(i).array()));
+        }
+        Assert.assertEquals(1000, processorState.iterate((bytes, dataClass) -> dataClass).size());
+        Assert.assertTrue(processorState.sizeInBytes() > 1000 * (Integer.BYTES + 36));
+    }
+
+    @Test
+    public void testPutEntryLargerThanChunk() {
+        final byte[] key = UUID.randomUUID().toString().getBytes();
+        final DataClass smallData = new DataClass(UUID.randomUUID().toString(), random.nextInt());
+        final DataClass largeData = new DataClass(new String(new char[1000]).replace('\0', 'a'), random.nextInt());
+
+        processorState.put(UUID.randomUUID().toString().getBytes(), smallData);
+        processorState.put(key, largeData);
+
+        Assert.assertEquals(largeData, processorState.get(key));
+    }
+
+    @Test
+    public void testClear() {
+        final byte[] key1 = UUID.randomUUID().toString().getBytes();
+        final byte[] key2 = UUID.randomUUID().toString().getBytes();
+        final DataClass data1 = new DataClass(UUID.randomUUID().toString(), random.nextInt());
+        final DataClass data2 = new DataClass(new String(new char[1000]).replace('\0', 'b'), random.nextInt());
+        final long emptySizeInBytes = processorState.sizeInBytes();
+        processorState.put(key1, data1);
+        processorState.put(key2, data2);
+        Assert.assertTrue(new File(dbPath, "testDb").length() > 1000);
+        Assert.assertEquals(emptySizeInBytes + new File(dbPath, "testDb").length(), processorState.sizeInBytes());
+
+        processorState.clear();
+
+        Assert.assertEquals(0, processorState.size());
+        Assert.assertNull(processorState.get(key1));
+        Assert.assertTrue(processorState.getAll().isEmpty());
+        Assert.assertEquals(emptySizeInBytes, processorState.sizeInBytes());
+        Assert.assertEquals(0, new File(dbPath, "testDb").length());
+
+        processorState.put(key2, data2);
+        processorState.put(key1, data1);
+
+        Assert.assertEquals(2, processorState.size());
+        Assert.assertEquals(data1, processorState.get(key1));
+        Assert.assertEquals(data2, processorState.get(key2));
+    }
+
+    @Test
+    public void testDeleteRemovesFile() {
+        processorState.put(UUID.randomUUID().toString().getBytes(), new DataClass(UUID.randomUUID().toString(), random.nextInt()));
+        Assert.assertTrue(new File(dbPath, "testDb").exists());
+
+        processorState.delete();
+
+        Assert.assertFalse(new File(dbPath, "testDb").exists());
+        processorState = new OffHeapProcessorState<>(dbPath, "testDb", DATA_CLASS_CODEC);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidChunkSize() {
+        new OffHeapProcessorState<>(dbPath, "invalidDb", DATA_CLASS_CODEC, 0, 4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidIndexCapacity() {
+        new OffHeapProcessorState<>(dbPath, "invalidDb", DATA_CLASS_CODEC, 256, 3);
+    }
+
+    @Test
+    public void testStringCodec() {
+        final String value = UUID.randomUUID() + "é";
+        Assert.assertEquals(value, ProcessorStateCodec.STRING.decode(ProcessorStateCodec.STRING.encode(value)));
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void testMissingPath() {
+        new OffHeapProcessorState<>(new File(dbPath, "missing"), "testDb", ProcessorStateCodec.STRING);
+    }
+}
@@ -10,6 +10,7 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
@@ -21,13 +22,14 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
 
 @DataPrepperPlugin(name = "convert_entry_type", pluginType = Processor.class, pluginConfigurationType = ConvertEntryTypeProcessorConfig.class)
 public class ConvertEntryTypeProcessor  extends AbstractProcessor<Record<Event>, Record<Event>> {
     private static final Logger LOG = LoggerFactory.getLogger(ConvertEntryTypeProcessor.class);
-    private final List<String> convertEntryKeys;
+    private final List<EventKey> convertEntryKeys;
     private final TypeConverter converter;
     private final String convertWhen;
     private final List<String> nullValues;
@@ -41,7 +43,9 @@ public class ConvertEntryTypeProcessor  extends AbstractProcessor<Record<Event>,
                                      final ConvertEntryTypeProcessorConfig convertEntryTypeProcessorConfig,
                                      final ExpressionEvaluator expressionEvaluator) {
         super(pluginMetrics);
-        this.convertEntryKeys = getKeysToConvert(convertEntryTypeProcessorConfig);
+        this.convertEntryKeys = getKeysToConvert(convertEntryTypeProcessorConfig).stream()
+                .map(EventKey::of)
+                .collect(Collectors.toList());
         this.type = convertEntryTypeProcessorConfig.getType().name();
         this.converter = convertEntryTypeProcessorConfig.getType().getTargetConverter();
         this.convertWhen = convertEntryTypeProcessorConfig.getConvertWhen();
@@ -60,7 +64,7 @@ public class ConvertEntryTypeProcessor  extends AbstractProcessor<Record<Event>,
                 continue;
             }
 
-            for(final String key : convertEntryKeys) {
+            for(final EventKey key : convertEntryKeys) {
                 Object keyVal = recordEvent.get(key, Object.class);
                 if (keyVal != null) {
                     if (!nullValues.contains(keyVal.toString())) {
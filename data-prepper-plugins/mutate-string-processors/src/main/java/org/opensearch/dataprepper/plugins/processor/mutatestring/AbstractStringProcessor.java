@@ -8,19 +8,25 @@ package org.opensearch.dataprepper.plugins.processor.mutatestring;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.record.Record;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 public abstract class AbstractStringProcessor<T> extends AbstractProcessor<Record<Event>, Record<Event>> {
     private final List<T> entries;
+    private final List<EventKey> entryKeys;
 
     @DataPrepperPluginConstructor
     public AbstractStringProcessor(final PluginMetrics pluginMetrics, final StringProcessorConfig<T> config) {
         super(pluginMetrics);
         this.entries = config.getIterativeConfig();
+        this.entryKeys = entries.stream()
+                .map(entry -> EventKey.of(getKey(entry)))
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -35,22 +41,17 @@ public abstract class AbstractStringProcessor<T> extends AbstractProcessor<Recor
 
     private void performStringAction(final Event recordEvent)
     {
-        for(T entry : entries) {
+        for(int i = 0; i < entries.size(); i++) {
+            final EventKey key = entryKeys.get(i);
+            final Object value = recordEvent.get(key, Object.class);
 
-
-            final String key = getKey(entry);
-
-            if(recordEvent.containsKey(key)) {
-                final Object value = recordEvent.get(key, Object.class);
-
-                if(value instanceof String) {
-                    performKeyAction(recordEvent, entry, (String) value);
-                }
+            if(value instanceof String) {
+                performKeyAction(recordEvent, entries.get(i), key, (String) value);
             }
         }
     }
 
-    protected abstract void performKeyAction(final Event recordEvent, final T entry, final String value);
+    protected abstract void performKeyAction(final Event recordEvent, final T entry, final EventKey key, final String value);
 
     protected abstract String getKey(final T entry);
 
@@ -9,6 +9,7 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 import org.opensearch.dataprepper.model.processor.Processor;
 
 import java.util.Locale;
@@ -25,7 +26,7 @@ public class LowercaseStringProcessor extends AbstractStringProcessor<String> {
     }
 
     @Override
-    protected void performKeyAction(final Event recordEvent, final String key, final String value)
+    protected void performKeyAction(final Event recordEvent, final String entry, final EventKey key, final String value)
     {
         recordEvent.put(key, value.toLowerCase(Locale.ROOT));
     }
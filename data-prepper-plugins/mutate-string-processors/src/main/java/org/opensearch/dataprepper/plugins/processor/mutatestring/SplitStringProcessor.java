@@ -10,6 +10,7 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 import org.opensearch.dataprepper.model.processor.Processor;
 
 import java.util.HashMap;
@@ -46,7 +47,7 @@ public class SplitStringProcessor extends AbstractStringProcessor<SplitStringPro
     }
 
     @Override
-    protected void performKeyAction(final Event recordEvent, final SplitStringProcessorConfig.Entry entry, final String value) {
+    protected void performKeyAction(final Event recordEvent, final SplitStringProcessorConfig.Entry entry, final EventKey key, final String value) {
         if (Objects.nonNull(entry.getSplitWhen()) && !expressionEvaluator.evaluateConditional(entry.getSplitWhen(), recordEvent)) {
             return;
         }
@@ -60,7 +61,7 @@ public class SplitStringProcessor extends AbstractStringProcessor<SplitStringPro
 
         final Pattern pattern = patternMap.get(lookup);
         final String[] splitValue = pattern.split(value);
-        recordEvent.put(entry.getSource(), splitValue);
+        recordEvent.put(key, splitValue);
     }
 
     @Override
@@ -10,6 +10,7 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 import org.opensearch.dataprepper.model.processor.Processor;
 
 import java.util.HashMap;
@@ -38,7 +39,7 @@ public class SubstituteStringProcessor extends AbstractStringProcessor<Substitut
     }
 
     @Override
-    protected void performKeyAction(final Event recordEvent, final SubstituteStringProcessorConfig.Entry entry, final String value)
+    protected void performKeyAction(final Event recordEvent, final SubstituteStringProcessorConfig.Entry entry, final EventKey key, final String value)
     {
         if (Objects.nonNull(entry.getSubstituteWhen()) && !expressionEvaluator.evaluateConditional(entry.getSubstituteWhen(), recordEvent)) {
             return;
@@ -47,7 +48,7 @@ public class SubstituteStringProcessor extends AbstractStringProcessor<Substitut
         final Pattern pattern = patternMap.get(entry.getFrom());
         final Matcher matcher = pattern.matcher(value);
         final String newValue = matcher.replaceAll(entry.getTo());
-        recordEvent.put(entry.getSource(), newValue);
+        recordEvent.put(key, newValue);
     }
 
     @Override
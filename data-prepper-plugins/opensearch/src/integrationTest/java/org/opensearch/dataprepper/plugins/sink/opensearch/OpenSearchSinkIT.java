@@ -640,6 +640,41 @@ public class OpenSearchSinkIT {
         Assert.assertEquals(1.0, bulkRequestLatencies.get(0).getValue(), 0);
     }
 
+    @Test
+    public void testOutputWithMaxInFlightBulkRequestsWritesTheDocumentsBeforeShutdownReturns() throws IOException, InterruptedException {
+        final String testIndexAlias = "test-alias";
+        final String testTemplateFile = Objects.requireNonNull(
+                getClass().getClassLoader().getResource(TEST_TEMPLATE_V1_FILE)).getFile();
+        final String testIdField = "someId";
+        final int numberOfRecords = 8;
+        final List<Record<Event>> testRecords = new ArrayList<>();
+        for (int i = 0; i < numberOfRecords; i++) {
+            testRecords.add(jsonStringToRecord(generateCustomRecordJson(testIdField, "foo" + i)));
+        }
+        final PluginSetting pluginSetting = generatePluginSetting(null, testIndexAlias, testTemplateFile);
+        pluginSetting.getSettings().put(IndexConfiguration.DOCUMENT_ID_FIELD, testIdField);
+        pluginSetting.getSettings().put(IndexConfiguration.MAX_IN_FLIGHT_BULK_REQUESTS, 2);
+        // A bulk size of 0 sends each document in its own bulk request
+        pluginSetting.getSettings().put(IndexConfiguration.BULK_SIZE, 0L);
+        final OpenSearchSink sink = createObjectUnderTest(pluginSetting, true);
+        sink.output(testRecords);
+        sink.shutdown();
+
+        // Shutdown waits for the bulk requests which are still in flight after output returns
+        final List<Measurement> bulkRequestLatencies = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(PLUGIN_NAME)
+                        .add(OpenSearchSink.BULKREQUEST_LATENCY).toString());
+        MatcherAssert.assertThat(bulkRequestLatencies.size(), equalTo(3));
+        // COUNT
+        Assert.assertEquals(numberOfRecords, bulkRequestLatencies.get(0).getValue(), 0);
+
+        final List<Map<String, Object>> retSources = getSearchResponseDocSources(testIndexAlias);
+        MatcherAssert.assertThat(retSources.size(), equalTo(numberOfRecords));
+        for (int i = 0; i < numberOfRecords; i++) {
+            MatcherAssert.assertThat(getDocumentCount(testIndexAlias, "_id", "foo" + i), equalTo(Integer.valueOf(1)));
+        }
+    }
+
     @Test
     @DisabledIf(value = "isES6", disabledReason = TRACE_INGESTION_TEST_DISABLED_REASON)
     public void testEventOutputWithTags() throws IOException, InterruptedException {
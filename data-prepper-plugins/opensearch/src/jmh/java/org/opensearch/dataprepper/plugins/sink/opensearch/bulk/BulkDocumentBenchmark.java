@@ -0,0 +1,136 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch.bulk;
+
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+import org.opensearch.client.opensearch.core.bulk.IndexOperation;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.plugins.sink.opensearch.BulkOperationWrapper;
+import org.opensearch.dataprepper.plugins.sink.opensearch.index.DocumentBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Measures how the OpenSearch sink turns a batch of log events into bulk documents and estimates the compressed
+ * size of a bulk request. The {@code documentsFromStrings} and {@code javaSerializationEstimate} benchmarks
+ * reproduce how the sink did this before documents were written directly to bytes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BulkDocumentBenchmark {
+    private static final int BATCH_SIZE = 500;
+
+    @Param({"none", "include_keys"})
+    private String filter;
+
+    @Param({"false", "true"})
+    private boolean tags;
+
+    private List<Event> events;
+    private List<String> includeKeys;
+    private String tagsTargetKey;
+    private ByteArrayOutputStream documentBuffer;
+    private List<BulkOperationWrapper> bulkOperations;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        includeKeys = "include_keys".equals(filter) ? List.of("http", "log", "time") : null;
+        tagsTargetKey = tags ? "tags" : null;
+        documentBuffer = new ByteArrayOutputStream();
+
+        events = new ArrayList<>();
+        bulkOperations = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            final Event event = JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Map.of(
+                            "time", "2023-03-01T12:00:0" + (i % 10) + ".000Z",
+                            "log", "127.0.0.1 - user" + i + " [01/Mar/2023:12:00:00 -0700] \"GET /index.html HTTP/1.1\" 200 " + (2000 + i),
+                            "http", Map.of("method", "GET", "status", 200, "path", "/index.html", "user_agent", "Mozilla/5.0 (X11; Linux x86_64)"),
+                            "host", Map.of("name", "web-" + (i % 8), "ip", "10.0.0." + (i % 255)),
+                            "trace_id", UUID.randomUUID().toString()))
+                    .build();
+            event.getMetadata().addTags(List.of("apache", "access"));
+            events.add(event);
+
+            final byte[] document = DocumentBuilder.buildBytes(event, null, tagsTargetKey, includeKeys, null, documentBuffer);
+            final IndexOperation<Object> indexOperation = new IndexOperation.Builder<>()
+                    .index("logs")
+                    .document(SerializedJson.fromBytesAndOptionals(document, null, null))
+                    .build();
+            bulkOperations.add(new BulkOperationWrapper(new BulkOperation.Builder().index(indexOperation).build()));
+        }
+    }
+
+    @Benchmark
+    public long documentsFromStrings() {
+        long size = 0;
+        for (final Event event : events) {
+            final String document = DocumentBuilder.build(event, null, tagsTargetKey, includeKeys, null);
+            size += SerializedJson.fromStringAndOptionals(document, null, null).getDocumentSize();
+        }
+        return size;
+    }
+
+    @Benchmark
+    public long documentsFromBytes() {
+        long size = 0;
+        for (final Event event : events) {
+            final byte[] document = DocumentBuilder.buildBytes(event, null, tagsTargetKey, includeKeys, null, documentBuffer);
+            size += SerializedJson.fromBytesAndOptionals(document, null, null).getDocumentSize();
+        }
+        return size;
+    }
+
+    @Benchmark
+    public long gzipDocumentsEstimate() {
+        final JavaClientAccumulatingCompressedBulkRequest bulkRequest =
+                new JavaClientAccumulatingCompressedBulkRequest(new BulkRequest.Builder(), Long.MAX_VALUE, 1, BATCH_SIZE);
+        for (final BulkOperationWrapper bulkOperation : bulkOperations) {
+            bulkRequest.addOperation(bulkOperation);
+        }
+        return bulkRequest.getEstimatedSizeInBytes();
+    }
+
+    @Benchmark
+    public long javaSerializationEstimate() throws IOException {
+        final List<Object> documents = new ArrayList<>();
+        for (final BulkOperationWrapper bulkOperation : bulkOperations) {
+            documents.add(bulkOperation.getDocument());
+        }
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        final ObjectOutputStream objectOut = new ObjectOutputStream(new GZIPOutputStream(byteArrayOutputStream));
+        objectOut.writeObject(documents);
+        objectOut.close();
+        return byteArrayOutputStream.size();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch.index;
+
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures resolving the index names of a batch of events which are spread over a few services. The
+ * {@code formatStringPerEvent} benchmark reproduces how the sink resolved index names before the
+ * {@link IndexNameResolver}. The index manager reproduces the work which the {@link DynamicIndexManager} does for an
+ * index alias that it has already set up, without a cluster.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class IndexNameBenchmark {
+    private static final int BATCH_SIZE = 500;
+    private static final int SERVICES = 4;
+
+    @Param({"logs-%{yyyy.MM.dd}", "logs-${service}-%{yyyy.MM.dd}", "logs-${service}-${environment}-%{yyyy.MM.dd}"})
+    private String indexAlias;
+
+    private IndexManager indexManager;
+    private IndexNameResolver indexNameResolver;
+    private List<Event> events;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        indexManager = new AlreadySetUpDynamicIndexManager();
+        indexNameResolver = new IndexNameResolver(indexAlias, indexManager, null);
+
+        events = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            events.add(JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Map.of(
+                            "service", "service-" + (i % SERVICES),
+                            "environment", "production",
+                            "message", "GET /index.html " + i))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void indexNameResolver(final Blackhole blackhole) throws IOException {
+        for (final Event event : events) {
+            blackhole.consume(indexNameResolver.getIndexName(event));
+        }
+    }
+
+    @Benchmark
+    public void formatStringPerEvent(final Blackhole blackhole) throws IOException {
+        for (final Event event : events) {
+            blackhole.consume(indexManager.getIndexName(event.formatString(indexAlias, null)));
+        }
+    }
+
+    private static class AlreadySetUpDynamicIndexManager implements IndexManager {
+        private final Map<String, String> indexPrefixes = new ConcurrentHashMap<>();
+
+        @Override
+        public void setupIndex() {
+        }
+
+        @Override
+        public String getIndexName(final String indexAlias) {
+            final String fullIndexAlias = AbstractIndexManager.getIndexAliasWithDate(indexAlias);
+            return indexPrefixes.computeIfAbsent(fullIndexAlias, alias -> alias);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Timer;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.AccumulatingBulkRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Sends bulk requests on a pool of background threads so that the sink workers can keep building the next bulk
+ * request while earlier ones, including their retries, are in flight. At most {@code maxInFlightBulkRequests}
+ * bulk requests are in flight at a time. A worker which flushes while the limit is reached blocks until one of the
+ * in-flight bulk requests completes, which applies backpressure to the buffer.
+ * <p>
+ * The sink does not wait for the bulk requests of a batch before the batch completes. The event handles of each
+ * bulk request are released when it completes on its background thread, so sources with end-to-end
+ * acknowledgements only acknowledge documents which are written. The buffer may be checkpointed ahead of the
+ * documents written to OpenSearch by at most {@code maxInFlightBulkRequests} bulk requests.
+ */
+public final class AsyncBulkFlusher {
+    public static final String BULK_REQUESTS_IN_FLIGHT = "bulkRequestsInFlight";
+    public static final String BULK_REQUEST_QUEUE_DELAY = "bulkRequestQueueDelay";
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncBulkFlusher.class);
+    static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+    static final String THREAD_NAME_FORMAT = "opensearch-sink-bulk-%d";
+
+    private final Consumer<AccumulatingBulkRequest> flushFunction;
+    private final ExecutorService executorService;
+    private final Semaphore inFlightPermits;
+    private final AtomicInteger bulkRequestsInFlight;
+    private final Timer bulkRequestQueueDelayTimer;
+
+    public AsyncBulkFlusher(final int maxInFlightBulkRequests,
+                            final Consumer<AccumulatingBulkRequest> flushFunction,
+                            final PluginMetrics pluginMetrics) {
+        this(maxInFlightBulkRequests, flushFunction, pluginMetrics, Executors.newFixedThreadPool(maxInFlightBulkRequests,
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat(THREAD_NAME_FORMAT).build()));
+    }
+
+    AsyncBulkFlusher(final int maxInFlightBulkRequests,
+                     final Consumer<AccumulatingBulkRequest> flushFunction,
+                     final PluginMetrics pluginMetrics,
+                     final ExecutorService executorService) {
+        checkArgument(maxInFlightBulkRequests > 0, "maxInFlightBulkRequests must be positive.");
+        this.flushFunction = flushFunction;
+        this.executorService = executorService;
+        this.inFlightPermits = new Semaphore(maxInFlightBulkRequests);
+        this.bulkRequestsInFlight = new AtomicInteger();
+        pluginMetrics.gauge(BULK_REQUESTS_IN_FLIGHT, bulkRequestsInFlight, AtomicInteger::get);
+        this.bulkRequestQueueDelayTimer = pluginMetrics.timer(BULK_REQUEST_QUEUE_DELAY);
+    }
+
+    /**
+     * Hands the bulk request to a background thread, blocking while the maximum number of bulk requests are in
+     * flight. If the calling thread is interrupted while waiting, or the flusher has been shut down, the bulk
+     * request is sent on the calling thread instead so that its events are still released.
+     *
+     * @param bulkRequest the bulk request to send
+     */
+    public void flush(final AccumulatingBulkRequest bulkRequest) {
+        final long queuedAtNanos = System.nanoTime();
+        try {
+            inFlightPermits.acquire();
+        } catch (final InterruptedException e) {
+            LOG.warn("Interrupted while waiting to send a bulk request. Sending it on the current thread.");
+            Thread.currentThread().interrupt();
+            flushFunction.accept(bulkRequest);
+            return;
+        }
+
+        bulkRequestsInFlight.incrementAndGet();
+        try {
+            executorService.execute(() -> {
+                bulkRequestQueueDelayTimer.record(System.nanoTime() - queuedAtNanos, TimeUnit.NANOSECONDS);
+                try {
+                    flushFunction.accept(bulkRequest);
+                } catch (final RuntimeException e) {
+                    LOG.error("Unexpected failure sending a bulk request.", e);
+                } finally {
+                    bulkRequestsInFlight.decrementAndGet();
+                    inFlightPermits.release();
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            bulkRequestsInFlight.decrementAndGet();
+            inFlightPermits.release();
+            LOG.warn("The bulk request flusher is shut down. Sending the bulk request on the current thread.");
+            flushFunction.accept(bulkRequest);
+        }
+    }
+
+    /**
+     * Stops accepting bulk requests and waits for the in-flight bulk requests, including their retries, to complete.
+     * The bulk requests are not interrupted, since that would abandon the retries of documents which have not been
+     * written. If the calling thread is interrupted while waiting, the interrupt status is restored and the bulk
+     * requests continue on their daemon threads.
+     */
+    public void shutdown() {
+        executorService.shutdown();
+        try {
+            while (!executorService.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                LOG.warn("Waiting for {} in-flight bulk requests to complete.", bulkRequestsInFlight.get());
+            }
+        } catch (final InterruptedException e) {
+            LOG.warn("Interrupted while waiting for {} in-flight bulk requests to complete.", bulkRequestsInFlight.get());
+            Thread.currentThread().interrupt();
+        }
+    }
+}
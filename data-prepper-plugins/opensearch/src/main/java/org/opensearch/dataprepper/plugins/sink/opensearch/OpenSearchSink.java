@@ -52,6 +52,7 @@ import org.opensearch.dataprepper.plugins.sink.opensearch.index.ClusterSettingsP
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.DocumentBuilder;
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.IndexManager;
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.IndexManagerFactory;
+import org.opensearch.dataprepper.plugins.sink.opensearch.index.IndexNameResolver;
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.IndexTemplateAPIWrapper;
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.IndexTemplateAPIWrapperFactory;
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.IndexType;
@@ -60,6 +61,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
@@ -86,6 +88,8 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
 
   private static final Logger LOG = LoggerFactory.getLogger(OpenSearchSink.class);
   private static final int INITIALIZE_RETRY_WAIT_TIME_MS = 5000;
+  private static final int INITIAL_DOCUMENT_BUFFER_SIZE = 4096;
+  private static final int MAX_RETAINED_DOCUMENT_BUFFER_SIZE = 1024 * 1024;
   private final AwsCredentialsSupplier awsCredentialsSupplier;
 
   private DlqWriter dlqWriter;
@@ -94,11 +98,14 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   private final IndexManagerFactory indexManagerFactory;
   private RestHighLevelClient restHighLevelClient;
   private IndexManager indexManager;
+  private IndexNameResolver indexNameResolver;
   private Supplier<AccumulatingBulkRequest> bulkRequestSupplier;
   private BulkRetryStrategy bulkRetryStrategy;
   private BulkApiWrapper bulkApiWrapper;
+  private AsyncBulkFlusher asyncBulkFlusher;
   private final long bulkSize;
   private final long flushTimeout;
+  private final int maxInFlightBulkRequests;
   private final IndexType indexType;
   private final String documentIdField;
   private final String documentId;
@@ -124,6 +131,7 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   private DlqProvider dlqProvider;
   private final ConcurrentHashMap<Long, AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest>> bulkRequestMap;
   private final ConcurrentHashMap<Long, Long> lastFlushTimeMap;
+  private final ConcurrentHashMap<Long, ByteArrayOutputStream> documentBufferMap;
 
   @DataPrepperPluginConstructor
   public OpenSearchSink(final PluginSetting pluginSetting,
@@ -143,6 +151,7 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
     this.openSearchSinkConfig = OpenSearchSinkConfiguration.readESConfig(pluginSetting);
     this.bulkSize = ByteSizeUnit.MB.toBytes(openSearchSinkConfig.getIndexConfiguration().getBulkSize());
     this.flushTimeout = openSearchSinkConfig.getIndexConfiguration().getFlushTimeout();
+    this.maxInFlightBulkRequests = openSearchSinkConfig.getIndexConfiguration().getMaxInFlightBulkRequests();
     this.indexType = openSearchSinkConfig.getIndexConfiguration().getIndexType();
     this.documentIdField = openSearchSinkConfig.getIndexConfiguration().getDocumentIdField();
     this.documentId = openSearchSinkConfig.getIndexConfiguration().getDocumentId();
@@ -157,6 +166,7 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
     this.pluginSetting = pluginSetting;
     this.bulkRequestMap = new ConcurrentHashMap<>();
     this.lastFlushTimeMap = new ConcurrentHashMap<>();
+    this.documentBufferMap = new ConcurrentHashMap<>();
 
     final Optional<PluginModel> dlqConfig = openSearchSinkConfig.getRetryConfiguration().getDlq();
     if (dlqConfig.isPresent()) {
@@ -198,6 +208,7 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
             .createTemplateStrategy(indexTemplateAPIWrapper);
     indexManager = indexManagerFactory.getIndexManager(indexType, openSearchClient, restHighLevelClient,
             openSearchSinkConfig, templateStrategy, configuredIndexAlias);
+    indexNameResolver = new IndexNameResolver(configuredIndexAlias, indexManager, expressionEvaluator);
     final String dlqFile = openSearchSinkConfig.getRetryConfiguration().getDlqFile();
     if (dlqFile != null) {
       dlqFileWriter = Files.newBufferedWriter(Paths.get(dlqFile), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
@@ -235,6 +246,9 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
             maxRetries,
             bulkRequestSupplier,
             pluginSetting);
+    if (maxInFlightBulkRequests > 0) {
+      asyncBulkFlusher = new AsyncBulkFlusher(maxInFlightBulkRequests, this::sendBulkRequest, pluginMetrics);
+    }
 
     objectMapper = new ObjectMapper();
     this.initialized = true;
@@ -258,15 +272,22 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
 
     AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest> bulkRequest = bulkRequestMap.get(threadId);
     long lastFlushTime = lastFlushTimeMap.get(threadId);
+    ByteArrayOutputStream documentBuffer = documentBufferMap.computeIfAbsent(threadId,
+            id -> new ByteArrayOutputStream(INITIAL_DOCUMENT_BUFFER_SIZE));
 
     for (final Record<Event> record : records) {
       final Event event = record.getData();
-      final SerializedJson document = getDocument(event);
+      final SerializedJson document = getDocument(event, documentBuffer);
+      // Do not hold on to the memory of an unusually large document
+      if (documentBuffer.size() > MAX_RETAINED_DOCUMENT_BUFFER_SIZE) {
+        documentBuffer = new ByteArrayOutputStream(INITIAL_DOCUMENT_BUFFER_SIZE);
+        documentBufferMap.put(threadId, documentBuffer);
+      }
       final Optional<String> docId = document.getDocumentId();
       final Optional<String> routing = document.getRoutingField();
       String indexName = configuredIndexAlias;
       try {
-          indexName = indexManager.getIndexName(event.formatString(indexName, expressionEvaluator));
+          indexName = indexNameResolver.getIndexName(event);
       } catch (IOException | EventKeyNotFoundException e) {
           LOG.error("There was an exception when constructing the index name. Check the dlq if configured to see details about the affected Event: {}", e.getMessage());
           dynamicIndexDroppedEvents.increment();
@@ -333,7 +354,7 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
     lastFlushTimeMap.put(threadId, lastFlushTime);
   }
 
-  private SerializedJson getDocument(final Event event) {
+  private SerializedJson getDocument(final Event event, final ByteArrayOutputStream documentBuffer) {
 
     String docId = null;
 
@@ -349,12 +370,21 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
 
     String routing = (routingField != null) ? event.get(routingField, String.class) : null;
 
-    final String document = DocumentBuilder.build(event, documentRootKey, sinkContext.getTagsTargetKey(), sinkContext.getIncludeKeys(), sinkContext.getExcludeKeys());
+    final byte[] document = DocumentBuilder.buildBytes(event, documentRootKey, sinkContext.getTagsTargetKey(),
+            sinkContext.getIncludeKeys(), sinkContext.getExcludeKeys(), documentBuffer);
 
-    return SerializedJson.fromStringAndOptionals(document, docId, routing);
+    return SerializedJson.fromBytesAndOptionals(document, docId, routing);
   }
 
   private void flushBatch(AccumulatingBulkRequest accumulatingBulkRequest) {
+    if (asyncBulkFlusher != null) {
+      asyncBulkFlusher.flush(accumulatingBulkRequest);
+    } else {
+      sendBulkRequest(accumulatingBulkRequest);
+    }
+  }
+
+  private void sendBulkRequest(AccumulatingBulkRequest accumulatingBulkRequest) {
     bulkRequestTimer.record(() -> {
       try {
         LOG.debug("Sending data to OpenSearch");
@@ -439,6 +469,9 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   @Override
   public void shutdown() {
     super.shutdown();
+    if (asyncBulkFlusher != null) {
+      asyncBulkFlusher.shutdown();
+    }
     closeFiles();
   }
 }
@@ -6,22 +6,25 @@
 package org.opensearch.dataprepper.plugins.sink.opensearch.bulk;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingOutputStream;
 import org.opensearch.dataprepper.plugins.sink.opensearch.BulkOperationWrapper;
 import org.opensearch.client.opensearch.core.BulkRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
-import java.io.ObjectOutputStream;
-import java.io.Serializable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 import java.util.zip.GZIPOutputStream;
 
 public class JavaClientAccumulatingCompressedBulkRequest implements AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest> {
     private static final Logger LOG = LoggerFactory.getLogger(JavaClientAccumulatingCompressedBulkRequest.class);
+    private static final int GZIP_BUFFER_SIZE = 8192;
+    private static final int NEWLINE = '\n';
+    private static final byte[] EMPTY_DOCUMENT = new byte[0];
 
     private final List<BulkOperationWrapper> bulkOperations;
     private long sampleSize;
@@ -107,36 +110,35 @@ public class JavaClientAccumulatingCompressedBulkRequest implements Accumulating
         return builtRequest;
     }
 
+    /**
+     * Measures the gzipped size of the documents, which is what the request compression compresses. The compressed
+     * bytes are only counted.
+     */
     private long estimateBulkSize() {
-        final List<Object> documents = bulkOperations.stream()
-                .map(this::mapBulkOperationToDocument)
-                .collect(Collectors.toList());
-
-        try {
-            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            final GZIPOutputStream gzipOut = new GZIPOutputStream(baos);
-            final ObjectOutputStream objectOut = new ObjectOutputStream(gzipOut);
-            objectOut.writeObject(documents);
-            objectOut.close();
-
-            return baos.toByteArray().length;
-        } catch (final Exception e) {
-            throw new RuntimeException("Caught exception measuring compressed bulk request size.", e);
+        final CountingOutputStream countingOutputStream = new CountingOutputStream(ByteStreams.nullOutputStream());
+        try (final GZIPOutputStream gzipOut = new GZIPOutputStream(countingOutputStream, GZIP_BUFFER_SIZE)) {
+            for (final BulkOperationWrapper bulkOperation : bulkOperations) {
+                gzipOut.write(getSerializedDocument(bulkOperation));
+                gzipOut.write(NEWLINE);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Caught exception measuring compressed bulk request size.", e);
         }
+        return countingOutputStream.getCount();
     }
 
-    private Object mapBulkOperationToDocument(final BulkOperationWrapper bulkOperation) {
+    private byte[] getSerializedDocument(final BulkOperationWrapper bulkOperation) {
         final Object anyDocument = bulkOperation.getDocument();
 
         if (anyDocument == null) {
-            return new SerializedJsonImpl(null);
+            return EMPTY_DOCUMENT;
         }
 
-        if (!(anyDocument instanceof Serializable)) {
-            throw new IllegalArgumentException("Only classes implementing Serializable are permitted for accumulating bulk requests. " + bulkOperation);
+        if (!(anyDocument instanceof SerializedJson)) {
+            throw new IllegalArgumentException("Only SerializedJson is permitted for accumulating compressed bulk requests. " + bulkOperation);
         }
 
-        return anyDocument;
+        return ((SerializedJson) anyDocument).getSerializedJson();
     }
 
     private void updateTargetSampleSize() {
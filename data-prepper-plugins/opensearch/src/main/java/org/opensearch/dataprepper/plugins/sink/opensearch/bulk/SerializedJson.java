@@ -30,5 +30,19 @@ public interface SerializedJson extends SizedDocument {
         return new SerializedJsonImpl(jsonString.getBytes(StandardCharsets.UTF_8), docId, routingField);
     }
 
+    /**
+     * Creates a new {@link SerializedJson} from UTF-8 encoded JSON and optional documentId and routingField. The
+     * bytes are not copied.
+     *
+     * @param jsonBytes The serialized JSON bytes which form this JSON data.
+     * @param docId Optional documment ID string
+     * @param routingField Optional routing field string
+     * @return A new {@link SerializedJson}.
+     */
+    static SerializedJson fromBytesAndOptionals(byte[] jsonBytes, String docId, String routingField) {
+        Objects.requireNonNull(jsonBytes);
+        return new SerializedJsonImpl(jsonBytes, docId, routingField);
+    }
+
 }
 
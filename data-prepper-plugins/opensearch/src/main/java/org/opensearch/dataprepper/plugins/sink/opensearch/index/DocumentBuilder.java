@@ -2,9 +2,14 @@ package org.opensearch.dataprepper.plugins.sink.opensearch.index;
 
 import org.opensearch.dataprepper.model.event.Event;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 public final class DocumentBuilder {
+    private static final byte[] DATA_PREFIX = "{\"data\": ".getBytes(StandardCharsets.UTF_8);
 
     public static String build(final Event event, final String documentRootKey, final String tagsTargetKey, final List<String> includeKeys, final List<String> excludeKeys) {
         final String document = event.jsonBuilder()
@@ -23,4 +28,41 @@ public final class DocumentBuilder {
     public static String build(final Event event, final String documentRootKey, final String tagsTargetKey) {
         return build(event, documentRootKey, tagsTargetKey, null, null);
     }
+
+    /**
+     * Builds the same document as {@link #build(Event, String, String, List, List)}, encoded as UTF-8. The event is
+     * written directly into the buffer without building a string, so the buffer should be reused across events.
+     *
+     * @param event the event
+     * @param documentRootKey the key of the document root, may be null
+     * @param tagsTargetKey the key to add the tags to, may be null
+     * @param includeKeys the keys to include, may be null
+     * @param excludeKeys the keys to exclude, may be null
+     * @param buffer the buffer to write the document into, which is reset first
+     * @return the document
+     */
+    public static byte[] buildBytes(final Event event, final String documentRootKey, final String tagsTargetKey,
+                                    final List<String> includeKeys, final List<String> excludeKeys, final ByteArrayOutputStream buffer) {
+        buffer.reset();
+        try {
+            event.jsonBuilder()
+                    .rootKey(documentRootKey)
+                    .includeKeys(includeKeys)
+                    .excludeKeys(excludeKeys)
+                    .includeTags(tagsTargetKey)
+                    .writeTo(buffer);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final byte[] document = buffer.toByteArray();
+        if (document.length == 0 || document[0] != '{') {
+            final byte[] wrappedDocument = new byte[DATA_PREFIX.length + document.length + 1];
+            System.arraycopy(DATA_PREFIX, 0, wrappedDocument, 0, DATA_PREFIX.length);
+            System.arraycopy(document, 0, wrappedDocument, DATA_PREFIX.length, document.length);
+            wrappedDocument[wrappedDocument.length - 1] = '}';
+            return wrappedDocument;
+        }
+        return document;
+    }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch.index;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves the index name of each event from the configured index alias. The "${...}" placeholders of the alias are
+ * parsed once, in the same way as {@link Event#formatString(String, ExpressionEvaluator)}. Index names are cached by
+ * the values of the placeholders, so an event which resolves to a cached index name reads only those values and does
+ * not format the alias or call the {@link IndexManager}.
+ * <p>
+ * The index managers format date-time suffixes in UTC at no finer than hourly granularity. A cached index name is
+ * used only within the UTC hour in which it was resolved.
+ */
+public class IndexNameResolver {
+    static final int MAXIMUM_CACHED_INDEX_NAMES = 1024;
+    static final long TIME_BUCKET_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final String PLACEHOLDER_START = "${";
+    private static final String PLACEHOLDER_END = "}";
+    private static final String[] NO_VALUES = new String[0];
+    private static final Object NO_VALUES_KEY = Collections.emptyList();
+
+    private final IndexManager indexManager;
+    private final ExpressionEvaluator expressionEvaluator;
+    private final Clock clock;
+    private final String[] literals;
+    private final Placeholder[] placeholders;
+    private final Cache<Object, CachedIndexName> indexNameCache;
+
+    public IndexNameResolver(final String indexAlias,
+                             final IndexManager indexManager,
+                             final ExpressionEvaluator expressionEvaluator) {
+        this(indexAlias, indexManager, expressionEvaluator, Clock.systemUTC());
+    }
+
+    IndexNameResolver(final String indexAlias,
+                      final IndexManager indexManager,
+                      final ExpressionEvaluator expressionEvaluator,
+                      final Clock clock) {
+        this.indexManager = Objects.requireNonNull(indexManager);
+        this.expressionEvaluator = expressionEvaluator;
+        this.clock = clock;
+
+        final List<String> literals = new ArrayList<>();
+        final List<Placeholder> placeholders = new ArrayList<>();
+        int fromIndex = 0;
+        int position;
+        while ((position = indexAlias.indexOf(PLACEHOLDER_START, fromIndex)) != -1) {
+            final int endPosition = indexAlias.indexOf(PLACEHOLDER_END, position + 1);
+            if (endPosition == -1) {
+                throw new IllegalArgumentException("Index alias " + indexAlias + " is not properly formed");
+            }
+            literals.add(indexAlias.substring(fromIndex, position));
+            placeholders.add(createPlaceholder(indexAlias.substring(position + 2, endPosition)));
+            fromIndex = endPosition + 1;
+        }
+        literals.add(indexAlias.substring(fromIndex));
+        this.literals = literals.toArray(new String[0]);
+        this.placeholders = placeholders.toArray(new Placeholder[0]);
+
+        this.indexNameCache = CacheBuilder.newBuilder()
+                .maximumSize(MAXIMUM_CACHED_INDEX_NAMES)
+                .build();
+    }
+
+    private Placeholder createPlaceholder(final String name) {
+        if (expressionEvaluator != null && expressionEvaluator.isValidExpressionStatement(name)) {
+            return new Placeholder(name, null);
+        }
+        return new Placeholder(name, EventKey.of(name));
+    }
+
+    /**
+     * @param event the event to index
+     * @return the name of the index for the event
+     * @throws IOException if the index manager fails to set up a new index
+     * @throws EventKeyNotFoundException if the event does not have a key referenced by the index alias
+     */
+    public String getIndexName(final Event event) throws IOException {
+        final String[] values = getValues(event);
+        final Object cacheKey = getCacheKey(values);
+        final long timeBucket = clock.millis() / TIME_BUCKET_MILLIS;
+
+        final CachedIndexName cachedIndexName = indexNameCache.getIfPresent(cacheKey);
+        if (cachedIndexName != null && cachedIndexName.timeBucket == timeBucket) {
+            return cachedIndexName.indexName;
+        }
+
+        final String indexName = indexManager.getIndexName(format(values));
+        indexNameCache.put(cacheKey, new CachedIndexName(timeBucket, indexName));
+        return indexName;
+    }
+
+    private String[] getValues(final Event event) {
+        if (placeholders.length == 0) {
+            return NO_VALUES;
+        }
+        final String[] values = new String[placeholders.length];
+        for (int i = 0; i < placeholders.length; i++) {
+            values[i] = placeholders[i].getValue(event);
+        }
+        return values;
+    }
+
+    private static Object getCacheKey(final String[] values) {
+        if (values.length == 0) {
+            return NO_VALUES_KEY;
+        }
+        return values.length == 1 ? values[0] : Arrays.asList(values);
+    }
+
+    private String format(final String[] values) {
+        final StringBuilder formatted = new StringBuilder(literals[0]);
+        for (int i = 0; i < values.length; i++) {
+            formatted.append(values[i]).append(literals[i + 1]);
+        }
+        return formatted.toString();
+    }
+
+    private class Placeholder {
+        private final String name;
+        private final EventKey eventKey;
+
+        private Placeholder(final String name, final EventKey eventKey) {
+            this.name = name;
+            this.eventKey = eventKey;
+        }
+
+        private String getValue(final Event event) {
+            if (eventKey == null) {
+                final Object value = expressionEvaluator.evaluate(name, event);
+                return value == null ? "" : value.toString();
+            }
+            final Object value = event.get(eventKey, Object.class);
+            if (value == null) {
+                throw new EventKeyNotFoundException(String.format("The key %s could not be found in the Event when formatting", name));
+            }
+            return value.toString();
+        }
+    }
+
+    private static class CachedIndexName {
+        private final long timeBucket;
+        private final String indexName;
+
+        private CachedIndexName(final long timeBucket, final String indexName) {
+            this.timeBucket = timeBucket;
+            this.indexName = indexName;
+        }
+    }
+}
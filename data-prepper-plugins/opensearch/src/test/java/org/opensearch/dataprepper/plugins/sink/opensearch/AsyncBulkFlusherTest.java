@@ -0,0 +1,263 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch;
+
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.AccumulatingBulkRequest;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.ToDoubleFunction;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncBulkFlusherTest {
+    private static final long WAIT_SECONDS = 10;
+
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    @Mock
+    private Timer bulkRequestQueueDelayTimer;
+
+    private ExecutorService executorService;
+    private AsyncBulkFlusher objectUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(pluginMetrics.timer(AsyncBulkFlusher.BULK_REQUEST_QUEUE_DELAY)).thenReturn(bulkRequestQueueDelayTimer);
+        executorService = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    private AsyncBulkFlusher createObjectUnderTest(final int maxInFlightBulkRequests, final Consumer<AccumulatingBulkRequest> flushFunction) {
+        return new AsyncBulkFlusher(maxInFlightBulkRequests, flushFunction, pluginMetrics, executorService);
+    }
+
+    @Test
+    void constructor_throws_if_max_in_flight_bulk_requests_is_not_positive() {
+        assertThrows(IllegalArgumentException.class, () -> createObjectUnderTest(0, bulkRequest -> { }));
+    }
+
+    @Test
+    void public_constructor_creates_a_flusher_which_sends_bulk_requests() throws InterruptedException {
+        final AccumulatingBulkRequest bulkRequest = mock(AccumulatingBulkRequest.class);
+        final CountDownLatch flushed = new CountDownLatch(1);
+        objectUnderTest = new AsyncBulkFlusher(1, request -> flushed.countDown(), pluginMetrics);
+
+        objectUnderTest.flush(bulkRequest);
+
+        assertThat(flushed.await(WAIT_SECONDS, TimeUnit.SECONDS), equalTo(true));
+        objectUnderTest.shutdown();
+    }
+
+    @Test
+    void flush_sends_the_bulk_request_on_another_thread_and_records_the_queue_delay() throws InterruptedException {
+        final AccumulatingBulkRequest bulkRequest = mock(AccumulatingBulkRequest.class);
+        final List<AccumulatingBulkRequest> flushedRequests = new CopyOnWriteArrayList<>();
+        final List<Thread> flushThreads = new CopyOnWriteArrayList<>();
+        final CountDownLatch flushed = new CountDownLatch(1);
+        objectUnderTest = createObjectUnderTest(2, request -> {
+            flushedRequests.add(request);
+            flushThreads.add(Thread.currentThread());
+            flushed.countDown();
+        });
+
+        objectUnderTest.flush(bulkRequest);
+
+        assertThat(flushed.await(WAIT_SECONDS, TimeUnit.SECONDS), equalTo(true));
+        assertThat(flushedRequests, equalTo(List.of(bulkRequest)));
+        assertThat(flushThreads.get(0), not(sameInstance(Thread.currentThread())));
+        verify(bulkRequestQueueDelayTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    void flush_blocks_while_the_maximum_bulk_requests_are_in_flight_and_reports_them() throws InterruptedException {
+        final ArgumentCaptor<AtomicInteger> gaugeObjectCaptor = ArgumentCaptor.forClass(AtomicInteger.class);
+        final ArgumentCaptor<ToDoubleFunction<AtomicInteger>> gaugeFunctionCaptor = ArgumentCaptor.forClass(ToDoubleFunction.class);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch started = new CountDownLatch(2);
+        final AtomicInteger flushCount = new AtomicInteger();
+        objectUnderTest = createObjectUnderTest(2, request -> {
+            flushCount.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        verify(pluginMetrics).gauge(eq(AsyncBulkFlusher.BULK_REQUESTS_IN_FLIGHT), gaugeObjectCaptor.capture(), gaugeFunctionCaptor.capture());
+
+        objectUnderTest.flush(mock(AccumulatingBulkRequest.class));
+        objectUnderTest.flush(mock(AccumulatingBulkRequest.class));
+        assertThat(started.await(WAIT_SECONDS, TimeUnit.SECONDS), equalTo(true));
+        assertThat(gaugeFunctionCaptor.getValue().applyAsDouble(gaugeObjectCaptor.getValue()), equalTo(2.0));
+
+        final AtomicBoolean thirdFlushReturned = new AtomicBoolean();
+        final Thread worker = new Thread(() -> {
+            objectUnderTest.flush(mock(AccumulatingBulkRequest.class));
+            thirdFlushReturned.set(true);
+        });
+        worker.start();
+        worker.join(200);
+        assertThat(thirdFlushReturned.get(), equalTo(false));
+        assertThat(flushCount.get(), equalTo(2));
+
+        release.countDown();
+        worker.join(TimeUnit.SECONDS.toMillis(WAIT_SECONDS));
+        assertThat(thirdFlushReturned.get(), equalTo(true));
+
+        objectUnderTest.shutdown();
+        assertThat(flushCount.get(), equalTo(3));
+        assertThat(gaugeFunctionCaptor.getValue().applyAsDouble(gaugeObjectCaptor.getValue()), equalTo(0.0));
+    }
+
+    @Test
+    void flush_releases_the_permit_when_the_flush_function_throws() throws InterruptedException {
+        final CountDownLatch flushed = new CountDownLatch(2);
+        objectUnderTest = createObjectUnderTest(1, request -> {
+            flushed.countDown();
+            throw new RuntimeException("bulk request failed");
+        });
+
+        objectUnderTest.flush(mock(AccumulatingBulkRequest.class));
+        objectUnderTest.flush(mock(AccumulatingBulkRequest.class));
+
+        assertThat(flushed.await(WAIT_SECONDS, TimeUnit.SECONDS), equalTo(true));
+    }
+
+    @Test
+    void flush_sends_on_the_calling_thread_after_shutdown() {
+        final List<Thread> flushThreads = new CopyOnWriteArrayList<>();
+        objectUnderTest = createObjectUnderTest(1, request -> flushThreads.add(Thread.currentThread()));
+        objectUnderTest.shutdown();
+
+        objectUnderTest.flush(mock(AccumulatingBulkRequest.class));
+        objectUnderTest.flush(mock(AccumulatingBulkRequest.class));
+
+        assertThat(flushThreads, equalTo(List.of(Thread.currentThread(), Thread.currentThread())));
+    }
+
+    @Test
+    void flush_sends_on_the_calling_thread_when_interrupted_while_waiting() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Thread> flushThreads = new CopyOnWriteArrayList<>();
+        objectUnderTest = createObjectUnderTest(1, request -> {
+            flushThreads.add(Thread.currentThread());
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        objectUnderTest.flush(mock(AccumulatingBulkRequest.class));
+
+        final AtomicBoolean interruptRestored = new AtomicBoolean();
+        final Thread worker = new Thread(() -> {
+            Thread.currentThread().interrupt();
+            objectUnderTest.flush(mock(AccumulatingBulkRequest.class));
+            interruptRestored.set(Thread.currentThread().isInterrupted());
+        });
+        release.countDown();
+        worker.start();
+        worker.join(TimeUnit.SECONDS.toMillis(WAIT_SECONDS));
+
+        assertThat(flushThreads.contains(worker), equalTo(true));
+        assertThat(interruptRestored.get(), equalTo(true));
+    }
+
+    @Test
+    void public_constructor_sends_bulk_requests_on_named_daemon_threads() throws InterruptedException {
+        final List<Thread> flushThreads = new CopyOnWriteArrayList<>();
+        final CountDownLatch flushed = new CountDownLatch(1);
+        objectUnderTest = new AsyncBulkFlusher(1, request -> {
+            flushThreads.add(Thread.currentThread());
+            flushed.countDown();
+        }, pluginMetrics);
+
+        objectUnderTest.flush(mock(AccumulatingBulkRequest.class));
+
+        assertThat(flushed.await(WAIT_SECONDS, TimeUnit.SECONDS), equalTo(true));
+        assertThat(flushThreads.get(0).getName(), startsWith("opensearch-sink-bulk-"));
+        assertThat(flushThreads.get(0).isDaemon(), equalTo(true));
+        objectUnderTest.shutdown();
+    }
+
+    @Test
+    void shutdown_waits_for_bulk_requests_without_interrupting_them_when_interrupted() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicBoolean bulkRequestInterrupted = new AtomicBoolean();
+        final CountDownLatch completed = new CountDownLatch(1);
+        objectUnderTest = createObjectUnderTest(1, request -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                bulkRequestInterrupted.set(true);
+            }
+            completed.countDown();
+        });
+        objectUnderTest.flush(mock(AccumulatingBulkRequest.class));
+        assertThat(started.await(WAIT_SECONDS, TimeUnit.SECONDS), equalTo(true));
+
+        Thread.currentThread().interrupt();
+        objectUnderTest.shutdown();
+
+        assertThat(Thread.interrupted(), equalTo(true));
+        release.countDown();
+        assertThat(completed.await(WAIT_SECONDS, TimeUnit.SECONDS), equalTo(true));
+        assertThat(bulkRequestInterrupted.get(), equalTo(false));
+    }
+
+    @Test
+    void shutdown_keeps_waiting_for_bulk_requests_which_do_not_complete_within_the_timeout() throws InterruptedException {
+        final ExecutorService mockExecutorService = mock(ExecutorService.class);
+        when(mockExecutorService.awaitTermination(any(Long.class), any(TimeUnit.class))).thenReturn(false, false, true);
+        objectUnderTest = new AsyncBulkFlusher(1, request -> { }, pluginMetrics, mockExecutorService);
+
+        objectUnderTest.shutdown();
+
+        verify(mockExecutorService).shutdown();
+        verify(mockExecutorService, times(3)).awaitTermination(AsyncBulkFlusher.SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        verify(mockExecutorService, never()).shutdownNow();
+    }
+}
@@ -16,7 +16,6 @@ import org.opensearch.client.opensearch.core.bulk.IndexOperation;
 import org.opensearch.dataprepper.plugins.sink.opensearch.BulkOperationWrapper;
 
 import java.io.ByteArrayOutputStream;
-import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -173,7 +172,7 @@ class JavaClientAccumulatingCompressedBulkRequestTest {
     }
 
     @Test
-    void addOperation_throws_when_document_is_not_Serializable() {
+    void addOperation_throws_when_document_is_not_SerializedJson() {
         final BulkOperationWrapper bulkOperation = new BulkOperationWrapper(createBulkOperation(new Object()));
 
         final JavaClientAccumulatingCompressedBulkRequest objectUnderTest = createObjectUnderTest();
@@ -233,14 +232,11 @@ class JavaClientAccumulatingCompressedBulkRequestTest {
     }
 
     private long getDocumentExpectedLength(final SizedDocument sizedDocument) throws Exception {
-        final List<Object> docList = new ArrayList<>();
-        docList.add(sizedDocument);
-
         final ByteArrayOutputStream baos = new ByteArrayOutputStream();
         final GZIPOutputStream gzipOut = new GZIPOutputStream(baos);
-        final ObjectOutputStream objectOut = new ObjectOutputStream(gzipOut);
-        objectOut.writeObject(docList);
-        objectOut.close();
+        gzipOut.write(((SerializedJson) sizedDocument).getSerializedJson());
+        gzipOut.write('\n');
+        gzipOut.close();
 
         return baos.toByteArray().length;
     }
@@ -11,6 +11,7 @@ import org.apache.commons.lang3.RandomStringUtils;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class SerializedJsonTest {
@@ -35,4 +36,22 @@ class SerializedJsonTest {
         assertThat(serializedJson.getSerializedJson(), equalTo("{}".getBytes()));
     }
 
+    @Test
+    void fromBytes_returns_SerializedJsonImpl_with_the_same_bytes() {
+        final String documentId = RandomStringUtils.randomAlphabetic(10);
+        final String routingField = RandomStringUtils.randomAlphabetic(10);
+        final byte[] jsonBytes = "{}".getBytes();
+        final SerializedJson serializedJson = SerializedJson.fromBytesAndOptionals(jsonBytes, documentId, routingField);
+        assertThat(serializedJson, instanceOf(SerializedJsonImpl.class));
+        assertThat(serializedJson.getDocumentId().get(), equalTo(documentId));
+        assertThat(serializedJson.getRoutingField().get(), equalTo(routingField));
+        assertThat(serializedJson.getSerializedJson(), sameInstance(jsonBytes));
+        assertThat(serializedJson.getDocumentSize(), equalTo(2L));
+    }
+
+    @Test
+    void fromBytes_throws_if_the_jsonBytes_is_null() {
+        assertThrows(NullPointerException.class, () -> SerializedJson.fromBytesAndOptionals(null, null, null));
+    }
+
 }
@@ -3,6 +3,7 @@ package org.opensearch.dataprepper.plugins.sink.opensearch.index;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -11,6 +12,10 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -19,6 +24,12 @@ import java.util.stream.Stream;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class DocumentBuilderTest {
 
@@ -74,6 +85,63 @@ public class DocumentBuilderTest {
         assertThat(doc, is(equalTo(String.format("{\"data\": %s}", expectedResult))));
     }
 
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"missingObject", "/"})
+    public void buildBytesWillReturnFullObject(final String documentRootKey) {
+
+        final byte[] doc = DocumentBuilder.buildBytes(event, documentRootKey, null, null, null, new ByteArrayOutputStream());
+
+        assertThat(new String(doc, StandardCharsets.UTF_8), is(equalTo(expectedOutput)));
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"missingObject", "/"})
+    public void buildBytesWillReturnObjectWithTags(final String documentRootKey) {
+
+        final byte[] doc = DocumentBuilder.buildBytes(event, documentRootKey, tagsKey, null, null, new ByteArrayOutputStream());
+
+        assertThat(new String(doc, StandardCharsets.UTF_8), is(equalTo(expectedOutputWithTags)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideSingleItemKeys")
+    public void buildBytesWillReturnSingleObject(final String documentRootKey, final Object expectedResult) {
+
+        final byte[] doc = DocumentBuilder.buildBytes(event, documentRootKey, null, null, null, new ByteArrayOutputStream());
+
+        assertThat(new String(doc, StandardCharsets.UTF_8), is(equalTo(String.format("{\"data\": %s}", expectedResult))));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideFilterKeys")
+    public void buildBytesWillReturnTheSameDocumentAsBuild(final List<String> includeKeys, final List<String> excludeKeys) {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        buffer.writeBytes("previous document".getBytes(StandardCharsets.UTF_8));
+
+        final byte[] doc = DocumentBuilder.buildBytes(event, null, tagsKey, includeKeys, excludeKeys, buffer);
+
+        assertThat(new String(doc, StandardCharsets.UTF_8), is(equalTo(DocumentBuilder.build(event, null, tagsKey, includeKeys, excludeKeys))));
+    }
+
+    @Test
+    public void buildBytesThrowsUncheckedIOExceptionIfTheEventCannotBeWritten() throws IOException {
+        final Event.JsonStringBuilder jsonStringBuilder = mock(Event.JsonStringBuilder.class, RETURNS_SELF);
+        doThrow(IOException.class).when(jsonStringBuilder).writeTo(any());
+        final Event mockEvent = mock(Event.class);
+        when(mockEvent.jsonBuilder()).thenReturn(jsonStringBuilder);
+
+        assertThrows(UncheckedIOException.class, () -> DocumentBuilder.buildBytes(mockEvent, null, null, null, null, new ByteArrayOutputStream()));
+    }
+
+    private static Stream<Arguments> provideFilterKeys() {
+        return Stream.of(
+            Arguments.of(List.of("/foo", "/nested/random"), null),
+            Arguments.of(null, List.of("/boolean", "/nested/triangle"))
+        );
+    }
+
     private static Stream<Arguments> provideSingleItemKeys() {
         return Stream.of(
             Arguments.of("foo", 42),
@@ -426,6 +426,34 @@ public class IndexConfigurationTests {
         assertThrows(IllegalArgumentException.class, () -> IndexConfiguration.readIndexConfig(pluginSetting));
     }
 
+    @Test
+    public void testReadIndexConfig_maxInFlightBulkRequestsDefault() {
+        final Map<String, Object> metadata = initializeConfigMetaData(
+                IndexType.CUSTOM.getValue(), "foo", null, null, null, null);
+        final PluginSetting pluginSetting = getPluginSetting(metadata);
+        final IndexConfiguration indexConfiguration = IndexConfiguration.readIndexConfig(pluginSetting);
+        assertEquals(0, indexConfiguration.getMaxInFlightBulkRequests());
+    }
+
+    @Test
+    public void testReadIndexConfig_maxInFlightBulkRequests() {
+        final Map<String, Object> metadata = initializeConfigMetaData(
+                IndexType.CUSTOM.getValue(), "foo", null, null, null, null);
+        metadata.put(IndexConfiguration.MAX_IN_FLIGHT_BULK_REQUESTS, 4);
+        final PluginSetting pluginSetting = getPluginSetting(metadata);
+        final IndexConfiguration indexConfiguration = IndexConfiguration.readIndexConfig(pluginSetting);
+        assertEquals(4, indexConfiguration.getMaxInFlightBulkRequests());
+    }
+
+    @Test
+    public void testReadIndexConfig_negativeMaxInFlightBulkRequests() {
+        final Map<String, Object> metadata = initializeConfigMetaData(
+                IndexType.CUSTOM.getValue(), "foo", null, null, null, null);
+        metadata.put(IndexConfiguration.MAX_IN_FLIGHT_BULK_REQUESTS, -1);
+        final PluginSetting pluginSetting = getPluginSetting(metadata);
+        assertThrows(IllegalArgumentException.class, () -> IndexConfiguration.readIndexConfig(pluginSetting));
+    }
+
     @Test
     void getTemplateType_defaults_to_V1() {
         final Map<String, Object> metadata = initializeConfigMetaData(
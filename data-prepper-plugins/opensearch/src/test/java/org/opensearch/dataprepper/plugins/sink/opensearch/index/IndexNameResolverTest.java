@@ -0,0 +1,166 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IndexNameResolverTest {
+    private static final long START_MILLIS = 1_700_000_000_000L;
+
+    @Mock
+    private IndexManager indexManager;
+
+    @Mock
+    private ExpressionEvaluator expressionEvaluator;
+
+    @Mock
+    private Clock clock;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        lenient().when(clock.millis()).thenReturn(START_MILLIS);
+        lenient().when(indexManager.getIndexName(anyString())).thenAnswer(invocation -> invocation.getArgument(0) + "-resolved");
+    }
+
+    private IndexNameResolver createObjectUnderTest(final String indexAlias) {
+        return new IndexNameResolver(indexAlias, indexManager, expressionEvaluator, clock);
+    }
+
+    private static Event createEvent(final Map<String, Object> data) {
+        return JacksonEvent.builder()
+                .withEventType("event")
+                .withData(data)
+                .build();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"logs", "logs-${name}", "${name}", "logs-${name}-${info/id}-%{yyyy.MM.dd}", "${info/id}${name}", "logs}-${name}-{x}"})
+    void getIndexName_returns_the_index_manager_name_for_the_formatted_alias(final String indexAlias) throws IOException {
+        final Event event = createEvent(Map.of("name", UUID.randomUUID().toString(), "info", Map.of("id", 42)));
+
+        final String indexName = createObjectUnderTest(indexAlias).getIndexName(event);
+
+        assertThat(indexName, equalTo(event.formatString(indexAlias) + "-resolved"));
+    }
+
+    @Test
+    void getIndexName_caches_the_index_name_by_the_placeholder_values() throws IOException {
+        final IndexNameResolver objectUnderTest = createObjectUnderTest("logs-${name}");
+
+        assertThat(objectUnderTest.getIndexName(createEvent(Map.of("name", "a", "other", 1))), equalTo("logs-a-resolved"));
+        assertThat(objectUnderTest.getIndexName(createEvent(Map.of("name", "a", "other", 2))), equalTo("logs-a-resolved"));
+        assertThat(objectUnderTest.getIndexName(createEvent(Map.of("name", "b"))), equalTo("logs-b-resolved"));
+        assertThat(objectUnderTest.getIndexName(createEvent(Map.of("name", "a"))), equalTo("logs-a-resolved"));
+
+        verify(indexManager).getIndexName("logs-a");
+        verify(indexManager).getIndexName("logs-b");
+    }
+
+    @Test
+    void getIndexName_does_not_confuse_values_which_format_to_the_same_alias() throws IOException {
+        final IndexNameResolver objectUnderTest = createObjectUnderTest("${first}${second}");
+
+        objectUnderTest.getIndexName(createEvent(Map.of("first", "ab", "second", "c")));
+        objectUnderTest.getIndexName(createEvent(Map.of("first", "a", "second", "bc")));
+
+        verify(indexManager, times(2)).getIndexName("abc");
+    }
+
+    @Test
+    void getIndexName_resolves_the_index_name_again_in_the_next_hour() throws IOException {
+        final IndexNameResolver objectUnderTest = createObjectUnderTest("logs-%{yyyy.MM.dd.HH}");
+        final Event event = createEvent(Map.of("name", "a"));
+        final long hourStart = START_MILLIS - START_MILLIS % IndexNameResolver.TIME_BUCKET_MILLIS;
+
+        when(clock.millis()).thenReturn(hourStart);
+        objectUnderTest.getIndexName(event);
+        when(clock.millis()).thenReturn(hourStart + IndexNameResolver.TIME_BUCKET_MILLIS - 1);
+        objectUnderTest.getIndexName(event);
+        verify(indexManager, times(1)).getIndexName("logs-%{yyyy.MM.dd.HH}");
+
+        when(clock.millis()).thenReturn(hourStart + IndexNameResolver.TIME_BUCKET_MILLIS);
+        objectUnderTest.getIndexName(event);
+        objectUnderTest.getIndexName(event);
+        verify(indexManager, times(2)).getIndexName("logs-%{yyyy.MM.dd.HH}");
+    }
+
+    @Test
+    void getIndexName_throws_when_the_event_does_not_have_the_key() {
+        final IndexNameResolver objectUnderTest = createObjectUnderTest("logs-${name}");
+
+        assertThrows(EventKeyNotFoundException.class, () -> objectUnderTest.getIndexName(createEvent(Map.of("other", "a"))));
+        verifyNoInteractions(indexManager);
+    }
+
+    @Test
+    void getIndexName_does_not_cache_when_the_index_manager_throws() throws IOException {
+        final IndexNameResolver objectUnderTest = createObjectUnderTest("logs-${name}");
+        final Event event = createEvent(Map.of("name", "a"));
+        when(indexManager.getIndexName("logs-a")).thenThrow(IOException.class).thenReturn("logs-a");
+
+        assertThrows(IOException.class, () -> objectUnderTest.getIndexName(event));
+        assertThat(objectUnderTest.getIndexName(event), equalTo("logs-a"));
+        assertThat(objectUnderTest.getIndexName(event), equalTo("logs-a"));
+        verify(indexManager, times(2)).getIndexName("logs-a");
+    }
+
+    @Test
+    void getIndexName_evaluates_expression_placeholders() throws IOException {
+        final String expression = "getMetadata(\"index\")";
+        final Event event = createEvent(Map.of("name", "a"));
+        when(expressionEvaluator.isValidExpressionStatement(expression)).thenReturn(true);
+        when(expressionEvaluator.isValidExpressionStatement("name")).thenReturn(false);
+        when(expressionEvaluator.evaluate(expression, event)).thenReturn("metrics").thenReturn(null);
+        final IndexNameResolver objectUnderTest = createObjectUnderTest("${" + expression + "}-${name}");
+
+        assertThat(objectUnderTest.getIndexName(event), equalTo("metrics-a-resolved"));
+        assertThat(objectUnderTest.getIndexName(event), equalTo("-a-resolved"));
+        verify(expressionEvaluator).isValidExpressionStatement(expression);
+    }
+
+    @Test
+    void getIndexName_reads_keys_without_an_expression_evaluator() throws IOException {
+        final IndexNameResolver objectUnderTest = new IndexNameResolver("logs-${name}", indexManager, null);
+
+        assertThat(objectUnderTest.getIndexName(createEvent(Map.of("name", "a"))), equalTo("logs-a-resolved"));
+    }
+
+    @Test
+    void constructor_throws_when_a_placeholder_is_not_closed() {
+        assertThrows(IllegalArgumentException.class, () -> createObjectUnderTest("logs-${name"));
+    }
+
+    @Test
+    void constructor_throws_when_a_placeholder_is_not_a_valid_key() {
+        assertThrows(IllegalArgumentException.class, () -> createObjectUnderTest("logs-${na*me}"));
+    }
+}
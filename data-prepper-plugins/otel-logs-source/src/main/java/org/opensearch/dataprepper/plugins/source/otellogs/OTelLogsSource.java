@@ -35,7 +35,7 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.source.Source;
 import org.opensearch.dataprepper.plugins.certificate.CertificateProvider;
 import org.opensearch.dataprepper.plugins.certificate.model.Certificate;
-import org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec;
+import org.opensearch.dataprepper.plugins.otel.codec.OTelProtoDirectDecoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -89,7 +89,7 @@ public class OTelLogsSource implements Source<Record<Object>> {
 
             final OTelLogsGrpcService oTelLogsGrpcService = new OTelLogsGrpcService(
                     (int) (oTelLogsSourceConfig.getRequestTimeoutInMillis() * 0.8),
-                    new OTelProtoCodec.OTelProtoDecoder(),
+                    new OTelProtoDirectDecoder(),
                     buffer,
                     pluginMetrics
             );
@@ -0,0 +1,119 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.otelmetrics;
+
+import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceRequest;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.InstrumentationScope;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.metrics.v1.Gauge;
+import io.opentelemetry.proto.metrics.v1.Histogram;
+import io.opentelemetry.proto.metrics.v1.HistogramDataPoint;
+import io.opentelemetry.proto.metrics.v1.Metric;
+import io.opentelemetry.proto.metrics.v1.NumberDataPoint;
+import io.opentelemetry.proto.metrics.v1.ResourceMetrics;
+import io.opentelemetry.proto.metrics.v1.ScopeMetrics;
+import io.opentelemetry.proto.metrics.v1.Sum;
+import io.opentelemetry.proto.resource.v1.Resource;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.record.Record;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures turning an export request of gauge, sum and histogram data points into metric events with the
+ * {@link OTelMetricsRawProcessor}. Run with {@code -prof gc} to see the bytes allocated per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class OTelMetricsRawProcessorBenchmark {
+    private static final long START_TIME_NANOS = 1_597_902_043_168_010_200L;
+
+    @Param({"10", "1000"})
+    private int batchSize;
+
+    private OTelMetricsRawProcessor otelMetricsRawProcessor;
+    private Collection<Record<ExportMetricsServiceRequest>> records;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final PluginSetting pluginSetting = new PluginSetting("otel_metrics", Collections.emptyMap());
+        pluginSetting.setPipelineName("benchmark");
+        otelMetricsRawProcessor = new OTelMetricsRawProcessor(pluginSetting, new OtelMetricsRawProcessorConfig());
+
+        final ScopeMetrics.Builder scopeMetrics = ScopeMetrics.newBuilder()
+                .setScope(InstrumentationScope.newBuilder().setName("io.opentelemetry.runtime-metrics").setVersion("1.0.0"));
+        for (int i = 0; i < batchSize; i++) {
+            final List<KeyValue> attributes = Arrays.asList(
+                    stringAttribute("http.method", "GET"),
+                    stringAttribute("http.route", "/analytics/report/" + (i % 10)),
+                    intAttribute("http.status_code", 200));
+            final long time = START_TIME_NANOS + i;
+            switch (i % 3) {
+                case 0:
+                    scopeMetrics.addMetrics(Metric.newBuilder().setName("jvm.memory.used").setUnit("By")
+                            .setGauge(Gauge.newBuilder().addDataPoints(NumberDataPoint.newBuilder()
+                                    .setTimeUnixNano(time).setAsDouble(1024.0 * i).addAllAttributes(attributes))));
+                    break;
+                case 1:
+                    scopeMetrics.addMetrics(Metric.newBuilder().setName("http.server.requests").setUnit("1")
+                            .setSum(Sum.newBuilder().setIsMonotonic(true).addDataPoints(NumberDataPoint.newBuilder()
+                                    .setStartTimeUnixNano(START_TIME_NANOS).setTimeUnixNano(time).setAsInt(i).addAllAttributes(attributes))));
+                    break;
+                default:
+                    scopeMetrics.addMetrics(Metric.newBuilder().setName("http.server.duration").setUnit("ms")
+                            .setHistogram(Histogram.newBuilder().addDataPoints(HistogramDataPoint.newBuilder()
+                                    .setStartTimeUnixNano(START_TIME_NANOS).setTimeUnixNano(time)
+                                    .setCount(6).setSum(i)
+                                    .addAllExplicitBounds(Arrays.asList(5.0, 10.0, 25.0))
+                                    .addAllBucketCounts(Arrays.asList(1L, 2L, 2L, 1L))
+                                    .addAllAttributes(attributes))));
+                    break;
+            }
+        }
+        final Resource resource = Resource.newBuilder()
+                .addAttributes(stringAttribute("service.name", "analytics-service"))
+                .addAttributes(stringAttribute("host.name", "ip-10-0-0-1"))
+                .build();
+        records = Collections.singletonList(new Record<>(ExportMetricsServiceRequest.newBuilder()
+                .addResourceMetrics(ResourceMetrics.newBuilder().setResource(resource).addScopeMetrics(scopeMetrics))
+                .build()));
+    }
+
+    @Benchmark
+    public void doExecute(final Blackhole blackhole) {
+        blackhole.consume(otelMetricsRawProcessor.doExecute(records));
+    }
+
+    private static KeyValue stringAttribute(final String key, final String value) {
+        return KeyValue.newBuilder().setKey(key).setValue(AnyValue.newBuilder().setStringValue(value)).build();
+    }
+
+    private static KeyValue intAttribute(final String key, final long value) {
+        return KeyValue.newBuilder().setKey(key).setValue(AnyValue.newBuilder().setIntValue(value)).build();
+    }
+}
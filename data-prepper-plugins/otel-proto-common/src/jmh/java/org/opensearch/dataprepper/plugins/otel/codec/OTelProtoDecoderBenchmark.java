@@ -0,0 +1,148 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.otel.codec;
+
+import com.google.protobuf.ByteString;
+import io.opentelemetry.proto.collector.logs.v1.ExportLogsServiceRequest;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.InstrumentationScope;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.logs.v1.LogRecord;
+import io.opentelemetry.proto.logs.v1.ResourceLogs;
+import io.opentelemetry.proto.logs.v1.ScopeLogs;
+import io.opentelemetry.proto.resource.v1.Resource;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
+import io.opentelemetry.proto.trace.v1.Span;
+import io.opentelemetry.proto.trace.v1.Status;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding export requests into spans and logs with the {@link OTelProtoCodec.OTelProtoDecoder}, which
+ * builds an intermediate map per record, and with the {@link OTelProtoDirectDecoder}, which writes the fields
+ * straight into the event nodes. Run with {@code -prof gc} to compare the bytes allocated per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class OTelProtoDecoderBenchmark {
+    private static final long START_TIME_NANOS = 1_597_902_043_168_010_200L;
+
+    @Param({"10", "1000"})
+    private int batchSize;
+
+    private OTelProtoCodec.OTelProtoDecoder decoder;
+    private OTelProtoCodec.OTelProtoDecoder directDecoder;
+    private ExportTraceServiceRequest exportTraceServiceRequest;
+    private ExportLogsServiceRequest exportLogsServiceRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        decoder = new OTelProtoCodec.OTelProtoDecoder();
+        directDecoder = new OTelProtoDirectDecoder();
+        final Random random = new Random(42);
+        final Resource resource = Resource.newBuilder()
+                .addAttributes(stringAttribute("service.name", "analytics-service"))
+                .addAttributes(stringAttribute("host.name", "ip-10-0-0-1"))
+                .addAttributes(stringAttribute("telemetry.sdk.language", "java"))
+                .build();
+        final InstrumentationScope instrumentationScope = InstrumentationScope.newBuilder()
+                .setName("io.opentelemetry.auto.spring-webmvc")
+                .setVersion("1.0.0")
+                .build();
+
+        final ScopeSpans.Builder scopeSpans = ScopeSpans.newBuilder().setScope(instrumentationScope);
+        final ScopeLogs.Builder scopeLogs = ScopeLogs.newBuilder().setScope(instrumentationScope);
+        for (int i = 0; i < batchSize; i++) {
+            final ByteString traceId = randomBytes(random, 16);
+            final long startTime = START_TIME_NANOS + i;
+            scopeSpans.addSpans(Span.newBuilder()
+                    .setTraceId(traceId)
+                    .setSpanId(randomBytes(random, 8))
+                    .setParentSpanId(randomBytes(random, 8))
+                    .setName("/analytics/report")
+                    .setKind(Span.SpanKind.SPAN_KIND_SERVER)
+                    .setStartTimeUnixNano(startTime)
+                    .setEndTimeUnixNano(startTime + 48_545_100L)
+                    .addAttributes(stringAttribute("http.method", "GET"))
+                    .addAttributes(stringAttribute("http.url", "http://localhost:8087/analytics/report"))
+                    .addAttributes(intAttribute("http.status_code", 200))
+                    .addAttributes(intAttribute("net.peer.port", 41164))
+                    .setStatus(Status.newBuilder().setCode(Status.StatusCode.STATUS_CODE_OK))
+                    .build());
+            scopeLogs.addLogRecords(LogRecord.newBuilder()
+                    .setTraceId(traceId)
+                    .setSpanId(randomBytes(random, 8))
+                    .setTimeUnixNano(startTime)
+                    .setObservedTimeUnixNano(startTime)
+                    .setSeverityNumberValue(9)
+                    .setSeverityText("INFO")
+                    .setBody(AnyValue.newBuilder().setStringValue("Report " + i + " generated in 48 ms"))
+                    .addAttributes(stringAttribute("log.file.name", "analytics.log"))
+                    .addAttributes(intAttribute("thread.id", 17))
+                    .build());
+        }
+        exportTraceServiceRequest = ExportTraceServiceRequest.newBuilder()
+                .addResourceSpans(ResourceSpans.newBuilder().setResource(resource).addScopeSpans(scopeSpans))
+                .build();
+        exportLogsServiceRequest = ExportLogsServiceRequest.newBuilder()
+                .addResourceLogs(ResourceLogs.newBuilder().setResource(resource).addScopeLogs(scopeLogs))
+                .build();
+    }
+
+    @Benchmark
+    public void parseTraces(final Blackhole blackhole) {
+        blackhole.consume(decoder.parseExportTraceServiceRequest(exportTraceServiceRequest));
+    }
+
+    @Benchmark
+    public void parseTracesDirect(final Blackhole blackhole) {
+        blackhole.consume(directDecoder.parseExportTraceServiceRequest(exportTraceServiceRequest));
+    }
+
+    @Benchmark
+    public void parseLogs(final Blackhole blackhole) {
+        blackhole.consume(decoder.parseExportLogsServiceRequest(exportLogsServiceRequest));
+    }
+
+    @Benchmark
+    public void parseLogsDirect(final Blackhole blackhole) {
+        blackhole.consume(directDecoder.parseExportLogsServiceRequest(exportLogsServiceRequest));
+    }
+
+    private static KeyValue stringAttribute(final String key, final String value) {
+        return KeyValue.newBuilder().setKey(key).setValue(AnyValue.newBuilder().setStringValue(value)).build();
+    }
+
+    private static KeyValue intAttribute(final String key, final long value) {
+        return KeyValue.newBuilder().setKey(key).setValue(AnyValue.newBuilder().setIntValue(value)).build();
+    }
+
+    private static ByteString randomBytes(final Random random, final int length) {
+        final byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return ByteString.copyFrom(bytes);
+    }
+}
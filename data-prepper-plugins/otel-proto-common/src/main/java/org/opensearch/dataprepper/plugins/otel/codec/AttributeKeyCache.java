@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.otel.codec;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Translates OpenTelemetry attribute keys into event keys and keeps the translated keys, so that the same key of
+ * every span, log or data point is translated only once and shares one string instance. Once the maximum number of
+ * keys is kept, further keys are translated on every call.
+ */
+class AttributeKeyCache {
+    static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final Function<String, String> keyTranslation;
+    private final int maximumSize;
+    private final Map<String, String> translatedKeys = new ConcurrentHashMap<>();
+
+    AttributeKeyCache(final Function<String, String> keyTranslation) {
+        this(keyTranslation, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    AttributeKeyCache(final Function<String, String> keyTranslation, final int maximumSize) {
+        this.keyTranslation = keyTranslation;
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * @param key the OpenTelemetry attribute key
+     * @return the translated event key
+     */
+    String translate(final String key) {
+        final String translatedKey = translatedKeys.get(key);
+        if (translatedKey != null) {
+            return translatedKey;
+        }
+        final String newTranslatedKey = keyTranslation.apply(key);
+        if (translatedKeys.size() < maximumSize) {
+            final String existingTranslatedKey = translatedKeys.putIfAbsent(key, newTranslatedKey);
+            return existingTranslatedKey != null ? existingTranslatedKey : newTranslatedKey;
+        }
+        return newTranslatedKey;
+    }
+
+    int size() {
+        return translatedKeys.size();
+    }
+}
@@ -5,7 +5,7 @@
 
 package org.opensearch.dataprepper.plugins.otel.codec;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.protobuf.ByteString;
 import io.opentelemetry.proto.collector.logs.v1.ExportLogsServiceRequest;
@@ -45,6 +45,8 @@ import org.opensearch.dataprepper.model.trace.Span;
 import org.opensearch.dataprepper.model.trace.SpanEvent;
 import org.opensearch.dataprepper.model.trace.TraceGroupFields;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -103,6 +105,15 @@ public class OTelProtoCodec {
     public static final Function<String, String> PREFIX_AND_RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT = i -> RESOURCE_ATTRIBUTES + DOT + i.replace(DOT, AT);
     public static final Function<String, String> PREFIX_AND_EXEMPLAR_ATTRIBUTES_REPLACE_DOT_WITH_AT = i -> EXEMPLAR_ATTRIBUTES + DOT + i.replace(DOT, AT);
 
+    static final AttributeKeyCache ATTRIBUTE_KEYS = new AttributeKeyCache(REPLACE_DOT_WITH_AT);
+    static final AttributeKeyCache SPAN_ATTRIBUTE_KEYS = new AttributeKeyCache(SPAN_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+    static final AttributeKeyCache RESOURCE_ATTRIBUTE_KEYS = new AttributeKeyCache(RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+    static final AttributeKeyCache LOG_ATTRIBUTE_KEYS = new AttributeKeyCache(PREFIX_AND_LOG_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+    static final AttributeKeyCache METRIC_ATTRIBUTE_KEYS = new AttributeKeyCache(PREFIX_AND_METRIC_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+    static final AttributeKeyCache EXEMPLAR_ATTRIBUTE_KEYS = new AttributeKeyCache(PREFIX_AND_EXEMPLAR_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
     private static final Map<BoundsKey, double[]> EXPONENTIAL_BUCKET_BOUNDS = new ConcurrentHashMap<>();
 
     static class BoundsKey {
@@ -307,18 +318,10 @@ public class OTelProtoCodec {
                  * as Json string.
                  */
                 case ARRAY_VALUE:
-                    try {
-                        return OBJECT_MAPPER.writeValueAsString(value.getArrayValue().getValuesList().stream()
-                                .map(this::convertAnyValue).collect(Collectors.toList()));
-                    } catch (JsonProcessingException e) {
-                        throw new OTelDecodingException(e);
-                    }
                 case KVLIST_VALUE:
                     try {
-                        return OBJECT_MAPPER.writeValueAsString(value.getKvlistValue().getValuesList().stream()
-                                .collect(Collectors.toMap(i -> REPLACE_DOT_WITH_AT.apply(i.getKey()),
-                                        i ->convertAnyValue(i.getValue()))));
-                    } catch (JsonProcessingException e) {
+                        return writeNestedValueAsJsonString(value);
+                    } catch (IOException e) {
                         throw new OTelDecodingException(e);
                     }
                 default:
@@ -644,18 +647,10 @@ public class OTelProtoCodec {
              * as Json string.
              */
             case ARRAY_VALUE:
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(value.getArrayValue().getValuesList().stream()
-                            .map(OTelProtoCodec::convertAnyValue)
-                            .collect(Collectors.toList()));
-                } catch (JsonProcessingException e) {
-                    throw new RuntimeException(e);
-                }
             case KVLIST_VALUE:
                 try {
-                    return OBJECT_MAPPER.writeValueAsString(value.getKvlistValue().getValuesList().stream()
-                            .collect(Collectors.toMap(i -> REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue()))));
-                } catch (JsonProcessingException e) {
+                    return writeNestedValueAsJsonString(value);
+                } catch (IOException e) {
                     throw new RuntimeException(e);
                 }
             default:
@@ -663,6 +658,54 @@ public class OTelProtoCodec {
         }
     }
 
+    /**
+     * Writes an array or key-value list value as a JSON string. Nested arrays and key-value lists are written as
+     * JSON strings within it. Arrays are written directly; key-value lists are collected into a map first, so that
+     * their keys keep the order of the documents written before.
+     *
+     * @param value the array or key-value list value
+     * @return the JSON string
+     * @throws IOException if the value could not be written
+     */
+    static String writeNestedValueAsJsonString(final AnyValue value) throws IOException {
+        if (value.getValueCase() == AnyValue.ValueCase.KVLIST_VALUE) {
+            return OBJECT_MAPPER.writeValueAsString(unpackAttributes(value.getKvlistValue().getValuesList(), ATTRIBUTE_KEYS));
+        }
+        final StringWriter stringWriter = new StringWriter();
+        try (final JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(stringWriter)) {
+            generator.writeStartArray();
+            for (final AnyValue element : value.getArrayValue().getValuesList()) {
+                writeNestedElement(generator, element);
+            }
+            generator.writeEndArray();
+        }
+        return stringWriter.toString();
+    }
+
+    private static void writeNestedElement(final JsonGenerator generator, final AnyValue value) throws IOException {
+        switch (value.getValueCase()) {
+            case VALUE_NOT_SET:
+            case STRING_VALUE:
+                generator.writeString(value.getStringValue());
+                break;
+            case BOOL_VALUE:
+                generator.writeBoolean(value.getBoolValue());
+                break;
+            case INT_VALUE:
+                generator.writeNumber(value.getIntValue());
+                break;
+            case DOUBLE_VALUE:
+                generator.writeNumber(value.getDoubleValue());
+                break;
+            case ARRAY_VALUE:
+            case KVLIST_VALUE:
+                generator.writeString(writeNestedValueAsJsonString(value));
+                break;
+            default:
+                throw new OTelDecodingException(String.format("Can not convert AnyValue of type %s", value.getValueCase()));
+        }
+    }
+
     /**
      * Converts the keys of all attributes in the {@link NumberDataPoint}.
      * Also, casts the underlying data into its actual type
@@ -671,8 +714,7 @@ public class OTelProtoCodec {
      * @return A Map containing all attributes of `numberDataPoint` with keys converted into an OS-friendly format
      */
     public static Map<String, Object> convertKeysOfDataPointAttributes(final NumberDataPoint numberDataPoint) {
-        return numberDataPoint.getAttributesList().stream()
-                .collect(Collectors.toMap(i -> PREFIX_AND_METRIC_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+        return unpackAttributes(numberDataPoint.getAttributesList(), METRIC_ATTRIBUTE_KEYS);
     }
 
     /**
@@ -684,8 +726,7 @@ public class OTelProtoCodec {
      * @return A Map containing unpacked {@link KeyValue} data
      */
     public static Map<String, Object> unpackKeyValueList(List<KeyValue> attributesList) {
-        return attributesList.stream()
-                .collect(Collectors.toMap(i -> PREFIX_AND_METRIC_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+        return unpackAttributes(attributesList, METRIC_ATTRIBUTE_KEYS);
     }
 
     /**
@@ -697,8 +738,7 @@ public class OTelProtoCodec {
      * @return A Map containing unpacked {@link KeyValue} data
      */
     public static Map<String, Object> unpackKeyValueListLog(List<KeyValue> attributesList) {
-        return attributesList.stream()
-                .collect(Collectors.toMap(i -> PREFIX_AND_LOG_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+        return unpackAttributes(attributesList, LOG_ATTRIBUTE_KEYS);
     }
 
 
@@ -711,11 +751,25 @@ public class OTelProtoCodec {
      * @return A Map containing unpacked {@link KeyValue} data
      */
     public static Map<String, Object> unpackExemplarValueList(List<KeyValue> attributesList) {
-        return attributesList.stream()
-                .collect(Collectors.toMap(i -> PREFIX_AND_EXEMPLAR_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+        return unpackAttributes(attributesList, EXEMPLAR_ATTRIBUTE_KEYS);
     }
 
 
+    private static Map<String, Object> unpackAttributes(final List<KeyValue> attributesList, final AttributeKeyCache attributeKeys) {
+        // Not presized, so that the attributes are iterated in the same order as before and documents do not change.
+        final Map<String, Object> attributes = new HashMap<>();
+        for (final KeyValue keyValue : attributesList) {
+            putAttribute(attributes, attributeKeys.translate(keyValue.getKey()), convertAnyValue(keyValue.getValue()));
+        }
+        return attributes;
+    }
+
+    private static void putAttribute(final Map<String, Object> attributes, final String key, final Object value) {
+        if (attributes.putIfAbsent(key, value) != null) {
+            throw new IllegalStateException(String.format("Duplicate key %s", key));
+        }
+    }
+
     /**
      * Extracts a value from the passed {@link NumberDataPoint} into a double representation
      *
@@ -753,8 +807,7 @@ public class OTelProtoCodec {
     }
 
     public static Map<String, Object> getResourceAttributes(final Resource resource) {
-        return resource.getAttributesList().stream()
-                .collect(Collectors.toMap(i -> PREFIX_AND_RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+        return unpackAttributes(resource.getAttributesList(), RESOURCE_ATTRIBUTE_KEYS);
     }
 
     /**
@@ -801,24 +854,32 @@ public class OTelProtoCodec {
     }
 
     public static Optional<String> getServiceName(final Resource resource) {
-        return resource.getAttributesList().stream()
-                .filter(keyValue -> keyValue.getKey().equals(SERVICE_NAME) && !keyValue.getValue().getStringValue().isEmpty())
-                .findFirst()
-                .map(i -> i.getValue().getStringValue());
+        for (final KeyValue keyValue : resource.getAttributesList()) {
+            if (keyValue.getKey().equals(SERVICE_NAME) && !keyValue.getValue().getStringValue().isEmpty()) {
+                return Optional.of(keyValue.getValue().getStringValue());
+            }
+        }
+        return Optional.empty();
     }
 
 
     public static Map<String, Object> mergeAllAttributes(final Collection<Map<String, Object>> attributes) {
-        return attributes.stream()
-                .flatMap(map -> map.entrySet().stream())
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        final Map<String, Object> mergedAttributes = new HashMap<>();
+        for (final Map<String, Object> attributesMap : attributes) {
+            for (final Map.Entry<String, Object> attribute : attributesMap.entrySet()) {
+                putAttribute(mergedAttributes, attribute.getKey(), attribute.getValue());
+            }
+        }
+        return mergedAttributes;
     }
 
 
     public static List<Quantile> getQuantileValues(List<SummaryDataPoint.ValueAtQuantile> quantileValues) {
-        return quantileValues.stream()
-                .map(q -> new DefaultQuantile(q.getQuantile(), q.getValue()))
-                .collect(Collectors.toList());
+        final List<Quantile> quantiles = new ArrayList<>(quantileValues.size());
+        for (final SummaryDataPoint.ValueAtQuantile quantileValue : quantileValues) {
+            quantiles.add(new DefaultQuantile(quantileValue.getQuantile(), quantileValue.getValue()));
+        }
+        return quantiles;
     }
 
     /**
@@ -881,13 +942,15 @@ public class OTelProtoCodec {
      * @return a mapped list of DefaultExemplars
      */
     public static List<Exemplar> convertExemplars(List<io.opentelemetry.proto.metrics.v1.Exemplar> exemplarsList) {
-        return exemplarsList.stream().map(exemplar ->
-                        new DefaultExemplar(convertUnixNanosToISO8601(exemplar.getTimeUnixNano()),
-                                getExemplarValueAsDouble(exemplar),
-                                convertByteStringToString(exemplar.getSpanId()),
-                                convertByteStringToString(exemplar.getTraceId()),
-                                unpackExemplarValueList(exemplar.getFilteredAttributesList())))
-                .collect(Collectors.toList());
+        final List<Exemplar> exemplars = new ArrayList<>(exemplarsList.size());
+        for (final io.opentelemetry.proto.metrics.v1.Exemplar exemplar : exemplarsList) {
+            exemplars.add(new DefaultExemplar(convertUnixNanosToISO8601(exemplar.getTimeUnixNano()),
+                    getExemplarValueAsDouble(exemplar),
+                    convertByteStringToString(exemplar.getSpanId()),
+                    convertByteStringToString(exemplar.getTraceId()),
+                    unpackExemplarValueList(exemplar.getFilteredAttributesList())));
+        }
+        return exemplars;
     }
 
     /**
@@ -943,6 +1006,13 @@ public class OTelProtoCodec {
     }
 
     public static String convertByteStringToString(ByteString bs) {
-        return Hex.encodeHexString(bs.toByteArray());
+        final int size = bs.size();
+        final char[] hexChars = new char[size * 2];
+        for (int i = 0; i < size; i++) {
+            final int b = bs.byteAt(i) & 0xFF;
+            hexChars[i * 2] = HEX_DIGITS[b >>> 4];
+            hexChars[i * 2 + 1] = HEX_DIGITS[b & 0x0F];
+        }
+        return new String(hexChars);
     }
 }
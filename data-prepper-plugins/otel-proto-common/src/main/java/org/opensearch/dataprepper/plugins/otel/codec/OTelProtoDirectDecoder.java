@@ -0,0 +1,326 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.otel.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.opentelemetry.proto.collector.logs.v1.ExportLogsServiceRequest;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.InstrumentationLibrary;
+import io.opentelemetry.proto.common.v1.InstrumentationScope;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.logs.v1.InstrumentationLibraryLogs;
+import io.opentelemetry.proto.logs.v1.LogRecord;
+import io.opentelemetry.proto.logs.v1.ResourceLogs;
+import io.opentelemetry.proto.logs.v1.ScopeLogs;
+import io.opentelemetry.proto.resource.v1.Resource;
+import io.opentelemetry.proto.trace.v1.InstrumentationLibrarySpans;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
+import io.opentelemetry.proto.trace.v1.Status;
+import org.opensearch.dataprepper.model.log.JacksonOtelLog;
+import org.opensearch.dataprepper.model.log.OpenTelemetryLog;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.model.trace.Span;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.convertByteStringToString;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec.convertUnixNanosToISO8601;
+
+/**
+ * A decoder which writes the fields of OpenTelemetry protobuf messages straight into the JSON nodes of the events,
+ * instead of collecting them into maps and model objects which are converted into JSON nodes afterwards. The
+ * attributes of a resource or an instrumentation scope are converted once and shared by all of its spans or logs,
+ * and translated attribute keys are cached. The decoded events hold the same data as the events of
+ * {@link OTelProtoCodec.OTelProtoDecoder}.
+ *
+ * @since 2.5
+ */
+public class OTelProtoDirectDecoder extends OTelProtoCodec.OTelProtoDecoder {
+    private static final Logger LOG = LoggerFactory.getLogger(OTelProtoDirectDecoder.class);
+
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+
+    private static final String TRACE_ID_KEY = "traceId";
+    private static final String SPAN_ID_KEY = "spanId";
+    private static final String TRACE_STATE_KEY = "traceState";
+    private static final String PARENT_SPAN_ID_KEY = "parentSpanId";
+    private static final String NAME_KEY = "name";
+    private static final String KIND_KEY = "kind";
+    private static final String START_TIME_KEY = "startTime";
+    private static final String END_TIME_KEY = "endTime";
+    private static final String TIME_KEY = "time";
+    private static final String OBSERVED_TIME_KEY = "observedTime";
+    private static final String ATTRIBUTES_KEY = "attributes";
+    private static final String DROPPED_ATTRIBUTES_COUNT_KEY = "droppedAttributesCount";
+    private static final String EVENTS_KEY = "events";
+    private static final String DROPPED_EVENTS_COUNT_KEY = "droppedEventsCount";
+    private static final String LINKS_KEY = "links";
+    private static final String DROPPED_LINKS_COUNT_KEY = "droppedLinksCount";
+    private static final String SERVICE_NAME_KEY = "serviceName";
+    private static final String TRACE_GROUP_KEY = "traceGroup";
+    private static final String DURATION_IN_NANOS_KEY = "durationInNanos";
+    private static final String TRACE_GROUP_FIELDS_KEY = "traceGroupFields";
+    private static final String STATUS_CODE_KEY = "statusCode";
+    private static final String SCHEMA_URL_KEY = "schemaUrl";
+    private static final String FLAGS_KEY = "flags";
+    private static final String SEVERITY_NUMBER_KEY = "severityNumber";
+    private static final String SEVERITY_TEXT_KEY = "severityText";
+    private static final String BODY_KEY = "body";
+
+    @Override
+    public List<Span> parseExportTraceServiceRequest(final ExportTraceServiceRequest exportTraceServiceRequest) {
+        final List<Span> spans = new ArrayList<>();
+        for (final ResourceSpans resourceSpans : exportTraceServiceRequest.getResourceSpansList()) {
+            parseResourceSpans(resourceSpans, spans);
+        }
+        return spans;
+    }
+
+    @Override
+    public List<OpenTelemetryLog> parseExportLogsServiceRequest(final ExportLogsServiceRequest exportLogsServiceRequest) {
+        final List<OpenTelemetryLog> logs = new ArrayList<>();
+        for (final ResourceLogs resourceLogs : exportLogsServiceRequest.getResourceLogsList()) {
+            parseResourceLogs(resourceLogs, logs);
+        }
+        return logs;
+    }
+
+    @Override
+    protected List<Span> parseResourceSpans(final ResourceSpans resourceSpans) {
+        final List<Span> spans = new ArrayList<>();
+        parseResourceSpans(resourceSpans, spans);
+        return spans;
+    }
+
+    @Override
+    protected Collection<OpenTelemetryLog> parseResourceLogs(final ResourceLogs resourceLogs) {
+        final List<OpenTelemetryLog> logs = new ArrayList<>();
+        parseResourceLogs(resourceLogs, logs);
+        return logs;
+    }
+
+    private void parseResourceSpans(final ResourceSpans resourceSpans, final List<Span> spans) {
+        final String serviceName = findServiceName(resourceSpans.getResource());
+        final ObjectNode resourceAttributes = createResourceAttributes(resourceSpans.getResource());
+
+        if (resourceSpans.getScopeSpansCount() > 0) {
+            for (final ScopeSpans scopeSpans : resourceSpans.getScopeSpansList()) {
+                final InstrumentationScope scope = scopeSpans.getScope();
+                final ObjectNode scopeAttributes = createScopeAttributes(OTelProtoCodec.INSTRUMENTATION_SCOPE_NAME, scope.getName(),
+                        OTelProtoCodec.INSTRUMENTATION_SCOPE_VERSION, scope.getVersion());
+                for (final io.opentelemetry.proto.trace.v1.Span span : scopeSpans.getSpansList()) {
+                    spans.add(decodeSpan(span, scopeAttributes, serviceName, resourceAttributes));
+                }
+            }
+        } else if (resourceSpans.getInstrumentationLibrarySpansCount() > 0) {
+            for (final InstrumentationLibrarySpans instrumentationLibrarySpans : resourceSpans.getInstrumentationLibrarySpansList()) {
+                final InstrumentationLibrary instrumentationLibrary = instrumentationLibrarySpans.getInstrumentationLibrary();
+                final ObjectNode scopeAttributes = createScopeAttributes(OTelProtoCodec.INSTRUMENTATION_SCOPE_NAME, instrumentationLibrary.getName(),
+                        OTelProtoCodec.INSTRUMENTATION_SCOPE_VERSION, instrumentationLibrary.getVersion());
+                for (final io.opentelemetry.proto.trace.v1.Span span : instrumentationLibrarySpans.getSpansList()) {
+                    spans.add(decodeSpan(span, scopeAttributes, serviceName, resourceAttributes));
+                }
+            }
+        } else {
+            LOG.debug("No spans found to parse from ResourceSpans object: {}", resourceSpans);
+        }
+    }
+
+    private void parseResourceLogs(final ResourceLogs resourceLogs, final List<OpenTelemetryLog> logs) {
+        final String serviceName = findServiceName(resourceLogs.getResource());
+        final ObjectNode resourceAttributes = createResourceAttributes(resourceLogs.getResource());
+        final String schemaUrl = resourceLogs.getSchemaUrl();
+
+        for (final InstrumentationLibraryLogs instrumentationLibraryLogs : resourceLogs.getInstrumentationLibraryLogsList()) {
+            final InstrumentationLibrary instrumentationLibrary = instrumentationLibraryLogs.getInstrumentationLibrary();
+            final ObjectNode scopeAttributes = createScopeAttributes(OTelProtoCodec.INSTRUMENTATION_LIBRARY_NAME, instrumentationLibrary.getName(),
+                    OTelProtoCodec.INSTRUMENTATION_LIBRARY_VERSION, instrumentationLibrary.getVersion());
+            for (final LogRecord logRecord : instrumentationLibraryLogs.getLogRecordsList()) {
+                logs.add(decodeLog(logRecord, serviceName, scopeAttributes, resourceAttributes, schemaUrl));
+            }
+        }
+
+        for (final ScopeLogs scopeLogs : resourceLogs.getScopeLogsList()) {
+            final InstrumentationScope scope = scopeLogs.getScope();
+            final ObjectNode scopeAttributes = createScopeAttributes(OTelProtoCodec.INSTRUMENTATION_SCOPE_NAME, scope.getName(),
+                    OTelProtoCodec.INSTRUMENTATION_SCOPE_VERSION, scope.getVersion());
+            for (final LogRecord logRecord : scopeLogs.getLogRecordsList()) {
+                logs.add(decodeLog(logRecord, serviceName, scopeAttributes, resourceAttributes, schemaUrl));
+            }
+        }
+    }
+
+    private Span decodeSpan(final io.opentelemetry.proto.trace.v1.Span span, final ObjectNode scopeAttributes,
+                            final String serviceName, final ObjectNode resourceAttributes) {
+        final boolean isRootSpan = span.getParentSpanId().isEmpty();
+        final String endTime = convertUnixNanosToISO8601(span.getEndTimeUnixNano());
+        final long durationInNanos = span.getEndTimeUnixNano() - span.getStartTimeUnixNano();
+        final Status status = span.getStatus();
+
+        final ObjectNode spanNode = NODE_FACTORY.objectNode();
+        spanNode.put(SPAN_ID_KEY, convertByteStringToString(span.getSpanId()));
+        spanNode.put(TRACE_ID_KEY, convertByteStringToString(span.getTraceId()));
+        spanNode.put(TRACE_STATE_KEY, span.getTraceState());
+        spanNode.put(PARENT_SPAN_ID_KEY, convertByteStringToString(span.getParentSpanId()));
+        spanNode.put(NAME_KEY, span.getName());
+        spanNode.put(SERVICE_NAME_KEY, serviceName);
+        spanNode.put(KIND_KEY, span.getKind().name());
+        spanNode.put(START_TIME_KEY, convertUnixNanosToISO8601(span.getStartTimeUnixNano()));
+        spanNode.put(END_TIME_KEY, endTime);
+
+        final ObjectNode attributes = spanNode.putObject(ATTRIBUTES_KEY);
+        putAttributes(attributes, span.getAttributesList(), OTelProtoCodec.SPAN_ATTRIBUTE_KEYS);
+        putAllAttributes(attributes, resourceAttributes);
+        putAllAttributes(attributes, scopeAttributes);
+        attributes.put(OTelProtoCodec.STATUS_CODE, status.getCodeValue());
+        if (!status.getMessage().isEmpty()) {
+            attributes.put(OTelProtoCodec.STATUS_MESSAGE, status.getMessage());
+        }
+        spanNode.put(DROPPED_ATTRIBUTES_COUNT_KEY, span.getDroppedAttributesCount());
+
+        final ArrayNode events = spanNode.putArray(EVENTS_KEY);
+        for (final io.opentelemetry.proto.trace.v1.Span.Event event : span.getEventsList()) {
+            final ObjectNode eventNode = events.addObject();
+            eventNode.put(NAME_KEY, event.getName());
+            eventNode.put(TIME_KEY, convertUnixNanosToISO8601(event.getTimeUnixNano()));
+            putAttributes(eventNode.putObject(ATTRIBUTES_KEY), event.getAttributesList(), OTelProtoCodec.ATTRIBUTE_KEYS);
+            eventNode.put(DROPPED_ATTRIBUTES_COUNT_KEY, event.getDroppedAttributesCount());
+        }
+        spanNode.put(DROPPED_EVENTS_COUNT_KEY, span.getDroppedEventsCount());
+
+        final ArrayNode links = spanNode.putArray(LINKS_KEY);
+        for (final io.opentelemetry.proto.trace.v1.Span.Link link : span.getLinksList()) {
+            final ObjectNode linkNode = links.addObject();
+            linkNode.put(TRACE_ID_KEY, convertByteStringToString(link.getTraceId()));
+            linkNode.put(SPAN_ID_KEY, convertByteStringToString(link.getSpanId()));
+            linkNode.put(TRACE_STATE_KEY, link.getTraceState());
+            putAttributes(linkNode.putObject(ATTRIBUTES_KEY), link.getAttributesList(), OTelProtoCodec.ATTRIBUTE_KEYS);
+            linkNode.put(DROPPED_ATTRIBUTES_COUNT_KEY, link.getDroppedAttributesCount());
+        }
+        spanNode.put(DROPPED_LINKS_COUNT_KEY, span.getDroppedLinksCount());
+
+        spanNode.put(TRACE_GROUP_KEY, isRootSpan ? span.getName() : null);
+        spanNode.put(DURATION_IN_NANOS_KEY, durationInNanos);
+        final ObjectNode traceGroupFields = spanNode.putObject(TRACE_GROUP_FIELDS_KEY);
+        if (isRootSpan) {
+            traceGroupFields.put(END_TIME_KEY, endTime);
+            traceGroupFields.put(DURATION_IN_NANOS_KEY, durationInNanos);
+            traceGroupFields.put(STATUS_CODE_KEY, status.getCodeValue());
+        } else {
+            traceGroupFields.putNull(END_TIME_KEY);
+            traceGroupFields.putNull(DURATION_IN_NANOS_KEY);
+            traceGroupFields.putNull(STATUS_CODE_KEY);
+        }
+
+        return JacksonSpan.fromJsonNode(spanNode);
+    }
+
+    private OpenTelemetryLog decodeLog(final LogRecord logRecord, final String serviceName, final ObjectNode scopeAttributes,
+                                       final ObjectNode resourceAttributes, final String schemaUrl) {
+        final ObjectNode logNode = NODE_FACTORY.objectNode();
+        logNode.put(TIME_KEY, convertUnixNanosToISO8601(logRecord.getTimeUnixNano()));
+        logNode.put(OBSERVED_TIME_KEY, convertUnixNanosToISO8601(logRecord.getObservedTimeUnixNano()));
+        logNode.put(SERVICE_NAME_KEY, serviceName);
+
+        final ObjectNode attributes = logNode.putObject(ATTRIBUTES_KEY);
+        putAttributes(attributes, logRecord.getAttributesList(), OTelProtoCodec.LOG_ATTRIBUTE_KEYS);
+        putAllAttributes(attributes, resourceAttributes);
+        putAllAttributes(attributes, scopeAttributes);
+
+        logNode.put(SCHEMA_URL_KEY, schemaUrl);
+        logNode.put(FLAGS_KEY, logRecord.getFlags());
+        logNode.put(TRACE_ID_KEY, convertByteStringToString(logRecord.getTraceId()));
+        logNode.put(SPAN_ID_KEY, convertByteStringToString(logRecord.getSpanId()));
+        logNode.put(SEVERITY_NUMBER_KEY, logRecord.getSeverityNumberValue());
+        logNode.put(SEVERITY_TEXT_KEY, logRecord.getSeverityText());
+        logNode.put(DROPPED_ATTRIBUTES_COUNT_KEY, logRecord.getDroppedAttributesCount());
+        logNode.set(BODY_KEY, convertToJsonNode(logRecord.getBody()));
+
+        return JacksonOtelLog.fromJsonNode(logNode);
+    }
+
+    private static String findServiceName(final Resource resource) {
+        for (final KeyValue keyValue : resource.getAttributesList()) {
+            if (keyValue.getKey().equals(OTelProtoCodec.SERVICE_NAME) && !keyValue.getValue().getStringValue().isEmpty()) {
+                return keyValue.getValue().getStringValue();
+            }
+        }
+        return null;
+    }
+
+    private static ObjectNode createResourceAttributes(final Resource resource) {
+        final ObjectNode resourceAttributes = NODE_FACTORY.objectNode();
+        putAttributes(resourceAttributes, resource.getAttributesList(), OTelProtoCodec.RESOURCE_ATTRIBUTE_KEYS);
+        return resourceAttributes;
+    }
+
+    private static ObjectNode createScopeAttributes(final String nameKey, final String name,
+                                                    final String versionKey, final String version) {
+        final ObjectNode scopeAttributes = NODE_FACTORY.objectNode();
+        if (!name.isEmpty()) {
+            scopeAttributes.put(nameKey, name);
+        }
+        if (!version.isEmpty()) {
+            scopeAttributes.put(versionKey, version);
+        }
+        return scopeAttributes;
+    }
+
+    /**
+     * Puts the attributes of the shared resource or scope node. All attribute values are immutable value nodes, so
+     * they can be shared between events.
+     */
+    private static void putAllAttributes(final ObjectNode attributes, final ObjectNode sharedAttributes) {
+        for (final Iterator<Map.Entry<String, JsonNode>> it = sharedAttributes.fields(); it.hasNext(); ) {
+            final Map.Entry<String, JsonNode> attribute = it.next();
+            attributes.set(attribute.getKey(), attribute.getValue());
+        }
+    }
+
+    private static void putAttributes(final ObjectNode attributes, final List<KeyValue> keyValues, final AttributeKeyCache attributeKeys) {
+        for (final KeyValue keyValue : keyValues) {
+            final String key = attributeKeys.translate(keyValue.getKey());
+            if (attributes.replace(key, convertToJsonNode(keyValue.getValue())) != null) {
+                throw new OTelDecodingException(String.format("Duplicate attribute key %s", key));
+            }
+        }
+    }
+
+    private static JsonNode convertToJsonNode(final AnyValue value) {
+        switch (value.getValueCase()) {
+            case VALUE_NOT_SET:
+            case STRING_VALUE:
+                return NODE_FACTORY.textNode(value.getStringValue());
+            case BOOL_VALUE:
+                return NODE_FACTORY.booleanNode(value.getBoolValue());
+            case INT_VALUE:
+                return NODE_FACTORY.numberNode(value.getIntValue());
+            case DOUBLE_VALUE:
+                return NODE_FACTORY.numberNode(value.getDoubleValue());
+            case ARRAY_VALUE:
+            case KVLIST_VALUE:
+                try {
+                    return NODE_FACTORY.textNode(OTelProtoCodec.writeNestedValueAsJsonString(value));
+                } catch (final IOException e) {
+                    throw new OTelDecodingException(e);
+                }
+            default:
+                throw new OTelDecodingException("Unknown case");
+        }
+    }
+}
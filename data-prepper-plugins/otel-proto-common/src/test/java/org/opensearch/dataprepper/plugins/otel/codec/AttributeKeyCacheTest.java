@@ -0,0 +1,38 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.otel.codec;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class AttributeKeyCacheTest {
+
+    @Test
+    void translate_returns_the_same_translated_key_instance_for_a_key() {
+        final AttributeKeyCache objectUnderTest = new AttributeKeyCache(OTelProtoCodec.SPAN_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+
+        final String translatedKey = objectUnderTest.translate("http.method");
+
+        assertThat(translatedKey, equalTo("span.attributes.http@method"));
+        assertThat(objectUnderTest.translate(new String("http.method")), sameInstance(translatedKey));
+        assertThat(objectUnderTest.size(), equalTo(1));
+    }
+
+    @Test
+    void translate_keeps_at_most_the_maximum_size_of_keys() {
+        final AttributeKeyCache objectUnderTest = new AttributeKeyCache(OTelProtoCodec.REPLACE_DOT_WITH_AT, 2);
+
+        objectUnderTest.translate("a.1");
+        objectUnderTest.translate("a.2");
+
+        assertThat(objectUnderTest.translate("a.3"), equalTo("a@3"));
+        assertThat(objectUnderTest.translate("a.3"), equalTo("a@3"));
+        assertThat(objectUnderTest.size(), equalTo(2));
+    }
+}
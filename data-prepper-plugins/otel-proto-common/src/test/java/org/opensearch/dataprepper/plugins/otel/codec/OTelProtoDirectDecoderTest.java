@@ -0,0 +1,237 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.otel.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.util.JsonFormat;
+import io.opentelemetry.proto.collector.logs.v1.ExportLogsServiceRequest;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.ArrayValue;
+import io.opentelemetry.proto.common.v1.InstrumentationLibrary;
+import io.opentelemetry.proto.common.v1.InstrumentationScope;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.common.v1.KeyValueList;
+import io.opentelemetry.proto.logs.v1.InstrumentationLibraryLogs;
+import io.opentelemetry.proto.logs.v1.LogRecord;
+import io.opentelemetry.proto.logs.v1.ResourceLogs;
+import io.opentelemetry.proto.logs.v1.ScopeLogs;
+import io.opentelemetry.proto.resource.v1.Resource;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
+import io.opentelemetry.proto.trace.v1.Status;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.log.OpenTelemetryLog;
+import org.opensearch.dataprepper.model.trace.Span;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OTelProtoDirectDecoderTest {
+    private static final Random RANDOM = new Random();
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final long TIME_UNIX_NANO = 1_590_328_800_000_000_000L;
+
+    private final OTelProtoCodec.OTelProtoDecoder standardDecoder = new OTelProtoCodec.OTelProtoDecoder();
+    private final OTelProtoDirectDecoder objectUnderTest = new OTelProtoDirectDecoder();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test-request.json", "test-request-instrumentation-library.json",
+            "test-request-both-span-types.json", "test-request-no-spans.json"})
+    void parseExportTraceServiceRequest_decodes_the_same_spans_as_the_standard_decoder(final String requestJsonFileName) throws IOException {
+        final ExportTraceServiceRequest.Builder builder = ExportTraceServiceRequest.newBuilder();
+        JsonFormat.parser().merge(getFileAsJsonString(requestJsonFileName), builder);
+
+        assertSameSpans(builder.build());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"test-request-log.json", "test-request-log-is.json"})
+    void parseExportLogsServiceRequest_decodes_the_same_logs_as_the_standard_decoder(final String requestJsonFileName) throws IOException {
+        final ExportLogsServiceRequest.Builder builder = ExportLogsServiceRequest.newBuilder();
+        JsonFormat.parser().merge(getFileAsJsonString(requestJsonFileName), builder);
+
+        assertSameLogs(builder.build());
+    }
+
+    @Test
+    void parseExportTraceServiceRequest_with_all_span_fields_decodes_the_same_spans_as_the_standard_decoder() throws IOException {
+        final io.opentelemetry.proto.trace.v1.Span rootSpan = createSpan(ByteString.EMPTY)
+                .setStatus(Status.newBuilder().setCodeValue(2).setMessage("failed"))
+                .addEvents(io.opentelemetry.proto.trace.v1.Span.Event.newBuilder()
+                        .setName("exception")
+                        .setTimeUnixNano(TIME_UNIX_NANO + 10)
+                        .setDroppedAttributesCount(1)
+                        .addAttributes(createKeyValue("exception.type", AnyValue.newBuilder().setStringValue("IOException"))))
+                .addLinks(io.opentelemetry.proto.trace.v1.Span.Link.newBuilder()
+                        .setTraceId(randomBytes(16))
+                        .setSpanId(randomBytes(8))
+                        .setTraceState("state")
+                        .addAttributes(createKeyValue("link.kind", AnyValue.newBuilder().setIntValue(3))))
+                .build();
+        final io.opentelemetry.proto.trace.v1.Span childSpan = createSpan(randomBytes(8)).build();
+        final ExportTraceServiceRequest request = ExportTraceServiceRequest.newBuilder()
+                .addResourceSpans(ResourceSpans.newBuilder()
+                        .setResource(createResource())
+                        .addScopeSpans(ScopeSpans.newBuilder()
+                                .setScope(InstrumentationScope.newBuilder().setName("scope").setVersion("1.0"))
+                                .addSpans(rootSpan)
+                                .addSpans(childSpan)))
+                .addResourceSpans(ResourceSpans.newBuilder()
+                        .addScopeSpans(ScopeSpans.newBuilder().addSpans(childSpan)))
+                .build();
+
+        assertSameSpans(request);
+    }
+
+    @Test
+    void parseExportLogsServiceRequest_with_all_log_fields_decodes_the_same_logs_as_the_standard_decoder() throws IOException {
+        final LogRecord logRecord = LogRecord.newBuilder()
+                .setTimeUnixNano(TIME_UNIX_NANO)
+                .setObservedTimeUnixNano(TIME_UNIX_NANO + 1)
+                .setSeverityNumberValue(9)
+                .setSeverityText("INFO")
+                .setBody(AnyValue.newBuilder().setKvlistValue(KeyValueList.newBuilder()
+                        .addValues(createKeyValue("message.text", AnyValue.newBuilder().setStringValue("log message")))
+                        .addValues(createKeyValue("count", AnyValue.newBuilder().setIntValue(12)))))
+                .addAttributes(createKeyValue("http.status_code", AnyValue.newBuilder().setIntValue(200)))
+                .addAttributes(createKeyValue("ratio", AnyValue.newBuilder().setDoubleValue(0.5)))
+                .setDroppedAttributesCount(2)
+                .setFlags(1)
+                .setTraceId(randomBytes(16))
+                .setSpanId(randomBytes(8))
+                .build();
+        final ExportLogsServiceRequest request = ExportLogsServiceRequest.newBuilder()
+                .addResourceLogs(ResourceLogs.newBuilder()
+                        .setResource(createResource())
+                        .setSchemaUrl("schemaUrl")
+                        .addInstrumentationLibraryLogs(InstrumentationLibraryLogs.newBuilder()
+                                .setInstrumentationLibrary(InstrumentationLibrary.newBuilder().setName("library").setVersion("0.1"))
+                                .addLogRecords(logRecord))
+                        .addScopeLogs(ScopeLogs.newBuilder()
+                                .setScope(InstrumentationScope.newBuilder().setName("scope"))
+                                .addLogRecords(logRecord)
+                                .addLogRecords(LogRecord.getDefaultInstance())))
+                .build();
+
+        assertSameLogs(request);
+    }
+
+    @Test
+    void parseExportTraceServiceRequest_with_duplicate_attribute_keys_throws_OTelDecodingException() {
+        final io.opentelemetry.proto.trace.v1.Span span = createSpan(ByteString.EMPTY)
+                .addAttributes(createKeyValue("http.method", AnyValue.newBuilder().setStringValue("PUT")))
+                .build();
+        final ExportTraceServiceRequest request = ExportTraceServiceRequest.newBuilder()
+                .addResourceSpans(ResourceSpans.newBuilder().addScopeSpans(ScopeSpans.newBuilder().addSpans(span)))
+                .build();
+
+        assertThrows(OTelDecodingException.class, () -> objectUnderTest.parseExportTraceServiceRequest(request));
+    }
+
+    @Test
+    void parseExportTraceServiceRequest_with_bytes_attribute_value_throws_OTelDecodingException() {
+        final io.opentelemetry.proto.trace.v1.Span span = createSpan(ByteString.EMPTY)
+                .addAttributes(createKeyValue("bytes", AnyValue.newBuilder().setBytesValue(randomBytes(4))))
+                .build();
+        final ExportTraceServiceRequest request = ExportTraceServiceRequest.newBuilder()
+                .addResourceSpans(ResourceSpans.newBuilder().addScopeSpans(ScopeSpans.newBuilder().addSpans(span)))
+                .build();
+
+        assertThrows(OTelDecodingException.class, () -> objectUnderTest.parseExportTraceServiceRequest(request));
+    }
+
+    private void assertSameSpans(final ExportTraceServiceRequest request) throws IOException {
+        final List<Span> expectedSpans = standardDecoder.parseExportTraceServiceRequest(request);
+        final List<Span> actualSpans = objectUnderTest.parseExportTraceServiceRequest(request);
+
+        assertThat(actualSpans.size(), equalTo(expectedSpans.size()));
+        for (int i = 0; i < expectedSpans.size(); i++) {
+            assertThat(readData(actualSpans.get(i)), equalTo(readData(expectedSpans.get(i))));
+            assertThat(actualSpans.get(i).getMetadata().getEventType(), equalTo(expectedSpans.get(i).getMetadata().getEventType()));
+        }
+    }
+
+    private void assertSameLogs(final ExportLogsServiceRequest request) throws IOException {
+        final List<OpenTelemetryLog> expectedLogs = standardDecoder.parseExportLogsServiceRequest(request);
+        final List<OpenTelemetryLog> actualLogs = objectUnderTest.parseExportLogsServiceRequest(request);
+
+        assertThat(expectedLogs.size(), greaterThan(0));
+        assertThat(actualLogs.size(), equalTo(expectedLogs.size()));
+        for (int i = 0; i < expectedLogs.size(); i++) {
+            assertThat(readData(actualLogs.get(i)), equalTo(readData(expectedLogs.get(i))));
+            assertThat(actualLogs.get(i).getMetadata().getEventType(), equalTo(expectedLogs.get(i).getMetadata().getEventType()));
+        }
+    }
+
+    private static JsonNode readData(final Event event) throws IOException {
+        try (final JsonParser parser = ((JacksonEvent) event).createDataParser()) {
+            return OBJECT_MAPPER.readTree(parser);
+        }
+    }
+
+    private static io.opentelemetry.proto.trace.v1.Span.Builder createSpan(final ByteString parentSpanId) {
+        return io.opentelemetry.proto.trace.v1.Span.newBuilder()
+                .setTraceId(randomBytes(16))
+                .setSpanId(randomBytes(8))
+                .setParentSpanId(parentSpanId)
+                .setName("GET /orders")
+                .setKind(io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_SERVER)
+                .setStartTimeUnixNano(TIME_UNIX_NANO)
+                .setEndTimeUnixNano(TIME_UNIX_NANO + 1_000_000)
+                .setDroppedEventsCount(3)
+                .setDroppedLinksCount(4)
+                .addAttributes(createKeyValue("http.method", AnyValue.newBuilder().setStringValue("GET")))
+                .addAttributes(createKeyValue("http.status_code", AnyValue.newBuilder().setIntValue(200)))
+                .addAttributes(createKeyValue("retry", AnyValue.newBuilder().setBoolValue(false)))
+                .addAttributes(createKeyValue("sample.rate", AnyValue.newBuilder().setDoubleValue(0.25)))
+                .addAttributes(createKeyValue("empty", AnyValue.newBuilder()))
+                .addAttributes(createKeyValue("http.request.header.accept", AnyValue.newBuilder().setArrayValue(ArrayValue.newBuilder()
+                        .addValues(AnyValue.newBuilder().setStringValue("application/json"))
+                        .addValues(AnyValue.newBuilder().setArrayValue(ArrayValue.newBuilder()
+                                .addValues(AnyValue.newBuilder().setIntValue(1)))))));
+    }
+
+    private static Resource createResource() {
+        return Resource.newBuilder()
+                .addAttributes(createKeyValue(OTelProtoCodec.SERVICE_NAME, AnyValue.newBuilder().setStringValue("order-service")))
+                .addAttributes(createKeyValue("host.name", AnyValue.newBuilder().setStringValue("host-1")))
+                .build();
+    }
+
+    private static KeyValue createKeyValue(final String key, final AnyValue.Builder value) {
+        return KeyValue.newBuilder().setKey(key).setValue(value).build();
+    }
+
+    private static ByteString randomBytes(final int length) {
+        final byte[] bytes = new byte[length];
+        RANDOM.nextBytes(bytes);
+        return ByteString.copyFrom(bytes);
+    }
+
+    private static String getFileAsJsonString(final String requestJsonFileName) throws IOException {
+        try (final InputStream inputStream = Objects.requireNonNull(
+                OTelProtoDirectDecoderTest.class.getClassLoader().getResourceAsStream(requestJsonFileName))) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
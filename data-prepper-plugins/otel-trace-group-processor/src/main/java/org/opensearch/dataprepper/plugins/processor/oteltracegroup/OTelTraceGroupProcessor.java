@@ -52,11 +52,15 @@ public class OTelTraceGroupProcessor extends AbstractProcessor<Record<Span>, Rec
     public static final String RECORDS_IN_MISSING_TRACE_GROUP = "recordsInMissingTraceGroup";
     public static final String RECORDS_OUT_FIXED_TRACE_GROUP = "recordsOutFixedTraceGroup";
     public static final String RECORDS_OUT_MISSING_TRACE_GROUP = "recordsOutMissingTraceGroup";
+    public static final String TRACE_GROUP_CACHE_HITS = "traceGroupCacheHits";
+    public static final String TRACE_GROUP_CACHE_MISSES = "traceGroupCacheMisses";
+    public static final String TRACE_GROUP_SEARCH_LATENCY = "traceGroupSearchLatency";
 
     private static final Logger LOG = LoggerFactory.getLogger(OTelTraceGroupProcessor.class);
 
     private final OTelTraceGroupProcessorConfig otelTraceGroupProcessorConfig;
     private final RestHighLevelClient restHighLevelClient;
+    private final TraceGroupLookup traceGroupLookup;
 
     private final Counter recordsInMissingTraceGroupCounter;
     private final Counter recordsOutFixedTraceGroupCounter;
@@ -71,6 +75,7 @@ public class OTelTraceGroupProcessor extends AbstractProcessor<Record<Span>, Rec
         recordsInMissingTraceGroupCounter = pluginMetrics.counter(RECORDS_IN_MISSING_TRACE_GROUP);
         recordsOutFixedTraceGroupCounter = pluginMetrics.counter(RECORDS_OUT_FIXED_TRACE_GROUP);
         recordsOutMissingTraceGroupCounter = pluginMetrics.counter(RECORDS_OUT_MISSING_TRACE_GROUP);
+        traceGroupLookup = new TraceGroupLookup(this::searchTraceGroupByTraceIds, otelTraceGroupProcessorConfig, pluginMetrics);
     }
 
     @Override
@@ -91,7 +96,7 @@ public class OTelTraceGroupProcessor extends AbstractProcessor<Record<Span>, Rec
             }
         }
 
-        final Map<String, TraceGroup> traceIdToTraceGroup = searchTraceGroupByTraceIds(traceIdsToLookUp);
+        final Map<String, TraceGroup> traceIdToTraceGroup = traceGroupLookup.lookUp(traceIdsToLookUp);
         for (final Record<Span> record: recordsMissingTraceGroupInfo) {
             final Span span = record.getData();
             final String traceId = span.getTraceId();
@@ -122,21 +127,16 @@ public class OTelTraceGroupProcessor extends AbstractProcessor<Record<Span>, Rec
         span.setTraceGroupFields(traceGroup.getTraceGroupFields());
     }
 
-    private Map<String, TraceGroup> searchTraceGroupByTraceIds(final Collection<String> traceIds) {
+    private Map<String, TraceGroup> searchTraceGroupByTraceIds(final Collection<String> traceIds) throws IOException {
         final Map<String, TraceGroup> traceIdToTraceGroup = new HashMap<>();
         final SearchRequest searchRequest = createSearchRequest(traceIds);
 
-        try {
-            final SearchResponse searchResponse = restHighLevelClient.search(searchRequest, RequestOptions.DEFAULT);
-            final SearchHit[] searchHits = searchResponse.getHits().getHits();
-            Arrays.asList(searchHits).forEach(searchHit -> {
-                final Optional<Map.Entry<String, TraceGroup>> optionalStringTraceGroupEntry = fromSearchHitToMapEntry(searchHit);
-                optionalStringTraceGroupEntry.ifPresent(entry -> traceIdToTraceGroup.put(entry.getKey(), entry.getValue()));
-            });
-        } catch (Exception e) {
-            // TODO: retry for status code 429 of OpenSearchException?
-            LOG.error("Search request for traceGroup failed for traceIds: {} due to {}", traceIds, e.getMessage());
-        }
+        final SearchResponse searchResponse = restHighLevelClient.search(searchRequest, RequestOptions.DEFAULT);
+        final SearchHit[] searchHits = searchResponse.getHits().getHits();
+        Arrays.asList(searchHits).forEach(searchHit -> {
+            final Optional<Map.Entry<String, TraceGroup>> optionalStringTraceGroupEntry = fromSearchHitToMapEntry(searchHit);
+            optionalStringTraceGroupEntry.ifPresent(entry -> traceIdToTraceGroup.put(entry.getKey(), entry.getValue()));
+        });
 
         return traceIdToTraceGroup;
     }
@@ -155,6 +155,8 @@ public class OTelTraceGroupProcessor extends AbstractProcessor<Record<Span>, Rec
         searchSourceBuilder.docValueField(TraceGroup.TRACE_GROUP_DURATION_IN_NANOS_FIELD);
         searchSourceBuilder.docValueField(TraceGroup.TRACE_GROUP_STATUS_CODE_FIELD);
         searchSourceBuilder.fetchSource(false);
+        // Without a size, OpenSearch only returns the first 10 hits, and the other trace groups would be taken as missing
+        searchSourceBuilder.size(traceIds.size());
         searchRequest.source(searchSourceBuilder);
 
         return searchRequest;
@@ -10,6 +10,8 @@ import org.opensearch.dataprepper.plugins.sink.opensearch.ConnectionConfiguratio
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.IndexConstants;
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.IndexType;
 
+import java.time.Duration;
+
 public class OTelTraceGroupProcessorConfig {
     protected static final String TRACE_ID_FIELD = "traceId";
     protected static final String SPAN_ID_FIELD = "spanId";
@@ -17,18 +19,62 @@ public class OTelTraceGroupProcessorConfig {
     protected static final String RAW_INDEX_ALIAS = IndexConstants.TYPE_TO_DEFAULT_ALIAS.get(IndexType.TRACE_ANALYTICS_RAW);
     protected static final String STRICT_DATE_TIME = "strict_date_time";
 
+    static final String TRACE_GROUP_CACHE_MAX_SIZE = "trace_group_cache_max_size";
+    static final String TRACE_GROUP_CACHE_TTL_MILLIS = "trace_group_cache_ttl_millis";
+    static final String MISSING_TRACE_GROUP_CACHE_TTL_MILLIS = "missing_trace_group_cache_ttl_millis";
+    static final long DEFAULT_TRACE_GROUP_CACHE_MAX_SIZE = 1_000_000L;
+    static final long DEFAULT_TRACE_GROUP_CACHE_TTL_MILLIS = 15_000L;
+    static final long DEFAULT_MISSING_TRACE_GROUP_CACHE_TTL_MILLIS = 1_000L;
+
     private final ConnectionConfiguration esConnectionConfig;
+    private final long traceGroupCacheMaxSize;
+    private final Duration traceGroupCacheTimeToLive;
+    private final Duration missingTraceGroupCacheTimeToLive;
 
     public ConnectionConfiguration getEsConnectionConfig() {
         return esConnectionConfig;
     }
 
-    private OTelTraceGroupProcessorConfig(final ConnectionConfiguration esConnectionConfig) {
+    /**
+     * @since 2.5
+     */
+    public long getTraceGroupCacheMaxSize() {
+        return traceGroupCacheMaxSize;
+    }
+
+    /**
+     * @since 2.5
+     */
+    public Duration getTraceGroupCacheTimeToLive() {
+        return traceGroupCacheTimeToLive;
+    }
+
+    /**
+     * @return how long a trace ID which was not found is not looked up again
+     * @since 2.5
+     */
+    public Duration getMissingTraceGroupCacheTimeToLive() {
+        return missingTraceGroupCacheTimeToLive;
+    }
+
+    private OTelTraceGroupProcessorConfig(final ConnectionConfiguration esConnectionConfig,
+                                          final long traceGroupCacheMaxSize,
+                                          final Duration traceGroupCacheTimeToLive,
+                                          final Duration missingTraceGroupCacheTimeToLive) {
         this.esConnectionConfig = esConnectionConfig;
+        this.traceGroupCacheMaxSize = traceGroupCacheMaxSize;
+        this.traceGroupCacheTimeToLive = traceGroupCacheTimeToLive;
+        this.missingTraceGroupCacheTimeToLive = missingTraceGroupCacheTimeToLive;
     }
 
     public static OTelTraceGroupProcessorConfig buildConfig(final PluginSetting pluginSetting) {
         final ConnectionConfiguration esConnectionConfig = ConnectionConfiguration.readConnectionConfiguration(pluginSetting);
-        return new OTelTraceGroupProcessorConfig(esConnectionConfig);
+        final long traceGroupCacheMaxSize = pluginSetting.getLongOrDefault(TRACE_GROUP_CACHE_MAX_SIZE, DEFAULT_TRACE_GROUP_CACHE_MAX_SIZE);
+        final long traceGroupCacheTtlMillis = pluginSetting.getLongOrDefault(
+                TRACE_GROUP_CACHE_TTL_MILLIS, DEFAULT_TRACE_GROUP_CACHE_TTL_MILLIS);
+        final long missingTraceGroupCacheTtlMillis = pluginSetting.getLongOrDefault(
+                MISSING_TRACE_GROUP_CACHE_TTL_MILLIS, DEFAULT_MISSING_TRACE_GROUP_CACHE_TTL_MILLIS);
+        return new OTelTraceGroupProcessorConfig(esConnectionConfig, traceGroupCacheMaxSize,
+                Duration.ofMillis(traceGroupCacheTtlMillis), Duration.ofMillis(missingTraceGroupCacheTtlMillis));
     }
 }
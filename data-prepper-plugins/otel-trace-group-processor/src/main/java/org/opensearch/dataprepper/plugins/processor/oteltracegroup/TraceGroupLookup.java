@@ -0,0 +1,137 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltracegroup;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.plugins.processor.oteltracegroup.model.TraceGroup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looks up the trace groups of trace IDs, keeping the results between batches.
+ * <p>
+ * Trace groups which were found are cached for the trace group cache time-to-live. Trace IDs which were not found are
+ * cached for the shorter missing trace group cache time-to-live, after which their root span may have been indexed.
+ * The remaining trace IDs of a lookup are searched together. A trace ID which is already being searched by another
+ * worker is not searched again; the lookup waits for the other search instead.
+ */
+class TraceGroupLookup {
+    private static final Logger LOG = LoggerFactory.getLogger(TraceGroupLookup.class);
+
+    private final TraceGroupSearch traceGroupSearch;
+    private final Cache<String, TraceGroup> traceGroupCache;
+    private final Cache<String, Boolean> missingTraceGroupCache;
+    private final Map<String, CompletableFuture<Optional<TraceGroup>>> inFlightSearches = new ConcurrentHashMap<>();
+
+    private final Counter traceGroupCacheHitsCounter;
+    private final Counter traceGroupCacheMissesCounter;
+    private final Timer traceGroupSearchLatencyTimer;
+
+    TraceGroupLookup(final TraceGroupSearch traceGroupSearch,
+                     final OTelTraceGroupProcessorConfig otelTraceGroupProcessorConfig,
+                     final PluginMetrics pluginMetrics) {
+        this.traceGroupSearch = traceGroupSearch;
+        traceGroupCache = CacheBuilder.newBuilder()
+                .maximumSize(otelTraceGroupProcessorConfig.getTraceGroupCacheMaxSize())
+                .expireAfterWrite(otelTraceGroupProcessorConfig.getTraceGroupCacheTimeToLive().toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+        missingTraceGroupCache = CacheBuilder.newBuilder()
+                .maximumSize(otelTraceGroupProcessorConfig.getTraceGroupCacheMaxSize())
+                .expireAfterWrite(otelTraceGroupProcessorConfig.getMissingTraceGroupCacheTimeToLive().toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+
+        traceGroupCacheHitsCounter = pluginMetrics.counter(OTelTraceGroupProcessor.TRACE_GROUP_CACHE_HITS);
+        traceGroupCacheMissesCounter = pluginMetrics.counter(OTelTraceGroupProcessor.TRACE_GROUP_CACHE_MISSES);
+        traceGroupSearchLatencyTimer = pluginMetrics.timer(OTelTraceGroupProcessor.TRACE_GROUP_SEARCH_LATENCY);
+    }
+
+    /**
+     * @param traceIds the trace IDs to look up
+     * @return the trace groups which were found by trace ID
+     */
+    Map<String, TraceGroup> lookUp(final Collection<String> traceIds) {
+        final Map<String, TraceGroup> traceIdToTraceGroup = new HashMap<>();
+        final Map<String, CompletableFuture<Optional<TraceGroup>>> ownSearches = new HashMap<>();
+        final Map<String, CompletableFuture<Optional<TraceGroup>>> otherSearches = new HashMap<>();
+
+        for (final String traceId : traceIds) {
+            final TraceGroup traceGroup = traceGroupCache.getIfPresent(traceId);
+            if (traceGroup != null) {
+                traceIdToTraceGroup.put(traceId, traceGroup);
+                traceGroupCacheHitsCounter.increment();
+            } else if (missingTraceGroupCache.getIfPresent(traceId) != null) {
+                traceGroupCacheHitsCounter.increment();
+            } else {
+                traceGroupCacheMissesCounter.increment();
+                final CompletableFuture<Optional<TraceGroup>> search = new CompletableFuture<>();
+                final CompletableFuture<Optional<TraceGroup>> inFlightSearch = inFlightSearches.putIfAbsent(traceId, search);
+                if (inFlightSearch == null) {
+                    ownSearches.put(traceId, search);
+                } else {
+                    otherSearches.put(traceId, inFlightSearch);
+                }
+            }
+        }
+
+        if (!ownSearches.isEmpty()) {
+            search(ownSearches, traceIdToTraceGroup);
+        }
+        otherSearches.forEach((traceId, search) -> search.join().ifPresent(traceGroup -> traceIdToTraceGroup.put(traceId, traceGroup)));
+
+        return traceIdToTraceGroup;
+    }
+
+    private void search(final Map<String, CompletableFuture<Optional<TraceGroup>>> searches, final Map<String, TraceGroup> traceIdToTraceGroup) {
+        Map<String, TraceGroup> searchResults = Collections.emptyMap();
+        boolean isSearchSuccessful = false;
+        try {
+            searchResults = traceGroupSearchLatencyTimer.recordCallable(() -> traceGroupSearch.search(searches.keySet()));
+            isSearchSuccessful = true;
+        } catch (final Exception e) {
+            // TODO: retry for status code 429 of OpenSearchException?
+            LOG.error("Search request for traceGroup failed for traceIds: {} due to {}", searches.keySet(), e.getMessage());
+        } finally {
+            for (final Map.Entry<String, CompletableFuture<Optional<TraceGroup>>> searchEntry : searches.entrySet()) {
+                final String traceId = searchEntry.getKey();
+                final TraceGroup traceGroup = searchResults.get(traceId);
+                if (traceGroup != null) {
+                    traceGroupCache.put(traceId, traceGroup);
+                    traceIdToTraceGroup.put(traceId, traceGroup);
+                } else if (isSearchSuccessful) {
+                    missingTraceGroupCache.put(traceId, Boolean.TRUE);
+                }
+                inFlightSearches.remove(traceId, searchEntry.getValue());
+                searchEntry.getValue().complete(Optional.ofNullable(traceGroup));
+            }
+        }
+    }
+
+    /**
+     * Searches the trace groups of trace IDs in the sink.
+     */
+    @FunctionalInterface
+    interface TraceGroupSearch {
+        /**
+         * @param traceIds the trace IDs to search
+         * @return the trace groups which were found by trace ID
+         * @throws Exception if the search failed
+         */
+        Map<String, TraceGroup> search(Collection<String> traceIds) throws Exception;
+    }
+}
@@ -14,7 +14,9 @@ import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.opensearch.dataprepper.plugins.sink.opensearch.ConnectionConfiguration;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,6 +35,28 @@ public class OTelTraceGroupProcessorConfigTests {
             PluginSetting testPluginSetting = new PluginSetting("otel_trace_group", new HashMap<>());
             OTelTraceGroupProcessorConfig otelTraceGroupProcessorConfig = OTelTraceGroupProcessorConfig.buildConfig(testPluginSetting);
             assertEquals(connectionConfigurationMock, otelTraceGroupProcessorConfig.getEsConnectionConfig());
+            assertEquals(OTelTraceGroupProcessorConfig.DEFAULT_TRACE_GROUP_CACHE_MAX_SIZE, otelTraceGroupProcessorConfig.getTraceGroupCacheMaxSize());
+            assertEquals(Duration.ofMillis(OTelTraceGroupProcessorConfig.DEFAULT_TRACE_GROUP_CACHE_TTL_MILLIS),
+                    otelTraceGroupProcessorConfig.getTraceGroupCacheTimeToLive());
+            assertEquals(Duration.ofMillis(OTelTraceGroupProcessorConfig.DEFAULT_MISSING_TRACE_GROUP_CACHE_TTL_MILLIS),
+                    otelTraceGroupProcessorConfig.getMissingTraceGroupCacheTimeToLive());
+        }
+    }
+
+    @Test
+    public void testInitializeWithTraceGroupCacheSettings() {
+        try (MockedStatic<ConnectionConfiguration> connectionConfigurationMockedStatic = Mockito.mockStatic(ConnectionConfiguration.class)) {
+            connectionConfigurationMockedStatic.when(() -> ConnectionConfiguration.readConnectionConfiguration(any(PluginSetting.class)))
+                    .thenReturn(connectionConfigurationMock);
+            final Map<String, Object> settings = new HashMap<>();
+            settings.put(OTelTraceGroupProcessorConfig.TRACE_GROUP_CACHE_MAX_SIZE, 500);
+            settings.put(OTelTraceGroupProcessorConfig.TRACE_GROUP_CACHE_TTL_MILLIS, 30000);
+            settings.put(OTelTraceGroupProcessorConfig.MISSING_TRACE_GROUP_CACHE_TTL_MILLIS, 0);
+            PluginSetting testPluginSetting = new PluginSetting("otel_trace_group", settings);
+            OTelTraceGroupProcessorConfig otelTraceGroupProcessorConfig = OTelTraceGroupProcessorConfig.buildConfig(testPluginSetting);
+            assertEquals(500L, otelTraceGroupProcessorConfig.getTraceGroupCacheMaxSize());
+            assertEquals(Duration.ofSeconds(30), otelTraceGroupProcessorConfig.getTraceGroupCacheTimeToLive());
+            assertEquals(Duration.ZERO, otelTraceGroupProcessorConfig.getMissingTraceGroupCacheTimeToLive());
         }
     }
 }
@@ -0,0 +1,248 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltracegroup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.aws.api.AwsCredentialsSupplier;
+import org.opensearch.dataprepper.metrics.MetricNames;
+import org.opensearch.dataprepper.metrics.MetricsTestUtil;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.model.trace.Span;
+import org.opensearch.dataprepper.plugins.processor.oteltracegroup.model.TraceGroup;
+import org.opensearch.dataprepper.plugins.sink.opensearch.ConnectionConfiguration;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests the trace group lookup of the {@link OTelTraceGroupProcessor} against a local HTTP server which answers
+ * search requests as OpenSearch does.
+ */
+@ExtendWith(MockitoExtension.class)
+class OTelTraceGroupProcessorSearchTests {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String TEST_PIPELINE_NAME = "testPipelineName";
+    private static final String PLUGIN_NAME = "otel_trace_group";
+    private static final int DEFAULT_SEARCH_SIZE = 10;
+    private static final TraceGroup TEST_TRACE_GROUP = new TraceGroup.TraceGroupBuilder()
+            .setTraceGroup("/test_trace_group")
+            .setTraceGroupFields(DefaultTraceGroupFields.builder()
+                    .withEndTime("2020-08-19T05:30:46.089556800Z")
+                    .withStatusCode(1)
+                    .withDurationInNanos(48545100L)
+                    .build())
+            .build();
+
+    @Mock
+    private AwsCredentialsSupplier awsCredentialsSupplier;
+
+    private HttpServer httpServer;
+    private AtomicInteger searchRequestCount;
+    private CountDownLatch searchReleased;
+    private String foundTraceId;
+    private Set<String> foundTraceIds;
+    private String missingTraceId;
+    private OTelTraceGroupProcessor otelTraceGroupProcessor;
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        MetricsTestUtil.initMetrics();
+        foundTraceId = UUID.randomUUID().toString().replace("-", "");
+        foundTraceIds = ConcurrentHashMap.newKeySet();
+        foundTraceIds.add(foundTraceId);
+        missingTraceId = UUID.randomUUID().toString().replace("-", "");
+        searchRequestCount = new AtomicInteger();
+        searchReleased = new CountDownLatch(0);
+        httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        httpServer.createContext("/", this::respondToSearch);
+        httpServer.setExecutor(Executors.newCachedThreadPool());
+        httpServer.start();
+        executorService = Executors.newFixedThreadPool(2);
+
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(ConnectionConfiguration.HOSTS, Collections.singletonList("http://localhost:" + httpServer.getAddress().getPort()));
+        settings.put(OTelTraceGroupProcessorConfig.MISSING_TRACE_GROUP_CACHE_TTL_MILLIS, 60_000);
+        final PluginSetting pluginSetting = new PluginSetting(PLUGIN_NAME, settings);
+        pluginSetting.setPipelineName(TEST_PIPELINE_NAME);
+        otelTraceGroupProcessor = new OTelTraceGroupProcessor(pluginSetting, awsCredentialsSupplier);
+    }
+
+    @AfterEach
+    void tearDown() {
+        otelTraceGroupProcessor.shutdown();
+        executorService.shutdownNow();
+        httpServer.stop(0);
+    }
+
+    @Test
+    void testTraceGroupIsSearchedOnceForSpansOfConsecutiveBatches() {
+        final Collection<Record<Span>> firstRecordsOut = otelTraceGroupProcessor.doExecute(List.of(buildChildSpanRecord(foundTraceId)));
+        final Collection<Record<Span>> secondRecordsOut = otelTraceGroupProcessor.doExecute(
+                List.of(buildChildSpanRecord(foundTraceId), buildChildSpanRecord(foundTraceId)));
+
+        assertThat(searchRequestCount.get(), equalTo(1));
+        assertThat(countSpansWithTraceGroup(firstRecordsOut), equalTo(1));
+        assertThat(countSpansWithTraceGroup(secondRecordsOut), equalTo(2));
+        checkCounterValue(OTelTraceGroupProcessor.TRACE_GROUP_CACHE_MISSES, 1.0);
+        checkCounterValue(OTelTraceGroupProcessor.TRACE_GROUP_CACHE_HITS, 1.0);
+        checkCounterValue(OTelTraceGroupProcessor.RECORDS_OUT_FIXED_TRACE_GROUP, 3.0);
+    }
+
+    @Test
+    void testMissingTraceGroupIsNotSearchedAgainWithinMissingTraceGroupCacheTtl() {
+        otelTraceGroupProcessor.doExecute(List.of(buildChildSpanRecord(missingTraceId)));
+        final Collection<Record<Span>> recordsOut = otelTraceGroupProcessor.doExecute(List.of(buildChildSpanRecord(missingTraceId)));
+
+        assertThat(searchRequestCount.get(), equalTo(1));
+        assertThat(countSpansWithTraceGroup(recordsOut), equalTo(0));
+        checkCounterValue(OTelTraceGroupProcessor.RECORDS_OUT_MISSING_TRACE_GROUP, 2.0);
+    }
+
+    @Test
+    void testConcurrentWorkersShareOneSearchForTheSameTraceId() throws Exception {
+        searchReleased = new CountDownLatch(1);
+
+        final Future<Collection<Record<Span>>> firstWorker = executorService.submit(
+                () -> otelTraceGroupProcessor.doExecute(List.of(buildChildSpanRecord(foundTraceId))));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> searchRequestCount.get() == 1);
+        final Future<Collection<Record<Span>>> secondWorker = executorService.submit(
+                () -> otelTraceGroupProcessor.doExecute(List.of(buildChildSpanRecord(foundTraceId))));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> getCounterValue(OTelTraceGroupProcessor.TRACE_GROUP_CACHE_MISSES) == 2.0);
+        searchReleased.countDown();
+
+        assertThat(countSpansWithTraceGroup(firstWorker.get(5, TimeUnit.SECONDS)), equalTo(1));
+        assertThat(countSpansWithTraceGroup(secondWorker.get(5, TimeUnit.SECONDS)), equalTo(1));
+        assertThat(searchRequestCount.get(), equalTo(1));
+    }
+
+    @Test
+    void testTraceGroupsOfMoreTraceIdsThanTheDefaultSearchSizeAreFound() {
+        final List<Record<Span>> records = new ArrayList<>();
+        for (int i = 0; i < DEFAULT_SEARCH_SIZE + 2; i++) {
+            final String traceId = UUID.randomUUID().toString().replace("-", "");
+            foundTraceIds.add(traceId);
+            records.add(buildChildSpanRecord(traceId));
+        }
+
+        final Collection<Record<Span>> firstRecordsOut = otelTraceGroupProcessor.doExecute(records);
+        final Collection<Record<Span>> secondRecordsOut = otelTraceGroupProcessor.doExecute(records);
+
+        assertThat(countSpansWithTraceGroup(firstRecordsOut), equalTo(records.size()));
+        assertThat(countSpansWithTraceGroup(secondRecordsOut), equalTo(records.size()));
+        assertThat(searchRequestCount.get(), equalTo(1));
+        checkCounterValue(OTelTraceGroupProcessor.RECORDS_OUT_MISSING_TRACE_GROUP, 0.0);
+    }
+
+    private void respondToSearch(final HttpExchange httpExchange) throws IOException {
+        searchRequestCount.incrementAndGet();
+        final String requestBody = new String(httpExchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        try {
+            searchReleased.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // OpenSearch returns at most the size of the search request, which is 10 when it is not set
+        final int size = OBJECT_MAPPER.readTree(requestBody).path("size").asInt(DEFAULT_SEARCH_SIZE);
+        final List<Map<String, Object>> hits = new ArrayList<>();
+        for (final String traceId : foundTraceIds) {
+            if (hits.size() == size || !requestBody.contains(traceId)) {
+                continue;
+            }
+            final Map<String, Object> fields = new HashMap<>();
+            fields.put(OTelTraceGroupProcessorConfig.TRACE_ID_FIELD, List.of(traceId));
+            fields.put(TraceGroup.TRACE_GROUP_NAME_FIELD, List.of(TEST_TRACE_GROUP.getTraceGroup()));
+            fields.put(TraceGroup.TRACE_GROUP_END_TIME_FIELD, List.of(TEST_TRACE_GROUP.getTraceGroupFields().getEndTime()));
+            fields.put(TraceGroup.TRACE_GROUP_DURATION_IN_NANOS_FIELD, List.of(TEST_TRACE_GROUP.getTraceGroupFields().getDurationInNanos()));
+            fields.put(TraceGroup.TRACE_GROUP_STATUS_CODE_FIELD, List.of(TEST_TRACE_GROUP.getTraceGroupFields().getStatusCode()));
+            hits.add(Map.of("_index", "otel-v1-apm-span-000001", "_id", UUID.randomUUID().toString(), "_score", 1.0, "fields", fields));
+        }
+        final Map<String, Object> response = Map.of(
+                "took", 1,
+                "timed_out", false,
+                "_shards", Map.of("total", 1, "successful", 1, "skipped", 0, "failed", 0),
+                "hits", Map.of(
+                        "total", Map.of("value", hits.size(), "relation", "eq"),
+                        "max_score", 1.0,
+                        "hits", hits));
+
+        final byte[] responseBytes = OBJECT_MAPPER.writeValueAsBytes(response);
+        httpExchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+        httpExchange.sendResponseHeaders(200, responseBytes.length);
+        try (final OutputStream outputStream = httpExchange.getResponseBody()) {
+            outputStream.write(responseBytes);
+        }
+    }
+
+    private static Record<Span> buildChildSpanRecord(final String traceId) {
+        return new Record<>(JacksonSpan.builder()
+                .withTraceId(traceId)
+                .withSpanId(UUID.randomUUID().toString())
+                .withParentSpanId(UUID.randomUUID().toString())
+                .withTraceState("")
+                .withName("HTTP PUT")
+                .withKind("SPAN_KIND_CLIENT")
+                .withDurationInNanos(32013300L)
+                .withStartTime("2020-08-20T05:40:46.052809200Z")
+                .withEndTime("2020-08-20T05:40:46.084822500Z")
+                .withTraceGroup(null)
+                .withTraceGroupFields(DefaultTraceGroupFields.builder().build())
+                .build());
+    }
+
+    private static int countSpansWithTraceGroup(final Collection<Record<Span>> records) {
+        int count = 0;
+        for (final Record<Span> record : records) {
+            if (TEST_TRACE_GROUP.getTraceGroup().equals(record.getData().getTraceGroup())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static double getCounterValue(final String name) {
+        return MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(TEST_PIPELINE_NAME).add(PLUGIN_NAME).add(name).toString()).get(0).getValue();
+    }
+
+    private static void checkCounterValue(final String name, final double expectedValue) {
+        assertThat(getCounterValue(name), equalTo(expectedValue));
+    }
+}
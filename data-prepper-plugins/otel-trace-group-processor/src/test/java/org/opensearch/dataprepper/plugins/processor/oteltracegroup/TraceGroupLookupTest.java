@@ -0,0 +1,179 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltracegroup;
+
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Statistic;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.MetricNames;
+import org.opensearch.dataprepper.metrics.MetricsTestUtil;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.plugins.processor.oteltracegroup.model.TraceGroup;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TraceGroupLookupTest {
+    private static final String TEST_PIPELINE_NAME = "testPipelineName";
+    private static final String PLUGIN_NAME = "otel_trace_group";
+    private static final TraceGroup TEST_TRACE_GROUP = new TraceGroup.TraceGroupBuilder()
+            .setTraceGroup("/test_trace_group")
+            .setTraceGroupFields(DefaultTraceGroupFields.builder()
+                    .withEndTime("2020-08-19T05:30:46.089556800Z")
+                    .withStatusCode(1)
+                    .withDurationInNanos(48545100L)
+                    .build())
+            .build();
+
+    @Mock
+    private OTelTraceGroupProcessorConfig otelTraceGroupProcessorConfig;
+
+    private String foundTraceId;
+    private String missingTraceId;
+    private List<Set<String>> searchedTraceIds;
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        MetricsTestUtil.initMetrics();
+        foundTraceId = UUID.randomUUID().toString();
+        missingTraceId = UUID.randomUUID().toString();
+        searchedTraceIds = new ArrayList<>();
+        executorService = Executors.newFixedThreadPool(2);
+        when(otelTraceGroupProcessorConfig.getTraceGroupCacheMaxSize()).thenReturn(100L);
+        when(otelTraceGroupProcessorConfig.getTraceGroupCacheTimeToLive()).thenReturn(Duration.ofMinutes(1));
+        when(otelTraceGroupProcessorConfig.getMissingTraceGroupCacheTimeToLive()).thenReturn(Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    private TraceGroupLookup createObjectUnderTest(final TraceGroupLookup.TraceGroupSearch traceGroupSearch) {
+        return new TraceGroupLookup(traceIds -> {
+            synchronized (searchedTraceIds) {
+                searchedTraceIds.add(new HashSet<>(traceIds));
+            }
+            return traceGroupSearch.search(traceIds);
+        }, otelTraceGroupProcessorConfig, PluginMetrics.fromNames(PLUGIN_NAME, TEST_PIPELINE_NAME));
+    }
+
+    private Map<String, TraceGroup> findTestTraceGroup(final Collection<String> traceIds) {
+        return traceIds.stream()
+                .filter(foundTraceId::equals)
+                .collect(Collectors.toMap(traceId -> traceId, traceId -> TEST_TRACE_GROUP));
+    }
+
+    @Test
+    void lookUp_caches_found_and_missing_trace_groups() {
+        final TraceGroupLookup objectUnderTest = createObjectUnderTest(this::findTestTraceGroup);
+
+        final Map<String, TraceGroup> firstLookUp = objectUnderTest.lookUp(Set.of(foundTraceId, missingTraceId));
+        final Map<String, TraceGroup> secondLookUp = objectUnderTest.lookUp(Set.of(foundTraceId, missingTraceId));
+
+        assertThat(firstLookUp, equalTo(Map.of(foundTraceId, TEST_TRACE_GROUP)));
+        assertThat(secondLookUp, equalTo(Map.of(foundTraceId, TEST_TRACE_GROUP)));
+        assertThat(searchedTraceIds, equalTo(List.of(Set.of(foundTraceId, missingTraceId))));
+        assertThat(getCount(OTelTraceGroupProcessor.TRACE_GROUP_CACHE_HITS), equalTo(2.0));
+        assertThat(getCount(OTelTraceGroupProcessor.TRACE_GROUP_CACHE_MISSES), equalTo(2.0));
+        assertThat(getCount(OTelTraceGroupProcessor.TRACE_GROUP_SEARCH_LATENCY), equalTo(1.0));
+    }
+
+    @Test
+    void lookUp_searches_missing_trace_ids_again_after_the_missing_trace_group_cache_time_to_live() {
+        when(otelTraceGroupProcessorConfig.getMissingTraceGroupCacheTimeToLive()).thenReturn(Duration.ofMillis(50));
+        final TraceGroupLookup objectUnderTest = createObjectUnderTest(this::findTestTraceGroup);
+
+        objectUnderTest.lookUp(Set.of(foundTraceId, missingTraceId));
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
+            objectUnderTest.lookUp(Set.of(foundTraceId, missingTraceId));
+            assertThat(searchedTraceIds.get(searchedTraceIds.size() - 1), equalTo(Set.of(missingTraceId)));
+        });
+    }
+
+    @Test
+    void lookUp_does_not_cache_trace_ids_of_a_failed_search() {
+        final TraceGroupLookup objectUnderTest = createObjectUnderTest(traceIds -> {
+            throw new IOException("Failure due to search request");
+        });
+
+        assertThat(objectUnderTest.lookUp(Set.of(missingTraceId)), anEmptyMap());
+        assertThat(objectUnderTest.lookUp(Set.of(missingTraceId)), anEmptyMap());
+
+        assertThat(searchedTraceIds, equalTo(List.of(Set.of(missingTraceId), Set.of(missingTraceId))));
+    }
+
+    @Test
+    void lookUp_searches_every_time_when_the_cache_time_to_live_is_zero() {
+        when(otelTraceGroupProcessorConfig.getTraceGroupCacheTimeToLive()).thenReturn(Duration.ZERO);
+        when(otelTraceGroupProcessorConfig.getMissingTraceGroupCacheTimeToLive()).thenReturn(Duration.ZERO);
+        final TraceGroupLookup objectUnderTest = createObjectUnderTest(this::findTestTraceGroup);
+
+        objectUnderTest.lookUp(Set.of(foundTraceId));
+        assertThat(objectUnderTest.lookUp(Set.of(foundTraceId)), equalTo(Map.of(foundTraceId, TEST_TRACE_GROUP)));
+
+        assertThat(searchedTraceIds, equalTo(List.of(Set.of(foundTraceId), Set.of(foundTraceId))));
+    }
+
+    @Test
+    void lookUp_waits_for_a_search_of_the_same_trace_id_by_another_worker() throws Exception {
+        final CountDownLatch searchStarted = new CountDownLatch(1);
+        final CountDownLatch searchReleased = new CountDownLatch(1);
+        final TraceGroupLookup objectUnderTest = createObjectUnderTest(traceIds -> {
+            if (traceIds.contains(foundTraceId)) {
+                searchStarted.countDown();
+                searchReleased.await();
+            }
+            return findTestTraceGroup(traceIds);
+        });
+
+        final Future<Map<String, TraceGroup>> firstLookUp = executorService.submit(() -> objectUnderTest.lookUp(Set.of(foundTraceId)));
+        assertThat(searchStarted.await(5, TimeUnit.SECONDS), equalTo(true));
+        final Future<Map<String, TraceGroup>> secondLookUp = executorService.submit(
+                () -> objectUnderTest.lookUp(Set.of(foundTraceId, missingTraceId)));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> searchedTraceIds.size() == 2);
+        searchReleased.countDown();
+
+        assertThat(firstLookUp.get(5, TimeUnit.SECONDS), equalTo(Map.of(foundTraceId, TEST_TRACE_GROUP)));
+        assertThat(secondLookUp.get(5, TimeUnit.SECONDS), equalTo(Map.of(foundTraceId, TEST_TRACE_GROUP)));
+        assertThat(searchedTraceIds, containsInAnyOrder(Set.of(foundTraceId), Set.of(missingTraceId)));
+    }
+
+    private double getCount(final String name) {
+        final List<Measurement> measurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(TEST_PIPELINE_NAME).add(PLUGIN_NAME).add(name).toString());
+        return MetricsTestUtil.getMeasurementFromList(measurements, Statistic.COUNT).getValue();
+    }
+}
@@ -24,14 +24,16 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
@@ -42,14 +44,30 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
     private static final Logger LOG = LoggerFactory.getLogger(OTelTraceRawProcessor.class);
     public static final String TRACE_GROUP_CACHE_COUNT_METRIC_NAME = "traceGroupCacheCount";
     public static final String SPAN_SET_COUNT_METRIC_NAME = "spanSetCount";
+    public static final String BUFFERED_SPAN_COUNT_METRIC_NAME = "bufferedSpanCount";
+    public static final String BUFFERED_SPAN_BYTES_METRIC_NAME = "bufferedSpanBytes";
+    /**
+     * The estimated size of the parts of a span which are not counted from its string fields, such as its
+     * attributes, events and links, and the keys of its JSON representation.
+     */
+    static final long ESTIMATED_SPAN_OVERHEAD_BYTES = 512;
 
     private final long traceFlushInterval;
+    private final long maxBufferedSpans;
 
     private final Map<String, SpanSet> traceIdSpanSetMap = new ConcurrentHashMap<>();
 
-    private final Cache<String, TraceGroup> traceIdTraceGroupCache;
+    /**
+     * The trace IDs of the span sets in {@link #traceIdSpanSetMap} by the sequence of their span set. Sequences are
+     * taken in the order in which the spans are seen, so the first entry is the oldest span set. Entries of span sets
+     * which were flushed concurrently are discarded when they are found.
+     */
+    private final NavigableMap<Long, String> spanSetSequenceTraceIdMap = new ConcurrentSkipListMap<>();
+    private final AtomicLong spanSetSequence = new AtomicLong();
+    private final AtomicLong bufferedSpanCount = new AtomicLong();
+    private final AtomicLong bufferedSpanBytes = new AtomicLong();
 
-    private long lastTraceFlushTime = 0L;
+    private final Cache<String, TraceGroup> traceIdTraceGroupCache;
 
     private final ReentrantLock traceFlushLock = new ReentrantLock();
     private final ReentrantLock prepareForShutdownLock = new ReentrantLock();
@@ -62,6 +80,7 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
                                  final PluginMetrics pluginMetrics) {
         super(pluginMetrics);
         traceFlushInterval = SEC_TO_MILLIS * otelTraceRawProcessorConfig.getTraceFlushIntervalSeconds();
+        maxBufferedSpans = otelTraceRawProcessorConfig.getMaxBufferedSpans();
         final int numProcessWorkers = pipelineDescription.getNumberOfProcessWorkers();
         traceIdTraceGroupCache = CacheBuilder.newBuilder()
                 .concurrencyLevel(numProcessWorkers)
@@ -71,6 +90,8 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
 
         pluginMetrics.gauge(TRACE_GROUP_CACHE_COUNT_METRIC_NAME, traceIdTraceGroupCache, cache -> (double) cache.size());
         pluginMetrics.gauge(SPAN_SET_COUNT_METRIC_NAME, traceIdSpanSetMap, cache -> (double) cache.size());
+        pluginMetrics.gauge(BUFFERED_SPAN_COUNT_METRIC_NAME, bufferedSpanCount, AtomicLong::get);
+        pluginMetrics.gauge(BUFFERED_SPAN_BYTES_METRIC_NAME, bufferedSpanBytes, AtomicLong::get);
 
         LOG.info("Configured Trace Raw Processor with a trace flush interval of {} ms.", traceFlushInterval);
     }
@@ -131,14 +152,13 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
         final List<Span> recordsToFlush = new LinkedList<>();
         recordsToFlush.add(parentSpan);
 
-        final SpanSet spanSet = traceIdSpanSetMap.get(parentSpanTraceId);
+        final SpanSet spanSet = traceIdSpanSetMap.remove(parentSpanTraceId);
         if (spanSet != null) {
+            releaseSpanSet(spanSet);
             for (final Span span : spanSet.getSpans()) {
                 fillInTraceGroupInfo(span, traceGroup);
                 recordsToFlush.add(span);
             }
-
-            traceIdSpanSetMap.remove(parentSpanTraceId);
         }
 
         return recordsToFlush;
@@ -159,13 +179,23 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
             fillInTraceGroupInfo(childSpan, traceGroup);
             return Optional.of(childSpan);
         } else {
-            traceIdSpanSetMap.compute(childSpanTraceId, (traceId, spanSet) -> {
+            final long spanSizeInBytes = estimateSizeInBytes(childSpan);
+            final long sequence = spanSetSequence.getAndIncrement();
+            final SpanSet childSpanSet = traceIdSpanSetMap.compute(childSpanTraceId, (traceId, spanSet) -> {
                 if (spanSet == null) {
-                    spanSet = new SpanSet();
+                    spanSet = new SpanSet(sequence);
+                }
+                if (spanSet.addSpan(childSpan, spanSizeInBytes)) {
+                    bufferedSpanCount.incrementAndGet();
+                    bufferedSpanBytes.addAndGet(spanSizeInBytes);
                 }
-                spanSet.addSpan(childSpan);
                 return spanSet;
             });
+            // The span set is indexed once it is visible in the map, so that the index never refers to a span set
+            // which was not added yet.
+            if (childSpanSet.getSequence() == sequence) {
+                spanSetSequenceTraceIdMap.put(sequence, childSpanTraceId);
+            }
 
             return Optional.empty();
         }
@@ -175,64 +205,113 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
      * Periodically flush spans from memory. Typically all spans of a trace are written
      * once the trace's root span arrives, however some child spans my arrive after the root span.
      * This method ensures "orphaned" child spans are eventually flushed from memory.
+     * <p>
+     * The span sets are visited from the oldest, so only the span sets which are flushed are visited. When more than
+     * the maximum number of spans are buffered, the oldest span sets are flushed before their flush interval ends.
      * @return List of RawSpans to be sent down the pipeline
      */
     private List<Span> getTracesToFlushByGarbageCollection() {
         final List<Span> recordsToFlush = new LinkedList<>();
 
-        if (shouldGarbageCollect()) {
-            final boolean isLockAcquired = traceFlushLock.tryLock();
-
-            if (isLockAcquired) {
-                try {
-                    final long now = System.currentTimeMillis();
-                    lastTraceFlushTime = now;
-
-                    final Iterator<Map.Entry<String, SpanSet>> entryIterator = traceIdSpanSetMap.entrySet().iterator();
-                    while (entryIterator.hasNext()) {
-                        final Map.Entry<String, SpanSet> entry = entryIterator.next();
-                        final String traceId = entry.getKey();
-                        final TraceGroup traceGroup = traceIdTraceGroupCache.getIfPresent(traceId);
-                        final SpanSet spanSet = entry.getValue();
-                        final long traceTime = spanSet.getTimeSeen();
-                        if (now - traceTime >= traceFlushInterval || isShuttingDown) {
-                            final Set<Span> spans = spanSet.getSpans();
-                            if (traceGroup != null) {
-                                spans.forEach(span -> {
-                                    fillInTraceGroupInfo(span, traceGroup);
-                                    recordsToFlush.add(span);
-                                });
-                            } else {
-                                LOG.warn("There are {} spans with missing trace groups. Unable to populate with trace group information.", spans.size());
-                                spans.forEach(span -> {
-                                    recordsToFlush.add(span);
-                                    LOG.debug("Missing trace group for SpanId: {}", span.getSpanId());
-                                });
-                            }
-                            entryIterator.remove();
-                        }
+        if (spanSetSequenceTraceIdMap.isEmpty()) {
+            return recordsToFlush;
+        }
+
+        final boolean isLockAcquired = traceFlushLock.tryLock();
+
+        if (isLockAcquired) {
+            try {
+                final long now = System.currentTimeMillis();
+                int earlyFlushedSpanCount = 0;
+
+                Map.Entry<Long, String> oldestEntry;
+                while ((oldestEntry = spanSetSequenceTraceIdMap.firstEntry()) != null) {
+                    final String traceId = oldestEntry.getValue();
+                    final SpanSet spanSet = traceIdSpanSetMap.get(traceId);
+                    if (spanSet == null || spanSet.getSequence() != oldestEntry.getKey()) {
+                        // The span set was flushed by its root span.
+                        spanSetSequenceTraceIdMap.remove(oldestEntry.getKey(), traceId);
+                        continue;
+                    }
+
+                    final boolean isExpired = now - spanSet.getTimeSeen() >= traceFlushInterval;
+                    final boolean isOverflowing = bufferedSpanCount.get() > maxBufferedSpans;
+                    if (!isExpired && !isOverflowing && !isShuttingDown) {
+                        break;
+                    }
+                    if (!traceIdSpanSetMap.remove(traceId, spanSet)) {
+                        continue;
+                    }
+                    releaseSpanSet(spanSet);
+
+                    final Set<Span> spans = spanSet.getSpans();
+                    if (!isExpired && !isShuttingDown) {
+                        earlyFlushedSpanCount += spans.size();
                     }
-                    if (recordsToFlush.size() > 0) {
-                        LOG.info("Flushing {} records", recordsToFlush.size());
+                    final TraceGroup traceGroup = traceIdTraceGroupCache.getIfPresent(traceId);
+                    if (traceGroup != null) {
+                        spans.forEach(span -> {
+                            fillInTraceGroupInfo(span, traceGroup);
+                            recordsToFlush.add(span);
+                        });
+                    } else {
+                        LOG.warn("There are {} spans with missing trace groups. Unable to populate with trace group information.", spans.size());
+                        spans.forEach(span -> {
+                            recordsToFlush.add(span);
+                            LOG.debug("Missing trace group for SpanId: {}", span.getSpanId());
+                        });
                     }
-                } finally {
-                    traceFlushLock.unlock();
                 }
+                if (earlyFlushedSpanCount > 0) {
+                    LOG.warn("Flushing {} spans before the trace flush interval because more than {} spans are buffered",
+                            earlyFlushedSpanCount, maxBufferedSpans);
+                }
+                if (recordsToFlush.size() > 0) {
+                    LOG.info("Flushing {} records", recordsToFlush.size());
+                }
+            } finally {
+                traceFlushLock.unlock();
             }
         }
 
         return recordsToFlush;
     }
 
+    /**
+     * Removes a span set, which was removed from {@link #traceIdSpanSetMap}, from the index and the buffered span
+     * metrics.
+     */
+    private void releaseSpanSet(final SpanSet spanSet) {
+        spanSetSequenceTraceIdMap.remove(spanSet.getSequence());
+        bufferedSpanCount.addAndGet(-spanSet.getSpans().size());
+        bufferedSpanBytes.addAndGet(-spanSet.getSizeInBytes());
+    }
+
+    /**
+     * Estimates the size of a span from the length of its string fields, without serializing the span.
+     */
+    static long estimateSizeInBytes(final Span span) {
+        return ESTIMATED_SPAN_OVERHEAD_BYTES
+                + length(span.getTraceId())
+                + length(span.getSpanId())
+                + length(span.getParentSpanId())
+                + length(span.getTraceState())
+                + length(span.getName())
+                + length(span.getKind())
+                + length(span.getStartTime())
+                + length(span.getEndTime())
+                + length(span.getServiceName());
+    }
+
+    private static int length(final String value) {
+        return value != null ? value.length() : 0;
+    }
+
     private void fillInTraceGroupInfo(final Span span, final TraceGroup traceGroup) {
         span.setTraceGroup(traceGroup.getTraceGroup());
         span.setTraceGroupFields(traceGroup.getTraceGroupFields());
     }
 
-    private boolean shouldGarbageCollect() {
-        return System.currentTimeMillis() - lastTraceFlushTime >= traceFlushInterval || isShuttingDown;
-    }
-
     /**
      * Forces a flush of all spans in memory
      */
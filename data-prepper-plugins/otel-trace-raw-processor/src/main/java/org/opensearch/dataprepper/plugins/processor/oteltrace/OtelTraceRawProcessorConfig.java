@@ -13,6 +13,7 @@ public class OtelTraceRawProcessorConfig {
     static final long DEFAULT_TG_FLUSH_INTERVAL_SEC = 180L;
     static final Duration DEFAULT_TRACE_ID_TTL = Duration.ofSeconds(15L);
     static final long MAX_TRACE_ID_CACHE_SIZE = 1_000_000L;
+    static final long DEFAULT_MAX_BUFFERED_SPANS = Long.MAX_VALUE;
     @JsonProperty("trace_flush_interval")
     private long traceFlushInterval = DEFAULT_TG_FLUSH_INTERVAL_SEC;
 
@@ -22,6 +23,9 @@ public class OtelTraceRawProcessorConfig {
     @JsonProperty("trace_group_cache_max_size")
     private long traceGroupCacheMaxSize = MAX_TRACE_ID_CACHE_SIZE;
 
+    @JsonProperty("max_buffered_spans")
+    private long maxBufferedSpans = DEFAULT_MAX_BUFFERED_SPANS;
+
     public long getTraceFlushIntervalSeconds() {
         return traceFlushInterval;
     }
@@ -33,4 +37,13 @@ public class OtelTraceRawProcessorConfig {
     public long getTraceGroupCacheMaxSize() {
         return traceGroupCacheMaxSize;
     }
+
+    /**
+     * @return the number of child spans which may wait for their root span before the oldest traces are flushed
+     * without waiting for the trace flush interval
+     * @since 2.5
+     */
+    public long getMaxBufferedSpans() {
+        return maxBufferedSpans;
+    }
 }
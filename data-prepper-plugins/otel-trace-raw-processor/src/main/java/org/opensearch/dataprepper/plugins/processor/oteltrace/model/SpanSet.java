@@ -14,10 +14,17 @@ public class SpanSet {
 
     private final Set<Span> spans;
     private final long timeSeen;
+    private final long sequence;
+    private long sizeInBytes;
 
-    public SpanSet() {
+    /**
+     * @param sequence the position of this span set in the order in which the span sets were created
+     * @since 2.5
+     */
+    public SpanSet(final long sequence) {
         this.spans = Sets.newConcurrentHashSet();
         this.timeSeen = System.currentTimeMillis();
+        this.sequence = sequence;
     }
 
     public Set<Span> getSpans() {
@@ -28,7 +35,35 @@ public class SpanSet {
         return timeSeen;
     }
 
-    public void addSpan(final Span span) {
-        spans.add(span);
+    /**
+     * @since 2.5
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * @return the sum of the sizes of the spans in this span set. Spans must be added by one thread at a time for the
+     * sum to be exact.
+     * @since 2.5
+     */
+    public long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    /**
+     * Adds a span and its size to the span set.
+     *
+     * @param span the span
+     * @param spanSizeInBytes the size of the span
+     * @return true if the span was not already in the span set
+     * @since 2.5
+     */
+    public boolean addSpan(final Span span, final long spanSizeInBytes) {
+        if (spans.add(span)) {
+            sizeInBytes += spanSizeInBytes;
+            return true;
+        }
+        return false;
     }
 }
@@ -123,6 +123,7 @@ class OTelTraceRawProcessorTest {
         when(config.getTraceFlushIntervalSeconds()).thenReturn(TEST_TRACE_FLUSH_INTERVAL);
         when(config.getTraceGroupCacheMaxSize()).thenReturn(OtelTraceRawProcessorConfig.MAX_TRACE_ID_CACHE_SIZE);
         when(config.getTraceGroupCacheTimeToLive()).thenReturn(OtelTraceRawProcessorConfig.DEFAULT_TRACE_ID_TTL);
+        when(config.getMaxBufferedSpans()).thenReturn(OtelTraceRawProcessorConfig.DEFAULT_MAX_BUFFERED_SPANS);
 
         oTelTraceRawProcessor = new OTelTraceRawProcessor(config, pipelineDescription, pluginMetrics);
         executorService = Executors.newFixedThreadPool(TEST_CONCURRENCY_SCALE);
@@ -250,6 +251,91 @@ class OTelTraceRawProcessorTest {
         assertThat(actualFunction.applyAsDouble(actualMeasuredObject), equalTo(1.0));
     }
 
+    @Test
+    void testMetricsOnBufferedSpans() {
+        final ArgumentCaptor<Object> countObjectArgumentCaptor = ArgumentCaptor.forClass(Object.class);
+        final ArgumentCaptor<ToDoubleFunction> countFunctionArgumentCaptor = ArgumentCaptor.forClass(ToDoubleFunction.class);
+        verify(pluginMetrics).gauge(eq(OTelTraceRawProcessor.BUFFERED_SPAN_COUNT_METRIC_NAME), countObjectArgumentCaptor.capture(), countFunctionArgumentCaptor.capture());
+        final ArgumentCaptor<Object> bytesObjectArgumentCaptor = ArgumentCaptor.forClass(Object.class);
+        final ArgumentCaptor<ToDoubleFunction> bytesFunctionArgumentCaptor = ArgumentCaptor.forClass(ToDoubleFunction.class);
+        verify(pluginMetrics).gauge(eq(OTelTraceRawProcessor.BUFFERED_SPAN_BYTES_METRIC_NAME), bytesObjectArgumentCaptor.capture(), bytesFunctionArgumentCaptor.capture());
+        final ToDoubleFunction countFunction = countFunctionArgumentCaptor.getValue();
+        final ToDoubleFunction bytesFunction = bytesFunctionArgumentCaptor.getValue();
+
+        assertThat(countFunction.applyAsDouble(countObjectArgumentCaptor.getValue()), equalTo(0.0));
+        assertThat(bytesFunction.applyAsDouble(bytesObjectArgumentCaptor.getValue()), equalTo(0.0));
+
+        final double expectedBytes = OTelTraceRawProcessor.estimateSizeInBytes(TEST_TRACE_GROUP_2_CHILD_SPAN_1) + OTelTraceRawProcessor.estimateSizeInBytes(TEST_TRACE_GROUP_2_CHILD_SPAN_2);
+        oTelTraceRawProcessor.doExecute(TEST_ONE_TRACE_GROUP_MISSING_ROOT_RECORDS);
+
+        assertThat(countFunction.applyAsDouble(countObjectArgumentCaptor.getValue()), equalTo(2.0));
+        assertThat(bytesFunction.applyAsDouble(bytesObjectArgumentCaptor.getValue()), equalTo(expectedBytes));
+
+        oTelTraceRawProcessor.doExecute(Collections.singletonList(new Record<>(TEST_TRACE_GROUP_2_ROOT_SPAN)));
+
+        assertThat(countFunction.applyAsDouble(countObjectArgumentCaptor.getValue()), equalTo(0.0));
+        assertThat(bytesFunction.applyAsDouble(bytesObjectArgumentCaptor.getValue()), equalTo(0.0));
+    }
+
+    @Test
+    void estimateSizeInBytes_adds_the_length_of_the_string_fields_to_the_overhead() {
+        final Span span = mock(Span.class);
+        when(span.getTraceId()).thenReturn("trace");
+        when(span.getSpanId()).thenReturn("span");
+        when(span.getName()).thenReturn("name");
+
+        assertThat(OTelTraceRawProcessor.estimateSizeInBytes(span), equalTo(OTelTraceRawProcessor.ESTIMATED_SPAN_OVERHEAD_BYTES + 13));
+    }
+
+    @Test
+    void maxBufferedSpans_flushes_the_oldest_traces_early() {
+        reset(config);
+        when(config.getTraceFlushIntervalSeconds()).thenReturn(TEST_TRACE_FLUSH_INTERVAL);
+        when(config.getTraceGroupCacheMaxSize()).thenReturn(OtelTraceRawProcessorConfig.MAX_TRACE_ID_CACHE_SIZE);
+        when(config.getTraceGroupCacheTimeToLive()).thenReturn(OtelTraceRawProcessorConfig.DEFAULT_TRACE_ID_TTL);
+        when(config.getMaxBufferedSpans()).thenReturn(2L);
+
+        oTelTraceRawProcessor = new OTelTraceRawProcessor(config, pipelineDescription, pluginMetrics);
+
+        final Collection<Record<Span>> processedRecords = oTelTraceRawProcessor.doExecute(TEST_TWO_TRACE_GROUP_MISSING_ROOT_RECORDS);
+
+        MatcherAssert.assertThat(processedRecords.size(), equalTo(2));
+        MatcherAssert.assertThat(getMissingTraceGroupFieldsSpanCount(processedRecords), equalTo(2));
+        for (final Record<Span> record : processedRecords) {
+            MatcherAssert.assertThat(record.getData().getTraceId(), equalTo(TEST_TRACE_GROUP_1_ROOT_SPAN.getTraceId()));
+        }
+        assertFalse(oTelTraceRawProcessor.isReadyForShutdown());
+
+        final Collection<Record<Span>> rootRecords = oTelTraceRawProcessor.doExecute(Collections.singletonList(new Record<>(TEST_TRACE_GROUP_2_ROOT_SPAN)));
+
+        MatcherAssert.assertThat(rootRecords.size(), equalTo(3));
+        MatcherAssert.assertThat(getMissingTraceGroupFieldsSpanCount(rootRecords), equalTo(0));
+        assertTrue(oTelTraceRawProcessor.isReadyForShutdown());
+    }
+
+    @Test
+    void testExportRequestFlushByGCFlushesOnlyExpiredTraces() throws InterruptedException {
+        reset(config);
+        when(config.getTraceFlushIntervalSeconds()).thenReturn(1L);
+        when(config.getTraceGroupCacheMaxSize()).thenReturn(OtelTraceRawProcessorConfig.MAX_TRACE_ID_CACHE_SIZE);
+        when(config.getTraceGroupCacheTimeToLive()).thenReturn(OtelTraceRawProcessorConfig.DEFAULT_TRACE_ID_TTL);
+        when(config.getMaxBufferedSpans()).thenReturn(OtelTraceRawProcessorConfig.DEFAULT_MAX_BUFFERED_SPANS);
+
+        oTelTraceRawProcessor = new OTelTraceRawProcessor(config, pipelineDescription, pluginMetrics);
+
+        MatcherAssert.assertThat(oTelTraceRawProcessor.doExecute(Stream.of(TEST_TRACE_GROUP_1_CHILD_SPAN_1, TEST_TRACE_GROUP_1_CHILD_SPAN_2)
+                .map(Record::new).collect(Collectors.toList())).size(), equalTo(0));
+        Thread.sleep(1100);
+
+        final Collection<Record<Span>> processedRecords = oTelTraceRawProcessor.doExecute(TEST_ONE_TRACE_GROUP_MISSING_ROOT_RECORDS);
+
+        MatcherAssert.assertThat(processedRecords.size(), equalTo(2));
+        for (final Record<Span> record : processedRecords) {
+            MatcherAssert.assertThat(record.getData().getTraceId(), equalTo(TEST_TRACE_GROUP_1_ROOT_SPAN.getTraceId()));
+        }
+        assertFalse(oTelTraceRawProcessor.isReadyForShutdown());
+    }
+
     @ParameterizedTest
     @CsvSource({
             "1, 4",
@@ -260,6 +346,7 @@ class OTelTraceRawProcessorTest {
         when(config.getTraceFlushIntervalSeconds()).thenReturn(TEST_TRACE_FLUSH_INTERVAL);
         when(config.getTraceGroupCacheMaxSize()).thenReturn(cacheMaxSize);
         when(config.getTraceGroupCacheTimeToLive()).thenReturn(OtelTraceRawProcessorConfig.DEFAULT_TRACE_ID_TTL);
+        when(config.getMaxBufferedSpans()).thenReturn(OtelTraceRawProcessorConfig.DEFAULT_MAX_BUFFERED_SPANS);
 
         oTelTraceRawProcessor = new OTelTraceRawProcessor(config, pipelineDescription, pluginMetrics);
 
@@ -281,6 +368,7 @@ class OTelTraceRawProcessorTest {
         when(config.getTraceFlushIntervalSeconds()).thenReturn(TEST_TRACE_FLUSH_INTERVAL);
         when(config.getTraceGroupCacheMaxSize()).thenReturn(OtelTraceRawProcessorConfig.MAX_TRACE_ID_CACHE_SIZE);
         when(config.getTraceGroupCacheTimeToLive()).thenReturn(Duration.ofMillis(traceIdTtlMillis));
+        when(config.getMaxBufferedSpans()).thenReturn(OtelTraceRawProcessorConfig.DEFAULT_MAX_BUFFERED_SPANS);
 
         oTelTraceRawProcessor = new OTelTraceRawProcessor(config, pipelineDescription, pluginMetrics);
 
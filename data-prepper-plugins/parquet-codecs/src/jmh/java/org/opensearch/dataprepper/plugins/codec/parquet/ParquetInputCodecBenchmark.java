@@ -0,0 +1,174 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.avro.AvroParquetReader;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.io.InputFile;
+import org.opensearch.dataprepper.plugins.codec.NoneDecompressionEngine;
+import org.opensearch.dataprepper.plugins.fs.LocalInputFile;
+import org.opensearch.dataprepper.plugins.fs.LocalOutputFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.parquet.avro.AvroReadSupport.READ_INT96_AS_FIXED;
+
+/**
+ * Measures parsing a Parquet file on local disk into events. With the default row count, the file has several GB.
+ * It is written to the temporary directory on the first run and kept there for later runs, because writing it takes
+ * longer than reading it. The {@code avroJson} benchmark reproduces the previous path, which read Avro records and
+ * parsed the JSON string of each record into the event. Run with {@code -prof gc} to compare the bytes allocated
+ * per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ParquetInputCodecBenchmark {
+    private static final String SCHEMA_JSON = "{\"type\": \"record\", \"name\": \"AccessLog\", \"fields\": [" +
+            "{\"name\": \"timestamp\", \"type\": {\"type\": \"long\", \"logicalType\": \"timestamp-millis\"}}," +
+            "{\"name\": \"host\", \"type\": \"string\"}," +
+            "{\"name\": \"service\", \"type\": \"string\"}," +
+            "{\"name\": \"level\", \"type\": \"string\"}," +
+            "{\"name\": \"status\", \"type\": \"int\"}," +
+            "{\"name\": \"latency\", \"type\": \"double\"}," +
+            "{\"name\": \"bytes\", \"type\": \"long\"}," +
+            "{\"name\": \"request_id\", \"type\": \"string\"}," +
+            "{\"name\": \"user_agent\", \"type\": [\"null\", \"string\"]}," +
+            "{\"name\": \"message\", \"type\": \"string\"}," +
+            "{\"name\": \"tags\", \"type\": {\"type\": \"array\", \"items\": \"string\"}}," +
+            "{\"name\": \"labels\", \"type\": {\"type\": \"map\", \"values\": \"string\"}}" +
+            "]}";
+    private static final String[] LEVELS = {"DEBUG", "INFO", "WARN", "ERROR"};
+    private static final String[] USER_AGENTS = {
+            "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/115.0 Safari/537.36",
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 13_4) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/16.5 Safari/605.1.15",
+            "curl/8.1.2",
+            "aws-sdk-java/2.20.67 Linux/5.10 OpenJDK_64-Bit_Server_VM/17.0.7"};
+
+    @Param({"20000000"})
+    private int rowCount;
+
+    private InputFile inputFile;
+    private ParquetInputCodec parquetInputCodec;
+    private ParquetInputCodec includeKeysParquetInputCodec;
+    private ParquetInputCodec parallelParquetInputCodec;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final File file = new File(System.getProperty("java.io.tmpdir"), "data-prepper-parquet-benchmark-" + rowCount + ".parquet");
+        if (!file.exists()) {
+            writeFile(file);
+        }
+        inputFile = new LocalInputFile(file);
+
+        final ObjectMapper objectMapper = new ObjectMapper();
+        parquetInputCodec = new ParquetInputCodec();
+        includeKeysParquetInputCodec = new ParquetInputCodec(objectMapper.convertValue(
+                Map.of("include_keys", Arrays.asList("timestamp", "host", "status", "latency")), ParquetInputCodecConfig.class));
+        parallelParquetInputCodec = new ParquetInputCodec(objectMapper.convertValue(
+                Map.of("row_group_parallelism", Runtime.getRuntime().availableProcessors()), ParquetInputCodecConfig.class));
+    }
+
+    @Benchmark
+    public void columns(final Blackhole blackhole) throws IOException {
+        parquetInputCodec.parse(inputFile, new NoneDecompressionEngine(), blackhole::consume);
+    }
+
+    @Benchmark
+    public void columnsWithIncludeKeys(final Blackhole blackhole) throws IOException {
+        includeKeysParquetInputCodec.parse(inputFile, new NoneDecompressionEngine(), blackhole::consume);
+    }
+
+    @Benchmark
+    public void columnsWithRowGroupParallelism(final Blackhole blackhole) throws IOException {
+        parallelParquetInputCodec.parse(inputFile, new NoneDecompressionEngine(), blackhole::consume);
+    }
+
+    @Benchmark
+    public void avroJson(final Blackhole blackhole) throws IOException {
+        final Configuration configuration = new Configuration();
+        configuration.setBoolean(READ_INT96_AS_FIXED, true);
+        try (ParquetReader<GenericRecord> reader = AvroParquetReader.<GenericRecord>builder(inputFile)
+                .withConf(configuration)
+                .build()) {
+            final GenericRecordJsonEncoder encoder = new GenericRecordJsonEncoder();
+            GenericRecord record;
+            while ((record = reader.read()) != null) {
+                blackhole.consume(JacksonEvent.builder()
+                        .withEventType(ParquetInputCodec.EVENT_TYPE)
+                        .withData(encoder.serialize(record))
+                        .build());
+            }
+        }
+    }
+
+    private void writeFile(final File file) throws IOException {
+        final Schema schema = new Schema.Parser().parse(SCHEMA_JSON);
+        final Random random = new Random(42);
+        final File temporaryFile = new File(file.getPath() + ".tmp");
+        try (ParquetWriter<GenericRecord> writer = AvroParquetWriter.<GenericRecord>builder(new LocalOutputFile(temporaryFile))
+                .withSchema(schema)
+                .withCompressionCodec(CompressionCodecName.SNAPPY)
+                .build()) {
+            final long startTime = 1_684_509_331_977L;
+            for (int i = 0; i < rowCount; i++) {
+                final GenericData.Record record = new GenericData.Record(schema);
+                final int status = random.nextInt(20) == 0 ? 500 : 200;
+                record.put("timestamp", startTime + i);
+                record.put("host", "ip-10-0-" + random.nextInt(4) + "-" + random.nextInt(64));
+                record.put("service", "service-" + random.nextInt(10));
+                record.put("level", LEVELS[random.nextInt(LEVELS.length)]);
+                record.put("status", status);
+                record.put("latency", random.nextDouble() * 1000);
+                record.put("bytes", (long) random.nextInt(1_000_000));
+                record.put("request_id", new UUID(random.nextLong(), random.nextLong()).toString());
+                record.put("user_agent", random.nextInt(10) == 0 ? null : USER_AGENTS[random.nextInt(USER_AGENTS.length)]);
+                record.put("message", "GET /api/v1/orders/" + random.nextInt(1_000_000) + "?page=" + random.nextInt(100) +
+                        " HTTP/1.1 " + status + " completed for customer " + Long.toHexString(random.nextLong()));
+                record.put("tags", Arrays.asList("env:production", "region:us-east-" + (1 + random.nextInt(2))));
+                final Map<String, String> labels = new HashMap<>();
+                labels.put("team", "team-" + random.nextInt(8));
+                labels.put("trace", Long.toHexString(random.nextLong()));
+                record.put("labels", labels);
+                writer.write(record);
+            }
+        }
+        Files.move(temporaryFile.toPath(), file.toPath());
+    }
+}
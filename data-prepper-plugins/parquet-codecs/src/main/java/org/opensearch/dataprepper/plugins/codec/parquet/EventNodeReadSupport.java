@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.hadoop.api.InitContext;
+import org.apache.parquet.hadoop.api.ReadSupport;
+import org.apache.parquet.io.api.RecordMaterializer;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link ReadSupport} which reads Parquet rows into the nodes of events. When columns are included, only those
+ * columns are requested from the file, so that the chunks of the other columns are not read nor decompressed.
+ * Lists are read as they were read into Avro records, which depends on whether the file was written with an Avro
+ * schema. Included keys which are not top-level columns of the file are not read, and can be logged as a warning.
+ */
+class EventNodeReadSupport extends ReadSupport<ObjectNode> {
+    static final String AVRO_SCHEMA_METADATA_KEY = "parquet.avro.schema";
+    static final String OLD_AVRO_SCHEMA_METADATA_KEY = "avro.schema";
+
+    private static final Logger LOG = LoggerFactory.getLogger(EventNodeReadSupport.class);
+
+    private final Set<String> includeKeys;
+    private final boolean warnOfMissingIncludeKeys;
+
+    EventNodeReadSupport(final Collection<String> includeKeys, final boolean warnOfMissingIncludeKeys) {
+        this.includeKeys = new LinkedHashSet<>(includeKeys);
+        this.warnOfMissingIncludeKeys = warnOfMissingIncludeKeys;
+    }
+
+    @Override
+    public ReadContext init(final InitContext context) {
+        final MessageType fileSchema = context.getFileSchema();
+        if (includeKeys.isEmpty()) {
+            return new ReadContext(fileSchema);
+        }
+
+        final List<Type> includedFields = new ArrayList<>();
+        final Set<String> missingKeys = new LinkedHashSet<>(includeKeys);
+        for (final Type field : fileSchema.getFields()) {
+            if (includeKeys.contains(field.getName())) {
+                includedFields.add(field);
+                missingKeys.remove(field.getName());
+            }
+        }
+        if (warnOfMissingIncludeKeys && includedFields.isEmpty()) {
+            LOG.warn("None of the include_keys {} are top-level columns of the parquet file, so its events have no fields.", missingKeys);
+        } else if (warnOfMissingIncludeKeys && !missingKeys.isEmpty()) {
+            LOG.warn("The include_keys {} are not top-level columns of the parquet file and are not read.", missingKeys);
+        }
+        return new ReadContext(new MessageType(fileSchema.getName(), includedFields));
+    }
+
+    @Override
+    public RecordMaterializer<ObjectNode> prepareForRead(final Configuration configuration,
+                                                         final Map<String, String> keyValueMetaData,
+                                                         final MessageType fileSchema,
+                                                         final ReadContext readContext) {
+        final boolean hasAvroSchema = keyValueMetaData.containsKey(AVRO_SCHEMA_METADATA_KEY)
+                || keyValueMetaData.containsKey(OLD_AVRO_SCHEMA_METADATA_KEY);
+        return new EventNodeRecordMaterializer(readContext.getRequestedSchema(), !hasAvroSchema);
+    }
+}
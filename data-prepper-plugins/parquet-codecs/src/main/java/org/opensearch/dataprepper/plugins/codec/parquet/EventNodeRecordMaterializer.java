@@ -0,0 +1,416 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.parquet.column.Dictionary;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.Converter;
+import org.apache.parquet.io.api.GroupConverter;
+import org.apache.parquet.io.api.PrimitiveConverter;
+import org.apache.parquet.io.api.RecordMaterializer;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Materializes Parquet rows directly as the nodes of events, without an intermediate record. The nodes have the
+ * same shape as the JSON which {@link GenericRecordJsonEncoder} writes for the Avro records of the rows: lists
+ * become arrays, maps and groups become objects, unset fields are null, byte arrays become an object with a
+ * {@code bytes} string and fixed length byte arrays become an array of the bytes.
+ */
+class EventNodeRecordMaterializer extends RecordMaterializer<ObjectNode> {
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+    private static final String BYTES_KEY = "bytes";
+
+    private final boolean repeatedGroupsAreListElements;
+    private final ObjectNodeConverter rootConverter;
+    private ObjectNode currentRecord;
+
+    /**
+     * @param schema the schema of the rows to read
+     * @param repeatedGroupsAreListElements whether the repeated group of every list is the list element, rather
+     *                                      than a synthetic group around the element. This is how lists of files
+     *                                      without an Avro schema were read into Avro records.
+     */
+    EventNodeRecordMaterializer(final MessageType schema, final boolean repeatedGroupsAreListElements) {
+        this.repeatedGroupsAreListElements = repeatedGroupsAreListElements;
+        rootConverter = new ObjectNodeConverter(schema, node -> currentRecord = (ObjectNode) node);
+    }
+
+    @Override
+    public ObjectNode getCurrentRecord() {
+        return currentRecord;
+    }
+
+    @Override
+    public GroupConverter getRootConverter() {
+        return rootConverter;
+    }
+
+    private Converter createConverter(final Type type, final Consumer<JsonNode> parent) {
+        if (type.isPrimitive()) {
+            return new ValueNodeConverter(type.asPrimitiveType(), parent);
+        }
+        final GroupType groupType = type.asGroupType();
+        final LogicalTypeAnnotation logicalTypeAnnotation = groupType.getLogicalTypeAnnotation();
+        if (logicalTypeAnnotation instanceof LogicalTypeAnnotation.ListLogicalTypeAnnotation) {
+            return new ArrayNodeConverter(groupType, parent);
+        }
+        if (logicalTypeAnnotation instanceof LogicalTypeAnnotation.MapLogicalTypeAnnotation
+                || logicalTypeAnnotation instanceof LogicalTypeAnnotation.MapKeyValueTypeAnnotation) {
+            return new MapNodeConverter(groupType, parent);
+        }
+        return new ObjectNodeConverter(groupType, parent);
+    }
+
+    /**
+     * Converts a group into an object with a field for each field of the group. Unset fields are null and repeated
+     * fields outside of a list are arrays.
+     */
+    private final class ObjectNodeConverter extends GroupConverter {
+        private final String[] fieldNames;
+        private final boolean[] repeatedFields;
+        private final Converter[] converters;
+        private final Consumer<JsonNode> parent;
+        private ObjectNode currentNode;
+
+        ObjectNodeConverter(final GroupType groupType, final Consumer<JsonNode> parent) {
+            this.parent = parent;
+            final int fieldCount = groupType.getFieldCount();
+            fieldNames = new String[fieldCount];
+            repeatedFields = new boolean[fieldCount];
+            converters = new Converter[fieldCount];
+            for (int i = 0; i < fieldCount; i++) {
+                final Type field = groupType.getType(i);
+                final String fieldName = field.getName();
+                fieldNames[i] = fieldName;
+                repeatedFields[i] = field.isRepetition(Type.Repetition.REPEATED);
+                converters[i] = repeatedFields[i]
+                        ? createConverter(field, node -> ((ArrayNode) currentNode.get(fieldName)).add(node))
+                        : createConverter(field, node -> currentNode.set(fieldName, node));
+            }
+        }
+
+        @Override
+        public Converter getConverter(final int fieldIndex) {
+            return converters[fieldIndex];
+        }
+
+        @Override
+        public void start() {
+            currentNode = NODE_FACTORY.objectNode();
+            for (int i = 0; i < fieldNames.length; i++) {
+                if (repeatedFields[i]) {
+                    currentNode.putArray(fieldNames[i]);
+                } else {
+                    currentNode.putNull(fieldNames[i]);
+                }
+            }
+        }
+
+        @Override
+        public void end() {
+            parent.accept(currentNode);
+        }
+    }
+
+    /**
+     * Converts a group annotated as a list into an array. Unless every repeated group is a list element, this
+     * reads the standard three-level structure as well as the two-level structures of older writers, following the
+     * backward-compatibility rules of the Parquet format.
+     */
+    private final class ArrayNodeConverter extends GroupConverter {
+        private final Converter elementConverter;
+        private final Consumer<JsonNode> parent;
+        private ArrayNode currentNode;
+
+        ArrayNodeConverter(final GroupType listType, final Consumer<JsonNode> parent) {
+            this.parent = parent;
+            final Type repeatedType = listType.getType(0);
+            if (isElementType(repeatedType, listType.getName())) {
+                elementConverter = createConverter(repeatedType, node -> currentNode.add(node));
+            } else {
+                elementConverter = new ElementConverter(repeatedType.asGroupType().getType(0), node -> currentNode.add(node));
+            }
+        }
+
+        private boolean isElementType(final Type repeatedType, final String listName) {
+            return repeatedGroupsAreListElements
+                    || repeatedType.isPrimitive()
+                    || repeatedType.asGroupType().getFieldCount() > 1
+                    || repeatedType.asGroupType().getType(0).isRepetition(Type.Repetition.REPEATED)
+                    || repeatedType.getName().equals("array")
+                    || repeatedType.getName().equals(listName + "_tuple");
+        }
+
+        @Override
+        public Converter getConverter(final int fieldIndex) {
+            return elementConverter;
+        }
+
+        @Override
+        public void start() {
+            currentNode = NODE_FACTORY.arrayNode();
+        }
+
+        @Override
+        public void end() {
+            parent.accept(currentNode);
+        }
+    }
+
+    /**
+     * Converts the repeated group of a three-level list, which holds one element or none for a null element.
+     */
+    private final class ElementConverter extends GroupConverter {
+        private final Converter converter;
+        private final Consumer<JsonNode> parent;
+        private JsonNode element;
+
+        ElementConverter(final Type elementType, final Consumer<JsonNode> parent) {
+            this.parent = parent;
+            converter = createConverter(elementType, node -> element = node);
+        }
+
+        @Override
+        public Converter getConverter(final int fieldIndex) {
+            return converter;
+        }
+
+        @Override
+        public void start() {
+            element = NODE_FACTORY.nullNode();
+        }
+
+        @Override
+        public void end() {
+            parent.accept(element);
+        }
+    }
+
+    /**
+     * Converts a group annotated as a map into an object with a field for each key.
+     */
+    private final class MapNodeConverter extends GroupConverter {
+        private final KeyValueConverter keyValueConverter;
+        private final Consumer<JsonNode> parent;
+        private ObjectNode currentNode;
+
+        MapNodeConverter(final GroupType mapType, final Consumer<JsonNode> parent) {
+            this.parent = parent;
+            keyValueConverter = new KeyValueConverter(mapType.getType(0).asGroupType(), (key, value) -> currentNode.set(key, value));
+        }
+
+        @Override
+        public Converter getConverter(final int fieldIndex) {
+            return keyValueConverter;
+        }
+
+        @Override
+        public void start() {
+            currentNode = NODE_FACTORY.objectNode();
+        }
+
+        @Override
+        public void end() {
+            parent.accept(currentNode);
+        }
+    }
+
+    private final class KeyValueConverter extends GroupConverter {
+        private final Converter keyConverter;
+        private final Converter valueConverter;
+        private final BiConsumer<String, JsonNode> parent;
+        private String key;
+        private JsonNode value;
+
+        KeyValueConverter(final GroupType keyValueType, final BiConsumer<String, JsonNode> parent) {
+            this.parent = parent;
+            keyConverter = createConverter(keyValueType.getType(0), node -> key = node.asText());
+            valueConverter = keyValueType.getFieldCount() > 1
+                    ? createConverter(keyValueType.getType(1), node -> value = node)
+                    : null;
+        }
+
+        @Override
+        public Converter getConverter(final int fieldIndex) {
+            return fieldIndex == 0 ? keyConverter : valueConverter;
+        }
+
+        @Override
+        public void start() {
+            key = null;
+            value = NODE_FACTORY.nullNode();
+        }
+
+        @Override
+        public void end() {
+            parent.accept(key, value);
+        }
+    }
+
+    /**
+     * Converts the values of a primitive column. The values of dictionary encoded columns are converted once per
+     * dictionary entry, and their nodes are shared between events, which is safe because value nodes are immutable.
+     */
+    private static final class ValueNodeConverter extends PrimitiveConverter {
+        private final PrimitiveType primitiveType;
+        private final Consumer<JsonNode> parent;
+        private final Function<Binary, JsonNode> binaryConversion;
+        private final boolean convertsBinaryToValueNodes;
+        private JsonNode[] dictionaryNodes;
+
+        ValueNodeConverter(final PrimitiveType primitiveType, final Consumer<JsonNode> parent) {
+            this.primitiveType = primitiveType;
+            this.parent = parent;
+            final LogicalTypeAnnotation logicalTypeAnnotation = primitiveType.getLogicalTypeAnnotation();
+            if (logicalTypeAnnotation instanceof LogicalTypeAnnotation.StringLogicalTypeAnnotation
+                    || logicalTypeAnnotation instanceof LogicalTypeAnnotation.EnumLogicalTypeAnnotation) {
+                binaryConversion = binary -> NODE_FACTORY.textNode(binary.toStringUsingUTF8());
+                convertsBinaryToValueNodes = true;
+            } else if (logicalTypeAnnotation instanceof LogicalTypeAnnotation.UUIDLogicalTypeAnnotation) {
+                binaryConversion = ValueNodeConverter::toUuidNode;
+                convertsBinaryToValueNodes = true;
+            } else if (primitiveType.getPrimitiveTypeName() == PrimitiveType.PrimitiveTypeName.BINARY) {
+                binaryConversion = ValueNodeConverter::toBytesNode;
+                convertsBinaryToValueNodes = false;
+            } else {
+                binaryConversion = ValueNodeConverter::toByteArrayNode;
+                convertsBinaryToValueNodes = false;
+            }
+        }
+
+        @Override
+        public boolean hasDictionarySupport() {
+            return convertsBinaryToValueNodes || !isBinary();
+        }
+
+        @Override
+        public void setDictionary(final Dictionary dictionary) {
+            dictionaryNodes = new JsonNode[dictionary.getMaxId() + 1];
+            for (int id = 0; id < dictionaryNodes.length; id++) {
+                dictionaryNodes[id] = toNode(dictionary, id);
+            }
+        }
+
+        @Override
+        public void addValueFromDictionary(final int dictionaryId) {
+            parent.accept(dictionaryNodes[dictionaryId]);
+        }
+
+        @Override
+        public void addBinary(final Binary value) {
+            parent.accept(binaryConversion.apply(value));
+        }
+
+        @Override
+        public void addBoolean(final boolean value) {
+            parent.accept(NODE_FACTORY.booleanNode(value));
+        }
+
+        @Override
+        public void addDouble(final double value) {
+            parent.accept(toDoubleNode(value));
+        }
+
+        @Override
+        public void addFloat(final float value) {
+            parent.accept(toFloatNode(value));
+        }
+
+        @Override
+        public void addInt(final int value) {
+            parent.accept(NODE_FACTORY.numberNode(value));
+        }
+
+        @Override
+        public void addLong(final long value) {
+            parent.accept(toLongNode(value));
+        }
+
+        private boolean isBinary() {
+            final PrimitiveType.PrimitiveTypeName primitiveTypeName = primitiveType.getPrimitiveTypeName();
+            return primitiveTypeName == PrimitiveType.PrimitiveTypeName.BINARY
+                    || primitiveTypeName == PrimitiveType.PrimitiveTypeName.FIXED_LEN_BYTE_ARRAY
+                    || primitiveTypeName == PrimitiveType.PrimitiveTypeName.INT96;
+        }
+
+        private JsonNode toNode(final Dictionary dictionary, final int id) {
+            switch (primitiveType.getPrimitiveTypeName()) {
+                case INT32:
+                    return NODE_FACTORY.numberNode(dictionary.decodeToInt(id));
+                case INT64:
+                    return toLongNode(dictionary.decodeToLong(id));
+                case FLOAT:
+                    return toFloatNode(dictionary.decodeToFloat(id));
+                case DOUBLE:
+                    return toDoubleNode(dictionary.decodeToDouble(id));
+                case BOOLEAN:
+                    return NODE_FACTORY.booleanNode(dictionary.decodeToBoolean(id));
+                default:
+                    return binaryConversion.apply(dictionary.decodeToBinary(id));
+            }
+        }
+
+        /**
+         * Longs which fit into an int become int nodes, as they did when the JSON of the record was parsed.
+         */
+        private static JsonNode toLongNode(final long value) {
+            final int intValue = (int) value;
+            return intValue == value ? NODE_FACTORY.numberNode(intValue) : NODE_FACTORY.numberNode(value);
+        }
+
+        /**
+         * Floats become the double of their decimal representation, as they did when the JSON of the record was
+         * parsed. NaN and the infinities become strings.
+         */
+        private static JsonNode toFloatNode(final float value) {
+            if (Float.isNaN(value) || Float.isInfinite(value)) {
+                return NODE_FACTORY.textNode(Float.toString(value));
+            }
+            return NODE_FACTORY.numberNode(Double.parseDouble(Float.toString(value)));
+        }
+
+        private static JsonNode toDoubleNode(final double value) {
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                return NODE_FACTORY.textNode(Double.toString(value));
+            }
+            return NODE_FACTORY.numberNode(value);
+        }
+
+        private static JsonNode toUuidNode(final Binary value) {
+            final ByteBuffer byteBuffer = value.toByteBuffer();
+            return NODE_FACTORY.textNode(new UUID(byteBuffer.getLong(), byteBuffer.getLong()).toString());
+        }
+
+        private static JsonNode toBytesNode(final Binary value) {
+            final ObjectNode bytesNode = NODE_FACTORY.objectNode();
+            bytesNode.put(BYTES_KEY, new String(value.getBytesUnsafe(), StandardCharsets.ISO_8859_1));
+            return bytesNode;
+        }
+
+        private static JsonNode toByteArrayNode(final Binary value) {
+            final ArrayNode byteArrayNode = NODE_FACTORY.arrayNode();
+            for (final byte b : value.getBytesUnsafe()) {
+                byteArrayNode.add((int) b);
+            }
+            return byteArrayNode;
+        }
+    }
+}
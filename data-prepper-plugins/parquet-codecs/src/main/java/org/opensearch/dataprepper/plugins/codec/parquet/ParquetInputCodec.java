@@ -5,11 +5,15 @@
 
 package org.opensearch.dataprepper.plugins.codec.parquet;
 
-import org.apache.avro.generic.GenericRecord;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.hadoop.conf.Configuration;
-import org.apache.parquet.avro.AvroParquetReader;
+import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.api.ReadSupport;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.codec.DecompressionEngine;
 import org.opensearch.dataprepper.model.codec.InputCodec;
 import org.opensearch.dataprepper.model.event.Event;
@@ -25,15 +29,24 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
-import static org.apache.parquet.avro.AvroReadSupport.READ_INT96_AS_FIXED;
-
 /**
- * An implementation of {@link InputCodec} which parses parquet records into fields.
+ * An implementation of {@link InputCodec} which parses parquet records into fields. The rows are converted from the
+ * columns directly into the nodes of the events.
  */
-@DataPrepperPlugin(name = "parquet", pluginType = InputCodec.class)
+@DataPrepperPlugin(name = "parquet", pluginType = InputCodec.class, pluginConfigurationType = ParquetInputCodecConfig.class)
 public class ParquetInputCodec implements InputCodec {
 
     static final String EVENT_TYPE = "event";
@@ -42,13 +55,41 @@ public class ParquetInputCodec implements InputCodec {
 
     static final String FILE_SUFFIX = ".parquet";
 
+    static final String THREAD_NAME_FORMAT = "parquet-codec-row-group-%d";
+
+    private static final long ROW_GROUP_THREAD_KEEP_ALIVE_SECONDS = 60;
+
     private static final Logger LOG = LoggerFactory.getLogger(ParquetInputCodec.class);
 
     private final Configuration configuration;
+    private final List<String> includeKeys;
+    private final int rowGroupParallelism;
+    private final ThreadPoolExecutor rowGroupExecutor;
 
     public ParquetInputCodec() {
+        this(new ParquetInputCodecConfig());
+    }
+
+    @DataPrepperPluginConstructor
+    public ParquetInputCodec(final ParquetInputCodecConfig config) {
+        Objects.requireNonNull(config);
         configuration = new Configuration();
-        configuration.setBoolean(READ_INT96_AS_FIXED, true);
+        includeKeys = config.getIncludeKeys() != null ? config.getIncludeKeys() : Collections.emptyList();
+        rowGroupParallelism = config.getRowGroupParallelism();
+
+        if (rowGroupParallelism < 1) {
+            throw new IllegalArgumentException("row_group_parallelism must be at least 1.");
+        }
+
+        if (rowGroupParallelism > 1) {
+            // Codecs are not closed, so the threads are daemon threads which stop while no file is parsed.
+            rowGroupExecutor = new ThreadPoolExecutor(rowGroupParallelism, rowGroupParallelism,
+                    ROW_GROUP_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                    new ThreadFactoryBuilder().setDaemon(true).setNameFormat(THREAD_NAME_FORMAT).build());
+            rowGroupExecutor.allowCoreThreadTimeOut(true);
+        } else {
+            rowGroupExecutor = null;
+        }
     }
 
     @Override
@@ -75,21 +116,22 @@ public class ParquetInputCodec implements InputCodec {
     }
 
     private void parseParquetFile(final InputFile inputFile, final Consumer<Record<Event>> eventConsumer) throws IOException {
-        try (ParquetReader<GenericRecord> reader = AvroParquetReader.<GenericRecord>builder(inputFile)
-                .withConf(this.configuration)
-                .build()) {
-            GenericRecordJsonEncoder encoder = new GenericRecordJsonEncoder();
-            GenericRecord record = null;
-
-            while ((record = reader.read()) != null) {
-                final String json = encoder.serialize(record);
-
-                final JacksonEvent event = JacksonEvent.builder()
-                        .withEventType(EVENT_TYPE)
-                        .withData(json)
-                        .build();
+        try {
+            if (rowGroupParallelism > 1) {
+                final List<BlockMetaData> rowGroups = readRowGroups(inputFile);
+                if (rowGroups.size() > 1) {
+                    parseRowGroupsInParallel(inputFile, rowGroups, eventConsumer);
+                    return;
+                }
+            }
 
-                eventConsumer.accept(new Record<>(event));
+            try (ParquetReader<ObjectNode> reader = new EventNodeReaderBuilder(inputFile, includeKeys, true)
+                    .withConf(this.configuration)
+                    .build()) {
+                ObjectNode jsonNode;
+                while ((jsonNode = reader.read()) != null) {
+                    eventConsumer.accept(new Record<>(JacksonEvent.fromJsonNode(EVENT_TYPE, jsonNode)));
+                }
             }
         } catch (Exception e){
             LOG.error("An exception occurred while parsing parquet InputStream ", e);
@@ -97,4 +139,83 @@ public class ParquetInputCodec implements InputCodec {
         }
     }
 
+    /**
+     * Decodes up to {@code rowGroupParallelism} row groups at the same time, each with its own reader on the file,
+     * and passes on their events in the order of the file from the calling thread. The row groups are decoded by the
+     * threads of the codec, which are shared by the files parsed at the same time.
+     */
+    private void parseRowGroupsInParallel(final InputFile inputFile,
+                                          final List<BlockMetaData> rowGroups,
+                                          final Consumer<Record<Event>> eventConsumer) throws IOException {
+        final Deque<Future<List<ObjectNode>>> decodedRowGroups = new ArrayDeque<>();
+        try {
+            int nextRowGroup = 0;
+            for (int rowGroup = 0; rowGroup < rowGroups.size(); rowGroup++) {
+                while (nextRowGroup < rowGroups.size() && nextRowGroup < rowGroup + rowGroupParallelism) {
+                    final BlockMetaData rowGroupMetaData = rowGroups.get(nextRowGroup);
+                    final boolean isFirstRowGroup = nextRowGroup == 0;
+                    nextRowGroup++;
+                    decodedRowGroups.add(rowGroupExecutor.submit(() -> readRowGroup(inputFile, rowGroupMetaData, isFirstRowGroup)));
+                }
+
+                final List<ObjectNode> jsonNodes;
+                try {
+                    jsonNodes = decodedRowGroups.remove().get();
+                } catch (final ExecutionException e) {
+                    throw new IOException(e.getCause());
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+                for (final ObjectNode jsonNode : jsonNodes) {
+                    eventConsumer.accept(new Record<>(JacksonEvent.fromJsonNode(EVENT_TYPE, jsonNode)));
+                }
+            }
+        } finally {
+            decodedRowGroups.forEach(decodedRowGroup -> decodedRowGroup.cancel(true));
+        }
+    }
+
+    private List<BlockMetaData> readRowGroups(final InputFile inputFile) throws IOException {
+        try (ParquetFileReader fileReader = ParquetFileReader.open(inputFile)) {
+            return fileReader.getRowGroups();
+        }
+    }
+
+    /**
+     * Reads the rows of one row group. A reader reads the row groups whose midpoint is in its file range, so the
+     * range of the row group selects exactly this row group. Only the reader of the first row group warns of include
+     * keys which are not columns of the file.
+     */
+    private List<ObjectNode> readRowGroup(final InputFile inputFile, final BlockMetaData rowGroup,
+                                          final boolean isFirstRowGroup) throws IOException {
+        final List<ObjectNode> jsonNodes = new ArrayList<>((int) rowGroup.getRowCount());
+        try (ParquetReader<ObjectNode> reader = new EventNodeReaderBuilder(inputFile, includeKeys, isFirstRowGroup)
+                .withConf(this.configuration)
+                .withFileRange(rowGroup.getStartingPos(), rowGroup.getStartingPos() + rowGroup.getCompressedSize())
+                .build()) {
+            ObjectNode jsonNode;
+            while ((jsonNode = reader.read()) != null) {
+                jsonNodes.add(jsonNode);
+            }
+        }
+        return jsonNodes;
+    }
+
+    private static class EventNodeReaderBuilder extends ParquetReader.Builder<ObjectNode> {
+        private final List<String> includeKeys;
+        private final boolean warnOfMissingIncludeKeys;
+
+        private EventNodeReaderBuilder(final InputFile inputFile, final List<String> includeKeys,
+                                       final boolean warnOfMissingIncludeKeys) {
+            super(inputFile);
+            this.includeKeys = includeKeys;
+            this.warnOfMissingIncludeKeys = warnOfMissingIncludeKeys;
+        }
+
+        @Override
+        protected ReadSupport<ObjectNode> getReadSupport() {
+            return new EventNodeReadSupport(includeKeys, warnOfMissingIncludeKeys);
+        }
+    }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Min;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Configuration class for {@link ParquetInputCodec}.
+ */
+public class ParquetInputCodecConfig {
+    static final int DEFAULT_ROW_GROUP_PARALLELISM = 1;
+
+    @JsonProperty("include_keys")
+    private List<String> includeKeys = Collections.emptyList();
+
+    @JsonProperty("row_group_parallelism")
+    @Min(1)
+    private int rowGroupParallelism = DEFAULT_ROW_GROUP_PARALLELISM;
+
+    /**
+     * The top-level columns to read into the events. The column chunks of all other columns are skipped.
+     * All columns are read when empty.
+     *
+     * @return The names of the columns to read.
+     */
+    public List<String> getIncludeKeys() {
+        return includeKeys;
+    }
+
+    /**
+     * The number of row groups of a file which are decoded at the same time. Each of them is held in memory
+     * until its events are passed on, in the order of the file.
+     *
+     * @return The number of row groups to decode at the same time.
+     */
+    public int getRowGroupParallelism() {
+        return rowGroupParallelism;
+    }
+}
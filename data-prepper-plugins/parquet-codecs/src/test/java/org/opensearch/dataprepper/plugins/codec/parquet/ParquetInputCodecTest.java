@@ -4,18 +4,29 @@
  */
 package org.opensearch.dataprepper.plugins.codec.parquet;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.parquet.avro.AvroParquetReader;
 import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
 import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.MessageTypeParser;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.io.InputFile;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.plugins.codec.NoneDecompressionEngine;
@@ -29,26 +40,32 @@ import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 import static org.opensearch.dataprepper.plugins.codec.parquet.ParquetInputCodec.FILE_PREFIX;
 import static org.opensearch.dataprepper.plugins.codec.parquet.ParquetInputCodec.FILE_SUFFIX;
 
 public class ParquetInputCodecTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     private static final String SCHEMA_JSON =
             "{\"namespace\": \"org.example.test\"," +
@@ -188,14 +205,152 @@ public class ParquetInputCodecTest {
         }
     }
 
+    @Test
+    public void constructor_throws_if_config_is_null() {
+        assertThrows(NullPointerException.class, () -> new ParquetInputCodec(null));
+    }
+
+    @Test
+    public void constructor_throws_if_rowGroupParallelism_is_less_than_one() {
+        final ParquetInputCodecConfig config = mock(ParquetInputCodecConfig.class);
+        when(config.getRowGroupParallelism()).thenReturn(0);
+
+        assertThrows(IllegalArgumentException.class, () -> new ParquetInputCodec(config));
+    }
+
+    @Test
+    public void parseInputFile_createsTheSameEventsAsTheAvroRecords() throws Exception {
+        final List<JsonNode> expectedJsonNodes = new ArrayList<>();
+        try (ParquetReader<GenericRecord> reader = AvroParquetReader.<GenericRecord>builder(new LocalInputFile(testDataFile)).build()) {
+            final GenericRecordJsonEncoder encoder = new GenericRecordJsonEncoder();
+            GenericRecord record;
+            while ((record = reader.read()) != null) {
+                expectedJsonNodes.add(readData(JacksonEvent.builder()
+                        .withEventType(ParquetInputCodec.EVENT_TYPE)
+                        .withData(encoder.serialize(record))
+                        .build()));
+            }
+        }
+
+        parquetInputCodec.parse(new LocalInputFile(testDataFile), new NoneDecompressionEngine(), mockConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(mockConsumer, times(10)).accept(recordArgumentCaptor.capture());
+        final List<Record<Event>> actualRecords = recordArgumentCaptor.getAllValues();
+        for (int i = 0; i < actualRecords.size(); i++) {
+            assertThat(readData(actualRecords.get(i).getData()), equalTo(expectedJsonNodes.get(i)));
+        }
+    }
+
+    @Test
+    public void parseInputFile_withIncludeKeys_readsOnlyTheIncludedColumns() throws IOException {
+        final ParquetInputCodecConfig config = mock(ParquetInputCodecConfig.class);
+        when(config.getIncludeKeys()).thenReturn(Arrays.asList("id", "metadata", "unknown"));
+        when(config.getRowGroupParallelism()).thenReturn(1);
+        parquetInputCodec = new ParquetInputCodec(config);
+
+        parquetInputCodec.parse(new LocalInputFile(testDataFile), new NoneDecompressionEngine(), mockConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(mockConsumer, times(10)).accept(recordArgumentCaptor.capture());
+        final List<Record<Event>> actualRecords = recordArgumentCaptor.getAllValues();
+        for (int i = 0; i < actualRecords.size(); i++) {
+            final Event event = actualRecords.get(i).getData();
+            assertThat(event.toMap().keySet(), containsInAnyOrder("id", "metadata"));
+            assertThat(event.get("id", String.class), equalTo("id" + i));
+            assertThat(event.get("metadata/key", String.class), equalTo("value"));
+            assertThat(event.get("value", Integer.class), nullValue());
+        }
+    }
+
+    @Test
+    public void parseInputFile_withIncludeKeysWhichAreNotColumns_createsEmptyEvents() throws IOException {
+        final ParquetInputCodecConfig config = mock(ParquetInputCodecConfig.class);
+        when(config.getIncludeKeys()).thenReturn(Collections.singletonList("unknown"));
+        when(config.getRowGroupParallelism()).thenReturn(1);
+        parquetInputCodec = new ParquetInputCodec(config);
+
+        parquetInputCodec.parse(new LocalInputFile(testDataFile), new NoneDecompressionEngine(), mockConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(mockConsumer, times(10)).accept(recordArgumentCaptor.capture());
+        for (final Record<Event> record : recordArgumentCaptor.getAllValues()) {
+            assertThat(record.getData().toMap().isEmpty(), equalTo(true));
+        }
+    }
+
+    @Test
+    public void parseInputFile_withRowGroupParallelism_parsesAllRowGroupsInOrder() throws IOException {
+        final File multipleRowGroupsFile = File.createTempFile(FILE_PREFIX + "-", FILE_SUFFIX);
+        multipleRowGroupsFile.deleteOnExit();
+        final int recordCount = 5_000;
+        generateTestData(multipleRowGroupsFile, recordCount, 16 * 1024);
+        try (ParquetFileReader fileReader = ParquetFileReader.open(new LocalInputFile(multipleRowGroupsFile))) {
+            assertThat(fileReader.getRowGroups().size(), greaterThan(2));
+        }
+
+        final ParquetInputCodecConfig config = mock(ParquetInputCodecConfig.class);
+        when(config.getIncludeKeys()).thenReturn(Collections.emptyList());
+        when(config.getRowGroupParallelism()).thenReturn(2);
+        parquetInputCodec = new ParquetInputCodec(config);
+
+        parquetInputCodec.parse(new LocalInputFile(multipleRowGroupsFile), new NoneDecompressionEngine(), mockConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(mockConsumer, times(recordCount)).accept(recordArgumentCaptor.capture());
+        final List<Record<Event>> actualRecords = recordArgumentCaptor.getAllValues();
+        for (int i = 0; i < recordCount; i++) {
+            assertThat(actualRecords.get(i).getData().get("id", String.class), equalTo("id" + i));
+            assertThat(actualRecords.get(i).getData().get("value", Integer.class), equalTo(i));
+        }
+
+        final List<Thread> rowGroupThreads = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().startsWith("parquet-codec-row-group-"))
+                .collect(Collectors.toList());
+        assertThat(rowGroupThreads.isEmpty(), equalTo(false));
+        for (final Thread rowGroupThread : rowGroupThreads) {
+            assertThat(rowGroupThread.isDaemon(), equalTo(true));
+        }
+    }
+
+    @Test
+    public void parseInputFile_withoutAvroSchema_readsListElementsAsRecords() throws IOException {
+        final MessageType schema = MessageTypeParser.parseMessageType("message test { " +
+                "required binary id (STRING); " +
+                "optional group tags (LIST) { repeated group list { optional binary element (STRING); } } }");
+        final File listFile = File.createTempFile(FILE_PREFIX + "-", FILE_SUFFIX);
+        listFile.deleteOnExit();
+        try (ParquetWriter<Group> writer = ExampleParquetWriter.builder(new LocalOutputFile(listFile)).withType(schema).build()) {
+            final Group group = new SimpleGroupFactory(schema).newGroup().append("id", "id0");
+            final Group tags = group.addGroup("tags");
+            tags.addGroup("list").append("element", "tag0");
+            tags.addGroup("list");
+            writer.write(group);
+        }
+
+        parquetInputCodec.parse(new LocalInputFile(listFile), new NoneDecompressionEngine(), mockConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(mockConsumer).accept(recordArgumentCaptor.capture());
+        final Event event = recordArgumentCaptor.getValue().getData();
+        assertThat(event.get("id", String.class), equalTo("id0"));
+        assertThat(event.toJsonString(), equalTo("{\"id\":\"id0\",\"tags\":[{\"element\":\"tag0\"},{\"element\":null}]}"));
+    }
+
     private static void generateTestData(final File file) throws IOException {
+        generateTestData(file, 10, ParquetWriter.DEFAULT_BLOCK_SIZE);
+    }
+
+    private static void generateTestData(final File file, final int recordCount, final int rowGroupSize) throws IOException {
         Schema schema = new Schema.Parser().parse(SCHEMA_JSON);
 
         ParquetWriter<GenericRecord> writer = AvroParquetWriter.<GenericRecord>builder(new LocalOutputFile(file))
                 .withSchema(schema)
+                .withRowGroupSize(rowGroupSize)
+                .withPageSize(4 * 1024)
                 .build();
 
-        for (int i = 0; i < 10; i++) {
+        for (int i = 0; i < recordCount; i++) {
             GenericData.Record record = new GenericData.Record(schema);
             record.put("id", "id" + i);
             record.put("value", i);
@@ -208,6 +363,12 @@ public class ParquetInputCodecTest {
         writer.close();
     }
 
+    private static JsonNode readData(final Event event) throws IOException {
+        try (final JsonParser parser = ((JacksonEvent) event).createDataParser()) {
+            return OBJECT_MAPPER.readTree(parser);
+        }
+    }
+
     private void assertRecordsCorrect(final List<Record<Event>> records) {
         assertThat(records.size(), equalTo(10));
         for (int i = 0; i < 10; i++) {
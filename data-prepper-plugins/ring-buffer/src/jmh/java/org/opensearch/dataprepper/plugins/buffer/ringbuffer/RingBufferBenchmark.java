@@ -0,0 +1,127 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.ringbuffer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.buffer.AbstractBuffer;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the {@link RingBuffer} with the {@link BlockingBuffer} with 1, 4 and 16 writer threads each writing
+ * batches of records and as many reader threads reading and checkpointing batches. The reported throughput is in
+ * batches written and batches read.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RingBufferBenchmark {
+    private static final int BUFFER_SIZE = 12_800;
+    private static final int READ_BATCH_SIZE = 200;
+    private static final int WRITE_BATCH_SIZE = 100;
+    private static final int WRITE_TIMEOUT_MILLIS = 100;
+    private static final String PIPELINE_NAME = "benchmark";
+
+    @State(Scope.Group)
+    public static class BufferState {
+        @Param({"ring_buffer", "bounded_blocking"})
+        private String bufferType;
+
+        private AbstractBuffer<Record<String>> buffer;
+        private List<Record<String>> records;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            buffer = "ring_buffer".equals(bufferType)
+                    ? new RingBuffer<>(BUFFER_SIZE, READ_BATCH_SIZE, PIPELINE_NAME)
+                    : new BlockingBuffer<>(BUFFER_SIZE, READ_BATCH_SIZE, PIPELINE_NAME);
+            records = IntStream.range(0, WRITE_BATCH_SIZE)
+                    .mapToObj(i -> new Record<>(UUID.randomUUID().toString()))
+                    .collect(Collectors.toList());
+        }
+
+        void write() throws Exception {
+            try {
+                buffer.writeAll(records, WRITE_TIMEOUT_MILLIS);
+            } catch (final TimeoutException e) {
+                // readers stop before writers at the end of an iteration
+            }
+        }
+
+        int read() {
+            final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = buffer.read(0);
+            buffer.checkpoint(readResult.getValue());
+            return readResult.getKey().size();
+        }
+    }
+
+    @Benchmark
+    @Group("threads1")
+    @GroupThreads(1)
+    public void write1(final BufferState state) throws Exception {
+        state.write();
+    }
+
+    @Benchmark
+    @Group("threads1")
+    @GroupThreads(1)
+    public int read1(final BufferState state) {
+        return state.read();
+    }
+
+    @Benchmark
+    @Group("threads4")
+    @GroupThreads(4)
+    public void write4(final BufferState state) throws Exception {
+        state.write();
+    }
+
+    @Benchmark
+    @Group("threads4")
+    @GroupThreads(4)
+    public int read4(final BufferState state) {
+        return state.read();
+    }
+
+    @Benchmark
+    @Group("threads16")
+    @GroupThreads(16)
+    public void write16(final BufferState state) throws Exception {
+        state.write();
+    }
+
+    @Benchmark
+    @Group("threads16")
+    @GroupThreads(16)
+    public int read16(final BufferState state) {
+        return state.read();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.ringbuffer;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded multi-producer/multi-consumer ring of pre-allocated slots. Every slot carries a sequence number which
+ * tells producers and consumers whose turn it is: a slot at position {@code p} may be written when its sequence is
+ * {@code p} and read when its sequence is {@code p + 1}. Producers claim a run of positions with a single atomic
+ * increment and consumers claim a run of published positions with a single compare-and-set.
+ * <p>
+ * The ring does not bound its producers. Callers must make sure no more than {@link #getSize()} elements are
+ * written and not yet drained, otherwise producers spin until a slot is freed.
+ *
+ * @param <T> the type of elements
+ */
+class RecordRing<T> {
+    private static final int MAXIMUM_SIZE = 1 << 30;
+
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final int size;
+    private final int mask;
+    private final AtomicLong producerPosition = new AtomicLong();
+    private final AtomicLong consumerPosition = new AtomicLong();
+
+    RecordRing(final int minimumSize) {
+        if (minimumSize < 1 || minimumSize > MAXIMUM_SIZE) {
+            throw new IllegalArgumentException("Ring size must be between 1 and " + MAXIMUM_SIZE);
+        }
+        size = minimumSize == 1 ? 1 : Integer.highestOneBit(minimumSize - 1) << 1;
+        mask = size - 1;
+        elements = new Object[size];
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    void publish(final T element) {
+        publish(producerPosition.getAndIncrement(), element);
+    }
+
+    void publishAll(final Collection<T> elementsToPublish) {
+        long position = producerPosition.getAndAdd(elementsToPublish.size());
+        for (final T element : elementsToPublish) {
+            publish(position++, element);
+        }
+    }
+
+    /**
+     * Moves up to {@code maximumElements} published elements, in the order they were claimed, to the target.
+     *
+     * @param target          the collection to add the elements to
+     * @param maximumElements the maximum number of elements to move
+     * @return the number of elements moved
+     */
+    @SuppressWarnings("unchecked")
+    int drainTo(final Collection<? super T> target, final int maximumElements) {
+        while (true) {
+            final long first = consumerPosition.get();
+            int published = 0;
+            while (published < maximumElements && isPublished(first + published)) {
+                published++;
+            }
+            if (published == 0) {
+                return 0;
+            }
+            if (consumerPosition.compareAndSet(first, first + published)) {
+                for (long position = first; position < first + published; position++) {
+                    final int index = indexOf(position);
+                    target.add((T) elements[index]);
+                    elements[index] = null;
+                    sequences.set(index, position + size);
+                }
+                return published;
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        return consumerPosition.get() >= producerPosition.get();
+    }
+
+    private void publish(final long position, final T element) {
+        final int index = indexOf(position);
+        while (sequences.get(index) != position) {
+            Thread.onSpinWait();
+        }
+        elements[index] = element;
+        sequences.set(index, position + 1);
+    }
+
+    private boolean isPublished(final long position) {
+        return sequences.get(indexOf(position)) == position + 1;
+    }
+
+    private int indexOf(final long position) {
+        return (int) position & mask;
+    }
+}
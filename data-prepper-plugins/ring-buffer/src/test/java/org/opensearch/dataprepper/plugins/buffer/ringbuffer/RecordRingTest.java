@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.ringbuffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RecordRingTest {
+
+    @ParameterizedTest
+    @CsvSource({"1, 1", "2, 2", "3, 4", "12800, 16384", "16384, 16384"})
+    void getSize_returns_next_power_of_two(final int minimumSize, final int expectedSize) {
+        assertThat(new RecordRing<String>(minimumSize).getSize(), equalTo(expectedSize));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, (1 << 30) + 1})
+    void constructor_throws_for_invalid_size(final int minimumSize) {
+        assertThrows(IllegalArgumentException.class, () -> new RecordRing<String>(minimumSize));
+    }
+
+    @Test
+    void drainTo_returns_published_elements_in_order() {
+        final RecordRing<String> objectUnderTest = new RecordRing<>(4);
+        objectUnderTest.publish("a");
+        objectUnderTest.publishAll(List.of("b", "c"));
+
+        final List<String> drained = new ArrayList<>();
+
+        assertThat(objectUnderTest.drainTo(drained, 2), equalTo(2));
+        assertThat(drained, equalTo(List.of("a", "b")));
+        assertThat(objectUnderTest.drainTo(drained, 10), equalTo(1));
+        assertThat(drained, equalTo(List.of("a", "b", "c")));
+        assertThat(objectUnderTest.drainTo(drained, 10), equalTo(0));
+    }
+
+    @Test
+    void ring_reuses_slots_across_laps() {
+        final RecordRing<Integer> objectUnderTest = new RecordRing<>(4);
+        final List<Integer> drained = new ArrayList<>();
+
+        for (int lap = 0; lap < 10; lap++) {
+            final List<Integer> elements = IntStream.range(lap * 3, lap * 3 + 3).boxed().collect(Collectors.toList());
+            objectUnderTest.publishAll(elements);
+            objectUnderTest.drainTo(drained, 4);
+        }
+
+        assertThat(drained, equalTo(IntStream.range(0, 30).boxed().collect(Collectors.toList())));
+    }
+
+    @Test
+    void isEmpty_reflects_published_and_drained_elements() {
+        final RecordRing<String> objectUnderTest = new RecordRing<>(2);
+        assertThat(objectUnderTest.isEmpty(), equalTo(true));
+
+        objectUnderTest.publish("a");
+        assertThat(objectUnderTest.isEmpty(), equalTo(false));
+
+        objectUnderTest.drainTo(new ArrayList<>(), 1);
+        assertThat(objectUnderTest.isEmpty(), equalTo(true));
+    }
+}
@@ -9,4 +9,7 @@ public class ServiceMapProcessorConfig {
     static final String WINDOW_DURATION = "window_duration";
     static final int DEFAULT_WINDOW_DURATION = 180;
     static final String DEFAULT_DB_PATH = "data/service-map/";
+    static final String STATE_STORE = "state_store";
+    static final String DEFAULT_STATE_STORE = "mapdb";
+    static final String OFF_HEAP_STATE_STORE = "off_heap";
 }
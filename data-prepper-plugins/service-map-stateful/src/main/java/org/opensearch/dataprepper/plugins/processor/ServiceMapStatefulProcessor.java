@@ -17,28 +17,49 @@ import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.trace.Span;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Sets;
-import com.google.common.primitives.SignedBytes;
 import org.apache.commons.codec.binary.Hex;
 import org.opensearch.dataprepper.plugins.processor.state.MapDbProcessorState;
+import org.opensearch.dataprepper.plugins.processor.state.OffHeapProcessorState;
+import org.opensearch.dataprepper.plugins.processor.state.ProcessorStateCodec;
+import org.opensearch.dataprepper.processor.state.ProcessorState;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Map;
+import java.util.IdentityHashMap;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
-import java.util.TreeMap;
-import java.util.concurrent.BrokenBarrierException;
-import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
-
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Finds the relationships between the services of the spans.
+ * <p>
+ * The spans are split into shards by their trace ID, so that the parent of a span is in the same shard, and each worker
+ * evaluates the shard with its own index. Each shard has a current and a previous window. When the window duration
+ * has passed, the first worker which sees it replaces the windows of the shard, so that the spans which follow go to a
+ * new current window without waiting for the evaluation. The worker of the shard then evaluates the replaced windows.
+ * <p>
+ * Every replacement of windows increments a rotation count. Each worker announces the rotation count when it starts a
+ * batch, and a replaced previous window is cleared for reuse only when no worker in a batch could still be writing to
+ * it.
+ */
 @SingleThread
 @DataPrepperPlugin(name = "service_map", deprecatedName = "service_map_stateful", pluginType = Processor.class)
 public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>, Record<Event>> implements RequiresPeerForwarding {
@@ -48,28 +69,25 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
     static final String SPANS_DB_COUNT = "spansDbCount";
     static final String TRACE_GROUP_DB_COUNT = "traceGroupDbCount";
     static final String RELATIONSHIP_COUNT = "relationshipCount";
+    static final int RELATIONSHIP_CACHE_SIZE = 100_000;
 
     private static final Logger LOG = LoggerFactory.getLogger(ServiceMapStatefulProcessor.class);
-    private static final String EMPTY_SUFFIX = "-empty";
     private static final String EVENT_TYPE = "event";
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final Collection<Record<Event>> EMPTY_COLLECTION = Collections.emptySet();
     private static final Integer TO_MILLIS = 1_000;
+    private static final long NOT_IN_BATCH = Long.MAX_VALUE;
+    private static final ProcessorStateCodec<ServiceMapStateData> SERVICE_MAP_STATE_DATA_CODEC = new ServiceMapStateDataCodec();
+    private static final AtomicLong ROTATION_COUNT = new AtomicLong();
 
     // TODO: This should not be tracked in this class, move it up to the creator
     private static final AtomicInteger processorsCreated = new AtomicInteger(0);
-    private static long previousTimestamp;
+    private static long windowStartMillis;
     private static long windowDurationMillis;
-    private static CyclicBarrier allThreadsCyclicBarrier;
-
-    private static volatile MapDbProcessorState<ServiceMapStateData> previousWindow;
-    private static volatile MapDbProcessorState<ServiceMapStateData> currentWindow;
-    private static volatile MapDbProcessorState<String> previousTraceGroupWindow;
-    private static volatile MapDbProcessorState<String> currentTraceGroupWindow;
-    private static volatile Set<ServiceNodeData> previousIsolatedServiceNodes;
-    private static volatile Set<ServiceNodeData> currentIsolatedServiceNodes;
+    private static volatile WindowShard[] shards;
+    private static volatile AtomicLongArray batchRotationCounts;
     //TODO: Consider keeping this state in a db
-    private static final Set<ServiceMapRelationship> RELATIONSHIP_STATE = Sets.newConcurrentHashSet();
+    private static volatile Cache<ServiceMapRelationship, Boolean> relationshipCache;
     private static File dbPath;
     private static Clock clock;
 
@@ -94,18 +112,23 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
         this.thisProcessorId = processorsCreated.getAndIncrement();
 
         if (isMasterInstance()) {
-            previousTimestamp = ServiceMapStatefulProcessor.clock.millis();
+            windowStartMillis = ServiceMapStatefulProcessor.clock.millis();
             ServiceMapStatefulProcessor.windowDurationMillis = windowDurationMillis;
             ServiceMapStatefulProcessor.dbPath = createPath(databasePath);
 
-            currentWindow = new MapDbProcessorState<>(dbPath, getNewDbName(), processWorkers);
-            previousWindow = new MapDbProcessorState<>(dbPath, getNewDbName() + EMPTY_SUFFIX, processWorkers);
-            currentTraceGroupWindow = new MapDbProcessorState<>(dbPath, getNewTraceDbName(), processWorkers);
-            previousTraceGroupWindow = new MapDbProcessorState<>(dbPath, getNewTraceDbName() + EMPTY_SUFFIX, processWorkers);
-            currentIsolatedServiceNodes = Sets.newConcurrentHashSet();
-            previousIsolatedServiceNodes = Sets.newConcurrentHashSet();
+            final String stateStore = pluginSetting.getStringOrDefault(ServiceMapProcessorConfig.STATE_STORE, ServiceMapProcessorConfig.DEFAULT_STATE_STORE);
+            final WindowShard[] windowShards = new WindowShard[processWorkers];
+            for (int shardId = 0; shardId < processWorkers; shardId++) {
+                windowShards[shardId] = new WindowShard(shardId, stateStore, processWorkers);
+            }
+            shards = windowShards;
 
-            allThreadsCyclicBarrier = new CyclicBarrier(processWorkers);
+            final AtomicLongArray rotationCounts = new AtomicLongArray(processWorkers);
+            for (int i = 0; i < processWorkers; i++) {
+                rotationCounts.set(i, NOT_IN_BATCH);
+            }
+            batchRotationCounts = rotationCounts;
+            relationshipCache = CacheBuilder.newBuilder().maximumSize(RELATIONSHIP_CACHE_SIZE).build();
         }
 
         pluginMetrics.gauge(SPANS_DB_SIZE, this, serviceMapStateful -> serviceMapStateful.getSpansDbSize());
@@ -132,26 +155,50 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
     }
 
     /**
-     * Adds the data for spans from the ResourceSpans object to the current window
+     * Creates the state of a window in the configured state store.
+     *
+     * @throws IllegalArgumentException if the state store is unknown
+     */
+    private static <V> ProcessorState<byte[], V> createProcessorState(final String stateStore, final String dbName,
+                                                                   final int processWorkers, final ProcessorStateCodec<V> codec) {
+        if (stateStore == null || ServiceMapProcessorConfig.DEFAULT_STATE_STORE.equals(stateStore)) {
+            return new MapDbProcessorState<>(dbPath, dbName, processWorkers);
+        } else if (ServiceMapProcessorConfig.OFF_HEAP_STATE_STORE.equals(stateStore)) {
+            return new OffHeapProcessorState<>(dbPath, dbName, codec);
+        }
+        throw new IllegalArgumentException(String.format("Unknown %s: %s", ServiceMapProcessorConfig.STATE_STORE, stateStore));
+    }
+
+    /**
+     * Adds the data for spans from the ResourceSpans object to the current window of their shard
      *
      * @param records Input records that will be modified/processed
-     * @return If the window is reached, returns a list of ServiceMapRelationship objects representing the edges to be
-     * added to the service map index. Otherwise, returns an empty set.
+     * @return If the windows of the shard of this worker were replaced, returns a list of ServiceMapRelationship
+     * objects representing the edges to be added to the service map index. Otherwise, returns an empty set.
      */
     @Override
     public Collection<Record<Event>> doExecute(Collection<Record<Event>> records) {
-        final Collection<Record<Event>> relationships = windowDurationHasPassed() ? evaluateEdges() : EMPTY_COLLECTION;
-        final Map<byte[], ServiceMapStateData> batchStateData = new TreeMap<>(SignedBytes.lexicographicalComparator());
-        records.forEach(i -> processSpan((Span) i.getData(), batchStateData));
+        batchRotationCounts.set(thisProcessorId, ROTATION_COUNT.get());
         try {
-            currentWindow.putAll(batchStateData);
-        } catch (RuntimeException e) {
-            LOG.error("Caught exception trying to put batch state data", e);
+            final WindowShard shard = shards[thisProcessorId];
+            final long epoch = getEpoch();
+            if (shard.rotationRequested) {
+                shard.rotationRequested = false;
+                shard.getWindows(shard.windows.get().epoch + 1);
+            } else {
+                shard.getWindows(epoch);
+            }
+            final Collection<Record<Event>> relationships = shard.retiredWindows.isEmpty() ? EMPTY_COLLECTION : evaluateEdges(shard);
+            shard.reuseRetiredStates();
+
+            records.forEach(i -> processSpan((Span) i.getData(), epoch));
+            return relationships;
+        } finally {
+            batchRotationCounts.set(thisProcessorId, NOT_IN_BATCH);
         }
-        return relationships;
     }
 
-    private void processSpan(final Span span, final Map<byte[], ServiceMapStateData> batchStateData) {
+    private void processSpan(final Span span, final long epoch) {
         if (span.getServiceName() != null) {
             final String serviceName = span.getServiceName();
             final String spanId = span.getSpanId();
@@ -164,9 +211,10 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
                 LOG.error("Caught DecoderException when decoding the traceId.", e);
                 return;
             }
-            currentIsolatedServiceNodes.add(new ServiceNodeData(traceId, serviceName));
+            final Windows windows = getShard(traceId).getWindows(epoch);
+            windows.currentIsolatedServiceNodes.add(new ServiceNodeData(traceId, serviceName));
             try {
-                batchStateData.put(
+                windows.currentWindow.put(
                         Hex.decodeHex(spanId),
                         new ServiceMapStateData(
                                 serviceName,
@@ -175,11 +223,11 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
                                 spanKind,
                                 span.getName()));
             } catch (Exception e) {
-                LOG.error("Caught exception trying to put service map state data into batch", e);
+                LOG.error("Caught exception trying to put service map state data", e);
             }
             if (parentSpanId.isEmpty()) {
                 try {
-                    currentTraceGroupWindow.put(traceId, span.getName());
+                    windows.currentTraceGroupWindow.put(traceId, span.getName());
                 } catch (Exception e) {
                     LOG.error("Caught exception trying to put trace group name", e);
                 }
@@ -188,88 +236,81 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
     }
 
     /**
-     * This function parses the current and previous windows to find the edges, and rotates the window state objects.
+     * This function parses the replaced windows of a shard to find the edges.
      *
      * @return Set of Record<Event> containing json representation of ServiceMapRelationships found
      */
-    private Collection<Record<Event>> evaluateEdges() {
+    private Collection<Record<Event>> evaluateEdges(final WindowShard shard) {
         LOG.debug("Evaluating service map edges");
-        try {
-            final Collection<Record<Event>> serviceDependencyRecords = new HashSet<>();
-
-            serviceDependencyRecords.addAll(iterateProcessorState(previousWindow));
-            serviceDependencyRecords.addAll(iterateProcessorState(currentWindow));
-            LOG.debug("Done evaluating service map edges");
-
-            // Wait for all workers before rotating windows
-            allThreadsCyclicBarrier.await();
-
-            if (isMasterInstance()) {
-                processIsolatedServiceMapNodes(serviceDependencyRecords);
-                rotateWindows();
-            }
-
-            // Wait for all workers before exiting this method
-            allThreadsCyclicBarrier.await();
-
-            return serviceDependencyRecords;
-        } catch (InterruptedException | BrokenBarrierException e) {
-            throw new RuntimeException(e);
+        final Collection<Record<Event>> serviceDependencyRecords = new HashSet<>();
+        RetiredWindows retiredWindows;
+        while ((retiredWindows = shard.retiredWindows.poll()) != null) {
+            final Windows windows = retiredWindows.windows;
+            iterateProcessorState(serviceDependencyRecords, windows, windows.previousWindow);
+            iterateProcessorState(serviceDependencyRecords, windows, windows.currentWindow);
+            processIsolatedServiceMapNodes(serviceDependencyRecords, windows);
+            shard.retireStates(retiredWindows.rotationCount, windows);
         }
+        LOG.debug("Done evaluating service map edges");
+        return serviceDependencyRecords;
     }
 
-    private Collection<Record<Event>> iterateProcessorState(final MapDbProcessorState<ServiceMapStateData> processorState) {
-        final Collection<Record<Event>> serviceDependencyRecords = new HashSet<>();
-
-        if (processorState.getAll() != null && !processorState.getAll().isEmpty()) {
-            processorState.getIterator(processorsCreated.get(), thisProcessorId).forEachRemaining(entry -> {
-                final ServiceMapStateData child = entry.getValue();
-
-                if (child.parentSpanId == null) {
-                    return;
-                }
+    private void iterateProcessorState(final Collection<Record<Event>> serviceDependencyRecords, final Windows windows,
+                                       final ProcessorState<byte[], ServiceMapStateData> processorState) {
+        if (processorState.size() != 0) {
+            processorState.iterate((spanId, child) -> {
+                addServiceMapRelationships(serviceDependencyRecords, windows, child);
+                return null;
+            });
+        }
+    }
 
-                ServiceMapStateData parent = currentWindow.get(child.parentSpanId);
-                if (parent == null) {
-                    parent = previousWindow.get(child.parentSpanId);
-                }
+    private void addServiceMapRelationships(final Collection<Record<Event>> serviceDependencyRecords, final Windows windows,
+                                            final ServiceMapStateData child) {
+        if (child.parentSpanId == null) {
+            return;
+        }
 
-                final String traceGroupName = getTraceGroupName(child.traceId);
-                if (traceGroupName == null || parent == null || parent.serviceName.equals(child.serviceName)) {
-                    return;
-                }
+        ServiceMapStateData parent = windows.currentWindow.get(child.parentSpanId);
+        if (parent == null) {
+            parent = windows.previousWindow.get(child.parentSpanId);
+        }
 
-                previousIsolatedServiceNodes.remove(new ServiceNodeData(parent.traceId, parent.serviceName));
-                currentIsolatedServiceNodes.remove(new ServiceNodeData(parent.traceId, parent.serviceName));
-                previousIsolatedServiceNodes.remove(new ServiceNodeData(parent.traceId, child.serviceName));
-                currentIsolatedServiceNodes.remove(new ServiceNodeData(parent.traceId, child.serviceName));
+        final String traceGroupName = getTraceGroupName(windows, child.traceId);
+        if (traceGroupName == null || parent == null || parent.serviceName.equals(child.serviceName)) {
+            return;
+        }
 
-                final ServiceMapRelationship destinationRelationship =
-                        ServiceMapRelationship.newDestinationRelationship(parent.serviceName,
-                                parent.spanKind, child.serviceName, child.name, traceGroupName);
-                final ServiceMapRelationship targetRelationship = ServiceMapRelationship.newTargetRelationship(child.serviceName,
-                        child.spanKind, child.serviceName, child.name, traceGroupName);
+        windows.previousIsolatedServiceNodes.remove(new ServiceNodeData(parent.traceId, parent.serviceName));
+        windows.currentIsolatedServiceNodes.remove(new ServiceNodeData(parent.traceId, parent.serviceName));
+        windows.previousIsolatedServiceNodes.remove(new ServiceNodeData(parent.traceId, child.serviceName));
+        windows.currentIsolatedServiceNodes.remove(new ServiceNodeData(parent.traceId, child.serviceName));
 
+        final ServiceMapRelationship destinationRelationship =
+                ServiceMapRelationship.newDestinationRelationship(parent.serviceName,
+                        parent.spanKind, child.serviceName, child.name, traceGroupName);
+        final ServiceMapRelationship targetRelationship = ServiceMapRelationship.newTargetRelationship(child.serviceName,
+                child.spanKind, child.serviceName, child.name, traceGroupName);
 
-                // check if relationshipState has the above
-                addServiceMapRelationship(serviceDependencyRecords, destinationRelationship);
-                addServiceMapRelationship(serviceDependencyRecords, targetRelationship);
-            });
-        }
 
-        return serviceDependencyRecords;
+        // check if relationshipState has the above
+        addServiceMapRelationship(serviceDependencyRecords, destinationRelationship);
+        addServiceMapRelationship(serviceDependencyRecords, targetRelationship);
     }
 
+    /**
+     * Adds the relationship unless it is in the cache of the relationships already added. A relationship which was
+     * evicted from the cache is added again.
+     */
     private void addServiceMapRelationship(
             final Collection<Record<Event>> serviceDependencyRecords, final ServiceMapRelationship serviceMapRelationship) {
-        if (!RELATIONSHIP_STATE.contains(serviceMapRelationship)) {
+        if (relationshipCache.asMap().putIfAbsent(serviceMapRelationship, Boolean.TRUE) == null) {
             try {
                 final Event destinationRelationshipEvent = JacksonEvent.builder()
                         .withEventType(EVENT_TYPE)
                         .withData(serviceMapRelationship)
                         .build();
                 serviceDependencyRecords.add(new Record<>(destinationRelationshipEvent));
-                RELATIONSHIP_STATE.add(serviceMapRelationship);
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
@@ -282,10 +323,10 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
      * @param traceId
      * @return Trace group name for the given trace if it exists. Otherwise null.
      */
-    private String getTraceGroupName(final byte[] traceId) {
+    private String getTraceGroupName(final Windows windows, final byte[] traceId) {
         try {
-            final String traceGroupName = currentTraceGroupWindow.get(traceId);
-            return traceGroupName != null ? traceGroupName : previousTraceGroupWindow.get(traceId);
+            final String traceGroupName = windows.currentTraceGroupWindow.get(traceId);
+            return traceGroupName != null ? traceGroupName : windows.previousTraceGroupWindow.get(traceId);
         } catch (RuntimeException e) {
             LOG.error("Caught exception trying to get trace group name", e);
             return null;
@@ -295,29 +336,25 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
 
     @Override
     public void prepareForShutdown() {
-        previousTimestamp = 0L;
+        shards[thisProcessorId].rotationRequested = true;
     }
 
     @Override
     public boolean isReadyForShutdown() {
-        return currentWindow.size() == 0;
+        final WindowShard shard = shards[thisProcessorId];
+        return shard.windows.get().currentWindow.size() == 0 && shard.retiredWindows.isEmpty();
     }
 
     @Override
     public void shutdown() {
-        previousWindow.delete();
-        currentWindow.delete();
-        previousTraceGroupWindow.delete();
-        currentTraceGroupWindow.delete();
-        previousIsolatedServiceNodes.clear();
-        currentIsolatedServiceNodes.clear();
+        shards[thisProcessorId].delete();
     }
 
-    private void processIsolatedServiceMapNodes(final Collection<Record<Event>> serviceDependencyRecords) {
+    private void processIsolatedServiceMapNodes(final Collection<Record<Event>> serviceDependencyRecords, final Windows windows) {
         LOG.debug("Add isolated service nodes into service-map relationships.");
-        previousIsolatedServiceNodes.forEach(serviceNodeData -> {
+        windows.previousIsolatedServiceNodes.forEach(serviceNodeData -> {
             final String traceGroupName;
-            traceGroupName = getTraceGroupName(serviceNodeData.traceId);
+            traceGroupName = getTraceGroupName(windows, serviceNodeData.traceId);
             final ServiceMapRelationship serviceMapRelationship = ServiceMapRelationship.newIsolatedService(
                     serviceNodeData.serviceName, traceGroupName);
             addServiceMapRelationship(serviceDependencyRecords, serviceMapRelationship);
@@ -327,82 +364,74 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
         LOG.debug("Done adding isolated service nodes");
     }
 
-    /**
-     * Rotate windows for processor state
-     */
-    private void rotateWindows() throws InterruptedException {
-        LOG.debug("Rotating service map windows at " + clock.instant().toString());
-
-        MapDbProcessorState tempWindow = previousWindow;
-        previousWindow = currentWindow;
-        currentWindow = tempWindow;
-        currentWindow.clear();
-
-        tempWindow = previousTraceGroupWindow;
-        previousTraceGroupWindow = currentTraceGroupWindow;
-        currentTraceGroupWindow = tempWindow;
-        currentTraceGroupWindow.clear();
-
-        Set<ServiceNodeData> tempNodesWindow = previousIsolatedServiceNodes;
-        previousIsolatedServiceNodes = currentIsolatedServiceNodes;
-        currentIsolatedServiceNodes = tempNodesWindow;
-        currentIsolatedServiceNodes.clear();
-
-        previousTimestamp = clock.millis();
-        LOG.debug("Done rotating service map windows");
-    }
-
-
     /**
      * @return Spans database size in bytes
      */
     public double getSpansDbSize() {
-        return currentWindow.sizeInBytes() + previousWindow.sizeInBytes();
+        double spansDbSize = 0;
+        for (final WindowShard shard : shards) {
+            final Windows windows = shard.windows.get();
+            spansDbSize += windows.currentWindow.sizeInBytes() + windows.previousWindow.sizeInBytes();
+        }
+        return spansDbSize;
     }
 
     public double getSpansDbCount() {
-        return currentWindow.size() + previousWindow.size();
+        double spansDbCount = 0;
+        for (final WindowShard shard : shards) {
+            final Windows windows = shard.windows.get();
+            spansDbCount += windows.currentWindow.size() + windows.previousWindow.size();
+        }
+        return spansDbCount;
     }
 
     /**
      * @return Trace group database size in bytes
      */
     public double getTraceGroupDbSize() {
-        return currentTraceGroupWindow.sizeInBytes() + previousTraceGroupWindow.sizeInBytes();
+        double traceGroupDbSize = 0;
+        for (final WindowShard shard : shards) {
+            final Windows windows = shard.windows.get();
+            traceGroupDbSize += windows.currentTraceGroupWindow.sizeInBytes() + windows.previousTraceGroupWindow.sizeInBytes();
+        }
+        return traceGroupDbSize;
     }
     public double getTraceGroupDbCount() {
-        return currentTraceGroupWindow.size() + previousTraceGroupWindow.size();
+        double traceGroupDbCount = 0;
+        for (final WindowShard shard : shards) {
+            final Windows windows = shard.windows.get();
+            traceGroupDbCount += windows.currentTraceGroupWindow.size() + windows.previousTraceGroupWindow.size();
+        }
+        return traceGroupDbCount;
     }
     public double getRelationshipCount() {
-        return RELATIONSHIP_STATE.size();
+        return relationshipCache.size();
     }
 
     /**
-     * @return Next database name
+     * @return Number of window durations since the first processor was created
      */
-    private String getNewDbName() {
-        return "db-" + clock.millis();
+    private static long getEpoch() {
+        return (clock.millis() - windowStartMillis) / Math.max(windowDurationMillis, 1);
     }
 
-    /**
-     * @return Next database name
-     */
-    private String getNewTraceDbName() {
-        return "trace-db-" + clock.millis();
+    private static WindowShard getShard(final byte[] traceId) {
+        return shards[Math.floorMod(Arrays.hashCode(traceId), shards.length)];
     }
 
     /**
-     * @return Boolean indicating whether the window duration has lapsed
+     * @return The lowest rotation count announced by a worker in a batch
      */
-    private boolean windowDurationHasPassed() {
-        if ((clock.millis() - previousTimestamp) >= windowDurationMillis) {
-            return true;
+    private static long getLowestBatchRotationCount() {
+        long lowestRotationCount = NOT_IN_BATCH;
+        for (int i = 0; i < batchRotationCounts.length(); i++) {
+            lowestRotationCount = Math.min(lowestRotationCount, batchRotationCounts.get(i));
         }
-        return false;
+        return lowestRotationCount;
     }
 
     /**
-     * Master instance is needed to do things like window rotation that should only be done once
+     * Master instance is needed to do things like creating the shards that should only be done once
      *
      * @return Boolean indicating whether this object is the master ServiceMapStatefulProcessor instance
      */
@@ -415,6 +444,152 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
         return Collections.singleton("traceId");
     }
 
+    /**
+     * The windows of the spans of a shard. The windows are not changed after they are published; they are replaced.
+     */
+    private static class Windows {
+        private final long epoch;
+        private final ProcessorState<byte[], ServiceMapStateData> previousWindow;
+        private final ProcessorState<byte[], ServiceMapStateData> currentWindow;
+        private final ProcessorState<byte[], String> previousTraceGroupWindow;
+        private final ProcessorState<byte[], String> currentTraceGroupWindow;
+        private final Set<ServiceNodeData> previousIsolatedServiceNodes;
+        private final Set<ServiceNodeData> currentIsolatedServiceNodes;
+
+        private Windows(final long epoch,
+                        final ProcessorState<byte[], ServiceMapStateData> previousWindow,
+                        final ProcessorState<byte[], ServiceMapStateData> currentWindow,
+                        final ProcessorState<byte[], String> previousTraceGroupWindow,
+                        final ProcessorState<byte[], String> currentTraceGroupWindow,
+                        final Set<ServiceNodeData> previousIsolatedServiceNodes,
+                        final Set<ServiceNodeData> currentIsolatedServiceNodes) {
+            this.epoch = epoch;
+            this.previousWindow = previousWindow;
+            this.currentWindow = currentWindow;
+            this.previousTraceGroupWindow = previousTraceGroupWindow;
+            this.currentTraceGroupWindow = currentTraceGroupWindow;
+            this.previousIsolatedServiceNodes = previousIsolatedServiceNodes;
+            this.currentIsolatedServiceNodes = currentIsolatedServiceNodes;
+        }
+    }
+
+    private static class RetiredWindows {
+        private final long rotationCount;
+        private final Windows windows;
+
+        private RetiredWindows(final long rotationCount, final Windows windows) {
+            this.rotationCount = rotationCount;
+            this.windows = windows;
+        }
+    }
+
+    /**
+     * The windows of the spans whose trace IDs hash to this shard. The windows are replaced by any worker, and the
+     * replaced windows are evaluated and retired by the worker of the shard only.
+     */
+    private static class WindowShard {
+        private final int shardId;
+        private final String stateStore;
+        private final int processWorkers;
+        private final AtomicInteger dbCount = new AtomicInteger();
+        private final AtomicReference<Windows> windows;
+        private final Queue<RetiredWindows> retiredWindows = new ConcurrentLinkedQueue<>();
+        private final Queue<RetiredWindows> retiredStates = new ArrayDeque<>();
+        private final Queue<ProcessorState<byte[], ServiceMapStateData>> freeWindows = new ConcurrentLinkedQueue<>();
+        private final Queue<ProcessorState<byte[], String>> freeTraceGroupWindows = new ConcurrentLinkedQueue<>();
+        private volatile boolean rotationRequested;
+
+        private WindowShard(final int shardId, final String stateStore, final int processWorkers) {
+            this.shardId = shardId;
+            this.stateStore = stateStore;
+            this.processWorkers = processWorkers;
+            this.windows = new AtomicReference<>(new Windows(0,
+                    takeWindow(), takeWindow(), takeTraceGroupWindow(), takeTraceGroupWindow(),
+                    Sets.newConcurrentHashSet(), Sets.newConcurrentHashSet()));
+        }
+
+        /**
+         * @return The windows of the epoch, replacing the windows of an earlier epoch
+         */
+        private Windows getWindows(final long epoch) {
+            Windows currentWindows = windows.get();
+            while (currentWindows.epoch < epoch) {
+                final Windows nextWindows = new Windows(epoch,
+                        currentWindows.currentWindow, takeWindow(),
+                        currentWindows.currentTraceGroupWindow, takeTraceGroupWindow(),
+                        currentWindows.currentIsolatedServiceNodes, Sets.newConcurrentHashSet());
+                if (windows.compareAndSet(currentWindows, nextWindows)) {
+                    LOG.debug("Rotated service map windows of shard {} at {}", shardId, clock.instant());
+                    retiredWindows.add(new RetiredWindows(ROTATION_COUNT.incrementAndGet(), currentWindows));
+                    return nextWindows;
+                }
+                freeWindows.add(nextWindows.currentWindow);
+                freeTraceGroupWindows.add(nextWindows.currentTraceGroupWindow);
+                currentWindows = windows.get();
+            }
+            return currentWindows;
+        }
+
+        /**
+         * Keeps the previous windows of evaluated windows until they can be reused.
+         */
+        private void retireStates(final long rotationCount, final Windows evaluatedWindows) {
+            retiredStates.add(new RetiredWindows(rotationCount, evaluatedWindows));
+        }
+
+        /**
+         * Clears the retired previous windows for reuse once every worker in a batch started the batch after they were
+         * replaced.
+         */
+        private void reuseRetiredStates() {
+            final long lowestBatchRotationCount = getLowestBatchRotationCount();
+            while (!retiredStates.isEmpty() && retiredStates.peek().rotationCount <= lowestBatchRotationCount) {
+                final Windows evaluatedWindows = retiredStates.poll().windows;
+                evaluatedWindows.previousWindow.clear();
+                evaluatedWindows.previousTraceGroupWindow.clear();
+                freeWindows.add(evaluatedWindows.previousWindow);
+                freeTraceGroupWindows.add(evaluatedWindows.previousTraceGroupWindow);
+            }
+        }
+
+        private ProcessorState<byte[], ServiceMapStateData> takeWindow() {
+            final ProcessorState<byte[], ServiceMapStateData> window = freeWindows.poll();
+            return window != null ? window : createProcessorState(stateStore, getNewDbName("db-"), processWorkers, SERVICE_MAP_STATE_DATA_CODEC);
+        }
+
+        private ProcessorState<byte[], String> takeTraceGroupWindow() {
+            final ProcessorState<byte[], String> window = freeTraceGroupWindows.poll();
+            return window != null ? window : createProcessorState(stateStore, getNewDbName("trace-db-"), processWorkers, ProcessorStateCodec.STRING);
+        }
+
+        /**
+         * @return Next database name
+         */
+        private String getNewDbName(final String prefix) {
+            return prefix + clock.millis() + "-" + shardId + "-" + dbCount.getAndIncrement();
+        }
+
+        private void delete() {
+            final Set<ProcessorState<byte[], ?>> states = Collections.newSetFromMap(new IdentityHashMap<>());
+            final Windows currentWindows = windows.get();
+            addStates(states, currentWindows);
+            retiredWindows.forEach(retired -> addStates(states, retired.windows));
+            retiredStates.forEach(retired -> addStates(states, retired.windows));
+            states.addAll(freeWindows);
+            states.addAll(freeTraceGroupWindows);
+            states.forEach(ProcessorState::delete);
+            currentWindows.previousIsolatedServiceNodes.clear();
+            currentWindows.currentIsolatedServiceNodes.clear();
+        }
+
+        private static void addStates(final Set<ProcessorState<byte[], ?>> states, final Windows windows) {
+            states.add(windows.previousWindow);
+            states.add(windows.currentWindow);
+            states.add(windows.previousTraceGroupWindow);
+            states.add(windows.currentTraceGroupWindow);
+        }
+    }
+
     private static class ServiceMapStateData implements Serializable {
         public String serviceName;
         public byte[] parentSpanId;
@@ -437,6 +612,69 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
         }
     }
 
+    /**
+     * Writes each field of {@link ServiceMapStateData} as its length followed by its bytes, with a length of -1 for null.
+     */
+    private static class ServiceMapStateDataCodec implements ProcessorStateCodec<ServiceMapStateData> {
+        private static final int NULL_LENGTH = -1;
+
+        @Override
+        public byte[] encode(final ServiceMapStateData value) {
+            final byte[] serviceName = toBytes(value.serviceName);
+            final byte[] spanKind = toBytes(value.spanKind);
+            final byte[] name = toBytes(value.name);
+            final ByteBuffer buffer = ByteBuffer.allocate(5 * Integer.BYTES
+                    + length(serviceName) + length(value.parentSpanId) + length(value.traceId) + length(spanKind) + length(name));
+            putBytes(buffer, serviceName);
+            putBytes(buffer, value.parentSpanId);
+            putBytes(buffer, value.traceId);
+            putBytes(buffer, spanKind);
+            putBytes(buffer, name);
+            return buffer.array();
+        }
+
+        @Override
+        public ServiceMapStateData decode(final byte[] bytes) {
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            final String serviceName = toString(getBytes(buffer));
+            final byte[] parentSpanId = getBytes(buffer);
+            final byte[] traceId = getBytes(buffer);
+            final String spanKind = toString(getBytes(buffer));
+            final String name = toString(getBytes(buffer));
+            return new ServiceMapStateData(serviceName, parentSpanId, traceId, spanKind, name);
+        }
+
+        private static byte[] toBytes(final String value) {
+            return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+        }
+
+        private static String toString(final byte[] bytes) {
+            return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private static int length(final byte[] bytes) {
+            return bytes == null ? 0 : bytes.length;
+        }
+
+        private static void putBytes(final ByteBuffer buffer, final byte[] bytes) {
+            if (bytes == null) {
+                buffer.putInt(NULL_LENGTH);
+            } else {
+                buffer.putInt(bytes.length).put(bytes);
+            }
+        }
+
+        private static byte[] getBytes(final ByteBuffer buffer) {
+            final int length = buffer.getInt();
+            if (length == NULL_LENGTH) {
+                return null;
+            }
+            final byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return bytes;
+        }
+    }
+
     private static class ServiceNodeData implements Serializable {
         public String serviceName;
         public byte[] traceId;
@@ -5,22 +5,25 @@
 
 package org.opensearch.dataprepper.plugins.processor;
 
-import com.google.common.collect.Sets;
 import io.micrometer.core.instrument.Measurement;
 import org.apache.commons.codec.binary.Hex;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mockito;
 import org.opensearch.dataprepper.metrics.MetricNames;
 import org.opensearch.dataprepper.metrics.MetricsTestUtil;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.trace.Span;
 
 import java.io.File;
 import java.lang.reflect.Field;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
@@ -40,7 +43,11 @@ import static io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_CLIENT;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -65,17 +72,14 @@ public class ServiceMapStatefulProcessorTest {
     }
 
     public void resetServiceMapStatefulProcessorStatic() throws NoSuchFieldException, IllegalAccessException {
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "RELATIONSHIP_STATE", Sets.newConcurrentHashSet());
+        reflectivelySetField(ServiceMapStatefulProcessor.class, "relationshipCache", null);
         reflectivelySetField(ServiceMapStatefulProcessor.class, "processorsCreated", new AtomicInteger(0));
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "previousTimestamp", 0);
+        reflectivelySetField(ServiceMapStatefulProcessor.class, "windowStartMillis", 0);
         reflectivelySetField(ServiceMapStatefulProcessor.class, "windowDurationMillis", 0);
         reflectivelySetField(ServiceMapStatefulProcessor.class, "dbPath", null);
         reflectivelySetField(ServiceMapStatefulProcessor.class, "clock", null);
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "currentWindow", null);
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "previousWindow", null);
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "currentTraceGroupWindow", null);
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "previousTraceGroupWindow", null);
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "allThreadsCyclicBarrier", null);
+        reflectivelySetField(ServiceMapStatefulProcessor.class, "shards", null);
+        reflectivelySetField(ServiceMapStatefulProcessor.class, "batchRotationCounts", null);
     }
 
     private void reflectivelySetField(final Class<?> clazz, final String fieldName, final Object value) throws NoSuchFieldException, IllegalAccessException {
@@ -125,8 +129,10 @@ public class ServiceMapStatefulProcessorTest {
         final ServiceMapStatefulProcessor serviceMapStatefulProcessor = new ServiceMapStatefulProcessor(pluginSetting);
     }
 
-    @Test
-    public void testTraceGroupsWithEventRecordData() throws Exception {
+    @ParameterizedTest
+    @ValueSource(strings = {ServiceMapProcessorConfig.DEFAULT_STATE_STORE, ServiceMapProcessorConfig.OFF_HEAP_STATE_STORE})
+    public void testTraceGroupsWithEventRecordData(final String stateStore) throws Exception {
+        when(pluginSetting.getStringOrDefault(eq(ServiceMapProcessorConfig.STATE_STORE), anyString())).thenReturn(stateStore);
         final Clock clock = Mockito.mock(Clock.class);
         Mockito.when(clock.millis()).thenReturn(1L);
         Mockito.when(clock.instant()).thenReturn(Instant.now());
@@ -320,8 +326,10 @@ public class ServiceMapStatefulProcessorTest {
         serviceMapStateful2.shutdown();
     }
 
-    @Test
-    public void testTraceGroupsWithIsolatedServiceEventRecordData() throws Exception {
+    @ParameterizedTest
+    @ValueSource(strings = {ServiceMapProcessorConfig.DEFAULT_STATE_STORE, ServiceMapProcessorConfig.OFF_HEAP_STATE_STORE})
+    public void testTraceGroupsWithIsolatedServiceEventRecordData(final String stateStore) throws Exception {
+        when(pluginSetting.getStringOrDefault(eq(ServiceMapProcessorConfig.STATE_STORE), anyString())).thenReturn(stateStore);
         final Clock clock = Mockito.mock(Clock.class);
         Mockito.when(clock.millis()).thenReturn(1L);
         Mockito.when(clock.instant()).thenReturn(Instant.now());
@@ -409,6 +417,48 @@ public class ServiceMapStatefulProcessorTest {
         serviceMapStateful.shutdown();
     }
 
+    @Test
+    public void testWorkerEvaluatesItsShardWithoutWaitingForOtherWorkers() {
+        final Clock clock = Mockito.mock(Clock.class);
+        when(clock.millis()).thenReturn(1L);
+        when(clock.instant()).thenReturn(Instant.now());
+        final File path = new File(ServiceMapProcessorConfig.DEFAULT_DB_PATH);
+        final ServiceMapStatefulProcessor serviceMapStateful1 = new ServiceMapStatefulProcessor(100, path, clock, 2, pluginSetting);
+        final ServiceMapStatefulProcessor serviceMapStateful2 = new ServiceMapStatefulProcessor(100, path, clock, 2, pluginSetting);
+
+        byte[] traceIdBytes = ServiceMapTestUtils.getRandomBytes(16);
+        while (Math.floorMod(Arrays.hashCode(traceIdBytes), 2) != 0) {
+            traceIdBytes = ServiceMapTestUtils.getRandomBytes(16);
+        }
+        final String traceId = Hex.encodeHexString(traceIdBytes);
+        final String traceGroup = "checkout";
+        final Span frontendSpan = ServiceMapTestUtils.getSpan(FRONTEND_SERVICE, traceGroup,
+                Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(8)), "", traceId, SPAN_KIND_CLIENT);
+        final Span checkoutSpan = ServiceMapTestUtils.getSpan(CHECKOUT_SERVICE, "checkout",
+                Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(8)), frontendSpan.getSpanId(), traceId,
+                io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_SERVER);
+
+        assertTrue(serviceMapStateful2.execute(Arrays.asList(new Record<>(frontendSpan), new Record<>(checkoutSpan))).isEmpty());
+
+        when(clock.millis()).thenReturn(110L);
+        final Collection<Record<Event>> relationships = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> serviceMapStateful1.execute(Collections.emptyList()));
+
+        assertThat(relationships.size(), equalTo(2));
+        assertThat(serviceMapStateful2.getRelationshipCount(), equalTo(2.0));
+        serviceMapStateful1.shutdown();
+        serviceMapStateful2.shutdown();
+    }
+
+    @Test
+    public void testUnknownStateStore() {
+        when(pluginSetting.getStringOrDefault(eq(ServiceMapProcessorConfig.STATE_STORE), anyString())).thenReturn("unknown");
+        final File path = new File(ServiceMapProcessorConfig.DEFAULT_DB_PATH);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new ServiceMapStatefulProcessor(100, path, Clock.systemUTC(), 1, pluginSetting));
+    }
+
     @Test
     public void testGetIdentificationKeys() {
         final PluginSetting pluginSetting = new PluginSetting("testPluginSetting", Collections.emptyMap());